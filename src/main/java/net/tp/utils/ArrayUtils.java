@@ -1,11 +1,44 @@
 package net.tp.utils;
 
+import net.tp.utils.classes.ArrayChannels;
+import net.tp.utils.classes.ArraySpliterator;
+import net.tp.utils.classes.BooleanListView;
+import net.tp.utils.classes.ByteListView;
+import net.tp.utils.classes.CharArrayBuffer;
+import net.tp.utils.classes.CharListView;
+import net.tp.utils.classes.DictionaryEncodedArray;
+import net.tp.utils.classes.DoubleListView;
+import net.tp.utils.classes.DoubleSeq;
+import net.tp.utils.classes.DoubleSlidingWindow;
+import net.tp.utils.classes.FloatListView;
+import net.tp.utils.classes.Histogram;
+import net.tp.utils.classes.IntListView;
+import net.tp.utils.classes.IntSeq;
+import net.tp.utils.classes.IntSlidingWindow;
+import net.tp.utils.classes.LongListView;
+import net.tp.utils.classes.LongSeq;
+import net.tp.utils.classes.LongSlidingWindow;
+import net.tp.utils.classes.SearchPattern;
+import net.tp.utils.classes.ShortListView;
+
+import java.io.IOException;
 import java.lang.reflect.Array;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.lang.reflect.Type;
+import java.nio.ByteOrder;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static java.util.Objects.*;
 import static java.util.stream.IntStream.range;
@@ -114,6 +147,38 @@ public abstract class ArrayUtils {
 	 * The index value indicating that the element was not found in the array.
 	 */
 	public static final int INDEX_NOT_FOUND = -1;
+	/**
+	 * The number of buffered characters after which {@code joinTo} writes to its target.
+	 */
+	static final int JOIN_FLUSH_SIZE = 8192;
+	/**
+	 * The idle {@code joinTo} buffer of each thread, taken while a join runs.
+	 */
+	private static final ThreadLocal<CharArrayBuffer> JOIN_BUFFER = new ThreadLocal<>();
+	/**
+	 * The array length from which the elements are counted in parallel.
+	 */
+	private static final int PARALLEL_COUNT_THRESHOLD = 1 << 16;
+	/**
+	 * The range length under which selection finishes with an insertion sort.
+	 */
+	private static final int SELECT_INSERTION_THRESHOLD = 16;
+	/**
+	 * The range length under which string sorts finish with an insertion sort.
+	 */
+	private static final int STRING_INSERTION_THRESHOLD = 24;
+	/**
+	 * The range length from which the buckets of the parallel string sort are sorted concurrently.
+	 */
+	private static final int PARALLEL_SORT_THRESHOLD = 1 << 13;
+	/**
+	 * The strings of every byte value, indexed by {@code value + 128}.
+	 */
+	private static final String[] BYTE_STRINGS = new String[256];
+
+	static {
+		for (int i = 0; i < 256; i++) BYTE_STRINGS[i] = String.valueOf(i - 128);
+	}
 
 	private static ThreadLocalRandom random() {
 		return ThreadLocalRandom.current();
@@ -521,18 +586,15 @@ public abstract class ArrayUtils {
 	 * @since 1.0.0
 	 */
 	public static byte[] add(byte[] array, int index, List<Byte> elements) {
-		if (isNull(array)) array = (byte[]) Array.newInstance(byte.class, 0);
+		if (isNull(array)) array = EMPTY_BYTE_ARRAY;
 		if (isNull(elements) || elements.isEmpty()) return array;
+		if (index < 0 || index > array.length) throw new IndexOutOfBoundsException("Index: " + index + ", Length: " + array.length);
 
-		Byte[] arrayWrapper = new Byte[array.length];
-		for (int i = 0; i < array.length; i++) arrayWrapper[i] = array[i];
-		Byte[] elementsWrapper = new Byte[elements.size()];
-		for (int i = 0; i < elements.size(); i++) elementsWrapper[i] = elements.get(i);
-
-		arrayWrapper = add(arrayWrapper, index, List.of(elementsWrapper));
-
-		byte[] result = new byte[array.length + elements.size()];
-		for (int i = 0; i < result.length; i++) result[i] = arrayWrapper[i];
+		byte[] values = unboxBytes(elements);
+		byte[] result = new byte[array.length + values.length];
+		System.arraycopy(array, 0, result, 0, index);
+		System.arraycopy(values, 0, result, index, values.length);
+		System.arraycopy(array, index, result, index + values.length, array.length - index);
 		return result;
 	}
 
@@ -559,18 +621,15 @@ public abstract class ArrayUtils {
 	 * @since 1.0.0
 	 */
 	public static short[] add(short[] array, int index, List<Short> elements) {
-		if (isNull(array)) array = (short[]) Array.newInstance(short.class, 0);
+		if (isNull(array)) array = EMPTY_SHORT_ARRAY;
 		if (isNull(elements) || elements.isEmpty()) return array;
+		if (index < 0 || index > array.length) throw new IndexOutOfBoundsException("Index: " + index + ", Length: " + array.length);
 
-		Short[] arrayWrapper = new Short[array.length];
-		for (int i = 0; i < array.length; i++) arrayWrapper[i] = array[i];
-		Short[] elementsWrapper = new Short[elements.size()];
-		for (int i = 0; i < elements.size(); i++) elementsWrapper[i] = elements.get(i);
-
-		arrayWrapper = add(arrayWrapper, index, List.of(elementsWrapper));
-
-		short[] result = new short[array.length + elements.size()];
-		for (int i = 0; i < result.length; i++) result[i] = arrayWrapper[i];
+		short[] values = unboxShorts(elements);
+		short[] result = new short[array.length + values.length];
+		System.arraycopy(array, 0, result, 0, index);
+		System.arraycopy(values, 0, result, index, values.length);
+		System.arraycopy(array, index, result, index + values.length, array.length - index);
 		return result;
 	}
 
@@ -597,18 +656,15 @@ public abstract class ArrayUtils {
 	 * @since 1.0.0
 	 */
 	public static int[] add(int[] array, int index, List<Integer> elements) {
-		if (isNull(array)) array = (int[]) Array.newInstance(int.class, 0);
+		if (isNull(array)) array = EMPTY_INT_ARRAY;
 		if (isNull(elements) || elements.isEmpty()) return array;
+		if (index < 0 || index > array.length) throw new IndexOutOfBoundsException("Index: " + index + ", Length: " + array.length);
 
-		Integer[] arrayWrapper = new Integer[array.length];
-		for (int i = 0; i < array.length; i++) arrayWrapper[i] = array[i];
-		Integer[] elementsWrapper = new Integer[elements.size()];
-		for (int i = 0; i < elements.size(); i++) elementsWrapper[i] = elements.get(i);
-
-		arrayWrapper = add(arrayWrapper, index, List.of(elementsWrapper));
-
-		int[] result = new int[array.length + elements.size()];
-		for (int i = 0; i < result.length; i++) result[i] = arrayWrapper[i];
+		int[] values = unboxInts(elements);
+		int[] result = new int[array.length + values.length];
+		System.arraycopy(array, 0, result, 0, index);
+		System.arraycopy(values, 0, result, index, values.length);
+		System.arraycopy(array, index, result, index + values.length, array.length - index);
 		return result;
 	}
 
@@ -635,18 +691,15 @@ public abstract class ArrayUtils {
 	 * @since 1.0.0
 	 */
 	public static long[] add(long[] array, int index, List<Long> elements) {
-		if (isNull(array)) array = (long[]) Array.newInstance(long.class, 0);
+		if (isNull(array)) array = EMPTY_LONG_ARRAY;
 		if (isNull(elements) || elements.isEmpty()) return array;
+		if (index < 0 || index > array.length) throw new IndexOutOfBoundsException("Index: " + index + ", Length: " + array.length);
 
-		Long[] arrayWrapper = new Long[array.length];
-		for (int i = 0; i < array.length; i++) arrayWrapper[i] = array[i];
-		Long[] elementsWrapper = new Long[elements.size()];
-		for (int i = 0; i < elements.size(); i++) elementsWrapper[i] = elements.get(i);
-
-		arrayWrapper = add(arrayWrapper, index, List.of(elementsWrapper));
-
-		long[] result = new long[array.length + elements.size()];
-		for (int i = 0; i < result.length; i++) result[i] = arrayWrapper[i];
+		long[] values = unboxLongs(elements);
+		long[] result = new long[array.length + values.length];
+		System.arraycopy(array, 0, result, 0, index);
+		System.arraycopy(values, 0, result, index, values.length);
+		System.arraycopy(array, index, result, index + values.length, array.length - index);
 		return result;
 	}
 
@@ -697,18 +750,15 @@ public abstract class ArrayUtils {
 	 * @since 1.0.0
 	 */
 	public static float[] add(float[] array, int index, List<Float> elements) {
-		if (isNull(array)) array = (float[]) Array.newInstance(float.class, 0);
+		if (isNull(array)) array = EMPTY_FLOAT_ARRAY;
 		if (isNull(elements) || elements.isEmpty()) return array;
+		if (index < 0 || index > array.length) throw new IndexOutOfBoundsException("Index: " + index + ", Length: " + array.length);
 
-		Float[] arrayWrapper = new Float[array.length];
-		for (int i = 0; i < array.length; i++) arrayWrapper[i] = array[i];
-		Float[] elementsWrapper = new Float[elements.size()];
-		for (int i = 0; i < elements.size(); i++) elementsWrapper[i] = elements.get(i);
-
-		arrayWrapper = add(arrayWrapper, index, List.of(elementsWrapper));
-
-		float[] result = new float[array.length + elements.size()];
-		for (int i = 0; i < result.length; i++) result[i] = arrayWrapper[i];
+		float[] values = unboxFloats(elements);
+		float[] result = new float[array.length + values.length];
+		System.arraycopy(array, 0, result, 0, index);
+		System.arraycopy(values, 0, result, index, values.length);
+		System.arraycopy(array, index, result, index + values.length, array.length - index);
 		return result;
 	}
 
@@ -746,18 +796,15 @@ public abstract class ArrayUtils {
 	 * @since 1.0.0
 	 */
 	public static double[] add(double[] array, int index, List<Double> elements) {
-		if (isNull(array)) array = (double[]) Array.newInstance(double.class, 0);
+		if (isNull(array)) array = EMPTY_DOUBLE_ARRAY;
 		if (isNull(elements) || elements.isEmpty()) return array;
+		if (index < 0 || index > array.length) throw new IndexOutOfBoundsException("Index: " + index + ", Length: " + array.length);
 
-		Double[] arrayWrapper = new Double[array.length];
-		for (int i = 0; i < array.length; i++) arrayWrapper[i] = array[i];
-		Double[] elementsWrapper = new Double[elements.size()];
-		for (int i = 0; i < elements.size(); i++) elementsWrapper[i] = elements.get(i);
-
-		arrayWrapper = add(arrayWrapper, index, List.of(elementsWrapper));
-
-		double[] result = new double[array.length + elements.size()];
-		for (int i = 0; i < result.length; i++) result[i] = arrayWrapper[i];
+		double[] values = unboxDoubles(elements);
+		double[] result = new double[array.length + values.length];
+		System.arraycopy(array, 0, result, 0, index);
+		System.arraycopy(values, 0, result, index, values.length);
+		System.arraycopy(array, index, result, index + values.length, array.length - index);
 		return result;
 	}
 
@@ -808,18 +855,15 @@ public abstract class ArrayUtils {
 	 * @since 1.0.0
 	 */
 	public static char[] add(char[] array, int index, List<Character> elements) {
-		if (isNull(array)) array = (char[]) Array.newInstance(char.class, 0);
+		if (isNull(array)) array = EMPTY_CHAR_ARRAY;
 		if (isNull(elements) || elements.isEmpty()) return array;
+		if (index < 0 || index > array.length) throw new IndexOutOfBoundsException("Index: " + index + ", Length: " + array.length);
 
-		Character[] arrayWrapper = new Character[array.length];
-		for (int i = 0; i < array.length; i++) arrayWrapper[i] = array[i];
-		Character[] elementsWrapper = new Character[elements.size()];
-		for (int i = 0; i < elements.size(); i++) elementsWrapper[i] = elements.get(i);
-
-		arrayWrapper = add(arrayWrapper, index, List.of(elementsWrapper));
-
-		char[] result = new char[array.length + elements.size()];
-		for (int i = 0; i < result.length; i++) result[i] = arrayWrapper[i];
+		char[] values = unboxChars(elements);
+		char[] result = new char[array.length + values.length];
+		System.arraycopy(array, 0, result, 0, index);
+		System.arraycopy(values, 0, result, index, values.length);
+		System.arraycopy(array, index, result, index + values.length, array.length - index);
 		return result;
 	}
 
@@ -870,18 +914,15 @@ public abstract class ArrayUtils {
 	 * @since 1.0.0
 	 */
 	public static boolean[] add(boolean[] array, int index, List<Boolean> elements) {
-		if (isNull(array)) array = (boolean[]) Array.newInstance(boolean.class, 0);
+		if (isNull(array)) array = EMPTY_BOOLEAN_ARRAY;
 		if (isNull(elements) || elements.isEmpty()) return array;
+		if (index < 0 || index > array.length) throw new IndexOutOfBoundsException("Index: " + index + ", Length: " + array.length);
 
-		Boolean[] arrayWrapper = new Boolean[array.length];
-		for (int i = 0; i < array.length; i++) arrayWrapper[i] = array[i];
-		Boolean[] elementsWrapper = new Boolean[elements.size()];
-		for (int i = 0; i < elements.size(); i++) elementsWrapper[i] = elements.get(i);
-
-		arrayWrapper = add(arrayWrapper, index, List.of(elementsWrapper));
-
-		boolean[] result = new boolean[array.length + elements.size()];
-		for (int i = 0; i < result.length; i++) result[i] = arrayWrapper[i];
+		boolean[] values = unboxBooleans(elements);
+		boolean[] result = new boolean[array.length + values.length];
+		System.arraycopy(array, 0, result, 0, index);
+		System.arraycopy(values, 0, result, index, values.length);
+		System.arraycopy(array, index, result, index + values.length, array.length - index);
 		return result;
 	}
 
@@ -1027,7 +1068,7 @@ public abstract class ArrayUtils {
 	 */
 	public static byte[] remove(byte[] array, List<Byte> elements) {
 		if (isNullOrEmpty(array)) return array;
-		for (byte element : elements) array = remove(array, element);
+		for (byte element : unboxBytes(elements)) array = remove(array, element);
 		return array;
 	}
 
@@ -1077,7 +1118,7 @@ public abstract class ArrayUtils {
 	 */
 	public static short[] remove(short[] array, List<Short> elements) {
 		if (isNullOrEmpty(array)) return array;
-		for (short element : elements) array = remove(array, element);
+		for (short element : unboxShorts(elements)) array = remove(array, element);
 		return array;
 	}
 
@@ -1119,7 +1160,7 @@ public abstract class ArrayUtils {
 	 */
 	public static int[] remove(int[] array, List<Integer> elements) {
 		if (isNullOrEmpty(array)) return array;
-		for (int element : elements) array = remove(array, element, true);
+		for (int element : unboxInts(elements)) array = remove(array, element, true);
 		return array;
 	}
 
@@ -1169,7 +1210,7 @@ public abstract class ArrayUtils {
 	 */
 	public static long[] remove(long[] array, List<Long> elements) {
 		if (isNullOrEmpty(array)) return array;
-		for (long element : elements) array = remove(array, element);
+		for (long element : unboxLongs(elements)) array = remove(array, element);
 		return array;
 	}
 
@@ -1219,7 +1260,7 @@ public abstract class ArrayUtils {
 	 */
 	public static float[] remove(float[] array, List<Float> elements) {
 		if (isNullOrEmpty(array)) return array;
-		for (float element : elements) array = remove(array, element);
+		for (float element : unboxFloats(elements)) array = remove(array, element);
 		return array;
 	}
 
@@ -1269,7 +1310,7 @@ public abstract class ArrayUtils {
 	 */
 	public static double[] remove(double[] array, List<Double> elements) {
 		if (isNullOrEmpty(array)) return array;
-		for (double element : elements) array = remove(array, element);
+		for (double element : unboxDoubles(elements)) array = remove(array, element);
 		return array;
 	}
 
@@ -1332,7 +1373,7 @@ public abstract class ArrayUtils {
 	 */
 	public static char[] remove(char[] array, List<Character> elements) {
 		if (isNullOrEmpty(array)) return array;
-		for (char element : elements) array = remove(array, element);
+		for (char element : unboxChars(elements)) array = remove(array, element);
 		return array;
 	}
 
@@ -1395,7 +1436,7 @@ public abstract class ArrayUtils {
 	 */
 	public static boolean[] remove(boolean[] array, List<Boolean> elements) {
 		if (isNullOrEmpty(array)) return array;
-		for (boolean element : elements) array = remove(array, element);
+		for (boolean element : unboxBooleans(elements)) array = remove(array, element);
 		return array;
 	}
 
@@ -3382,8 +3423,9 @@ public abstract class ArrayUtils {
 	 */
 	public static int[] indexOf(byte[] array, int fromIndex, List<Byte> elements) {
 		if (isNull(array) || isNull(elements)) return new int[0];
-		int[] indexes = new int[elements.size()];
-		for (int i = 0; i < elements.size(); i++) indexes[i] = indexOf(array, fromIndex, elements.get(i));
+		byte[] values = unboxBytes(elements);
+		int[] indexes = new int[values.length];
+		for (int i = 0; i < values.length; i++) indexes[i] = indexOf(array, fromIndex, values[i]);
 		return indexes;
 	}
 
@@ -3415,8 +3457,9 @@ public abstract class ArrayUtils {
 	 */
 	public static int[] indexOf(short[] array, int fromIndex, List<Short> elements) {
 		if (isNull(array) || isNull(elements)) return new int[0];
-		int[] indexes = new int[elements.size()];
-		for (int i = 0; i < elements.size(); i++) indexes[i] = indexOf(array, fromIndex, elements.get(i));
+		short[] values = unboxShorts(elements);
+		int[] indexes = new int[values.length];
+		for (int i = 0; i < values.length; i++) indexes[i] = indexOf(array, fromIndex, values[i]);
 		return indexes;
 	}
 
@@ -3448,8 +3491,9 @@ public abstract class ArrayUtils {
 	 */
 	public static int[] indexOf(int[] array, int fromIndex, List<Integer> elements) {
 		if (isNull(array) || isNull(elements)) return new int[0];
-		int[] indexes = new int[elements.size()];
-		for (int i = 0; i < elements.size(); i++) indexes[i] = indexOf(array, fromIndex, elements.get(i));
+		int[] values = unboxInts(elements);
+		int[] indexes = new int[values.length];
+		for (int i = 0; i < values.length; i++) indexes[i] = indexOf(array, fromIndex, values[i]);
 		return indexes;
 	}
 
@@ -3481,8 +3525,9 @@ public abstract class ArrayUtils {
 	 */
 	public static int[] indexOf(long[] array, int fromIndex, List<Long> elements) {
 		if (isNull(array) || isNull(elements)) return new int[0];
-		int[] indexes = new int[elements.size()];
-		for (int i = 0; i < elements.size(); i++) indexes[i] = indexOf(array, fromIndex, elements.get(i));
+		long[] values = unboxLongs(elements);
+		int[] indexes = new int[values.length];
+		for (int i = 0; i < values.length; i++) indexes[i] = indexOf(array, fromIndex, values[i]);
 		return indexes;
 	}
 
@@ -3514,8 +3559,9 @@ public abstract class ArrayUtils {
 	 */
 	public static int[] indexOf(float[] array, int fromIndex, List<Float> elements) {
 		if (isNull(array) || isNull(elements)) return new int[0];
-		int[] indexes = new int[elements.size()];
-		for (int i = 0; i < elements.size(); i++) indexes[i] = indexOf(array, fromIndex, elements.get(i));
+		float[] values = unboxFloats(elements);
+		int[] indexes = new int[values.length];
+		for (int i = 0; i < values.length; i++) indexes[i] = indexOf(array, fromIndex, values[i]);
 		return indexes;
 	}
 
@@ -3547,8 +3593,9 @@ public abstract class ArrayUtils {
 	 */
 	public static int[] indexOf(double[] array, int fromIndex, List<Double> elements) {
 		if (isNull(array) || isNull(elements)) return new int[0];
-		int[] indexes = new int[elements.size()];
-		for (int i = 0; i < elements.size(); i++) indexes[i] = indexOf(array, fromIndex, elements.get(i));
+		double[] values = unboxDoubles(elements);
+		int[] indexes = new int[values.length];
+		for (int i = 0; i < values.length; i++) indexes[i] = indexOf(array, fromIndex, values[i]);
 		return indexes;
 	}
 
@@ -3580,8 +3627,9 @@ public abstract class ArrayUtils {
 	 */
 	public static int[] indexOf(char[] array, int fromIndex, List<Character> elements) {
 		if (isNull(array) || isNull(elements)) return new int[0];
-		int[] indexes = new int[elements.size()];
-		for (int i = 0; i < elements.size(); i++) indexes[i] = indexOf(array, fromIndex, elements.get(i));
+		char[] values = unboxChars(elements);
+		int[] indexes = new int[values.length];
+		for (int i = 0; i < values.length; i++) indexes[i] = indexOf(array, fromIndex, values[i]);
 		return indexes;
 	}
 
@@ -3613,8 +3661,9 @@ public abstract class ArrayUtils {
 	 */
 	public static int[] indexOf(boolean[] array, int fromIndex, List<Boolean> elements) {
 		if (isNull(array) || isNull(elements)) return new int[0];
-		int[] indexes = new int[elements.size()];
-		for (int i = 0; i < elements.size(); i++) indexes[i] = indexOf(array, fromIndex, elements.get(i));
+		boolean[] values = unboxBooleans(elements);
+		int[] indexes = new int[values.length];
+		for (int i = 0; i < values.length; i++) indexes[i] = indexOf(array, fromIndex, values[i]);
 		return indexes;
 	}
 
@@ -3693,8 +3742,9 @@ public abstract class ArrayUtils {
 	 */
 	public static int[] lastIndexOf(byte[] array, List<Byte> elements) {
 		if (isNull(array) || isNull(elements)) return new int[0];
-		int[] indexes = new int[elements.size()];
-		for (int i = 0; i < elements.size(); i++) indexes[i] = lastIndexOf(array, elements.get(i));
+		byte[] values = unboxBytes(elements);
+		int[] indexes = new int[values.length];
+		for (int i = 0; i < values.length; i++) indexes[i] = lastIndexOf(array, values[i]);
 		return indexes;
 	}
 
@@ -3724,8 +3774,9 @@ public abstract class ArrayUtils {
 	 */
 	public static int[] lastIndexOf(short[] array, List<Short> elements) {
 		if (isNull(array) || isNull(elements)) return new int[0];
-		int[] indexes = new int[elements.size()];
-		for (int i = 0; i < elements.size(); i++) indexes[i] = lastIndexOf(array, elements.get(i));
+		short[] values = unboxShorts(elements);
+		int[] indexes = new int[values.length];
+		for (int i = 0; i < values.length; i++) indexes[i] = lastIndexOf(array, values[i]);
 		return indexes;
 	}
 
@@ -3755,8 +3806,9 @@ public abstract class ArrayUtils {
 	 */
 	public static int[] lastIndexOf(int[] array, List<Integer> elements) {
 		if (isNull(array) || isNull(elements)) return new int[0];
-		int[] indexes = new int[elements.size()];
-		for (int i = 0; i < elements.size(); i++) indexes[i] = lastIndexOf(array, elements.get(i));
+		int[] values = unboxInts(elements);
+		int[] indexes = new int[values.length];
+		for (int i = 0; i < values.length; i++) indexes[i] = lastIndexOf(array, values[i]);
 		return indexes;
 	}
 
@@ -3786,8 +3838,9 @@ public abstract class ArrayUtils {
 	 */
 	public static int[] lastIndexOf(long[] array, List<Long> elements) {
 		if (isNull(array) || isNull(elements)) return new int[0];
-		int[] indexes = new int[elements.size()];
-		for (int i = 0; i < elements.size(); i++) indexes[i] = lastIndexOf(array, elements.get(i));
+		long[] values = unboxLongs(elements);
+		int[] indexes = new int[values.length];
+		for (int i = 0; i < values.length; i++) indexes[i] = lastIndexOf(array, values[i]);
 		return indexes;
 	}
 
@@ -3817,8 +3870,9 @@ public abstract class ArrayUtils {
 	 */
 	public static int[] lastIndexOf(float[] array, List<Float> elements) {
 		if (isNull(array) || isNull(elements)) return new int[0];
-		int[] indexes = new int[elements.size()];
-		for (int i = 0; i < elements.size(); i++) indexes[i] = lastIndexOf(array, elements.get(i));
+		float[] values = unboxFloats(elements);
+		int[] indexes = new int[values.length];
+		for (int i = 0; i < values.length; i++) indexes[i] = lastIndexOf(array, values[i]);
 		return indexes;
 	}
 
@@ -3848,8 +3902,9 @@ public abstract class ArrayUtils {
 	 */
 	public static int[] lastIndexOf(double[] array, List<Double> elements) {
 		if (isNull(array) || isNull(elements)) return new int[0];
-		int[] indexes = new int[elements.size()];
-		for (int i = 0; i < elements.size(); i++) indexes[i] = lastIndexOf(array, elements.get(i));
+		double[] values = unboxDoubles(elements);
+		int[] indexes = new int[values.length];
+		for (int i = 0; i < values.length; i++) indexes[i] = lastIndexOf(array, values[i]);
 		return indexes;
 	}
 
@@ -3894,8 +3949,9 @@ public abstract class ArrayUtils {
 	 */
 	public static int[] lastIndexOf(char[] array, List<Character> elements) {
 		if (isNull(array) || isNull(elements)) return new int[0];
-		int[] indexes = new int[elements.size()];
-		for (int i = 0; i < elements.size(); i++) indexes[i] = lastIndexOf(array, elements.get(i));
+		char[] values = unboxChars(elements);
+		int[] indexes = new int[values.length];
+		for (int i = 0; i < values.length; i++) indexes[i] = lastIndexOf(array, values[i]);
 		return indexes;
 	}
 
@@ -3940,8 +3996,9 @@ public abstract class ArrayUtils {
 	 */
 	public static int[] lastIndexOf(boolean[] array, List<Boolean> elements) {
 		if (isNull(array) || isNull(elements)) return new int[0];
-		int[] indexes = new int[elements.size()];
-		for (int i = 0; i < elements.size(); i++) indexes[i] = lastIndexOf(array, elements.get(i));
+		boolean[] values = unboxBooleans(elements);
+		int[] indexes = new int[values.length];
+		for (int i = 0; i < values.length; i++) indexes[i] = lastIndexOf(array, values[i]);
 		return indexes;
 	}
 
@@ -4268,8 +4325,9 @@ public abstract class ArrayUtils {
 	 */
 	public static int[][] indexesOf(byte[] array, int fromIndex, List<Byte> elements) {
 		if (isNull(array) || isNull(elements)) return new int[0][0];
-		int[][] indexes = new int[elements.size()][];
-		for (int i = 0; i < elements.size(); i++) indexes[i] = indexesOf(array, fromIndex, elements.get(i));
+		byte[] values = unboxBytes(elements);
+		int[][] indexes = new int[values.length][];
+		for (int i = 0; i < values.length; i++) indexes[i] = indexesOf(array, fromIndex, values[i]);
 		return indexes;
 	}
 
@@ -4300,8 +4358,9 @@ public abstract class ArrayUtils {
 	 */
 	public static int[][] indexesOf(short[] array, int fromIndex, List<Short> elements) {
 		if (isNull(array) || isNull(elements)) return new int[0][0];
-		int[][] indexes = new int[elements.size()][];
-		for (int i = 0; i < elements.size(); i++) indexes[i] = indexesOf(array, fromIndex, elements.get(i));
+		short[] values = unboxShorts(elements);
+		int[][] indexes = new int[values.length][];
+		for (int i = 0; i < values.length; i++) indexes[i] = indexesOf(array, fromIndex, values[i]);
 		return indexes;
 	}
 
@@ -4332,8 +4391,9 @@ public abstract class ArrayUtils {
 	 */
 	public static int[][] indexesOf(int[] array, int fromIndex, List<Integer> elements) {
 		if (isNull(array) || isNull(elements)) return new int[0][0];
-		int[][] indexes = new int[elements.size()][];
-		for (int i = 0; i < elements.size(); i++) indexes[i] = indexesOf(array, fromIndex, elements.get(i));
+		int[] values = unboxInts(elements);
+		int[][] indexes = new int[values.length][];
+		for (int i = 0; i < values.length; i++) indexes[i] = indexesOf(array, fromIndex, values[i]);
 		return indexes;
 	}
 
@@ -4364,8 +4424,9 @@ public abstract class ArrayUtils {
 	 */
 	public static int[][] indexesOf(long[] array, int fromIndex, List<Long> elements) {
 		if (isNull(array) || isNull(elements)) return new int[0][0];
-		int[][] indexes = new int[elements.size()][];
-		for (int i = 0; i < elements.size(); i++) indexes[i] = indexesOf(array, fromIndex, elements.get(i));
+		long[] values = unboxLongs(elements);
+		int[][] indexes = new int[values.length][];
+		for (int i = 0; i < values.length; i++) indexes[i] = indexesOf(array, fromIndex, values[i]);
 		return indexes;
 	}
 
@@ -4396,8 +4457,9 @@ public abstract class ArrayUtils {
 	 */
 	public static int[][] indexesOf(float[] array, int fromIndex, List<Float> elements) {
 		if (isNull(array) || isNull(elements)) return new int[0][0];
-		int[][] indexes = new int[elements.size()][];
-		for (int i = 0; i < elements.size(); i++) indexes[i] = indexesOf(array, fromIndex, elements.get(i));
+		float[] values = unboxFloats(elements);
+		int[][] indexes = new int[values.length][];
+		for (int i = 0; i < values.length; i++) indexes[i] = indexesOf(array, fromIndex, values[i]);
 		return indexes;
 	}
 
@@ -4428,8 +4490,9 @@ public abstract class ArrayUtils {
 	 */
 	public static int[][] indexesOf(double[] array, int fromIndex, List<Double> elements) {
 		if (isNull(array) || isNull(elements)) return new int[0][0];
-		int[][] indexes = new int[elements.size()][];
-		for (int i = 0; i < elements.size(); i++) indexes[i] = indexesOf(array, fromIndex, elements.get(i));
+		double[] values = unboxDoubles(elements);
+		int[][] indexes = new int[values.length][];
+		for (int i = 0; i < values.length; i++) indexes[i] = indexesOf(array, fromIndex, values[i]);
 		return indexes;
 	}
 
@@ -4460,8 +4523,9 @@ public abstract class ArrayUtils {
 	 */
 	public static int[][] indexesOf(char[] array, int fromIndex, List<Character> elements) {
 		if (isNull(array) || isNull(elements)) return new int[0][0];
-		int[][] indexes = new int[elements.size()][];
-		for (int i = 0; i < elements.size(); i++) indexes[i] = indexesOf(array, fromIndex, elements.get(i));
+		char[] values = unboxChars(elements);
+		int[][] indexes = new int[values.length][];
+		for (int i = 0; i < values.length; i++) indexes[i] = indexesOf(array, fromIndex, values[i]);
 		return indexes;
 	}
 
@@ -4492,158 +4556,509 @@ public abstract class ArrayUtils {
 	 */
 	public static int[][] indexesOf(boolean[] array, int fromIndex, List<Boolean> elements) {
 		if (isNull(array) || isNull(elements)) return new int[0][0];
-		int[][] indexes = new int[elements.size()][];
-		for (int i = 0; i < elements.size(); i++) indexes[i] = indexesOf(array, fromIndex, elements.get(i));
+		boolean[] values = unboxBooleans(elements);
+		int[][] indexes = new int[values.length][];
+		for (int i = 0; i < values.length; i++) indexes[i] = indexesOf(array, fromIndex, values[i]);
 		return indexes;
 	}
 
-	/**Inserts an element at the specified index in the array.
-	 * @param array the array to insert the element into
-	 * @param index the index to insert the element at
-	 * @param element the element to insert
-	 * @return the array with the element inserted at the specified index
-	 * @param <E> the type of the array
-	 * @since 1.0.0
+	/**
+	 * Returns the index of the first occurrence of the byte-subarray in the byte-array.
+	 *
+	 * @param array the array to check
+	 * @param subarray the subarray to search for
+	 * @return the index of the first occurrence of the subarray in the array, or {@code -1} if the subarray is not present
+	 * @see SearchPattern
+	 * @since 1.10.0
 	 */
-	public static <E> E[] insert(E[] array, int index, E element) {
-		return add(array, index, element);
+	public static int indexOfSubarray(byte[] array, byte[] subarray) {
+		return indexOfSubarray(array, 0, subarray);
 	}
 
-	/**Inserts a byte-element at the specified index in the byte-array.
-	 * @param array the byte-array to insert the element into
-	 * @param index the index to insert the element at
-	 * @param element the byte-element to insert
-	 * @return the byte-array with the element inserted at the specified index
-	 * @since 1.0.0
+	/**
+	 * Returns the index of the first occurrence of the byte-subarray in the byte-array starting from a specified index.
+	 *
+	 * @param array the array to check
+	 * @param fromIndex the index to start the search from
+	 * @param subarray the subarray to search for
+	 * @return the index of the first occurrence of the subarray in the array, or {@code -1} if the subarray is not present
+	 * @see SearchPattern
+	 * @since 1.10.0
 	 */
-	public static byte[] insert(byte[] array, int index, byte element) {
-		return add(array, index, element);
+	public static int indexOfSubarray(byte[] array, int fromIndex, byte[] subarray) {
+		if (isNull(array) || isNull(subarray)) return INDEX_NOT_FOUND;
+		return SearchPattern.of(subarray).indexIn(array, fromIndex);
 	}
 
-	/**Inserts a short-element at the specified index in the short-array.
-	 * @param array the short-array to insert the element into
-	 * @param index the index to insert the element at
-	 * @param element the short-element to insert
-	 * @return the short-array with the element inserted at the specified index
-	 * @since 1.0.0
+	/**
+	 * Returns the index of the last occurrence of the byte-subarray in the byte-array.
+	 *
+	 * @param array the array to check
+	 * @param subarray the subarray to search for
+	 * @return the index of the last occurrence of the subarray in the array, or {@code -1} if the subarray is not present
+	 * @see SearchPattern
+	 * @since 1.10.0
 	 */
-	public static short[] insert(short[] array, int index, short element) {
-		return add(array, index, element);
+	public static int lastIndexOfSubarray(byte[] array, byte[] subarray) {
+		if (isNull(array) || isNull(subarray)) return INDEX_NOT_FOUND;
+		return SearchPattern.of(subarray).lastIndexIn(array);
 	}
 
-	/**Inserts an int-element at the specified index in the int-array.
-	 * @param array the int-array to insert the element into
-	 * @param index the index to insert the element at
-	 * @param element the int-element to insert
-	 * @return the int-array with the element inserted at the specified index
-	 * @since 1.0.0
+	/**
+	 * Returns the indexes of the non-overlapping occurrences of the byte-subarray in the byte-array.
+	 *
+	 * @param array the array to check
+	 * @param subarray the subarray to search for
+	 * @return the indexes of the occurrences of the subarray in the array
+	 * @see SearchPattern
+	 * @since 1.10.0
 	 */
-	public static int[] insert(int[] array, int index, int element) {
-		return add(array, index, element);
+	public static int[] indexesOfSubarray(byte[] array, byte[] subarray) {
+		if (isNull(array) || isNull(subarray)) return new int[0];
+		return SearchPattern.of(subarray).indexesIn(array);
 	}
 
-	/**Inserts a long-element at the specified index in the long-array.
-	 * @param array the long-array to insert the element into
-	 * @param index the index to insert the element at
-	 * @param element the long-element to insert
-	 * @return the long-array with the element inserted at the specified index
-	 * @since 1.0.0
+	/**
+	 * Counts the non-overlapping occurrences of the byte-subarray in the byte-array.
+	 *
+	 * @param array the array to check
+	 * @param subarray the subarray to count
+	 * @return the number of occurrences of the subarray in the array
+	 * @see SearchPattern
+	 * @since 1.10.0
 	 */
-	public static long[] insert(long[] array, int index, long element) {
-		return add(array, index, element);
+	public static int countOccurrences(byte[] array, byte[] subarray) {
+		if (isNull(array) || isNull(subarray)) return 0;
+		return SearchPattern.of(subarray).countIn(array);
 	}
 
-	/**Inserts a float-element at the specified index in the float-array.
-	 * @param array the float-array to insert the element into
-	 * @param index the index to insert the element at
-	 * @param element the float-element to insert
-	 * @return the float-array with the element inserted at the specified index
-	 * @since 1.0.0
+	/**
+	 * Returns the index of the first occurrence of the short-subarray in the short-array.
+	 *
+	 * @param array the array to check
+	 * @param subarray the subarray to search for
+	 * @return the index of the first occurrence of the subarray in the array, or {@code -1} if the subarray is not present
+	 * @see SearchPattern
+	 * @since 1.10.0
 	 */
-	public static float[] insert(float[] array, int index, float element) {
-		return add(array, index, element);
+	public static int indexOfSubarray(short[] array, short[] subarray) {
+		return indexOfSubarray(array, 0, subarray);
 	}
 
-	/**Inserts a double-element at the specified index in the double-array.
-	 * @param array the double-array to insert the element into
-	 * @param index the index to insert the element at
-	 * @param element the double-element to insert
-	 * @return the double-array with the element inserted at the specified index
-	 * @since 1.0.0
+	/**
+	 * Returns the index of the first occurrence of the short-subarray in the short-array starting from a specified index.
+	 *
+	 * @param array the array to check
+	 * @param fromIndex the index to start the search from
+	 * @param subarray the subarray to search for
+	 * @return the index of the first occurrence of the subarray in the array, or {@code -1} if the subarray is not present
+	 * @see SearchPattern
+	 * @since 1.10.0
 	 */
-	public static double[] insert(double[] array, int index, double element) {
-		return add(array, index, element);
+	public static int indexOfSubarray(short[] array, int fromIndex, short[] subarray) {
+		if (isNull(array) || isNull(subarray)) return INDEX_NOT_FOUND;
+		return SearchPattern.of(subarray).indexIn(array, fromIndex);
 	}
 
-	/**Inserts a char-element at the specified index in the char-array.
-	 * @param array the char-array to insert the element into
-	 * @param index the index to insert the element at
-	 * @param element the char-element to insert
-	 * @return the char-array with the element inserted at the specified index
-	 * @since 1.0.0
+	/**
+	 * Returns the index of the last occurrence of the short-subarray in the short-array.
+	 *
+	 * @param array the array to check
+	 * @param subarray the subarray to search for
+	 * @return the index of the last occurrence of the subarray in the array, or {@code -1} if the subarray is not present
+	 * @see SearchPattern
+	 * @since 1.10.0
 	 */
-	public static char[] insert(char[] array, int index, char element) {
-		return add(array, index, element);
+	public static int lastIndexOfSubarray(short[] array, short[] subarray) {
+		if (isNull(array) || isNull(subarray)) return INDEX_NOT_FOUND;
+		return SearchPattern.of(subarray).lastIndexIn(array);
 	}
 
-	/**Inserts a boolean-element at the specified index in the boolean-array.
-	 * @param array the boolean-array to insert the element into
-	 * @param index the index to insert the element at
-	 * @param element the boolean-element to insert
-	 * @return the boolean-array with the element inserted at the specified index
-	 * @since 1.0.0
+	/**
+	 * Returns the indexes of the non-overlapping occurrences of the short-subarray in the short-array.
+	 *
+	 * @param array the array to check
+	 * @param subarray the subarray to search for
+	 * @return the indexes of the occurrences of the subarray in the array
+	 * @see SearchPattern
+	 * @since 1.10.0
 	 */
-	public static boolean[] insert(boolean[] array, int index, boolean element) {
-		return add(array, index, element);
+	public static int[] indexesOfSubarray(short[] array, short[] subarray) {
+		if (isNull(array) || isNull(subarray)) return new int[0];
+		return SearchPattern.of(subarray).indexesIn(array);
 	}
 
-	/**Transforms a null array into an empty array.
+	/**
+	 * Counts the non-overlapping occurrences of the short-subarray in the short-array.
+	 *
 	 * @param array the array to check
-	 * @param type the type of the array
-	 * @param <E> the type of the array
-	 * @return the empty array if the array is null, otherwise the array itself
-	 * @since 1.0.0
+	 * @param subarray the subarray to count
+	 * @return the number of occurrences of the subarray in the array
+	 * @see SearchPattern
+	 * @since 1.10.0
 	 */
-	public static <E> E[] nullToEmpty(E[] array, Class<E> type) {
-		if (isNull(array)) {
-			@SuppressWarnings("unchecked") E[] result = (E[]) requireNonNull(type).cast(Array.newInstance(type.getComponentType(), 0));
-			return result;
-		} return array;
+	public static int countOccurrences(short[] array, short[] subarray) {
+		if (isNull(array) || isNull(subarray)) return 0;
+		return SearchPattern.of(subarray).countIn(array);
 	}
 
-	/**Transforms a null byte-array into an empty byte-array.
-	 * @param array the byte-array to check
-	 * @return the empty byte-array if the array is null, otherwise the array itself
-	 * @since 1.0.0
+	/**
+	 * Returns the index of the first occurrence of the char-subarray in the char-array.
+	 *
+	 * @param array the array to check
+	 * @param subarray the subarray to search for
+	 * @return the index of the first occurrence of the subarray in the array, or {@code -1} if the subarray is not present
+	 * @see SearchPattern
+	 * @since 1.10.0
 	 */
-	public static byte[] nullToEmpty(byte[] array) {
-		return isNull(array) ? EMPTY_BYTE_ARRAY : array;
+	public static int indexOfSubarray(char[] array, char[] subarray) {
+		return indexOfSubarray(array, 0, subarray);
 	}
 
-	/**Transforms a null short-array into an empty short-array.
-	 * @param array the short-array to check
-	 * @return the empty short-array if the array is null, otherwise the array itself
-	 * @since 1.0.0
+	/**
+	 * Returns the index of the first occurrence of the char-subarray in the char-array starting from a specified index.
+	 *
+	 * @param array the array to check
+	 * @param fromIndex the index to start the search from
+	 * @param subarray the subarray to search for
+	 * @return the index of the first occurrence of the subarray in the array, or {@code -1} if the subarray is not present
+	 * @see SearchPattern
+	 * @since 1.10.0
 	 */
-	public static short[] nullToEmpty(short[] array) {
-		return isNull(array) ? EMPTY_SHORT_ARRAY : array;
+	public static int indexOfSubarray(char[] array, int fromIndex, char[] subarray) {
+		if (isNull(array) || isNull(subarray)) return INDEX_NOT_FOUND;
+		return SearchPattern.of(subarray).indexIn(array, fromIndex);
 	}
 
-	/**Transforms a null int-array into an empty int-array.
-	 * @param array the int-array to check
-	 * @return the empty int-array if the array is null, otherwise the array itself
-	 * @since 1.0.0
+	/**
+	 * Returns the index of the last occurrence of the char-subarray in the char-array.
+	 *
+	 * @param array the array to check
+	 * @param subarray the subarray to search for
+	 * @return the index of the last occurrence of the subarray in the array, or {@code -1} if the subarray is not present
+	 * @see SearchPattern
+	 * @since 1.10.0
 	 */
-	public static int[] nullToEmpty(int[] array) {
-		return isNull(array) ? EMPTY_INT_ARRAY : array;
+	public static int lastIndexOfSubarray(char[] array, char[] subarray) {
+		if (isNull(array) || isNull(subarray)) return INDEX_NOT_FOUND;
+		return SearchPattern.of(subarray).lastIndexIn(array);
 	}
 
-	/**Transforms a null long-array into an empty long-array.
-	 * @param array the long-array to check
-	 * @return the empty long-array if the array is null, otherwise the array itself
-	 * @since 1.0.0
+	/**
+	 * Returns the indexes of the non-overlapping occurrences of the char-subarray in the char-array.
+	 *
+	 * @param array the array to check
+	 * @param subarray the subarray to search for
+	 * @return the indexes of the occurrences of the subarray in the array
+	 * @see SearchPattern
+	 * @since 1.10.0
 	 */
-	public static long[] nullToEmpty(long[] array) {
+	public static int[] indexesOfSubarray(char[] array, char[] subarray) {
+		if (isNull(array) || isNull(subarray)) return new int[0];
+		return SearchPattern.of(subarray).indexesIn(array);
+	}
+
+	/**
+	 * Counts the non-overlapping occurrences of the char-subarray in the char-array.
+	 *
+	 * @param array the array to check
+	 * @param subarray the subarray to count
+	 * @return the number of occurrences of the subarray in the array
+	 * @see SearchPattern
+	 * @since 1.10.0
+	 */
+	public static int countOccurrences(char[] array, char[] subarray) {
+		if (isNull(array) || isNull(subarray)) return 0;
+		return SearchPattern.of(subarray).countIn(array);
+	}
+
+	/**
+	 * Returns the index of the first occurrence of the int-subarray in the int-array.
+	 *
+	 * @param array the array to check
+	 * @param subarray the subarray to search for
+	 * @return the index of the first occurrence of the subarray in the array, or {@code -1} if the subarray is not present
+	 * @see SearchPattern
+	 * @since 1.10.0
+	 */
+	public static int indexOfSubarray(int[] array, int[] subarray) {
+		return indexOfSubarray(array, 0, subarray);
+	}
+
+	/**
+	 * Returns the index of the first occurrence of the int-subarray in the int-array starting from a specified index.
+	 *
+	 * @param array the array to check
+	 * @param fromIndex the index to start the search from
+	 * @param subarray the subarray to search for
+	 * @return the index of the first occurrence of the subarray in the array, or {@code -1} if the subarray is not present
+	 * @see SearchPattern
+	 * @since 1.10.0
+	 */
+	public static int indexOfSubarray(int[] array, int fromIndex, int[] subarray) {
+		if (isNull(array) || isNull(subarray)) return INDEX_NOT_FOUND;
+		return SearchPattern.of(subarray).indexIn(array, fromIndex);
+	}
+
+	/**
+	 * Returns the index of the last occurrence of the int-subarray in the int-array.
+	 *
+	 * @param array the array to check
+	 * @param subarray the subarray to search for
+	 * @return the index of the last occurrence of the subarray in the array, or {@code -1} if the subarray is not present
+	 * @see SearchPattern
+	 * @since 1.10.0
+	 */
+	public static int lastIndexOfSubarray(int[] array, int[] subarray) {
+		if (isNull(array) || isNull(subarray)) return INDEX_NOT_FOUND;
+		return SearchPattern.of(subarray).lastIndexIn(array);
+	}
+
+	/**
+	 * Returns the indexes of the non-overlapping occurrences of the int-subarray in the int-array.
+	 *
+	 * @param array the array to check
+	 * @param subarray the subarray to search for
+	 * @return the indexes of the occurrences of the subarray in the array
+	 * @see SearchPattern
+	 * @since 1.10.0
+	 */
+	public static int[] indexesOfSubarray(int[] array, int[] subarray) {
+		if (isNull(array) || isNull(subarray)) return new int[0];
+		return SearchPattern.of(subarray).indexesIn(array);
+	}
+
+	/**
+	 * Counts the non-overlapping occurrences of the int-subarray in the int-array.
+	 *
+	 * @param array the array to check
+	 * @param subarray the subarray to count
+	 * @return the number of occurrences of the subarray in the array
+	 * @see SearchPattern
+	 * @since 1.10.0
+	 */
+	public static int countOccurrences(int[] array, int[] subarray) {
+		if (isNull(array) || isNull(subarray)) return 0;
+		return SearchPattern.of(subarray).countIn(array);
+	}
+
+	/**
+	 * Returns the index of the first occurrence of the long-subarray in the long-array.
+	 *
+	 * @param array the array to check
+	 * @param subarray the subarray to search for
+	 * @return the index of the first occurrence of the subarray in the array, or {@code -1} if the subarray is not present
+	 * @see SearchPattern
+	 * @since 1.10.0
+	 */
+	public static int indexOfSubarray(long[] array, long[] subarray) {
+		return indexOfSubarray(array, 0, subarray);
+	}
+
+	/**
+	 * Returns the index of the first occurrence of the long-subarray in the long-array starting from a specified index.
+	 *
+	 * @param array the array to check
+	 * @param fromIndex the index to start the search from
+	 * @param subarray the subarray to search for
+	 * @return the index of the first occurrence of the subarray in the array, or {@code -1} if the subarray is not present
+	 * @see SearchPattern
+	 * @since 1.10.0
+	 */
+	public static int indexOfSubarray(long[] array, int fromIndex, long[] subarray) {
+		if (isNull(array) || isNull(subarray)) return INDEX_NOT_FOUND;
+		return SearchPattern.of(subarray).indexIn(array, fromIndex);
+	}
+
+	/**
+	 * Returns the index of the last occurrence of the long-subarray in the long-array.
+	 *
+	 * @param array the array to check
+	 * @param subarray the subarray to search for
+	 * @return the index of the last occurrence of the subarray in the array, or {@code -1} if the subarray is not present
+	 * @see SearchPattern
+	 * @since 1.10.0
+	 */
+	public static int lastIndexOfSubarray(long[] array, long[] subarray) {
+		if (isNull(array) || isNull(subarray)) return INDEX_NOT_FOUND;
+		return SearchPattern.of(subarray).lastIndexIn(array);
+	}
+
+	/**
+	 * Returns the indexes of the non-overlapping occurrences of the long-subarray in the long-array.
+	 *
+	 * @param array the array to check
+	 * @param subarray the subarray to search for
+	 * @return the indexes of the occurrences of the subarray in the array
+	 * @see SearchPattern
+	 * @since 1.10.0
+	 */
+	public static int[] indexesOfSubarray(long[] array, long[] subarray) {
+		if (isNull(array) || isNull(subarray)) return new int[0];
+		return SearchPattern.of(subarray).indexesIn(array);
+	}
+
+	/**
+	 * Counts the non-overlapping occurrences of the long-subarray in the long-array.
+	 *
+	 * @param array the array to check
+	 * @param subarray the subarray to count
+	 * @return the number of occurrences of the subarray in the array
+	 * @see SearchPattern
+	 * @since 1.10.0
+	 */
+	public static int countOccurrences(long[] array, long[] subarray) {
+		if (isNull(array) || isNull(subarray)) return 0;
+		return SearchPattern.of(subarray).countIn(array);
+	}
+
+	/**Inserts an element at the specified index in the array.
+	 * @param array the array to insert the element into
+	 * @param index the index to insert the element at
+	 * @param element the element to insert
+	 * @return the array with the element inserted at the specified index
+	 * @param <E> the type of the array
+	 * @since 1.0.0
+	 */
+	public static <E> E[] insert(E[] array, int index, E element) {
+		return add(array, index, element);
+	}
+
+	/**Inserts a byte-element at the specified index in the byte-array.
+	 * @param array the byte-array to insert the element into
+	 * @param index the index to insert the element at
+	 * @param element the byte-element to insert
+	 * @return the byte-array with the element inserted at the specified index
+	 * @since 1.0.0
+	 */
+	public static byte[] insert(byte[] array, int index, byte element) {
+		return add(array, index, element);
+	}
+
+	/**Inserts a short-element at the specified index in the short-array.
+	 * @param array the short-array to insert the element into
+	 * @param index the index to insert the element at
+	 * @param element the short-element to insert
+	 * @return the short-array with the element inserted at the specified index
+	 * @since 1.0.0
+	 */
+	public static short[] insert(short[] array, int index, short element) {
+		return add(array, index, element);
+	}
+
+	/**Inserts an int-element at the specified index in the int-array.
+	 * @param array the int-array to insert the element into
+	 * @param index the index to insert the element at
+	 * @param element the int-element to insert
+	 * @return the int-array with the element inserted at the specified index
+	 * @since 1.0.0
+	 */
+	public static int[] insert(int[] array, int index, int element) {
+		return add(array, index, element);
+	}
+
+	/**Inserts a long-element at the specified index in the long-array.
+	 * @param array the long-array to insert the element into
+	 * @param index the index to insert the element at
+	 * @param element the long-element to insert
+	 * @return the long-array with the element inserted at the specified index
+	 * @since 1.0.0
+	 */
+	public static long[] insert(long[] array, int index, long element) {
+		return add(array, index, element);
+	}
+
+	/**Inserts a float-element at the specified index in the float-array.
+	 * @param array the float-array to insert the element into
+	 * @param index the index to insert the element at
+	 * @param element the float-element to insert
+	 * @return the float-array with the element inserted at the specified index
+	 * @since 1.0.0
+	 */
+	public static float[] insert(float[] array, int index, float element) {
+		return add(array, index, element);
+	}
+
+	/**Inserts a double-element at the specified index in the double-array.
+	 * @param array the double-array to insert the element into
+	 * @param index the index to insert the element at
+	 * @param element the double-element to insert
+	 * @return the double-array with the element inserted at the specified index
+	 * @since 1.0.0
+	 */
+	public static double[] insert(double[] array, int index, double element) {
+		return add(array, index, element);
+	}
+
+	/**Inserts a char-element at the specified index in the char-array.
+	 * @param array the char-array to insert the element into
+	 * @param index the index to insert the element at
+	 * @param element the char-element to insert
+	 * @return the char-array with the element inserted at the specified index
+	 * @since 1.0.0
+	 */
+	public static char[] insert(char[] array, int index, char element) {
+		return add(array, index, element);
+	}
+
+	/**Inserts a boolean-element at the specified index in the boolean-array.
+	 * @param array the boolean-array to insert the element into
+	 * @param index the index to insert the element at
+	 * @param element the boolean-element to insert
+	 * @return the boolean-array with the element inserted at the specified index
+	 * @since 1.0.0
+	 */
+	public static boolean[] insert(boolean[] array, int index, boolean element) {
+		return add(array, index, element);
+	}
+
+	/**Transforms a null array into an empty array.
+	 * @param array the array to check
+	 * @param type the type of the array
+	 * @param <E> the type of the array
+	 * @return the empty array if the array is null, otherwise the array itself
+	 * @since 1.0.0
+	 */
+	public static <E> E[] nullToEmpty(E[] array, Class<E> type) {
+		if (isNull(array)) {
+			@SuppressWarnings("unchecked") E[] result = (E[]) requireNonNull(type).cast(Array.newInstance(type.getComponentType(), 0));
+			return result;
+		} return array;
+	}
+
+	/**Transforms a null byte-array into an empty byte-array.
+	 * @param array the byte-array to check
+	 * @return the empty byte-array if the array is null, otherwise the array itself
+	 * @since 1.0.0
+	 */
+	public static byte[] nullToEmpty(byte[] array) {
+		return isNull(array) ? EMPTY_BYTE_ARRAY : array;
+	}
+
+	/**Transforms a null short-array into an empty short-array.
+	 * @param array the short-array to check
+	 * @return the empty short-array if the array is null, otherwise the array itself
+	 * @since 1.0.0
+	 */
+	public static short[] nullToEmpty(short[] array) {
+		return isNull(array) ? EMPTY_SHORT_ARRAY : array;
+	}
+
+	/**Transforms a null int-array into an empty int-array.
+	 * @param array the int-array to check
+	 * @return the empty int-array if the array is null, otherwise the array itself
+	 * @since 1.0.0
+	 */
+	public static int[] nullToEmpty(int[] array) {
+		return isNull(array) ? EMPTY_INT_ARRAY : array;
+	}
+
+	/**Transforms a null long-array into an empty long-array.
+	 * @param array the long-array to check
+	 * @return the empty long-array if the array is null, otherwise the array itself
+	 * @since 1.0.0
+	 */
+	public static long[] nullToEmpty(long[] array) {
 		return isNull(array) ? EMPTY_LONG_ARRAY : array;
 	}
 
@@ -4983,67 +5398,283 @@ public abstract class ArrayUtils {
 	}
 
 	/**
-	 * Transforms an array into a string array.
-	 * @param array the array to transform
-	 * @param <E> the type of the array
-	 * @return the string array
-	 * @since 1.0.0
+	 * Returns a fixed-size list view over a byte-array, without boxing the elements up front.
+	 * Unlike {@link #toWrapper(byte[])}, no wrapper array is allocated: an element is boxed only when read through {@link List#get(int)},
+	 * and changes to the list write through to the array.
+	 * The {@code List<Byte>} overloads of this class recognize the view and read the array directly.
+	 * @param array the byte-array to view
+	 * @return the list view, or {@code null} if the array is {@code null}
+	 * @since 1.10.0
 	 */
-	public static <E> String[] toStringArray(E[] array) {
+	public static ByteListView asList(byte[] array) {
 		if (isNull(array)) return null;
-		String[] result = new String[array.length];
-		for (int i = 0; i < array.length; i++) result[i] = array[i].toString();
-		return result;
+		return ByteListView.of(array);
 	}
 
 	/**
-	 * Transforms a byte-array into a string array.
-	 * @param array the byte-array to transform
-	 * @return the string array
-	 * @since 1.0.0
+	 * Returns a fixed-size list view over a short-array, without boxing the elements up front.
+	 * Unlike {@link #toWrapper(short[])}, no wrapper array is allocated: an element is boxed only when read through {@link List#get(int)},
+	 * and changes to the list write through to the array.
+	 * The {@code List<Short>} overloads of this class recognize the view and read the array directly.
+	 * @param array the short-array to view
+	 * @return the list view, or {@code null} if the array is {@code null}
+	 * @since 1.10.0
 	 */
-	public static String[] toStringArray(byte[] array) {
+	public static ShortListView asList(short[] array) {
 		if (isNull(array)) return null;
-		String[] result = new String[array.length];
-		for (int i = 0; i < array.length; i++) result[i] = String.valueOf(array[i]);
-		return result;
+		return ShortListView.of(array);
 	}
 
 	/**
-	 * Transforms a short-array into a string array.
-	 * @param array the short-array to transform
-	 * @return the string array
-	 * @since 1.0.0
+	 * Returns a fixed-size list view over an int-array, without boxing the elements up front.
+	 * Unlike {@link #toWrapper(int[])}, no wrapper array is allocated: an element is boxed only when read through {@link List#get(int)},
+	 * and changes to the list write through to the array.
+	 * The {@code List<Integer>} overloads of this class recognize the view and read the array directly.
+	 * @param array the int-array to view
+	 * @return the list view, or {@code null} if the array is {@code null}
+	 * @since 1.10.0
 	 */
-	public static String[] toStringArray(short[] array) {
+	public static IntListView asList(int[] array) {
 		if (isNull(array)) return null;
-		String[] result = new String[array.length];
-		for (int i = 0; i < array.length; i++) result[i] = String.valueOf(array[i]);
-		return result;
+		return IntListView.of(array);
 	}
 
 	/**
-	 * Transforms an int-array into a string array.
-	 * @param array the int-array to transform
-	 * @return the string array
-	 * @since 1.0.0
+	 * Returns a fixed-size list view over a long-array, without boxing the elements up front.
+	 * Unlike {@link #toWrapper(long[])}, no wrapper array is allocated: an element is boxed only when read through {@link List#get(int)},
+	 * and changes to the list write through to the array.
+	 * The {@code List<Long>} overloads of this class recognize the view and read the array directly.
+	 * @param array the long-array to view
+	 * @return the list view, or {@code null} if the array is {@code null}
+	 * @since 1.10.0
 	 */
-	public static String[] toStringArray(int[] array) {
+	public static LongListView asList(long[] array) {
 		if (isNull(array)) return null;
-		String[] result = new String[array.length];
-		for (int i = 0; i < array.length; i++) result[i] = String.valueOf(array[i]);
-		return result;
+		return LongListView.of(array);
 	}
 
 	/**
-	 * Transforms a long-array into a string array.
-	 * @param array the long-array to transform
-	 * @return the string array
-	 * @since 1.0.0
+	 * Returns a fixed-size list view over a float-array, without boxing the elements up front.
+	 * Unlike {@link #toWrapper(float[])}, no wrapper array is allocated: an element is boxed only when read through {@link List#get(int)},
+	 * and changes to the list write through to the array.
+	 * The {@code List<Float>} overloads of this class recognize the view and read the array directly.
+	 * @param array the float-array to view
+	 * @return the list view, or {@code null} if the array is {@code null}
+	 * @since 1.10.0
 	 */
-	public static String[] toStringArray(long[] array) {
+	public static FloatListView asList(float[] array) {
 		if (isNull(array)) return null;
-		String[] result = new String[array.length];
+		return FloatListView.of(array);
+	}
+
+	/**
+	 * Returns a fixed-size list view over a double-array, without boxing the elements up front.
+	 * Unlike {@link #toWrapper(double[])}, no wrapper array is allocated: an element is boxed only when read through {@link List#get(int)},
+	 * and changes to the list write through to the array.
+	 * The {@code List<Double>} overloads of this class recognize the view and read the array directly.
+	 * @param array the double-array to view
+	 * @return the list view, or {@code null} if the array is {@code null}
+	 * @since 1.10.0
+	 */
+	public static DoubleListView asList(double[] array) {
+		if (isNull(array)) return null;
+		return DoubleListView.of(array);
+	}
+
+	/**
+	 * Returns a fixed-size list view over a char-array, without boxing the elements up front.
+	 * Unlike {@link #toWrapper(char[])}, no wrapper array is allocated: an element is boxed only when read through {@link List#get(int)},
+	 * and changes to the list write through to the array.
+	 * The {@code List<Character>} overloads of this class recognize the view and read the array directly.
+	 * @param array the char-array to view
+	 * @return the list view, or {@code null} if the array is {@code null}
+	 * @since 1.10.0
+	 */
+	public static CharListView asList(char[] array) {
+		if (isNull(array)) return null;
+		return CharListView.of(array);
+	}
+
+	/**
+	 * Returns a fixed-size list view over a boolean-array, without boxing the elements up front.
+	 * Unlike {@link #toWrapper(boolean[])}, no wrapper array is allocated: an element is boxed only when read through {@link List#get(int)},
+	 * and changes to the list write through to the array.
+	 * The {@code List<Boolean>} overloads of this class recognize the view and read the array directly.
+	 * @param array the boolean-array to view
+	 * @return the list view, or {@code null} if the array is {@code null}
+	 * @since 1.10.0
+	 */
+	public static BooleanListView asList(boolean[] array) {
+		if (isNull(array)) return null;
+		return BooleanListView.of(array);
+	}
+
+	/**
+	 * Unboxes a list of Byte elements, copying the array directly if the list is a {@link ByteListView}.
+	 * @param elements the list to unbox
+	 * @return the byte-array of the elements
+	 */
+	private static byte[] unboxBytes(List<Byte> elements) {
+		if (elements instanceof ByteListView) return ((ByteListView) elements).toByteArray();
+		byte[] values = new byte[elements.size()];
+		int i = 0;
+		for (byte element : elements) values[i++] = element;
+		return values;
+	}
+
+	/**
+	 * Unboxes a list of Short elements, copying the array directly if the list is a {@link ShortListView}.
+	 * @param elements the list to unbox
+	 * @return the short-array of the elements
+	 */
+	private static short[] unboxShorts(List<Short> elements) {
+		if (elements instanceof ShortListView) return ((ShortListView) elements).toShortArray();
+		short[] values = new short[elements.size()];
+		int i = 0;
+		for (short element : elements) values[i++] = element;
+		return values;
+	}
+
+	/**
+	 * Unboxes a list of Integer elements, copying the array directly if the list is a {@link IntListView}.
+	 * @param elements the list to unbox
+	 * @return the int-array of the elements
+	 */
+	private static int[] unboxInts(List<Integer> elements) {
+		if (elements instanceof IntListView) return ((IntListView) elements).toIntArray();
+		int[] values = new int[elements.size()];
+		int i = 0;
+		for (int element : elements) values[i++] = element;
+		return values;
+	}
+
+	/**
+	 * Unboxes a list of Long elements, copying the array directly if the list is a {@link LongListView}.
+	 * @param elements the list to unbox
+	 * @return the long-array of the elements
+	 */
+	private static long[] unboxLongs(List<Long> elements) {
+		if (elements instanceof LongListView) return ((LongListView) elements).toLongArray();
+		long[] values = new long[elements.size()];
+		int i = 0;
+		for (long element : elements) values[i++] = element;
+		return values;
+	}
+
+	/**
+	 * Unboxes a list of Float elements, copying the array directly if the list is a {@link FloatListView}.
+	 * @param elements the list to unbox
+	 * @return the float-array of the elements
+	 */
+	private static float[] unboxFloats(List<Float> elements) {
+		if (elements instanceof FloatListView) return ((FloatListView) elements).toFloatArray();
+		float[] values = new float[elements.size()];
+		int i = 0;
+		for (float element : elements) values[i++] = element;
+		return values;
+	}
+
+	/**
+	 * Unboxes a list of Double elements, copying the array directly if the list is a {@link DoubleListView}.
+	 * @param elements the list to unbox
+	 * @return the double-array of the elements
+	 */
+	private static double[] unboxDoubles(List<Double> elements) {
+		if (elements instanceof DoubleListView) return ((DoubleListView) elements).toDoubleArray();
+		double[] values = new double[elements.size()];
+		int i = 0;
+		for (double element : elements) values[i++] = element;
+		return values;
+	}
+
+	/**
+	 * Unboxes a list of Character elements, copying the array directly if the list is a {@link CharListView}.
+	 * @param elements the list to unbox
+	 * @return the char-array of the elements
+	 */
+	private static char[] unboxChars(List<Character> elements) {
+		if (elements instanceof CharListView) return ((CharListView) elements).toCharArray();
+		char[] values = new char[elements.size()];
+		int i = 0;
+		for (char element : elements) values[i++] = element;
+		return values;
+	}
+
+	/**
+	 * Unboxes a list of Boolean elements, copying the array directly if the list is a {@link BooleanListView}.
+	 * @param elements the list to unbox
+	 * @return the boolean-array of the elements
+	 */
+	private static boolean[] unboxBooleans(List<Boolean> elements) {
+		if (elements instanceof BooleanListView) return ((BooleanListView) elements).toBooleanArray();
+		boolean[] values = new boolean[elements.size()];
+		int i = 0;
+		for (boolean element : elements) values[i++] = element;
+		return values;
+	}
+
+	/**
+	 * Transforms an array into a string array.
+	 * @param array the array to transform
+	 * @param <E> the type of the array
+	 * @return the string array
+	 * @since 1.0.0
+	 */
+	public static <E> String[] toStringArray(E[] array) {
+		if (isNull(array)) return null;
+		String[] result = new String[array.length];
+		for (int i = 0; i < array.length; i++) result[i] = array[i].toString();
+		return result;
+	}
+
+	/**
+	 * Transforms a byte-array into a string array.
+	 * @param array the byte-array to transform
+	 * @return the string array
+	 * @since 1.0.0
+	 */
+	public static String[] toStringArray(byte[] array) {
+		if (isNull(array)) return null;
+		String[] result = new String[array.length];
+		for (int i = 0; i < array.length; i++) result[i] = BYTE_STRINGS[array[i] + 128];
+		return result;
+	}
+
+	/**
+	 * Transforms a short-array into a string array.
+	 * @param array the short-array to transform
+	 * @return the string array
+	 * @since 1.0.0
+	 */
+	public static String[] toStringArray(short[] array) {
+		if (isNull(array)) return null;
+		String[] result = new String[array.length];
+		for (int i = 0; i < array.length; i++) result[i] = String.valueOf(array[i]);
+		return result;
+	}
+
+	/**
+	 * Transforms an int-array into a string array.
+	 * @param array the int-array to transform
+	 * @return the string array
+	 * @since 1.0.0
+	 */
+	public static String[] toStringArray(int[] array) {
+		if (isNull(array)) return null;
+		String[] result = new String[array.length];
+		for (int i = 0; i < array.length; i++) result[i] = String.valueOf(array[i]);
+		return result;
+	}
+
+	/**
+	 * Transforms a long-array into a string array.
+	 * @param array the long-array to transform
+	 * @return the string array
+	 * @since 1.0.0
+	 */
+	public static String[] toStringArray(long[] array) {
+		if (isNull(array)) return null;
+		String[] result = new String[array.length];
 		for (int i = 0; i < array.length; i++) result[i] = String.valueOf(array[i]);
 		return result;
 	}
@@ -5099,4 +5730,4298 @@ public abstract class ArrayUtils {
 		for (int i = 0; i < array.length; i++) result[i] = String.valueOf(array[i]);
 		return result;
 	}
+
+	/**
+	 * Writes the elements of a byte-array to an appendable, separated by a delimiter.
+	 * @param out the appendable to write to; not null
+	 * @param delimiter the delimiter between two elements ({@code null} for none)
+	 * @param array the byte-array to write
+	 * @param <A> the type of the appendable
+	 * @return the appendable
+	 * @throws IOException if the appendable fails
+	 * @see #joinTo(Appendable, CharSequence, byte[], int, int)
+	 * @since 1.10.0
+	 */
+	public static <A extends Appendable> A joinTo(A out, CharSequence delimiter, byte[] array) throws IOException {
+		return joinTo(out, delimiter, array, 0, isNull(array) ? 0 : array.length);
+	}
+
+	/**
+	 * Writes a range of the elements of a byte-array to an appendable, separated by a delimiter.
+	 * The elements are formatted as by {@link String#valueOf(byte)} into a {@link CharArrayBuffer} reused by the thread,
+	 * which is written to the appendable in bulk, so no string is created per element.
+	 * @param out the appendable to write to; not null
+	 * @param delimiter the delimiter between two elements ({@code null} for none)
+	 * @param array the byte-array to write; nothing is written if it is {@code null}
+	 * @param startIndex the index of the first element, inclusive (clamped to the array)
+	 * @param endIndex the end of the range, exclusive (clamped to the array)
+	 * @param <A> the type of the appendable
+	 * @return the appendable
+	 * @throws IOException if the appendable fails
+	 * @since 1.10.0
+	 */
+	public static <A extends Appendable> A joinTo(A out, CharSequence delimiter, byte[] array, int startIndex, int endIndex) throws IOException {
+		requireNonNull(out);
+		if (isNull(array)) return out;
+		if (startIndex < 0) startIndex = 0;
+		if (endIndex > array.length) endIndex = array.length;
+		CharArrayBuffer buffer = joinBuffer(out);
+		for (int i = startIndex; i < endIndex; i++) {
+			if (i > startIndex && nonNull(delimiter)) buffer.append(delimiter);
+			buffer.append(array[i]);
+			if (buffer.length() >= JOIN_FLUSH_SIZE) joinFlush(buffer, out);
+		}
+		joinEnd(buffer, out);
+		return out;
+	}
+
+	/**
+	 * Writes the elements of a short-array to an appendable, separated by a delimiter.
+	 * @param out the appendable to write to; not null
+	 * @param delimiter the delimiter between two elements ({@code null} for none)
+	 * @param array the short-array to write
+	 * @param <A> the type of the appendable
+	 * @return the appendable
+	 * @throws IOException if the appendable fails
+	 * @see #joinTo(Appendable, CharSequence, short[], int, int)
+	 * @since 1.10.0
+	 */
+	public static <A extends Appendable> A joinTo(A out, CharSequence delimiter, short[] array) throws IOException {
+		return joinTo(out, delimiter, array, 0, isNull(array) ? 0 : array.length);
+	}
+
+	/**
+	 * Writes a range of the elements of a short-array to an appendable, separated by a delimiter.
+	 * The elements are formatted as by {@link String#valueOf(short)} into a {@link CharArrayBuffer} reused by the thread,
+	 * which is written to the appendable in bulk, so no string is created per element.
+	 * @param out the appendable to write to; not null
+	 * @param delimiter the delimiter between two elements ({@code null} for none)
+	 * @param array the short-array to write; nothing is written if it is {@code null}
+	 * @param startIndex the index of the first element, inclusive (clamped to the array)
+	 * @param endIndex the end of the range, exclusive (clamped to the array)
+	 * @param <A> the type of the appendable
+	 * @return the appendable
+	 * @throws IOException if the appendable fails
+	 * @since 1.10.0
+	 */
+	public static <A extends Appendable> A joinTo(A out, CharSequence delimiter, short[] array, int startIndex, int endIndex) throws IOException {
+		requireNonNull(out);
+		if (isNull(array)) return out;
+		if (startIndex < 0) startIndex = 0;
+		if (endIndex > array.length) endIndex = array.length;
+		CharArrayBuffer buffer = joinBuffer(out);
+		for (int i = startIndex; i < endIndex; i++) {
+			if (i > startIndex && nonNull(delimiter)) buffer.append(delimiter);
+			buffer.append(array[i]);
+			if (buffer.length() >= JOIN_FLUSH_SIZE) joinFlush(buffer, out);
+		}
+		joinEnd(buffer, out);
+		return out;
+	}
+
+	/**
+	 * Writes the elements of an int-array to an appendable, separated by a delimiter.
+	 * @param out the appendable to write to; not null
+	 * @param delimiter the delimiter between two elements ({@code null} for none)
+	 * @param array the int-array to write
+	 * @param <A> the type of the appendable
+	 * @return the appendable
+	 * @throws IOException if the appendable fails
+	 * @see #joinTo(Appendable, CharSequence, int[], int, int)
+	 * @since 1.10.0
+	 */
+	public static <A extends Appendable> A joinTo(A out, CharSequence delimiter, int[] array) throws IOException {
+		return joinTo(out, delimiter, array, 0, isNull(array) ? 0 : array.length);
+	}
+
+	/**
+	 * Writes a range of the elements of an int-array to an appendable, separated by a delimiter.
+	 * The elements are formatted as by {@link String#valueOf(int)} into a {@link CharArrayBuffer} reused by the thread,
+	 * which is written to the appendable in bulk, so no string is created per element.
+	 * @param out the appendable to write to; not null
+	 * @param delimiter the delimiter between two elements ({@code null} for none)
+	 * @param array the int-array to write; nothing is written if it is {@code null}
+	 * @param startIndex the index of the first element, inclusive (clamped to the array)
+	 * @param endIndex the end of the range, exclusive (clamped to the array)
+	 * @param <A> the type of the appendable
+	 * @return the appendable
+	 * @throws IOException if the appendable fails
+	 * @since 1.10.0
+	 */
+	public static <A extends Appendable> A joinTo(A out, CharSequence delimiter, int[] array, int startIndex, int endIndex) throws IOException {
+		requireNonNull(out);
+		if (isNull(array)) return out;
+		if (startIndex < 0) startIndex = 0;
+		if (endIndex > array.length) endIndex = array.length;
+		CharArrayBuffer buffer = joinBuffer(out);
+		for (int i = startIndex; i < endIndex; i++) {
+			if (i > startIndex && nonNull(delimiter)) buffer.append(delimiter);
+			buffer.append(array[i]);
+			if (buffer.length() >= JOIN_FLUSH_SIZE) joinFlush(buffer, out);
+		}
+		joinEnd(buffer, out);
+		return out;
+	}
+
+	/**
+	 * Writes the elements of a long-array to an appendable, separated by a delimiter.
+	 * @param out the appendable to write to; not null
+	 * @param delimiter the delimiter between two elements ({@code null} for none)
+	 * @param array the long-array to write
+	 * @param <A> the type of the appendable
+	 * @return the appendable
+	 * @throws IOException if the appendable fails
+	 * @see #joinTo(Appendable, CharSequence, long[], int, int)
+	 * @since 1.10.0
+	 */
+	public static <A extends Appendable> A joinTo(A out, CharSequence delimiter, long[] array) throws IOException {
+		return joinTo(out, delimiter, array, 0, isNull(array) ? 0 : array.length);
+	}
+
+	/**
+	 * Writes a range of the elements of a long-array to an appendable, separated by a delimiter.
+	 * The elements are formatted as by {@link String#valueOf(long)} into a {@link CharArrayBuffer} reused by the thread,
+	 * which is written to the appendable in bulk, so no string is created per element.
+	 * @param out the appendable to write to; not null
+	 * @param delimiter the delimiter between two elements ({@code null} for none)
+	 * @param array the long-array to write; nothing is written if it is {@code null}
+	 * @param startIndex the index of the first element, inclusive (clamped to the array)
+	 * @param endIndex the end of the range, exclusive (clamped to the array)
+	 * @param <A> the type of the appendable
+	 * @return the appendable
+	 * @throws IOException if the appendable fails
+	 * @since 1.10.0
+	 */
+	public static <A extends Appendable> A joinTo(A out, CharSequence delimiter, long[] array, int startIndex, int endIndex) throws IOException {
+		requireNonNull(out);
+		if (isNull(array)) return out;
+		if (startIndex < 0) startIndex = 0;
+		if (endIndex > array.length) endIndex = array.length;
+		CharArrayBuffer buffer = joinBuffer(out);
+		for (int i = startIndex; i < endIndex; i++) {
+			if (i > startIndex && nonNull(delimiter)) buffer.append(delimiter);
+			buffer.append(array[i]);
+			if (buffer.length() >= JOIN_FLUSH_SIZE) joinFlush(buffer, out);
+		}
+		joinEnd(buffer, out);
+		return out;
+	}
+
+	/**
+	 * Writes the elements of a float-array to an appendable, separated by a delimiter.
+	 * @param out the appendable to write to; not null
+	 * @param delimiter the delimiter between two elements ({@code null} for none)
+	 * @param array the float-array to write
+	 * @param <A> the type of the appendable
+	 * @return the appendable
+	 * @throws IOException if the appendable fails
+	 * @see #joinTo(Appendable, CharSequence, float[], int, int)
+	 * @since 1.10.0
+	 */
+	public static <A extends Appendable> A joinTo(A out, CharSequence delimiter, float[] array) throws IOException {
+		return joinTo(out, delimiter, array, 0, isNull(array) ? 0 : array.length);
+	}
+
+	/**
+	 * Writes a range of the elements of a float-array to an appendable, separated by a delimiter.
+	 * The elements are formatted as by {@link String#valueOf(float)} into a {@link CharArrayBuffer} reused by the thread,
+	 * which is written to the appendable in bulk, so no string is created per element.
+	 * @param out the appendable to write to; not null
+	 * @param delimiter the delimiter between two elements ({@code null} for none)
+	 * @param array the float-array to write; nothing is written if it is {@code null}
+	 * @param startIndex the index of the first element, inclusive (clamped to the array)
+	 * @param endIndex the end of the range, exclusive (clamped to the array)
+	 * @param <A> the type of the appendable
+	 * @return the appendable
+	 * @throws IOException if the appendable fails
+	 * @since 1.10.0
+	 */
+	public static <A extends Appendable> A joinTo(A out, CharSequence delimiter, float[] array, int startIndex, int endIndex) throws IOException {
+		requireNonNull(out);
+		if (isNull(array)) return out;
+		if (startIndex < 0) startIndex = 0;
+		if (endIndex > array.length) endIndex = array.length;
+		CharArrayBuffer buffer = joinBuffer(out);
+		for (int i = startIndex; i < endIndex; i++) {
+			if (i > startIndex && nonNull(delimiter)) buffer.append(delimiter);
+			buffer.append(array[i]);
+			if (buffer.length() >= JOIN_FLUSH_SIZE) joinFlush(buffer, out);
+		}
+		joinEnd(buffer, out);
+		return out;
+	}
+
+	/**
+	 * Writes the elements of a double-array to an appendable, separated by a delimiter.
+	 * @param out the appendable to write to; not null
+	 * @param delimiter the delimiter between two elements ({@code null} for none)
+	 * @param array the double-array to write
+	 * @param <A> the type of the appendable
+	 * @return the appendable
+	 * @throws IOException if the appendable fails
+	 * @see #joinTo(Appendable, CharSequence, double[], int, int)
+	 * @since 1.10.0
+	 */
+	public static <A extends Appendable> A joinTo(A out, CharSequence delimiter, double[] array) throws IOException {
+		return joinTo(out, delimiter, array, 0, isNull(array) ? 0 : array.length);
+	}
+
+	/**
+	 * Writes a range of the elements of a double-array to an appendable, separated by a delimiter.
+	 * The elements are formatted as by {@link String#valueOf(double)} into a {@link CharArrayBuffer} reused by the thread,
+	 * which is written to the appendable in bulk, so no string is created per element.
+	 * @param out the appendable to write to; not null
+	 * @param delimiter the delimiter between two elements ({@code null} for none)
+	 * @param array the double-array to write; nothing is written if it is {@code null}
+	 * @param startIndex the index of the first element, inclusive (clamped to the array)
+	 * @param endIndex the end of the range, exclusive (clamped to the array)
+	 * @param <A> the type of the appendable
+	 * @return the appendable
+	 * @throws IOException if the appendable fails
+	 * @since 1.10.0
+	 */
+	public static <A extends Appendable> A joinTo(A out, CharSequence delimiter, double[] array, int startIndex, int endIndex) throws IOException {
+		requireNonNull(out);
+		if (isNull(array)) return out;
+		if (startIndex < 0) startIndex = 0;
+		if (endIndex > array.length) endIndex = array.length;
+		CharArrayBuffer buffer = joinBuffer(out);
+		for (int i = startIndex; i < endIndex; i++) {
+			if (i > startIndex && nonNull(delimiter)) buffer.append(delimiter);
+			buffer.append(array[i]);
+			if (buffer.length() >= JOIN_FLUSH_SIZE) joinFlush(buffer, out);
+		}
+		joinEnd(buffer, out);
+		return out;
+	}
+
+	/**
+	 * Writes the elements of a char-array to an appendable, separated by a delimiter.
+	 * @param out the appendable to write to; not null
+	 * @param delimiter the delimiter between two elements ({@code null} for none)
+	 * @param array the char-array to write
+	 * @param <A> the type of the appendable
+	 * @return the appendable
+	 * @throws IOException if the appendable fails
+	 * @see #joinTo(Appendable, CharSequence, char[], int, int)
+	 * @since 1.10.0
+	 */
+	public static <A extends Appendable> A joinTo(A out, CharSequence delimiter, char[] array) throws IOException {
+		return joinTo(out, delimiter, array, 0, isNull(array) ? 0 : array.length);
+	}
+
+	/**
+	 * Writes a range of the elements of a char-array to an appendable, separated by a delimiter.
+	 * The elements are formatted as by {@link String#valueOf(char)} into a {@link CharArrayBuffer} reused by the thread,
+	 * which is written to the appendable in bulk, so no string is created per element.
+	 * @param out the appendable to write to; not null
+	 * @param delimiter the delimiter between two elements ({@code null} for none)
+	 * @param array the char-array to write; nothing is written if it is {@code null}
+	 * @param startIndex the index of the first element, inclusive (clamped to the array)
+	 * @param endIndex the end of the range, exclusive (clamped to the array)
+	 * @param <A> the type of the appendable
+	 * @return the appendable
+	 * @throws IOException if the appendable fails
+	 * @since 1.10.0
+	 */
+	public static <A extends Appendable> A joinTo(A out, CharSequence delimiter, char[] array, int startIndex, int endIndex) throws IOException {
+		requireNonNull(out);
+		if (isNull(array)) return out;
+		if (startIndex < 0) startIndex = 0;
+		if (endIndex > array.length) endIndex = array.length;
+		CharArrayBuffer buffer = joinBuffer(out);
+		for (int i = startIndex; i < endIndex; i++) {
+			if (i > startIndex && nonNull(delimiter)) buffer.append(delimiter);
+			buffer.append(array[i]);
+			if (buffer.length() >= JOIN_FLUSH_SIZE) joinFlush(buffer, out);
+		}
+		joinEnd(buffer, out);
+		return out;
+	}
+
+	/**
+	 * Writes the elements of a boolean-array to an appendable, separated by a delimiter.
+	 * @param out the appendable to write to; not null
+	 * @param delimiter the delimiter between two elements ({@code null} for none)
+	 * @param array the boolean-array to write
+	 * @param <A> the type of the appendable
+	 * @return the appendable
+	 * @throws IOException if the appendable fails
+	 * @see #joinTo(Appendable, CharSequence, boolean[], int, int)
+	 * @since 1.10.0
+	 */
+	public static <A extends Appendable> A joinTo(A out, CharSequence delimiter, boolean[] array) throws IOException {
+		return joinTo(out, delimiter, array, 0, isNull(array) ? 0 : array.length);
+	}
+
+	/**
+	 * Writes a range of the elements of a boolean-array to an appendable, separated by a delimiter.
+	 * The elements are formatted as by {@link String#valueOf(boolean)} into a {@link CharArrayBuffer} reused by the thread,
+	 * which is written to the appendable in bulk, so no string is created per element.
+	 * @param out the appendable to write to; not null
+	 * @param delimiter the delimiter between two elements ({@code null} for none)
+	 * @param array the boolean-array to write; nothing is written if it is {@code null}
+	 * @param startIndex the index of the first element, inclusive (clamped to the array)
+	 * @param endIndex the end of the range, exclusive (clamped to the array)
+	 * @param <A> the type of the appendable
+	 * @return the appendable
+	 * @throws IOException if the appendable fails
+	 * @since 1.10.0
+	 */
+	public static <A extends Appendable> A joinTo(A out, CharSequence delimiter, boolean[] array, int startIndex, int endIndex) throws IOException {
+		requireNonNull(out);
+		if (isNull(array)) return out;
+		if (startIndex < 0) startIndex = 0;
+		if (endIndex > array.length) endIndex = array.length;
+		CharArrayBuffer buffer = joinBuffer(out);
+		for (int i = startIndex; i < endIndex; i++) {
+			if (i > startIndex && nonNull(delimiter)) buffer.append(delimiter);
+			buffer.append(array[i]);
+			if (buffer.length() >= JOIN_FLUSH_SIZE) joinFlush(buffer, out);
+		}
+		joinEnd(buffer, out);
+		return out;
+	}
+
+	/**
+	 * Returns the buffer to format the elements of a join into: the appendable itself if it is a {@link CharArrayBuffer},
+	 * otherwise the idle buffer of the thread, which is taken until {@link #joinEnd(CharArrayBuffer, Appendable)}.
+	 * A join nested in another one, as by the {@code toString()} of an element, gets a new buffer.
+	 * @param out the appendable to write to
+	 * @return the buffer
+	 */
+	static CharArrayBuffer joinBuffer(Appendable out) {
+		if (out instanceof CharArrayBuffer) return (CharArrayBuffer) out;
+		CharArrayBuffer buffer = JOIN_BUFFER.get();
+		if (isNull(buffer)) return new CharArrayBuffer(JOIN_FLUSH_SIZE + 64);
+		JOIN_BUFFER.remove();
+		return buffer;
+	}
+
+	/**
+	 * Writes the rest of a join to the appendable and gives the buffer back to the thread,
+	 * unless a huge element grew it. A join failing before its end drops its buffer.
+	 * @param buffer the buffer
+	 * @param out the appendable to write to
+	 * @throws IOException if the appendable fails
+	 */
+	static void joinEnd(CharArrayBuffer buffer, Appendable out) throws IOException {
+		if (buffer == out) return;
+		buffer.flushTo(out);
+		if (buffer.capacity() <= JOIN_FLUSH_SIZE << 2) JOIN_BUFFER.set(buffer);
+	}
+
+	/**
+	 * Writes the buffered characters of a join to the appendable.
+	 * @param buffer the buffer
+	 * @param out the appendable to write to
+	 * @throws IOException if the appendable fails
+	 */
+	static void joinFlush(CharArrayBuffer buffer, Appendable out) throws IOException {
+		if (buffer != out) buffer.flushTo(out);
+	}
+
+	/**
+	 * Counts the occurrences of each distinct value of a byte-array.
+	 * @param array the byte-array to count
+	 * @return the histogram of the values; empty if the array is {@code null}
+	 * @see Histogram
+	 * @since 1.10.0
+	 */
+	public static Histogram frequencies(byte[] array) {
+		return Histogram.of(isNull(array) ? EMPTY_BYTE_ARRAY : array);
+	}
+
+	/**
+	 * Counts the occurrences of every byte value in a byte-array.
+	 * @param array the byte-array to count
+	 * @return the 256 counts, indexed by {@code value + 128}
+	 * @since 1.10.0
+	 */
+	public static int[] histogram(byte[] array) {
+		return countBins(isNull(array) ? 0 : array.length, 256, i -> array[i] + 128);
+	}
+
+	/**
+	 * Returns the most frequent value of a byte-array (the smallest one if more values are the most frequent).
+	 * @param array the byte-array
+	 * @return the most frequent value
+	 * @throws IllegalArgumentException if the array is {@code null} or empty
+	 * @since 1.10.0
+	 */
+	public static byte mode(byte[] array) {
+		Histogram histogram = frequencies(array);
+		if (histogram.size() == 0) throw new IllegalArgumentException("At least 1 element.");
+		return (byte) histogram.longValue(histogram.modeIndex());
+	}
+
+	/**
+	 * Returns the {@code k} most frequent values of a byte-array, by descending frequency and then by ascending value.
+	 * @param array the byte-array
+	 * @param k the number of values
+	 * @return the most frequent values (fewer than {@code k} if the array has fewer distinct values)
+	 * @throws IllegalArgumentException if {@code k} is negative
+	 * @since 1.10.0
+	 */
+	public static byte[] topKFrequent(byte[] array, int k) {
+		Histogram histogram = frequencies(array);
+		int[] indexes = histogram.topK(k);
+		byte[] result = new byte[indexes.length];
+		for (int i = 0; i < indexes.length; i++) result[i] = (byte) histogram.longValue(indexes[i]);
+		return result;
+	}
+
+	/**
+	 * Counts the occurrences of each distinct value of a short-array.
+	 * @param array the short-array to count
+	 * @return the histogram of the values; empty if the array is {@code null}
+	 * @see Histogram
+	 * @since 1.10.0
+	 */
+	public static Histogram frequencies(short[] array) {
+		return Histogram.of(isNull(array) ? EMPTY_SHORT_ARRAY : array);
+	}
+
+	/**
+	 * Counts the occurrences of every short value in a short-array.
+	 * @param array the short-array to count
+	 * @return the 65536 counts, indexed by {@code value + 32768}
+	 * @since 1.10.0
+	 */
+	public static int[] histogram(short[] array) {
+		return countBins(isNull(array) ? 0 : array.length, 65536, i -> array[i] + 32768);
+	}
+
+	/**
+	 * Returns the most frequent value of a short-array (the smallest one if more values are the most frequent).
+	 * @param array the short-array
+	 * @return the most frequent value
+	 * @throws IllegalArgumentException if the array is {@code null} or empty
+	 * @since 1.10.0
+	 */
+	public static short mode(short[] array) {
+		Histogram histogram = frequencies(array);
+		if (histogram.size() == 0) throw new IllegalArgumentException("At least 1 element.");
+		return (short) histogram.longValue(histogram.modeIndex());
+	}
+
+	/**
+	 * Returns the {@code k} most frequent values of a short-array, by descending frequency and then by ascending value.
+	 * @param array the short-array
+	 * @param k the number of values
+	 * @return the most frequent values (fewer than {@code k} if the array has fewer distinct values)
+	 * @throws IllegalArgumentException if {@code k} is negative
+	 * @since 1.10.0
+	 */
+	public static short[] topKFrequent(short[] array, int k) {
+		Histogram histogram = frequencies(array);
+		int[] indexes = histogram.topK(k);
+		short[] result = new short[indexes.length];
+		for (int i = 0; i < indexes.length; i++) result[i] = (short) histogram.longValue(indexes[i]);
+		return result;
+	}
+
+	/**
+	 * Counts the occurrences of each distinct value of an int-array.
+	 * @param array the int-array to count
+	 * @return the histogram of the values; empty if the array is {@code null}
+	 * @see Histogram
+	 * @since 1.10.0
+	 */
+	public static Histogram frequencies(int[] array) {
+		return Histogram.of(isNull(array) ? EMPTY_INT_ARRAY : array);
+	}
+
+	/**
+	 * Counts the values of an int-array falling in each of {@code bins} consecutive intervals between {@code min} and {@code max}.
+	 * Each interval holds {@code ceil((max - min + 1) / bins)} values, the last one may hold fewer;
+	 * values out of {@code [min, max]} are not counted.
+	 * @param array the int-array to count
+	 * @param min the smallest counted value
+	 * @param max the largest counted value
+	 * @param bins the number of intervals; positive
+	 * @return the count of each interval
+	 * @throws IllegalArgumentException if {@code bins} is not positive or {@code min} is greater than {@code max}
+	 * @since 1.10.0
+	 */
+	public static int[] histogram(int[] array, int min, int max, int bins) {
+		if (bins <= 0) throw new IllegalArgumentException("Bins must be positive.");
+		if (min > max) throw new IllegalArgumentException("Minimum must not be greater than maximum.");
+		long width = Long.divideUnsigned((long) max - min, bins) + 1;
+		return countBins(isNull(array) ? 0 : array.length, bins, i -> {
+			int value = array[i];
+			if (value < min || value > max) return -1;
+			return width == 0 ? 0 : (int) Long.divideUnsigned((long) value - min, width);
+		});
+	}
+
+	/**
+	 * Returns the most frequent value of an int-array (the smallest one if more values are the most frequent).
+	 * @param array the int-array
+	 * @return the most frequent value
+	 * @throws IllegalArgumentException if the array is {@code null} or empty
+	 * @since 1.10.0
+	 */
+	public static int mode(int[] array) {
+		Histogram histogram = frequencies(array);
+		if (histogram.size() == 0) throw new IllegalArgumentException("At least 1 element.");
+		return (int) histogram.longValue(histogram.modeIndex());
+	}
+
+	/**
+	 * Returns the {@code k} most frequent values of an int-array, by descending frequency and then by ascending value.
+	 * @param array the int-array
+	 * @param k the number of values
+	 * @return the most frequent values (fewer than {@code k} if the array has fewer distinct values)
+	 * @throws IllegalArgumentException if {@code k} is negative
+	 * @since 1.10.0
+	 */
+	public static int[] topKFrequent(int[] array, int k) {
+		Histogram histogram = frequencies(array);
+		int[] indexes = histogram.topK(k);
+		int[] result = new int[indexes.length];
+		for (int i = 0; i < indexes.length; i++) result[i] = (int) histogram.longValue(indexes[i]);
+		return result;
+	}
+
+	/**
+	 * Counts the occurrences of each distinct value of a long-array.
+	 * @param array the long-array to count
+	 * @return the histogram of the values; empty if the array is {@code null}
+	 * @see Histogram
+	 * @since 1.10.0
+	 */
+	public static Histogram frequencies(long[] array) {
+		return Histogram.of(isNull(array) ? EMPTY_LONG_ARRAY : array);
+	}
+
+	/**
+	 * Counts the values of a long-array falling in each of {@code bins} consecutive intervals between {@code min} and {@code max}.
+	 * Each interval holds {@code ceil((max - min + 1) / bins)} values, the last one may hold fewer;
+	 * values out of {@code [min, max]} are not counted.
+	 * @param array the long-array to count
+	 * @param min the smallest counted value
+	 * @param max the largest counted value
+	 * @param bins the number of intervals; positive
+	 * @return the count of each interval
+	 * @throws IllegalArgumentException if {@code bins} is not positive or {@code min} is greater than {@code max}
+	 * @since 1.10.0
+	 */
+	public static int[] histogram(long[] array, long min, long max, int bins) {
+		if (bins <= 0) throw new IllegalArgumentException("Bins must be positive.");
+		if (min > max) throw new IllegalArgumentException("Minimum must not be greater than maximum.");
+		long width = Long.divideUnsigned(max - min, bins) + 1;
+		return countBins(isNull(array) ? 0 : array.length, bins, i -> {
+			long value = array[i];
+			if (value < min || value > max) return -1;
+			return width == 0 ? 0 : (int) Long.divideUnsigned(value - min, width);
+		});
+	}
+
+	/**
+	 * Returns the most frequent value of a long-array (the smallest one if more values are the most frequent).
+	 * @param array the long-array
+	 * @return the most frequent value
+	 * @throws IllegalArgumentException if the array is {@code null} or empty
+	 * @since 1.10.0
+	 */
+	public static long mode(long[] array) {
+		Histogram histogram = frequencies(array);
+		if (histogram.size() == 0) throw new IllegalArgumentException("At least 1 element.");
+		return histogram.longValue(histogram.modeIndex());
+	}
+
+	/**
+	 * Returns the {@code k} most frequent values of a long-array, by descending frequency and then by ascending value.
+	 * @param array the long-array
+	 * @param k the number of values
+	 * @return the most frequent values (fewer than {@code k} if the array has fewer distinct values)
+	 * @throws IllegalArgumentException if {@code k} is negative
+	 * @since 1.10.0
+	 */
+	public static long[] topKFrequent(long[] array, int k) {
+		Histogram histogram = frequencies(array);
+		int[] indexes = histogram.topK(k);
+		long[] result = new long[indexes.length];
+		for (int i = 0; i < indexes.length; i++) result[i] = histogram.longValue(indexes[i]);
+		return result;
+	}
+
+	/**
+	 * Counts the occurrences of each distinct value of a float-array.
+	 * @param array the float-array to count
+	 * @return the histogram of the values; empty if the array is {@code null}
+	 * @see Histogram
+	 * @since 1.10.0
+	 */
+	public static Histogram frequencies(float[] array) {
+		return Histogram.of(isNull(array) ? EMPTY_FLOAT_ARRAY : array);
+	}
+
+	/**
+	 * Counts the values of a float-array falling in each of {@code bins} intervals of equal width between {@code min} and {@code max}.
+	 * Every interval includes its lower bound, the last one also includes {@code max};
+	 * values out of {@code [min, max]} and {@code NaN} are not counted.
+	 * @param array the float-array to count
+	 * @param min the lower bound of the first interval
+	 * @param max the upper bound of the last interval
+	 * @param bins the number of intervals; positive
+	 * @return the count of each interval
+	 * @throws IllegalArgumentException if {@code bins} is not positive, {@code min} or {@code max} is not finite or {@code min} is not less than {@code max}
+	 * @since 1.10.0
+	 */
+	public static int[] histogram(float[] array, float min, float max, int bins) {
+		if (bins <= 0) throw new IllegalArgumentException("Bins must be positive.");
+		if (!Float.isFinite(min) || !Float.isFinite(max)) throw new IllegalArgumentException("Minimum and maximum must be finite.");
+		if (!(min < max)) throw new IllegalArgumentException("Minimum must be less than maximum.");
+		double scale = bins / ((double) max - min);
+		return countBins(isNull(array) ? 0 : array.length, bins, i -> {
+			float value = array[i];
+			if (!(value >= min && value <= max)) return -1;
+			return Math.min((int) ((value - (double) min) * scale), bins - 1);
+		});
+	}
+
+	/**
+	 * Returns the most frequent value of a float-array (the smallest one if more values are the most frequent).
+	 * @param array the float-array
+	 * @return the most frequent value
+	 * @throws IllegalArgumentException if the array is {@code null} or empty
+	 * @since 1.10.0
+	 */
+	public static float mode(float[] array) {
+		Histogram histogram = frequencies(array);
+		if (histogram.size() == 0) throw new IllegalArgumentException("At least 1 element.");
+		return (float) histogram.doubleValue(histogram.modeIndex());
+	}
+
+	/**
+	 * Returns the {@code k} most frequent values of a float-array, by descending frequency and then by ascending value.
+	 * @param array the float-array
+	 * @param k the number of values
+	 * @return the most frequent values (fewer than {@code k} if the array has fewer distinct values)
+	 * @throws IllegalArgumentException if {@code k} is negative
+	 * @since 1.10.0
+	 */
+	public static float[] topKFrequent(float[] array, int k) {
+		Histogram histogram = frequencies(array);
+		int[] indexes = histogram.topK(k);
+		float[] result = new float[indexes.length];
+		for (int i = 0; i < indexes.length; i++) result[i] = (float) histogram.doubleValue(indexes[i]);
+		return result;
+	}
+
+	/**
+	 * Counts the occurrences of each distinct value of a double-array.
+	 * @param array the double-array to count
+	 * @return the histogram of the values; empty if the array is {@code null}
+	 * @see Histogram
+	 * @since 1.10.0
+	 */
+	public static Histogram frequencies(double[] array) {
+		return Histogram.of(isNull(array) ? EMPTY_DOUBLE_ARRAY : array);
+	}
+
+	/**
+	 * Counts the values of a double-array falling in each of {@code bins} intervals of equal width between {@code min} and {@code max}.
+	 * Every interval includes its lower bound, the last one also includes {@code max};
+	 * values out of {@code [min, max]} and {@code NaN} are not counted.
+	 * If {@code max - min} overflows, the values and the bounds are halved before the subtraction.
+	 * @param array the double-array to count
+	 * @param min the lower bound of the first interval
+	 * @param max the upper bound of the last interval
+	 * @param bins the number of intervals; positive
+	 * @return the count of each interval
+	 * @throws IllegalArgumentException if {@code bins} is not positive, {@code min} or {@code max} is not finite or {@code min} is not less than {@code max}
+	 * @since 1.10.0
+	 */
+	public static int[] histogram(double[] array, double min, double max, int bins) {
+		if (bins <= 0) throw new IllegalArgumentException("Bins must be positive.");
+		if (!Double.isFinite(min) || !Double.isFinite(max)) throw new IllegalArgumentException("Minimum and maximum must be finite.");
+		if (!(min < max)) throw new IllegalArgumentException("Minimum must be less than maximum.");
+		double factor = Double.isFinite(max - min) ? 1 : 0.5, low = min * factor;
+		double scale = bins / (max * factor - low);
+		return countBins(isNull(array) ? 0 : array.length, bins, i -> {
+			double value = array[i];
+			if (!(value >= min && value <= max)) return -1;
+			return Math.min((int) ((value * factor - low) * scale), bins - 1);
+		});
+	}
+
+	/**
+	 * Returns the most frequent value of a double-array (the smallest one if more values are the most frequent).
+	 * @param array the double-array
+	 * @return the most frequent value
+	 * @throws IllegalArgumentException if the array is {@code null} or empty
+	 * @since 1.10.0
+	 */
+	public static double mode(double[] array) {
+		Histogram histogram = frequencies(array);
+		if (histogram.size() == 0) throw new IllegalArgumentException("At least 1 element.");
+		return histogram.doubleValue(histogram.modeIndex());
+	}
+
+	/**
+	 * Returns the {@code k} most frequent values of a double-array, by descending frequency and then by ascending value.
+	 * @param array the double-array
+	 * @param k the number of values
+	 * @return the most frequent values (fewer than {@code k} if the array has fewer distinct values)
+	 * @throws IllegalArgumentException if {@code k} is negative
+	 * @since 1.10.0
+	 */
+	public static double[] topKFrequent(double[] array, int k) {
+		Histogram histogram = frequencies(array);
+		int[] indexes = histogram.topK(k);
+		double[] result = new double[indexes.length];
+		for (int i = 0; i < indexes.length; i++) result[i] = histogram.doubleValue(indexes[i]);
+		return result;
+	}
+
+	/**
+	 * Counts the occurrences of each distinct value of a char-array.
+	 * @param array the char-array to count
+	 * @return the histogram of the values; empty if the array is {@code null}
+	 * @see Histogram
+	 * @since 1.10.0
+	 */
+	public static Histogram frequencies(char[] array) {
+		return Histogram.of(isNull(array) ? EMPTY_CHAR_ARRAY : array);
+	}
+
+	/**
+	 * Counts the occurrences of every char value in a char-array.
+	 * @param array the char-array to count
+	 * @return the 65536 counts, indexed by the char value
+	 * @since 1.10.0
+	 */
+	public static int[] histogram(char[] array) {
+		return countBins(isNull(array) ? 0 : array.length, 65536, i -> array[i]);
+	}
+
+	/**
+	 * Returns the most frequent value of a char-array (the smallest one if more values are the most frequent).
+	 * @param array the char-array
+	 * @return the most frequent value
+	 * @throws IllegalArgumentException if the array is {@code null} or empty
+	 * @since 1.10.0
+	 */
+	public static char mode(char[] array) {
+		Histogram histogram = frequencies(array);
+		if (histogram.size() == 0) throw new IllegalArgumentException("At least 1 element.");
+		return (char) histogram.longValue(histogram.modeIndex());
+	}
+
+	/**
+	 * Returns the {@code k} most frequent values of a char-array, by descending frequency and then by ascending value.
+	 * @param array the char-array
+	 * @param k the number of values
+	 * @return the most frequent values (fewer than {@code k} if the array has fewer distinct values)
+	 * @throws IllegalArgumentException if {@code k} is negative
+	 * @since 1.10.0
+	 */
+	public static char[] topKFrequent(char[] array, int k) {
+		Histogram histogram = frequencies(array);
+		int[] indexes = histogram.topK(k);
+		char[] result = new char[indexes.length];
+		for (int i = 0; i < indexes.length; i++) result[i] = (char) histogram.longValue(indexes[i]);
+		return result;
+	}
+
+	/**
+	 * Counts the occurrences of each distinct value of a boolean-array ({@code false} as {@code 0}, {@code true} as {@code 1}).
+	 * @param array the boolean-array to count
+	 * @return the histogram of the values; empty if the array is {@code null}
+	 * @see Histogram
+	 * @since 1.10.0
+	 */
+	public static Histogram frequencies(boolean[] array) {
+		return Histogram.of(isNull(array) ? EMPTY_BOOLEAN_ARRAY : array);
+	}
+
+	/**
+	 * Counts the occurrences of {@code false} and {@code true} in a boolean-array.
+	 * @param array the boolean-array to count
+	 * @return the number of {@code false} (at index {@code 0}) and of {@code true} (at index {@code 1})
+	 * @since 1.10.0
+	 */
+	public static int[] histogram(boolean[] array) {
+		return countBins(isNull(array) ? 0 : array.length, 2, i -> array[i] ? 1 : 0);
+	}
+
+	/**
+	 * Returns the most frequent value of a boolean-array (the smallest one if more values are the most frequent).
+	 * @param array the boolean-array
+	 * @return the most frequent value
+	 * @throws IllegalArgumentException if the array is {@code null} or empty
+	 * @since 1.10.0
+	 */
+	public static boolean mode(boolean[] array) {
+		Histogram histogram = frequencies(array);
+		if (histogram.size() == 0) throw new IllegalArgumentException("At least 1 element.");
+		return histogram.longValue(histogram.modeIndex()) != 0;
+	}
+
+	/**
+	 * Returns the {@code k} most frequent values of a boolean-array, by descending frequency and then by ascending value.
+	 * @param array the boolean-array
+	 * @param k the number of values
+	 * @return the most frequent values (fewer than {@code k} if the array has fewer distinct values)
+	 * @throws IllegalArgumentException if {@code k} is negative
+	 * @since 1.10.0
+	 */
+	public static boolean[] topKFrequent(boolean[] array, int k) {
+		Histogram histogram = frequencies(array);
+		int[] indexes = histogram.topK(k);
+		boolean[] result = new boolean[indexes.length];
+		for (int i = 0; i < indexes.length; i++) result[i] = histogram.longValue(indexes[i]) != 0;
+		return result;
+	}
+
+	/**
+	 * Counts the elements of an array falling in each bin, in parallel chunks for large arrays.
+	 * @param length the length of the array
+	 * @param bins the number of bins
+	 * @param binAt the bin of each element, or {@code -1} if the element is not counted
+	 * @return the count of each bin
+	 */
+	private static int[] countBins(int length, int bins, IntUnaryOperator binAt) {
+		if (length < PARALLEL_COUNT_THRESHOLD) {
+			int[] counts = new int[bins];
+			for (int i = 0; i < length; i++) {
+				int bin = binAt.applyAsInt(i);
+				if (bin >= 0) counts[bin]++;
+			}
+			return counts;
+		}
+		int chunk = Math.max(PARALLEL_COUNT_THRESHOLD >> 2, length / (Runtime.getRuntime().availableProcessors() * 4) + 1);
+		return range(0, (length + chunk - 1) / chunk).parallel().mapToObj(c -> {
+			int[] counts = new int[bins];
+			for (int i = c * chunk, to = Math.min(i + chunk, length); i < to; i++) {
+				int bin = binAt.applyAsInt(i);
+				if (bin >= 0) counts[bin]++;
+			}
+			return counts;
+		}).reduce((a, b) -> {
+			for (int i = 0; i < bins; i++) a[i] += b[i];
+			return a;
+		}).orElseGet(() -> new int[bins]);
+	}
+
+	/**
+	 * Computes the minimum of every window of {@code window} consecutive elements of an int-array,
+	 * in linear time with a monotonic deque.
+	 * @param array the int-array
+	 * @param window the number of elements of each window; positive
+	 * @return the minimum of the window starting at each index, from {@code 0} to {@code array.length - window}
+	 * (empty if the array is shorter than the window), or {@code null} if the array is {@code null}
+	 * @throws IllegalArgumentException if the window is not positive
+	 * @see IntSlidingWindow
+	 * @since 1.10.0
+	 */
+	public static int[] slidingMin(int[] array, int window) {
+		if (isNull(array)) return null;
+		return slidingMin(array, window, new int[windows(array.length, window)]);
+	}
+
+	/**
+	 * Computes the minimum of every window of {@code window} consecutive elements of an int-array into an output array.
+	 * @param array the int-array
+	 * @param window the number of elements of each window; positive
+	 * @param output the array receiving the minimum of the window starting at each index; not null
+	 * @return the output array
+	 * @throws IllegalArgumentException if the window is not positive or the output array is too short
+	 * @since 1.10.0
+	 */
+	public static int[] slidingMin(int[] array, int window, int[] output) {
+		requireNonNull(output);
+		if (isNull(array)) return output;
+		int windows = checkWindows(array.length, window, output.length);
+		if (windows > 0) slideMin(array, window, output, 0, windows);
+		return output;
+	}
+
+	/**
+	 * Computes the minimum of every window of {@code window} consecutive elements of an int-array in parallel,
+	 * splitting the array in chunks which overlap by {@code window - 1} elements.
+	 * @param array the int-array
+	 * @param window the number of elements of each window; positive
+	 * @return the minimum of the window starting at each index, or {@code null} if the array is {@code null}
+	 * @throws IllegalArgumentException if the window is not positive
+	 * @since 1.10.0
+	 */
+	public static int[] parallelSlidingMin(int[] array, int window) {
+		if (isNull(array)) return null;
+		int windows = windows(array.length, window);
+		int[] output = new int[windows];
+		int chunk = slidingChunk(windows, window);
+		range(0, (windows + chunk - 1) / chunk).parallel().forEach(c -> slideMin(array, window, output, c * chunk, Math.min(c * chunk + chunk, windows)));
+		return output;
+	}
+
+	/**
+	 * Computes the maximum of every window of {@code window} consecutive elements of an int-array,
+	 * in linear time with a monotonic deque.
+	 * @param array the int-array
+	 * @param window the number of elements of each window; positive
+	 * @return the maximum of the window starting at each index, from {@code 0} to {@code array.length - window}
+	 * (empty if the array is shorter than the window), or {@code null} if the array is {@code null}
+	 * @throws IllegalArgumentException if the window is not positive
+	 * @see IntSlidingWindow
+	 * @since 1.10.0
+	 */
+	public static int[] slidingMax(int[] array, int window) {
+		if (isNull(array)) return null;
+		return slidingMax(array, window, new int[windows(array.length, window)]);
+	}
+
+	/**
+	 * Computes the maximum of every window of {@code window} consecutive elements of an int-array into an output array.
+	 * @param array the int-array
+	 * @param window the number of elements of each window; positive
+	 * @param output the array receiving the maximum of the window starting at each index; not null
+	 * @return the output array
+	 * @throws IllegalArgumentException if the window is not positive or the output array is too short
+	 * @since 1.10.0
+	 */
+	public static int[] slidingMax(int[] array, int window, int[] output) {
+		requireNonNull(output);
+		if (isNull(array)) return output;
+		int windows = checkWindows(array.length, window, output.length);
+		if (windows > 0) slideMax(array, window, output, 0, windows);
+		return output;
+	}
+
+	/**
+	 * Computes the maximum of every window of {@code window} consecutive elements of an int-array in parallel,
+	 * splitting the array in chunks which overlap by {@code window - 1} elements.
+	 * @param array the int-array
+	 * @param window the number of elements of each window; positive
+	 * @return the maximum of the window starting at each index, or {@code null} if the array is {@code null}
+	 * @throws IllegalArgumentException if the window is not positive
+	 * @since 1.10.0
+	 */
+	public static int[] parallelSlidingMax(int[] array, int window) {
+		if (isNull(array)) return null;
+		int windows = windows(array.length, window);
+		int[] output = new int[windows];
+		int chunk = slidingChunk(windows, window);
+		range(0, (windows + chunk - 1) / chunk).parallel().forEach(c -> slideMax(array, window, output, c * chunk, Math.min(c * chunk + chunk, windows)));
+		return output;
+	}
+
+	/**
+	 * Computes the sum of every window of {@code window} consecutive elements of an int-array, in linear time.
+	 * @param array the int-array
+	 * @param window the number of elements of each window; positive
+	 * @return the sum of the window starting at each index, from {@code 0} to {@code array.length - window}
+	 * (empty if the array is shorter than the window), or {@code null} if the array is {@code null}
+	 * @throws IllegalArgumentException if the window is not positive
+	 * @see IntSlidingWindow
+	 * @since 1.10.0
+	 */
+	public static long[] slidingSum(int[] array, int window) {
+		if (isNull(array)) return null;
+		return slidingSum(array, window, new long[windows(array.length, window)]);
+	}
+
+	/**
+	 * Computes the sum of every window of {@code window} consecutive elements of an int-array into an output array.
+	 * @param array the int-array
+	 * @param window the number of elements of each window; positive
+	 * @param output the array receiving the sum of the window starting at each index; not null
+	 * @return the output array
+	 * @throws IllegalArgumentException if the window is not positive or the output array is too short
+	 * @since 1.10.0
+	 */
+	public static long[] slidingSum(int[] array, int window, long[] output) {
+		requireNonNull(output);
+		if (isNull(array)) return output;
+		int windows = checkWindows(array.length, window, output.length);
+		if (windows > 0) slideSum(array, window, output, 0, windows);
+		return output;
+	}
+
+	/**
+	 * Computes the sum of every window of {@code window} consecutive elements of an int-array in parallel,
+	 * splitting the array in chunks which overlap by {@code window - 1} elements.
+	 * @param array the int-array
+	 * @param window the number of elements of each window; positive
+	 * @return the sum of the window starting at each index, or {@code null} if the array is {@code null}
+	 * @throws IllegalArgumentException if the window is not positive
+	 * @since 1.10.0
+	 */
+	public static long[] parallelSlidingSum(int[] array, int window) {
+		if (isNull(array)) return null;
+		int windows = windows(array.length, window);
+		long[] output = new long[windows];
+		int chunk = slidingChunk(windows, window);
+		range(0, (windows + chunk - 1) / chunk).parallel().forEach(c -> slideSum(array, window, output, c * chunk, Math.min(c * chunk + chunk, windows)));
+		return output;
+	}
+
+	/**
+	 * Computes the mean of every window of {@code window} consecutive elements of an int-array, in linear time.
+	 * @param array the int-array
+	 * @param window the number of elements of each window; positive
+	 * @return the mean of the window starting at each index, from {@code 0} to {@code array.length - window}
+	 * (empty if the array is shorter than the window), or {@code null} if the array is {@code null}
+	 * @throws IllegalArgumentException if the window is not positive
+	 * @see IntSlidingWindow
+	 * @since 1.10.0
+	 */
+	public static double[] slidingMean(int[] array, int window) {
+		if (isNull(array)) return null;
+		return slidingMean(array, window, new double[windows(array.length, window)]);
+	}
+
+	/**
+	 * Computes the mean of every window of {@code window} consecutive elements of an int-array into an output array.
+	 * @param array the int-array
+	 * @param window the number of elements of each window; positive
+	 * @param output the array receiving the mean of the window starting at each index; not null
+	 * @return the output array
+	 * @throws IllegalArgumentException if the window is not positive or the output array is too short
+	 * @since 1.10.0
+	 */
+	public static double[] slidingMean(int[] array, int window, double[] output) {
+		requireNonNull(output);
+		if (isNull(array)) return output;
+		int windows = checkWindows(array.length, window, output.length);
+		if (windows > 0) slideMean(array, window, output, 0, windows);
+		return output;
+	}
+
+	/**
+	 * Computes the mean of every window of {@code window} consecutive elements of an int-array in parallel,
+	 * splitting the array in chunks which overlap by {@code window - 1} elements.
+	 * @param array the int-array
+	 * @param window the number of elements of each window; positive
+	 * @return the mean of the window starting at each index, or {@code null} if the array is {@code null}
+	 * @throws IllegalArgumentException if the window is not positive
+	 * @since 1.10.0
+	 */
+	public static double[] parallelSlidingMean(int[] array, int window) {
+		if (isNull(array)) return null;
+		int windows = windows(array.length, window);
+		double[] output = new double[windows];
+		int chunk = slidingChunk(windows, window);
+		range(0, (windows + chunk - 1) / chunk).parallel().forEach(c -> slideMean(array, window, output, c * chunk, Math.min(c * chunk + chunk, windows)));
+		return output;
+	}
+
+	/**
+	 * Computes the minimum of every window of {@code window} consecutive elements of a long-array,
+	 * in linear time with a monotonic deque.
+	 * @param array the long-array
+	 * @param window the number of elements of each window; positive
+	 * @return the minimum of the window starting at each index, from {@code 0} to {@code array.length - window}
+	 * (empty if the array is shorter than the window), or {@code null} if the array is {@code null}
+	 * @throws IllegalArgumentException if the window is not positive
+	 * @see LongSlidingWindow
+	 * @since 1.10.0
+	 */
+	public static long[] slidingMin(long[] array, int window) {
+		if (isNull(array)) return null;
+		return slidingMin(array, window, new long[windows(array.length, window)]);
+	}
+
+	/**
+	 * Computes the minimum of every window of {@code window} consecutive elements of a long-array into an output array.
+	 * @param array the long-array
+	 * @param window the number of elements of each window; positive
+	 * @param output the array receiving the minimum of the window starting at each index; not null
+	 * @return the output array
+	 * @throws IllegalArgumentException if the window is not positive or the output array is too short
+	 * @since 1.10.0
+	 */
+	public static long[] slidingMin(long[] array, int window, long[] output) {
+		requireNonNull(output);
+		if (isNull(array)) return output;
+		int windows = checkWindows(array.length, window, output.length);
+		if (windows > 0) slideMin(array, window, output, 0, windows);
+		return output;
+	}
+
+	/**
+	 * Computes the minimum of every window of {@code window} consecutive elements of a long-array in parallel,
+	 * splitting the array in chunks which overlap by {@code window - 1} elements.
+	 * @param array the long-array
+	 * @param window the number of elements of each window; positive
+	 * @return the minimum of the window starting at each index, or {@code null} if the array is {@code null}
+	 * @throws IllegalArgumentException if the window is not positive
+	 * @since 1.10.0
+	 */
+	public static long[] parallelSlidingMin(long[] array, int window) {
+		if (isNull(array)) return null;
+		int windows = windows(array.length, window);
+		long[] output = new long[windows];
+		int chunk = slidingChunk(windows, window);
+		range(0, (windows + chunk - 1) / chunk).parallel().forEach(c -> slideMin(array, window, output, c * chunk, Math.min(c * chunk + chunk, windows)));
+		return output;
+	}
+
+	/**
+	 * Computes the maximum of every window of {@code window} consecutive elements of a long-array,
+	 * in linear time with a monotonic deque.
+	 * @param array the long-array
+	 * @param window the number of elements of each window; positive
+	 * @return the maximum of the window starting at each index, from {@code 0} to {@code array.length - window}
+	 * (empty if the array is shorter than the window), or {@code null} if the array is {@code null}
+	 * @throws IllegalArgumentException if the window is not positive
+	 * @see LongSlidingWindow
+	 * @since 1.10.0
+	 */
+	public static long[] slidingMax(long[] array, int window) {
+		if (isNull(array)) return null;
+		return slidingMax(array, window, new long[windows(array.length, window)]);
+	}
+
+	/**
+	 * Computes the maximum of every window of {@code window} consecutive elements of a long-array into an output array.
+	 * @param array the long-array
+	 * @param window the number of elements of each window; positive
+	 * @param output the array receiving the maximum of the window starting at each index; not null
+	 * @return the output array
+	 * @throws IllegalArgumentException if the window is not positive or the output array is too short
+	 * @since 1.10.0
+	 */
+	public static long[] slidingMax(long[] array, int window, long[] output) {
+		requireNonNull(output);
+		if (isNull(array)) return output;
+		int windows = checkWindows(array.length, window, output.length);
+		if (windows > 0) slideMax(array, window, output, 0, windows);
+		return output;
+	}
+
+	/**
+	 * Computes the maximum of every window of {@code window} consecutive elements of a long-array in parallel,
+	 * splitting the array in chunks which overlap by {@code window - 1} elements.
+	 * @param array the long-array
+	 * @param window the number of elements of each window; positive
+	 * @return the maximum of the window starting at each index, or {@code null} if the array is {@code null}
+	 * @throws IllegalArgumentException if the window is not positive
+	 * @since 1.10.0
+	 */
+	public static long[] parallelSlidingMax(long[] array, int window) {
+		if (isNull(array)) return null;
+		int windows = windows(array.length, window);
+		long[] output = new long[windows];
+		int chunk = slidingChunk(windows, window);
+		range(0, (windows + chunk - 1) / chunk).parallel().forEach(c -> slideMax(array, window, output, c * chunk, Math.min(c * chunk + chunk, windows)));
+		return output;
+	}
+
+	/**
+	 * Computes the sum of every window of {@code window} consecutive elements of a long-array, in linear time.
+	 * @param array the long-array
+	 * @param window the number of elements of each window; positive
+	 * @return the sum of the window starting at each index, from {@code 0} to {@code array.length - window}
+	 * (empty if the array is shorter than the window), or {@code null} if the array is {@code null}
+	 * @throws IllegalArgumentException if the window is not positive
+	 * @see LongSlidingWindow
+	 * @since 1.10.0
+	 */
+	public static long[] slidingSum(long[] array, int window) {
+		if (isNull(array)) return null;
+		return slidingSum(array, window, new long[windows(array.length, window)]);
+	}
+
+	/**
+	 * Computes the sum of every window of {@code window} consecutive elements of a long-array into an output array.
+	 * @param array the long-array
+	 * @param window the number of elements of each window; positive
+	 * @param output the array receiving the sum of the window starting at each index; not null
+	 * @return the output array
+	 * @throws IllegalArgumentException if the window is not positive or the output array is too short
+	 * @since 1.10.0
+	 */
+	public static long[] slidingSum(long[] array, int window, long[] output) {
+		requireNonNull(output);
+		if (isNull(array)) return output;
+		int windows = checkWindows(array.length, window, output.length);
+		if (windows > 0) slideSum(array, window, output, 0, windows);
+		return output;
+	}
+
+	/**
+	 * Computes the sum of every window of {@code window} consecutive elements of a long-array in parallel,
+	 * splitting the array in chunks which overlap by {@code window - 1} elements.
+	 * @param array the long-array
+	 * @param window the number of elements of each window; positive
+	 * @return the sum of the window starting at each index, or {@code null} if the array is {@code null}
+	 * @throws IllegalArgumentException if the window is not positive
+	 * @since 1.10.0
+	 */
+	public static long[] parallelSlidingSum(long[] array, int window) {
+		if (isNull(array)) return null;
+		int windows = windows(array.length, window);
+		long[] output = new long[windows];
+		int chunk = slidingChunk(windows, window);
+		range(0, (windows + chunk - 1) / chunk).parallel().forEach(c -> slideSum(array, window, output, c * chunk, Math.min(c * chunk + chunk, windows)));
+		return output;
+	}
+
+	/**
+	 * Computes the mean of every window of {@code window} consecutive elements of a long-array, in linear time.
+	 * @param array the long-array
+	 * @param window the number of elements of each window; positive
+	 * @return the mean of the window starting at each index, from {@code 0} to {@code array.length - window}
+	 * (empty if the array is shorter than the window), or {@code null} if the array is {@code null}
+	 * @throws IllegalArgumentException if the window is not positive
+	 * @see LongSlidingWindow
+	 * @since 1.10.0
+	 */
+	public static double[] slidingMean(long[] array, int window) {
+		if (isNull(array)) return null;
+		return slidingMean(array, window, new double[windows(array.length, window)]);
+	}
+
+	/**
+	 * Computes the mean of every window of {@code window} consecutive elements of a long-array into an output array.
+	 * @param array the long-array
+	 * @param window the number of elements of each window; positive
+	 * @param output the array receiving the mean of the window starting at each index; not null
+	 * @return the output array
+	 * @throws IllegalArgumentException if the window is not positive or the output array is too short
+	 * @since 1.10.0
+	 */
+	public static double[] slidingMean(long[] array, int window, double[] output) {
+		requireNonNull(output);
+		if (isNull(array)) return output;
+		int windows = checkWindows(array.length, window, output.length);
+		if (windows > 0) slideMean(array, window, output, 0, windows);
+		return output;
+	}
+
+	/**
+	 * Computes the mean of every window of {@code window} consecutive elements of a long-array in parallel,
+	 * splitting the array in chunks which overlap by {@code window - 1} elements.
+	 * @param array the long-array
+	 * @param window the number of elements of each window; positive
+	 * @return the mean of the window starting at each index, or {@code null} if the array is {@code null}
+	 * @throws IllegalArgumentException if the window is not positive
+	 * @since 1.10.0
+	 */
+	public static double[] parallelSlidingMean(long[] array, int window) {
+		if (isNull(array)) return null;
+		int windows = windows(array.length, window);
+		double[] output = new double[windows];
+		int chunk = slidingChunk(windows, window);
+		range(0, (windows + chunk - 1) / chunk).parallel().forEach(c -> slideMean(array, window, output, c * chunk, Math.min(c * chunk + chunk, windows)));
+		return output;
+	}
+
+	/**
+	 * Computes the minimum of every window of {@code window} consecutive elements of a double-array (compared as by {@link Double#compare(double, double)}),
+	 * in linear time with a monotonic deque.
+	 * @param array the double-array
+	 * @param window the number of elements of each window; positive
+	 * @return the minimum of the window starting at each index, from {@code 0} to {@code array.length - window}
+	 * (empty if the array is shorter than the window), or {@code null} if the array is {@code null}
+	 * @throws IllegalArgumentException if the window is not positive
+	 * @see DoubleSlidingWindow
+	 * @since 1.10.0
+	 */
+	public static double[] slidingMin(double[] array, int window) {
+		if (isNull(array)) return null;
+		return slidingMin(array, window, new double[windows(array.length, window)]);
+	}
+
+	/**
+	 * Computes the minimum of every window of {@code window} consecutive elements of a double-array (compared as by {@link Double#compare(double, double)}) into an output array.
+	 * @param array the double-array
+	 * @param window the number of elements of each window; positive
+	 * @param output the array receiving the minimum of the window starting at each index; not null
+	 * @return the output array
+	 * @throws IllegalArgumentException if the window is not positive or the output array is too short
+	 * @since 1.10.0
+	 */
+	public static double[] slidingMin(double[] array, int window, double[] output) {
+		requireNonNull(output);
+		if (isNull(array)) return output;
+		int windows = checkWindows(array.length, window, output.length);
+		if (windows > 0) slideMin(array, window, output, 0, windows);
+		return output;
+	}
+
+	/**
+	 * Computes the minimum of every window of {@code window} consecutive elements of a double-array (compared as by {@link Double#compare(double, double)}) in parallel,
+	 * splitting the array in chunks which overlap by {@code window - 1} elements.
+	 * @param array the double-array
+	 * @param window the number of elements of each window; positive
+	 * @return the minimum of the window starting at each index, or {@code null} if the array is {@code null}
+	 * @throws IllegalArgumentException if the window is not positive
+	 * @since 1.10.0
+	 */
+	public static double[] parallelSlidingMin(double[] array, int window) {
+		if (isNull(array)) return null;
+		int windows = windows(array.length, window);
+		double[] output = new double[windows];
+		int chunk = slidingChunk(windows, window);
+		range(0, (windows + chunk - 1) / chunk).parallel().forEach(c -> slideMin(array, window, output, c * chunk, Math.min(c * chunk + chunk, windows)));
+		return output;
+	}
+
+	/**
+	 * Computes the maximum of every window of {@code window} consecutive elements of a double-array (compared as by {@link Double#compare(double, double)}),
+	 * in linear time with a monotonic deque.
+	 * @param array the double-array
+	 * @param window the number of elements of each window; positive
+	 * @return the maximum of the window starting at each index, from {@code 0} to {@code array.length - window}
+	 * (empty if the array is shorter than the window), or {@code null} if the array is {@code null}
+	 * @throws IllegalArgumentException if the window is not positive
+	 * @see DoubleSlidingWindow
+	 * @since 1.10.0
+	 */
+	public static double[] slidingMax(double[] array, int window) {
+		if (isNull(array)) return null;
+		return slidingMax(array, window, new double[windows(array.length, window)]);
+	}
+
+	/**
+	 * Computes the maximum of every window of {@code window} consecutive elements of a double-array (compared as by {@link Double#compare(double, double)}) into an output array.
+	 * @param array the double-array
+	 * @param window the number of elements of each window; positive
+	 * @param output the array receiving the maximum of the window starting at each index; not null
+	 * @return the output array
+	 * @throws IllegalArgumentException if the window is not positive or the output array is too short
+	 * @since 1.10.0
+	 */
+	public static double[] slidingMax(double[] array, int window, double[] output) {
+		requireNonNull(output);
+		if (isNull(array)) return output;
+		int windows = checkWindows(array.length, window, output.length);
+		if (windows > 0) slideMax(array, window, output, 0, windows);
+		return output;
+	}
+
+	/**
+	 * Computes the maximum of every window of {@code window} consecutive elements of a double-array (compared as by {@link Double#compare(double, double)}) in parallel,
+	 * splitting the array in chunks which overlap by {@code window - 1} elements.
+	 * @param array the double-array
+	 * @param window the number of elements of each window; positive
+	 * @return the maximum of the window starting at each index, or {@code null} if the array is {@code null}
+	 * @throws IllegalArgumentException if the window is not positive
+	 * @since 1.10.0
+	 */
+	public static double[] parallelSlidingMax(double[] array, int window) {
+		if (isNull(array)) return null;
+		int windows = windows(array.length, window);
+		double[] output = new double[windows];
+		int chunk = slidingChunk(windows, window);
+		range(0, (windows + chunk - 1) / chunk).parallel().forEach(c -> slideMax(array, window, output, c * chunk, Math.min(c * chunk + chunk, windows)));
+		return output;
+	}
+
+	/**
+	 * Computes the sum of every window of {@code window} consecutive elements of a double-array, in linear time and without cancellation between the windows.
+	 * @param array the double-array
+	 * @param window the number of elements of each window; positive
+	 * @return the sum of the window starting at each index, from {@code 0} to {@code array.length - window}
+	 * (empty if the array is shorter than the window), or {@code null} if the array is {@code null}
+	 * @throws IllegalArgumentException if the window is not positive
+	 * @see DoubleSlidingWindow
+	 * @since 1.10.0
+	 */
+	public static double[] slidingSum(double[] array, int window) {
+		if (isNull(array)) return null;
+		return slidingSum(array, window, new double[windows(array.length, window)]);
+	}
+
+	/**
+	 * Computes the sum of every window of {@code window} consecutive elements of a double-array into an output array.
+	 * @param array the double-array
+	 * @param window the number of elements of each window; positive
+	 * @param output the array receiving the sum of the window starting at each index; not null
+	 * @return the output array
+	 * @throws IllegalArgumentException if the window is not positive or the output array is too short
+	 * @since 1.10.0
+	 */
+	public static double[] slidingSum(double[] array, int window, double[] output) {
+		requireNonNull(output);
+		if (isNull(array)) return output;
+		int windows = checkWindows(array.length, window, output.length);
+		if (windows > 0) slideSum(array, window, output, 0, windows);
+		return output;
+	}
+
+	/**
+	 * Computes the sum of every window of {@code window} consecutive elements of a double-array in parallel,
+	 * splitting the array in chunks which overlap by {@code window - 1} elements.
+	 * @param array the double-array
+	 * @param window the number of elements of each window; positive
+	 * @return the sum of the window starting at each index, or {@code null} if the array is {@code null}
+	 * @throws IllegalArgumentException if the window is not positive
+	 * @since 1.10.0
+	 */
+	public static double[] parallelSlidingSum(double[] array, int window) {
+		if (isNull(array)) return null;
+		int windows = windows(array.length, window);
+		double[] output = new double[windows];
+		int chunk = slidingChunk(windows, window);
+		range(0, (windows + chunk - 1) / chunk).parallel().forEach(c -> slideSum(array, window, output, c * chunk, Math.min(c * chunk + chunk, windows)));
+		return output;
+	}
+
+	/**
+	 * Computes the mean of every window of {@code window} consecutive elements of a double-array, in linear time and without cancellation between the windows.
+	 * @param array the double-array
+	 * @param window the number of elements of each window; positive
+	 * @return the mean of the window starting at each index, from {@code 0} to {@code array.length - window}
+	 * (empty if the array is shorter than the window), or {@code null} if the array is {@code null}
+	 * @throws IllegalArgumentException if the window is not positive
+	 * @see DoubleSlidingWindow
+	 * @since 1.10.0
+	 */
+	public static double[] slidingMean(double[] array, int window) {
+		if (isNull(array)) return null;
+		return slidingMean(array, window, new double[windows(array.length, window)]);
+	}
+
+	/**
+	 * Computes the mean of every window of {@code window} consecutive elements of a double-array into an output array.
+	 * @param array the double-array
+	 * @param window the number of elements of each window; positive
+	 * @param output the array receiving the mean of the window starting at each index; not null
+	 * @return the output array
+	 * @throws IllegalArgumentException if the window is not positive or the output array is too short
+	 * @since 1.10.0
+	 */
+	public static double[] slidingMean(double[] array, int window, double[] output) {
+		requireNonNull(output);
+		if (isNull(array)) return output;
+		int windows = checkWindows(array.length, window, output.length);
+		if (windows > 0) slideMean(array, window, output, 0, windows);
+		return output;
+	}
+
+	/**
+	 * Computes the mean of every window of {@code window} consecutive elements of a double-array in parallel,
+	 * splitting the array in chunks which overlap by {@code window - 1} elements.
+	 * @param array the double-array
+	 * @param window the number of elements of each window; positive
+	 * @return the mean of the window starting at each index, or {@code null} if the array is {@code null}
+	 * @throws IllegalArgumentException if the window is not positive
+	 * @since 1.10.0
+	 */
+	public static double[] parallelSlidingMean(double[] array, int window) {
+		if (isNull(array)) return null;
+		int windows = windows(array.length, window);
+		double[] output = new double[windows];
+		int chunk = slidingChunk(windows, window);
+		range(0, (windows + chunk - 1) / chunk).parallel().forEach(c -> slideMean(array, window, output, c * chunk, Math.min(c * chunk + chunk, windows)));
+		return output;
+	}
+
+	/**
+	 * Writes the minimum of the windows starting from {@code from} (inclusive) to {@code to} (exclusive).
+	 */
+	private static void slideMin(int[] array, int window, int[] output, int from, int to) {
+		int[] deque = new int[window];
+		int head = 0, size = 0;
+		for (int i = from, end = to + window - 1; i < end; i++) {
+			if (size > 0 && deque[head] <= i - window) {
+				head = head + 1 == window ? 0 : head + 1;
+				size--;
+			}
+			int value = array[i];
+			while (size > 0) {
+				int last = array[deque[(head + size - 1) % window]];
+				if (last < value) break;
+				size--;
+			}
+			deque[(head + size++) % window] = i;
+			if (i >= from + window - 1) output[i - window + 1] = array[deque[head]];
+		}
+	}
+
+	/**
+	 * Writes the maximum of the windows starting from {@code from} (inclusive) to {@code to} (exclusive).
+	 */
+	private static void slideMax(int[] array, int window, int[] output, int from, int to) {
+		int[] deque = new int[window];
+		int head = 0, size = 0;
+		for (int i = from, end = to + window - 1; i < end; i++) {
+			if (size > 0 && deque[head] <= i - window) {
+				head = head + 1 == window ? 0 : head + 1;
+				size--;
+			}
+			int value = array[i];
+			while (size > 0) {
+				int last = array[deque[(head + size - 1) % window]];
+				if (last > value) break;
+				size--;
+			}
+			deque[(head + size++) % window] = i;
+			if (i >= from + window - 1) output[i - window + 1] = array[deque[head]];
+		}
+	}
+
+	/**
+	 * Writes the sum of the windows starting from {@code from} (inclusive) to {@code to} (exclusive).
+	 */
+	private static void slideSum(int[] array, int window, long[] output, int from, int to) {
+		long sum = 0;
+		for (int i = from; i < from + window - 1; i++) sum += array[i];
+		for (int i = from; i < to; i++) {
+			sum += array[i + window - 1];
+			output[i] = sum;
+			sum -= array[i];
+		}
+	}
+
+	/**
+	 * Writes the mean of the windows starting from {@code from} (inclusive) to {@code to} (exclusive).
+	 */
+	private static void slideMean(int[] array, int window, double[] output, int from, int to) {
+		long sum = 0;
+		for (int i = from; i < from + window - 1; i++) sum += array[i];
+		for (int i = from; i < to; i++) {
+			sum += array[i + window - 1];
+			output[i] = (double) sum / window;
+			sum -= array[i];
+		}
+	}
+
+	/**
+	 * Writes the minimum of the windows starting from {@code from} (inclusive) to {@code to} (exclusive).
+	 */
+	private static void slideMin(long[] array, int window, long[] output, int from, int to) {
+		int[] deque = new int[window];
+		int head = 0, size = 0;
+		for (int i = from, end = to + window - 1; i < end; i++) {
+			if (size > 0 && deque[head] <= i - window) {
+				head = head + 1 == window ? 0 : head + 1;
+				size--;
+			}
+			long value = array[i];
+			while (size > 0) {
+				long last = array[deque[(head + size - 1) % window]];
+				if (last < value) break;
+				size--;
+			}
+			deque[(head + size++) % window] = i;
+			if (i >= from + window - 1) output[i - window + 1] = array[deque[head]];
+		}
+	}
+
+	/**
+	 * Writes the maximum of the windows starting from {@code from} (inclusive) to {@code to} (exclusive).
+	 */
+	private static void slideMax(long[] array, int window, long[] output, int from, int to) {
+		int[] deque = new int[window];
+		int head = 0, size = 0;
+		for (int i = from, end = to + window - 1; i < end; i++) {
+			if (size > 0 && deque[head] <= i - window) {
+				head = head + 1 == window ? 0 : head + 1;
+				size--;
+			}
+			long value = array[i];
+			while (size > 0) {
+				long last = array[deque[(head + size - 1) % window]];
+				if (last > value) break;
+				size--;
+			}
+			deque[(head + size++) % window] = i;
+			if (i >= from + window - 1) output[i - window + 1] = array[deque[head]];
+		}
+	}
+
+	/**
+	 * Writes the sum of the windows starting from {@code from} (inclusive) to {@code to} (exclusive).
+	 */
+	private static void slideSum(long[] array, int window, long[] output, int from, int to) {
+		long sum = 0;
+		for (int i = from; i < from + window - 1; i++) sum += array[i];
+		for (int i = from; i < to; i++) {
+			sum += array[i + window - 1];
+			output[i] = sum;
+			sum -= array[i];
+		}
+	}
+
+	/**
+	 * Writes the mean of the windows starting from {@code from} (inclusive) to {@code to} (exclusive).
+	 */
+	private static void slideMean(long[] array, int window, double[] output, int from, int to) {
+		long sum = 0;
+		for (int i = from; i < from + window - 1; i++) sum += array[i];
+		for (int i = from; i < to; i++) {
+			sum += array[i + window - 1];
+			output[i] = (double) sum / window;
+			sum -= array[i];
+		}
+	}
+
+	/**
+	 * Writes the minimum of the windows starting from {@code from} (inclusive) to {@code to} (exclusive).
+	 */
+	private static void slideMin(double[] array, int window, double[] output, int from, int to) {
+		int[] deque = new int[window];
+		int head = 0, size = 0;
+		for (int i = from, end = to + window - 1; i < end; i++) {
+			if (size > 0 && deque[head] <= i - window) {
+				head = head + 1 == window ? 0 : head + 1;
+				size--;
+			}
+			double value = array[i];
+			while (size > 0) {
+				double last = array[deque[(head + size - 1) % window]];
+				if (Double.compare(last, value) < 0) break;
+				size--;
+			}
+			deque[(head + size++) % window] = i;
+			if (i >= from + window - 1) output[i - window + 1] = array[deque[head]];
+		}
+	}
+
+	/**
+	 * Writes the maximum of the windows starting from {@code from} (inclusive) to {@code to} (exclusive).
+	 */
+	private static void slideMax(double[] array, int window, double[] output, int from, int to) {
+		int[] deque = new int[window];
+		int head = 0, size = 0;
+		for (int i = from, end = to + window - 1; i < end; i++) {
+			if (size > 0 && deque[head] <= i - window) {
+				head = head + 1 == window ? 0 : head + 1;
+				size--;
+			}
+			double value = array[i];
+			while (size > 0) {
+				double last = array[deque[(head + size - 1) % window]];
+				if (Double.compare(last, value) > 0) break;
+				size--;
+			}
+			deque[(head + size++) % window] = i;
+			if (i >= from + window - 1) output[i - window + 1] = array[deque[head]];
+		}
+	}
+
+	/**
+	 * Writes the sum of the windows starting from {@code from} (inclusive) to {@code to} (exclusive).
+	 * The windows are cut at blocks of {@code window} elements: the sum of each window is the suffix sum of its part
+	 * in a block plus the prefix sum of its part in the next one, so no value is ever subtracted.
+	 * A {@code NaN} or an infinity only affects the windows holding it, and large values leaving a window
+	 * do not cancel the smaller ones.
+	 */
+	private static void slideSum(double[] array, int window, double[] output, int from, int to) {
+		double[] suffix = new double[window];
+		for (int block = from; block < to; block += window) {
+			double sum = 0, compensation = 0;
+			for (int i = block + window - 1; i >= block; i--) {
+				double y = array[i] - compensation;
+				double t = sum + y;
+				compensation = Double.isFinite(t) ? (t - sum) - y : 0;
+				suffix[i - block] = sum = t;
+			}
+			output[block] = suffix[0];
+			sum = 0;
+			compensation = 0;
+			for (int i = block + 1, end = Math.min(block + window, to); i < end; i++) {
+				double y = array[i + window - 1] - compensation;
+				double t = sum + y;
+				compensation = Double.isFinite(t) ? (t - sum) - y : 0;
+				sum = t;
+				output[i] = suffix[i - block] + sum;
+			}
+		}
+	}
+
+	/**
+	 * Writes the mean of the windows starting from {@code from} (inclusive) to {@code to} (exclusive).
+	 */
+	private static void slideMean(double[] array, int window, double[] output, int from, int to) {
+		slideSum(array, window, output, from, to);
+		for (int i = from; i < to; i++) output[i] /= window;
+	}
+
+	/**
+	 * Returns the number of windows of an array.
+	 * @param length the length of the array
+	 * @param window the number of elements of each window
+	 * @return the number of windows
+	 * @throws IllegalArgumentException if the window is not positive
+	 */
+	private static int windows(int length, int window) {
+		if (window <= 0) throw new IllegalArgumentException("Window must be positive.");
+		return Math.max(length - window + 1, 0);
+	}
+
+	/**
+	 * Returns the number of windows of an array, checking the length of the output array.
+	 * @param length the length of the array
+	 * @param window the number of elements of each window
+	 * @param outputLength the length of the output array
+	 * @return the number of windows
+	 * @throws IllegalArgumentException if the window is not positive or the output array is too short
+	 */
+	private static int checkWindows(int length, int window, int outputLength) {
+		int windows = windows(length, window);
+		if (outputLength < windows) throw new IllegalArgumentException("Output must hold " + windows + " elements.");
+		return windows;
+	}
+
+	/**
+	 * Returns the number of windows computed by each parallel task.
+	 * @param windows the number of windows
+	 * @param window the number of elements of each window
+	 * @return the number of windows of each chunk
+	 */
+	private static int slidingChunk(int windows, int window) {
+		return Math.max(Math.max(window, 1 << 14), windows / (Runtime.getRuntime().availableProcessors() * 4) + 1);
+	}
+
+	/**
+	 * Rearranges an int-array in place so that the element at index {@code n} is the one a sort would put there,
+	 * the elements before it are not greater and the elements after it are not smaller.
+	 * Runs in linear time on average and in the worst case (introselect: quickselect falling back to the median of medians).
+	 * @param array the int-array; not null
+	 * @param n the index of the element to place
+	 * @return the {@code n}-th smallest element
+	 * @throws IndexOutOfBoundsException if {@code n} is out of the array
+	 * @since 1.10.0
+	 */
+	public static int nthElement(int[] array, int n) {
+		checkSelectIndex(requireNonNull(array).length, n);
+		introselect(array, 0, array.length, n);
+		return array[n];
+	}
+
+	/**
+	 * Returns the {@code n}-th smallest element of an int-array, without modifying the array.
+	 * @param array the int-array; not null
+	 * @param n the index of the element in sorted order
+	 * @return the {@code n}-th smallest element
+	 * @throws IndexOutOfBoundsException if {@code n} is out of the array
+	 * @see #nthElement(int[], int)
+	 * @since 1.10.0
+	 */
+	public static int select(int[] array, int n) {
+		return nthElement(requireNonNull(array).clone(), n);
+	}
+
+	/**
+	 * Returns the median of an int-array, without modifying the array:
+	 * the middle element, or the mean of the two middle elements if the array has an even length.
+	 * @param array the int-array; not null
+	 * @return the median
+	 * @throws IllegalArgumentException if the array is empty
+	 * @since 1.10.0
+	 */
+	public static double median(int[] array) {
+		if (requireNonNull(array).length == 0) throw new IllegalArgumentException("At least 1 element.");
+		int[] copy = array.clone();
+		int half = copy.length >>> 1;
+		introselect(copy, 0, copy.length, half);
+		if ((copy.length & 1) == 1) return copy[half];
+		int lower = copy[0];
+		for (int i = 1; i < half; i++) if (lower < copy[i]) lower = copy[i];
+		return ((double) lower + copy[half]) / 2;
+	}
+
+	/**
+	 * Returns the {@code k} greatest elements of an int-array in descending order, without sorting the whole array.
+	 * @param array the int-array
+	 * @param k the number of elements; non-negative (clamped to the length of the array)
+	 * @return the greatest elements, or {@code null} if the array is {@code null}
+	 * @throws IllegalArgumentException if {@code k} is negative
+	 * @since 1.10.0
+	 */
+	public static int[] topK(int[] array, int k) {
+		if (isNull(array)) return null;
+		int[] result = selectK(array, 0, array.length, checkK(k, array.length), true);
+		Arrays.sort(result);
+		reverse(result);
+		return result;
+	}
+
+	/**
+	 * Returns the {@code k} smallest elements of an int-array in ascending order, without sorting the whole array.
+	 * @param array the int-array
+	 * @param k the number of elements; non-negative (clamped to the length of the array)
+	 * @return the smallest elements, or {@code null} if the array is {@code null}
+	 * @throws IllegalArgumentException if {@code k} is negative
+	 * @since 1.10.0
+	 */
+	public static int[] bottomK(int[] array, int k) {
+		if (isNull(array)) return null;
+		int[] result = selectK(array, 0, array.length, checkK(k, array.length), false);
+		Arrays.sort(result);
+		return result;
+	}
+
+	/**
+	 * Returns the {@code k} greatest elements of an int-array in descending order,
+	 * selecting the candidates of chunks of the array in parallel.
+	 * @param array the int-array
+	 * @param k the number of elements; non-negative (clamped to the length of the array)
+	 * @return the greatest elements, or {@code null} if the array is {@code null}
+	 * @throws IllegalArgumentException if {@code k} is negative
+	 * @since 1.10.0
+	 */
+	public static int[] parallelTopK(int[] array, int k) {
+		if (isNull(array)) return null;
+		return topK(parallelCandidates(array, checkK(k, array.length), true), k);
+	}
+
+	/**
+	 * Returns the {@code k} smallest elements of an int-array in ascending order,
+	 * selecting the candidates of chunks of the array in parallel.
+	 * @param array the int-array
+	 * @param k the number of elements; non-negative (clamped to the length of the array)
+	 * @return the smallest elements, or {@code null} if the array is {@code null}
+	 * @throws IllegalArgumentException if {@code k} is negative
+	 * @since 1.10.0
+	 */
+	public static int[] parallelBottomK(int[] array, int k) {
+		if (isNull(array)) return null;
+		return bottomK(parallelCandidates(array, checkK(k, array.length), false), k);
+	}
+
+	/**
+	 * Returns, unordered, the {@code k} greatest or smallest elements of a range of an int-array.
+	 */
+	private static int[] selectK(int[] array, int from, int to, int k, boolean top) {
+		int[] copy = Arrays.copyOfRange(array, from, to);
+		int length = copy.length;
+		k = Math.min(k, length);
+		if (k == 0) return Arrays.copyOf(copy, 0);
+		if (k < length) introselect(copy, 0, length, top ? length - k : k - 1);
+		return top ? Arrays.copyOfRange(copy, length - k, length) : Arrays.copyOf(copy, k);
+	}
+
+	/**
+	 * Returns the candidates for the {@code k} greatest or smallest elements of an int-array, selected from chunks in parallel.
+	 */
+	private static int[] parallelCandidates(int[] array, int k, boolean top) {
+		int chunk = selectionChunk(array.length);
+		int chunks = (array.length + chunk - 1) / chunk;
+		if (chunks < 2 || (long) k * chunks >= array.length) return array;
+		int[][] candidates = range(0, chunks).parallel()
+				.mapToObj(c -> selectK(array, c * chunk, Math.min(c * chunk + chunk, array.length), k, top))
+				.toArray(int[][]::new);
+		int total = 0;
+		for (int[] candidate : candidates) total += candidate.length;
+		int[] result = new int[total];
+		int position = 0;
+		for (int[] candidate : candidates) {
+			System.arraycopy(candidate, 0, result, position, candidate.length);
+			position += candidate.length;
+		}
+		return result;
+	}
+
+	/**
+	 * Places the {@code n}-th smallest element of a range at index {@code n}, partitioning the range around it.
+	 */
+	private static void introselect(int[] array, int from, int to, int n) {
+		int depth = 2 * (32 - Integer.numberOfLeadingZeros(to - from));
+		while (to - from > SELECT_INSERTION_THRESHOLD) {
+			int pivot;
+			if (depth-- > 0) {
+				int a = array[from], b = array[(from + to) >>> 1], c = array[to - 1];
+				if (b < a) { int swap = a; a = b; b = swap; }
+				if (c < b) b = c < a ? a : c;
+				pivot = b;
+			} else pivot = medianOfMedians(array, from, to);
+			int less = from, i = from, greater = to;
+			while (i < greater) {
+				int value = array[i];
+				if (value < pivot) {
+					array[i++] = array[less];
+					array[less++] = value;
+				} else if (pivot < value) {
+					array[i] = array[--greater];
+					array[greater] = value;
+				} else i++;
+			}
+			if (n < less) to = less;
+			else if (n >= greater) from = greater;
+			else return;
+		}
+		insertionSort(array, from, to);
+	}
+
+	/**
+	 * Returns the median of the medians of the groups of five elements of a range, a pivot which guarantees linear selection.
+	 */
+	private static int medianOfMedians(int[] array, int from, int to) {
+		int end = from;
+		for (int i = from; i < to; i += 5) {
+			int groupEnd = Math.min(i + 5, to);
+			insertionSort(array, i, groupEnd);
+			int median = i + ((groupEnd - i - 1) >>> 1);
+			int swap = array[end];
+			array[end++] = array[median];
+			array[median] = swap;
+		}
+		int middle = from + ((end - from - 1) >>> 1);
+		introselect(array, from, end, middle);
+		return array[middle];
+	}
+
+	private static void insertionSort(int[] array, int from, int to) {
+		for (int i = from + 1; i < to; i++) {
+			int value = array[i];
+			int j = i - 1;
+			for (; j >= from && value < array[j]; j--) array[j + 1] = array[j];
+			array[j + 1] = value;
+		}
+	}
+
+	/**
+	 * Rearranges a long-array in place so that the element at index {@code n} is the one a sort would put there,
+	 * the elements before it are not greater and the elements after it are not smaller.
+	 * Runs in linear time on average and in the worst case (introselect: quickselect falling back to the median of medians).
+	 * @param array the long-array; not null
+	 * @param n the index of the element to place
+	 * @return the {@code n}-th smallest element
+	 * @throws IndexOutOfBoundsException if {@code n} is out of the array
+	 * @since 1.10.0
+	 */
+	public static long nthElement(long[] array, int n) {
+		checkSelectIndex(requireNonNull(array).length, n);
+		introselect(array, 0, array.length, n);
+		return array[n];
+	}
+
+	/**
+	 * Returns the {@code n}-th smallest element of a long-array, without modifying the array.
+	 * @param array the long-array; not null
+	 * @param n the index of the element in sorted order
+	 * @return the {@code n}-th smallest element
+	 * @throws IndexOutOfBoundsException if {@code n} is out of the array
+	 * @see #nthElement(long[], int)
+	 * @since 1.10.0
+	 */
+	public static long select(long[] array, int n) {
+		return nthElement(requireNonNull(array).clone(), n);
+	}
+
+	/**
+	 * Returns the median of a long-array, without modifying the array:
+	 * the middle element, or the mean of the two middle elements if the array has an even length.
+	 * @param array the long-array; not null
+	 * @return the median
+	 * @throws IllegalArgumentException if the array is empty
+	 * @since 1.10.0
+	 */
+	public static double median(long[] array) {
+		if (requireNonNull(array).length == 0) throw new IllegalArgumentException("At least 1 element.");
+		long[] copy = array.clone();
+		int half = copy.length >>> 1;
+		introselect(copy, 0, copy.length, half);
+		if ((copy.length & 1) == 1) return copy[half];
+		long lower = copy[0];
+		for (int i = 1; i < half; i++) if (lower < copy[i]) lower = copy[i];
+		return ((double) lower + copy[half]) / 2;
+	}
+
+	/**
+	 * Returns the {@code k} greatest elements of a long-array in descending order, without sorting the whole array.
+	 * @param array the long-array
+	 * @param k the number of elements; non-negative (clamped to the length of the array)
+	 * @return the greatest elements, or {@code null} if the array is {@code null}
+	 * @throws IllegalArgumentException if {@code k} is negative
+	 * @since 1.10.0
+	 */
+	public static long[] topK(long[] array, int k) {
+		if (isNull(array)) return null;
+		long[] result = selectK(array, 0, array.length, checkK(k, array.length), true);
+		Arrays.sort(result);
+		reverse(result);
+		return result;
+	}
+
+	/**
+	 * Returns the {@code k} smallest elements of a long-array in ascending order, without sorting the whole array.
+	 * @param array the long-array
+	 * @param k the number of elements; non-negative (clamped to the length of the array)
+	 * @return the smallest elements, or {@code null} if the array is {@code null}
+	 * @throws IllegalArgumentException if {@code k} is negative
+	 * @since 1.10.0
+	 */
+	public static long[] bottomK(long[] array, int k) {
+		if (isNull(array)) return null;
+		long[] result = selectK(array, 0, array.length, checkK(k, array.length), false);
+		Arrays.sort(result);
+		return result;
+	}
+
+	/**
+	 * Returns the {@code k} greatest elements of a long-array in descending order,
+	 * selecting the candidates of chunks of the array in parallel.
+	 * @param array the long-array
+	 * @param k the number of elements; non-negative (clamped to the length of the array)
+	 * @return the greatest elements, or {@code null} if the array is {@code null}
+	 * @throws IllegalArgumentException if {@code k} is negative
+	 * @since 1.10.0
+	 */
+	public static long[] parallelTopK(long[] array, int k) {
+		if (isNull(array)) return null;
+		return topK(parallelCandidates(array, checkK(k, array.length), true), k);
+	}
+
+	/**
+	 * Returns the {@code k} smallest elements of a long-array in ascending order,
+	 * selecting the candidates of chunks of the array in parallel.
+	 * @param array the long-array
+	 * @param k the number of elements; non-negative (clamped to the length of the array)
+	 * @return the smallest elements, or {@code null} if the array is {@code null}
+	 * @throws IllegalArgumentException if {@code k} is negative
+	 * @since 1.10.0
+	 */
+	public static long[] parallelBottomK(long[] array, int k) {
+		if (isNull(array)) return null;
+		return bottomK(parallelCandidates(array, checkK(k, array.length), false), k);
+	}
+
+	/**
+	 * Returns, unordered, the {@code k} greatest or smallest elements of a range of a long-array.
+	 */
+	private static long[] selectK(long[] array, int from, int to, int k, boolean top) {
+		long[] copy = Arrays.copyOfRange(array, from, to);
+		int length = copy.length;
+		k = Math.min(k, length);
+		if (k == 0) return Arrays.copyOf(copy, 0);
+		if (k < length) introselect(copy, 0, length, top ? length - k : k - 1);
+		return top ? Arrays.copyOfRange(copy, length - k, length) : Arrays.copyOf(copy, k);
+	}
+
+	/**
+	 * Returns the candidates for the {@code k} greatest or smallest elements of a long-array, selected from chunks in parallel.
+	 */
+	private static long[] parallelCandidates(long[] array, int k, boolean top) {
+		int chunk = selectionChunk(array.length);
+		int chunks = (array.length + chunk - 1) / chunk;
+		if (chunks < 2 || (long) k * chunks >= array.length) return array;
+		long[][] candidates = range(0, chunks).parallel()
+				.mapToObj(c -> selectK(array, c * chunk, Math.min(c * chunk + chunk, array.length), k, top))
+				.toArray(long[][]::new);
+		int total = 0;
+		for (long[] candidate : candidates) total += candidate.length;
+		long[] result = new long[total];
+		int position = 0;
+		for (long[] candidate : candidates) {
+			System.arraycopy(candidate, 0, result, position, candidate.length);
+			position += candidate.length;
+		}
+		return result;
+	}
+
+	/**
+	 * Places the {@code n}-th smallest element of a range at index {@code n}, partitioning the range around it.
+	 */
+	private static void introselect(long[] array, int from, int to, int n) {
+		int depth = 2 * (32 - Integer.numberOfLeadingZeros(to - from));
+		while (to - from > SELECT_INSERTION_THRESHOLD) {
+			long pivot;
+			if (depth-- > 0) {
+				long a = array[from], b = array[(from + to) >>> 1], c = array[to - 1];
+				if (b < a) { long swap = a; a = b; b = swap; }
+				if (c < b) b = c < a ? a : c;
+				pivot = b;
+			} else pivot = medianOfMedians(array, from, to);
+			int less = from, i = from, greater = to;
+			while (i < greater) {
+				long value = array[i];
+				if (value < pivot) {
+					array[i++] = array[less];
+					array[less++] = value;
+				} else if (pivot < value) {
+					array[i] = array[--greater];
+					array[greater] = value;
+				} else i++;
+			}
+			if (n < less) to = less;
+			else if (n >= greater) from = greater;
+			else return;
+		}
+		insertionSort(array, from, to);
+	}
+
+	/**
+	 * Returns the median of the medians of the groups of five elements of a range, a pivot which guarantees linear selection.
+	 */
+	private static long medianOfMedians(long[] array, int from, int to) {
+		int end = from;
+		for (int i = from; i < to; i += 5) {
+			int groupEnd = Math.min(i + 5, to);
+			insertionSort(array, i, groupEnd);
+			int median = i + ((groupEnd - i - 1) >>> 1);
+			long swap = array[end];
+			array[end++] = array[median];
+			array[median] = swap;
+		}
+		int middle = from + ((end - from - 1) >>> 1);
+		introselect(array, from, end, middle);
+		return array[middle];
+	}
+
+	private static void insertionSort(long[] array, int from, int to) {
+		for (int i = from + 1; i < to; i++) {
+			long value = array[i];
+			int j = i - 1;
+			for (; j >= from && value < array[j]; j--) array[j + 1] = array[j];
+			array[j + 1] = value;
+		}
+	}
+
+	/**
+	 * Rearranges a float-array in place so that the element at index {@code n} is the one a sort would put there (ordered as by {@link Arrays#sort(float[])}),
+	 * the elements before it are not greater and the elements after it are not smaller.
+	 * Runs in linear time on average and in the worst case (introselect: quickselect falling back to the median of medians).
+	 * @param array the float-array; not null
+	 * @param n the index of the element to place
+	 * @return the {@code n}-th smallest element
+	 * @throws IndexOutOfBoundsException if {@code n} is out of the array
+	 * @since 1.10.0
+	 */
+	public static float nthElement(float[] array, int n) {
+		checkSelectIndex(requireNonNull(array).length, n);
+		introselect(array, 0, array.length, n);
+		return array[n];
+	}
+
+	/**
+	 * Returns the {@code n}-th smallest element of a float-array (ordered as by {@link Arrays#sort(float[])}), without modifying the array.
+	 * @param array the float-array; not null
+	 * @param n the index of the element in sorted order
+	 * @return the {@code n}-th smallest element
+	 * @throws IndexOutOfBoundsException if {@code n} is out of the array
+	 * @see #nthElement(float[], int)
+	 * @since 1.10.0
+	 */
+	public static float select(float[] array, int n) {
+		return nthElement(requireNonNull(array).clone(), n);
+	}
+
+	/**
+	 * Returns the median of a float-array (ordered as by {@link Arrays#sort(float[])}), without modifying the array:
+	 * the middle element, or the mean of the two middle elements if the array has an even length.
+	 * @param array the float-array; not null
+	 * @return the median
+	 * @throws IllegalArgumentException if the array is empty
+	 * @since 1.10.0
+	 */
+	public static double median(float[] array) {
+		if (requireNonNull(array).length == 0) throw new IllegalArgumentException("At least 1 element.");
+		float[] copy = array.clone();
+		int half = copy.length >>> 1;
+		introselect(copy, 0, copy.length, half);
+		if ((copy.length & 1) == 1) return copy[half];
+		float lower = copy[0];
+		for (int i = 1; i < half; i++) if (Float.compare(lower, copy[i]) < 0) lower = copy[i];
+		return ((double) lower + copy[half]) / 2;
+	}
+
+	/**
+	 * Returns the {@code k} greatest elements of a float-array (ordered as by {@link Arrays#sort(float[])}) in descending order, without sorting the whole array.
+	 * @param array the float-array
+	 * @param k the number of elements; non-negative (clamped to the length of the array)
+	 * @return the greatest elements, or {@code null} if the array is {@code null}
+	 * @throws IllegalArgumentException if {@code k} is negative
+	 * @since 1.10.0
+	 */
+	public static float[] topK(float[] array, int k) {
+		if (isNull(array)) return null;
+		float[] result = selectK(array, 0, array.length, checkK(k, array.length), true);
+		Arrays.sort(result);
+		reverse(result);
+		return result;
+	}
+
+	/**
+	 * Returns the {@code k} smallest elements of a float-array (ordered as by {@link Arrays#sort(float[])}) in ascending order, without sorting the whole array.
+	 * @param array the float-array
+	 * @param k the number of elements; non-negative (clamped to the length of the array)
+	 * @return the smallest elements, or {@code null} if the array is {@code null}
+	 * @throws IllegalArgumentException if {@code k} is negative
+	 * @since 1.10.0
+	 */
+	public static float[] bottomK(float[] array, int k) {
+		if (isNull(array)) return null;
+		float[] result = selectK(array, 0, array.length, checkK(k, array.length), false);
+		Arrays.sort(result);
+		return result;
+	}
+
+	/**
+	 * Returns the {@code k} greatest elements of a float-array (ordered as by {@link Arrays#sort(float[])}) in descending order,
+	 * selecting the candidates of chunks of the array in parallel.
+	 * @param array the float-array
+	 * @param k the number of elements; non-negative (clamped to the length of the array)
+	 * @return the greatest elements, or {@code null} if the array is {@code null}
+	 * @throws IllegalArgumentException if {@code k} is negative
+	 * @since 1.10.0
+	 */
+	public static float[] parallelTopK(float[] array, int k) {
+		if (isNull(array)) return null;
+		return topK(parallelCandidates(array, checkK(k, array.length), true), k);
+	}
+
+	/**
+	 * Returns the {@code k} smallest elements of a float-array (ordered as by {@link Arrays#sort(float[])}) in ascending order,
+	 * selecting the candidates of chunks of the array in parallel.
+	 * @param array the float-array
+	 * @param k the number of elements; non-negative (clamped to the length of the array)
+	 * @return the smallest elements, or {@code null} if the array is {@code null}
+	 * @throws IllegalArgumentException if {@code k} is negative
+	 * @since 1.10.0
+	 */
+	public static float[] parallelBottomK(float[] array, int k) {
+		if (isNull(array)) return null;
+		return bottomK(parallelCandidates(array, checkK(k, array.length), false), k);
+	}
+
+	/**
+	 * Returns, unordered, the {@code k} greatest or smallest elements of a range of a float-array.
+	 */
+	private static float[] selectK(float[] array, int from, int to, int k, boolean top) {
+		float[] copy = Arrays.copyOfRange(array, from, to);
+		int length = copy.length;
+		k = Math.min(k, length);
+		if (k == 0) return Arrays.copyOf(copy, 0);
+		if (k < length) introselect(copy, 0, length, top ? length - k : k - 1);
+		return top ? Arrays.copyOfRange(copy, length - k, length) : Arrays.copyOf(copy, k);
+	}
+
+	/**
+	 * Returns the candidates for the {@code k} greatest or smallest elements of a float-array, selected from chunks in parallel.
+	 */
+	private static float[] parallelCandidates(float[] array, int k, boolean top) {
+		int chunk = selectionChunk(array.length);
+		int chunks = (array.length + chunk - 1) / chunk;
+		if (chunks < 2 || (long) k * chunks >= array.length) return array;
+		float[][] candidates = range(0, chunks).parallel()
+				.mapToObj(c -> selectK(array, c * chunk, Math.min(c * chunk + chunk, array.length), k, top))
+				.toArray(float[][]::new);
+		int total = 0;
+		for (float[] candidate : candidates) total += candidate.length;
+		float[] result = new float[total];
+		int position = 0;
+		for (float[] candidate : candidates) {
+			System.arraycopy(candidate, 0, result, position, candidate.length);
+			position += candidate.length;
+		}
+		return result;
+	}
+
+	/**
+	 * Places the {@code n}-th smallest element of a range at index {@code n}, partitioning the range around it.
+	 */
+	private static void introselect(float[] array, int from, int to, int n) {
+		int depth = 2 * (32 - Integer.numberOfLeadingZeros(to - from));
+		while (to - from > SELECT_INSERTION_THRESHOLD) {
+			float pivot;
+			if (depth-- > 0) {
+				float a = array[from], b = array[(from + to) >>> 1], c = array[to - 1];
+				if (Float.compare(b, a) < 0) { float swap = a; a = b; b = swap; }
+				if (Float.compare(c, b) < 0) b = Float.compare(c, a) < 0 ? a : c;
+				pivot = b;
+			} else pivot = medianOfMedians(array, from, to);
+			int less = from, i = from, greater = to;
+			while (i < greater) {
+				float value = array[i];
+				if (Float.compare(value, pivot) < 0) {
+					array[i++] = array[less];
+					array[less++] = value;
+				} else if (Float.compare(pivot, value) < 0) {
+					array[i] = array[--greater];
+					array[greater] = value;
+				} else i++;
+			}
+			if (n < less) to = less;
+			else if (n >= greater) from = greater;
+			else return;
+		}
+		insertionSort(array, from, to);
+	}
+
+	/**
+	 * Returns the median of the medians of the groups of five elements of a range, a pivot which guarantees linear selection.
+	 */
+	private static float medianOfMedians(float[] array, int from, int to) {
+		int end = from;
+		for (int i = from; i < to; i += 5) {
+			int groupEnd = Math.min(i + 5, to);
+			insertionSort(array, i, groupEnd);
+			int median = i + ((groupEnd - i - 1) >>> 1);
+			float swap = array[end];
+			array[end++] = array[median];
+			array[median] = swap;
+		}
+		int middle = from + ((end - from - 1) >>> 1);
+		introselect(array, from, end, middle);
+		return array[middle];
+	}
+
+	private static void insertionSort(float[] array, int from, int to) {
+		for (int i = from + 1; i < to; i++) {
+			float value = array[i];
+			int j = i - 1;
+			for (; j >= from && Float.compare(value, array[j]) < 0; j--) array[j + 1] = array[j];
+			array[j + 1] = value;
+		}
+	}
+
+	/**
+	 * Rearranges a double-array in place so that the element at index {@code n} is the one a sort would put there (ordered as by {@link Arrays#sort(double[])}),
+	 * the elements before it are not greater and the elements after it are not smaller.
+	 * Runs in linear time on average and in the worst case (introselect: quickselect falling back to the median of medians).
+	 * @param array the double-array; not null
+	 * @param n the index of the element to place
+	 * @return the {@code n}-th smallest element
+	 * @throws IndexOutOfBoundsException if {@code n} is out of the array
+	 * @since 1.10.0
+	 */
+	public static double nthElement(double[] array, int n) {
+		checkSelectIndex(requireNonNull(array).length, n);
+		introselect(array, 0, array.length, n);
+		return array[n];
+	}
+
+	/**
+	 * Returns the {@code n}-th smallest element of a double-array (ordered as by {@link Arrays#sort(double[])}), without modifying the array.
+	 * @param array the double-array; not null
+	 * @param n the index of the element in sorted order
+	 * @return the {@code n}-th smallest element
+	 * @throws IndexOutOfBoundsException if {@code n} is out of the array
+	 * @see #nthElement(double[], int)
+	 * @since 1.10.0
+	 */
+	public static double select(double[] array, int n) {
+		return nthElement(requireNonNull(array).clone(), n);
+	}
+
+	/**
+	 * Returns the median of a double-array (ordered as by {@link Arrays#sort(double[])}), without modifying the array:
+	 * the middle element, or the mean of the two middle elements if the array has an even length.
+	 * @param array the double-array; not null
+	 * @return the median
+	 * @throws IllegalArgumentException if the array is empty
+	 * @since 1.10.0
+	 */
+	public static double median(double[] array) {
+		if (requireNonNull(array).length == 0) throw new IllegalArgumentException("At least 1 element.");
+		double[] copy = array.clone();
+		int half = copy.length >>> 1;
+		introselect(copy, 0, copy.length, half);
+		if ((copy.length & 1) == 1) return copy[half];
+		double lower = copy[0];
+		for (int i = 1; i < half; i++) if (Double.compare(lower, copy[i]) < 0) lower = copy[i];
+		return (lower + copy[half]) / 2;
+	}
+
+	/**
+	 * Returns the {@code k} greatest elements of a double-array (ordered as by {@link Arrays#sort(double[])}) in descending order, without sorting the whole array.
+	 * @param array the double-array
+	 * @param k the number of elements; non-negative (clamped to the length of the array)
+	 * @return the greatest elements, or {@code null} if the array is {@code null}
+	 * @throws IllegalArgumentException if {@code k} is negative
+	 * @since 1.10.0
+	 */
+	public static double[] topK(double[] array, int k) {
+		if (isNull(array)) return null;
+		double[] result = selectK(array, 0, array.length, checkK(k, array.length), true);
+		Arrays.sort(result);
+		reverse(result);
+		return result;
+	}
+
+	/**
+	 * Returns the {@code k} smallest elements of a double-array (ordered as by {@link Arrays#sort(double[])}) in ascending order, without sorting the whole array.
+	 * @param array the double-array
+	 * @param k the number of elements; non-negative (clamped to the length of the array)
+	 * @return the smallest elements, or {@code null} if the array is {@code null}
+	 * @throws IllegalArgumentException if {@code k} is negative
+	 * @since 1.10.0
+	 */
+	public static double[] bottomK(double[] array, int k) {
+		if (isNull(array)) return null;
+		double[] result = selectK(array, 0, array.length, checkK(k, array.length), false);
+		Arrays.sort(result);
+		return result;
+	}
+
+	/**
+	 * Returns the {@code k} greatest elements of a double-array (ordered as by {@link Arrays#sort(double[])}) in descending order,
+	 * selecting the candidates of chunks of the array in parallel.
+	 * @param array the double-array
+	 * @param k the number of elements; non-negative (clamped to the length of the array)
+	 * @return the greatest elements, or {@code null} if the array is {@code null}
+	 * @throws IllegalArgumentException if {@code k} is negative
+	 * @since 1.10.0
+	 */
+	public static double[] parallelTopK(double[] array, int k) {
+		if (isNull(array)) return null;
+		return topK(parallelCandidates(array, checkK(k, array.length), true), k);
+	}
+
+	/**
+	 * Returns the {@code k} smallest elements of a double-array (ordered as by {@link Arrays#sort(double[])}) in ascending order,
+	 * selecting the candidates of chunks of the array in parallel.
+	 * @param array the double-array
+	 * @param k the number of elements; non-negative (clamped to the length of the array)
+	 * @return the smallest elements, or {@code null} if the array is {@code null}
+	 * @throws IllegalArgumentException if {@code k} is negative
+	 * @since 1.10.0
+	 */
+	public static double[] parallelBottomK(double[] array, int k) {
+		if (isNull(array)) return null;
+		return bottomK(parallelCandidates(array, checkK(k, array.length), false), k);
+	}
+
+	/**
+	 * Returns, unordered, the {@code k} greatest or smallest elements of a range of a double-array.
+	 */
+	private static double[] selectK(double[] array, int from, int to, int k, boolean top) {
+		double[] copy = Arrays.copyOfRange(array, from, to);
+		int length = copy.length;
+		k = Math.min(k, length);
+		if (k == 0) return Arrays.copyOf(copy, 0);
+		if (k < length) introselect(copy, 0, length, top ? length - k : k - 1);
+		return top ? Arrays.copyOfRange(copy, length - k, length) : Arrays.copyOf(copy, k);
+	}
+
+	/**
+	 * Returns the candidates for the {@code k} greatest or smallest elements of a double-array, selected from chunks in parallel.
+	 */
+	private static double[] parallelCandidates(double[] array, int k, boolean top) {
+		int chunk = selectionChunk(array.length);
+		int chunks = (array.length + chunk - 1) / chunk;
+		if (chunks < 2 || (long) k * chunks >= array.length) return array;
+		double[][] candidates = range(0, chunks).parallel()
+				.mapToObj(c -> selectK(array, c * chunk, Math.min(c * chunk + chunk, array.length), k, top))
+				.toArray(double[][]::new);
+		int total = 0;
+		for (double[] candidate : candidates) total += candidate.length;
+		double[] result = new double[total];
+		int position = 0;
+		for (double[] candidate : candidates) {
+			System.arraycopy(candidate, 0, result, position, candidate.length);
+			position += candidate.length;
+		}
+		return result;
+	}
+
+	/**
+	 * Places the {@code n}-th smallest element of a range at index {@code n}, partitioning the range around it.
+	 */
+	private static void introselect(double[] array, int from, int to, int n) {
+		int depth = 2 * (32 - Integer.numberOfLeadingZeros(to - from));
+		while (to - from > SELECT_INSERTION_THRESHOLD) {
+			double pivot;
+			if (depth-- > 0) {
+				double a = array[from], b = array[(from + to) >>> 1], c = array[to - 1];
+				if (Double.compare(b, a) < 0) { double swap = a; a = b; b = swap; }
+				if (Double.compare(c, b) < 0) b = Double.compare(c, a) < 0 ? a : c;
+				pivot = b;
+			} else pivot = medianOfMedians(array, from, to);
+			int less = from, i = from, greater = to;
+			while (i < greater) {
+				double value = array[i];
+				if (Double.compare(value, pivot) < 0) {
+					array[i++] = array[less];
+					array[less++] = value;
+				} else if (Double.compare(pivot, value) < 0) {
+					array[i] = array[--greater];
+					array[greater] = value;
+				} else i++;
+			}
+			if (n < less) to = less;
+			else if (n >= greater) from = greater;
+			else return;
+		}
+		insertionSort(array, from, to);
+	}
+
+	/**
+	 * Returns the median of the medians of the groups of five elements of a range, a pivot which guarantees linear selection.
+	 */
+	private static double medianOfMedians(double[] array, int from, int to) {
+		int end = from;
+		for (int i = from; i < to; i += 5) {
+			int groupEnd = Math.min(i + 5, to);
+			insertionSort(array, i, groupEnd);
+			int median = i + ((groupEnd - i - 1) >>> 1);
+			double swap = array[end];
+			array[end++] = array[median];
+			array[median] = swap;
+		}
+		int middle = from + ((end - from - 1) >>> 1);
+		introselect(array, from, end, middle);
+		return array[middle];
+	}
+
+	private static void insertionSort(double[] array, int from, int to) {
+		for (int i = from + 1; i < to; i++) {
+			double value = array[i];
+			int j = i - 1;
+			for (; j >= from && Double.compare(value, array[j]) < 0; j--) array[j + 1] = array[j];
+			array[j + 1] = value;
+		}
+	}
+
+	/**
+	 * Rearranges an array in place so that the element at index {@code n} is the one a sort would put there, ordered by the comparator,
+	 * the elements before it are not greater and the elements after it are not smaller.
+	 * Runs in linear time on average and in the worst case (introselect: quickselect falling back to the median of medians).
+	 * @param array the array; not null
+	 * @param n the index of the element to place
+	 * @param comparator the comparator of the elements; not null
+	 * @param <E> the type of the elements
+	 * @return the {@code n}-th smallest element
+	 * @throws IndexOutOfBoundsException if {@code n} is out of the array
+	 * @since 1.10.0
+	 */
+	public static <E> E nthElement(E[] array, int n, Comparator<? super E> comparator) {
+		requireNonNull(comparator);
+		checkSelectIndex(requireNonNull(array).length, n);
+		introselect(array, 0, array.length, n, comparator);
+		return array[n];
+	}
+
+	/**
+	 * Returns the {@code n}-th smallest element of an array, ordered by the comparator, without modifying the array.
+	 * @param array the array; not null
+	 * @param n the index of the element in sorted order
+	 * @param comparator the comparator of the elements; not null
+	 * @param <E> the type of the elements
+	 * @return the {@code n}-th smallest element
+	 * @throws IndexOutOfBoundsException if {@code n} is out of the array
+	 * @see #nthElement(Object[], int, Comparator)
+	 * @since 1.10.0
+	 */
+	public static <E> E select(E[] array, int n, Comparator<? super E> comparator) {
+		return nthElement(requireNonNull(array).clone(), n, comparator);
+	}
+
+	/**
+	 * Returns the median of an array (the lower one if the array has an even length), without modifying the array.
+	 * @param array the array; not null
+	 * @param comparator the comparator of the elements; not null
+	 * @param <E> the type of the elements
+	 * @return the median element
+	 * @throws IllegalArgumentException if the array is empty
+	 * @since 1.10.0
+	 */
+	public static <E> E median(E[] array, Comparator<? super E> comparator) {
+		if (requireNonNull(array).length == 0) throw new IllegalArgumentException("At least 1 element.");
+		return select(array, (array.length - 1) >>> 1, comparator);
+	}
+
+	/**
+	 * Returns the {@code k} greatest elements of an array, ordered by the comparator in descending order, without sorting the whole array.
+	 * @param array the array
+	 * @param k the number of elements; non-negative (clamped to the length of the array)
+	 * @param comparator the comparator of the elements; not null
+	 * @param <E> the type of the elements
+	 * @return the greatest elements, or {@code null} if the array is {@code null}
+	 * @throws IllegalArgumentException if {@code k} is negative
+	 * @since 1.10.0
+	 */
+	public static <E> E[] topK(E[] array, int k, Comparator<? super E> comparator) {
+		if (isNull(array)) return null;
+		requireNonNull(comparator);
+		E[] result = selectK(array, 0, array.length, checkK(k, array.length), true, comparator);
+		Arrays.sort(result, comparator);
+		reverse(result);
+		return result;
+	}
+
+	/**
+	 * Returns the {@code k} smallest elements of an array, ordered by the comparator in ascending order, without sorting the whole array.
+	 * @param array the array
+	 * @param k the number of elements; non-negative (clamped to the length of the array)
+	 * @param comparator the comparator of the elements; not null
+	 * @param <E> the type of the elements
+	 * @return the smallest elements, or {@code null} if the array is {@code null}
+	 * @throws IllegalArgumentException if {@code k} is negative
+	 * @since 1.10.0
+	 */
+	public static <E> E[] bottomK(E[] array, int k, Comparator<? super E> comparator) {
+		if (isNull(array)) return null;
+		requireNonNull(comparator);
+		E[] result = selectK(array, 0, array.length, checkK(k, array.length), false, comparator);
+		Arrays.sort(result, comparator);
+		return result;
+	}
+
+	/**
+	 * Returns the {@code k} greatest elements of an array, ordered by the comparator in descending order,
+	 * selecting the candidates of chunks of the array in parallel.
+	 * @param array the array
+	 * @param k the number of elements; non-negative (clamped to the length of the array)
+	 * @param comparator the comparator of the elements; not null
+	 * @param <E> the type of the elements
+	 * @return the greatest elements, or {@code null} if the array is {@code null}
+	 * @throws IllegalArgumentException if {@code k} is negative
+	 * @since 1.10.0
+	 */
+	public static <E> E[] parallelTopK(E[] array, int k, Comparator<? super E> comparator) {
+		if (isNull(array)) return null;
+		requireNonNull(comparator);
+		return topK(parallelCandidates(array, checkK(k, array.length), true, comparator), k, comparator);
+	}
+
+	/**
+	 * Returns the {@code k} smallest elements of an array, ordered by the comparator in ascending order,
+	 * selecting the candidates of chunks of the array in parallel.
+	 * @param array the array
+	 * @param k the number of elements; non-negative (clamped to the length of the array)
+	 * @param comparator the comparator of the elements; not null
+	 * @param <E> the type of the elements
+	 * @return the smallest elements, or {@code null} if the array is {@code null}
+	 * @throws IllegalArgumentException if {@code k} is negative
+	 * @since 1.10.0
+	 */
+	public static <E> E[] parallelBottomK(E[] array, int k, Comparator<? super E> comparator) {
+		if (isNull(array)) return null;
+		requireNonNull(comparator);
+		return bottomK(parallelCandidates(array, checkK(k, array.length), false, comparator), k, comparator);
+	}
+
+	/**
+	 * Returns, unordered, the {@code k} greatest or smallest elements of a range of an array.
+	 */
+	private static <E> E[] selectK(E[] array, int from, int to, int k, boolean top, Comparator<? super E> comparator) {
+		E[] copy = Arrays.copyOfRange(array, from, to);
+		int length = copy.length;
+		k = Math.min(k, length);
+		if (k == 0) return Arrays.copyOf(copy, 0);
+		if (k < length) introselect(copy, 0, length, top ? length - k : k - 1, comparator);
+		return top ? Arrays.copyOfRange(copy, length - k, length) : Arrays.copyOf(copy, k);
+	}
+
+	/**
+	 * Returns the candidates for the {@code k} greatest or smallest elements of an array, selected from chunks in parallel.
+	 */
+	private static <E> E[] parallelCandidates(E[] array, int k, boolean top, Comparator<? super E> comparator) {
+		int chunk = selectionChunk(array.length);
+		int chunks = (array.length + chunk - 1) / chunk;
+		if (chunks < 2 || (long) k * chunks >= array.length) return array;
+		Object[][] candidates = range(0, chunks).parallel()
+				.mapToObj(c -> selectK(array, c * chunk, Math.min(c * chunk + chunk, array.length), k, top, comparator))
+				.toArray(Object[][]::new);
+		int total = 0;
+		for (Object[] candidate : candidates) total += candidate.length;
+		E[] result = Arrays.copyOf(array, total);
+		int position = 0;
+		for (Object[] candidate : candidates) {
+			System.arraycopy(candidate, 0, result, position, candidate.length);
+			position += candidate.length;
+		}
+		return result;
+	}
+
+	/**
+	 * Places the {@code n}-th smallest element of a range at index {@code n}, partitioning the range around it.
+	 */
+	private static <E> void introselect(E[] array, int from, int to, int n, Comparator<? super E> comparator) {
+		int depth = 2 * (32 - Integer.numberOfLeadingZeros(to - from));
+		while (to - from > SELECT_INSERTION_THRESHOLD) {
+			E pivot;
+			if (depth-- > 0) {
+				E a = array[from], b = array[(from + to) >>> 1], c = array[to - 1];
+				if (comparator.compare(b, a) < 0) { E swap = a; a = b; b = swap; }
+				if (comparator.compare(c, b) < 0) b = comparator.compare(c, a) < 0 ? a : c;
+				pivot = b;
+			} else pivot = medianOfMedians(array, from, to, comparator);
+			int less = from, i = from, greater = to;
+			while (i < greater) {
+				E value = array[i];
+				if (comparator.compare(value, pivot) < 0) {
+					array[i++] = array[less];
+					array[less++] = value;
+				} else if (comparator.compare(pivot, value) < 0) {
+					array[i] = array[--greater];
+					array[greater] = value;
+				} else i++;
+			}
+			if (n < less) to = less;
+			else if (n >= greater) from = greater;
+			else return;
+		}
+		insertionSort(array, from, to, comparator);
+	}
+
+	/**
+	 * Returns the median of the medians of the groups of five elements of a range, a pivot which guarantees linear selection.
+	 */
+	private static <E> E medianOfMedians(E[] array, int from, int to, Comparator<? super E> comparator) {
+		int end = from;
+		for (int i = from; i < to; i += 5) {
+			int groupEnd = Math.min(i + 5, to);
+			insertionSort(array, i, groupEnd, comparator);
+			int median = i + ((groupEnd - i - 1) >>> 1);
+			E swap = array[end];
+			array[end++] = array[median];
+			array[median] = swap;
+		}
+		int middle = from + ((end - from - 1) >>> 1);
+		introselect(array, from, end, middle, comparator);
+		return array[middle];
+	}
+
+	private static <E> void insertionSort(E[] array, int from, int to, Comparator<? super E> comparator) {
+		for (int i = from + 1; i < to; i++) {
+			E value = array[i];
+			int j = i - 1;
+			for (; j >= from && comparator.compare(value, array[j]) < 0; j--) array[j + 1] = array[j];
+			array[j + 1] = value;
+		}
+	}
+
+	/**
+	 * Rearranges a byte-array in place so that the element at index {@code n} is the one a sort would put there,
+	 * the elements before it are not greater and the elements after it are not smaller.
+	 * Small-range values are counted, so the array ends up sorted in linear time.
+	 * @param array the byte-array; not null
+	 * @param n the index of the element to place
+	 * @return the {@code n}-th smallest element
+	 * @throws IndexOutOfBoundsException if {@code n} is out of the array
+	 * @since 1.10.0
+	 */
+	public static byte nthElement(byte[] array, int n) {
+		checkSelectIndex(requireNonNull(array).length, n);
+		int[] counts = countBins(array.length, 256, i -> array[i] + 128);
+		for (int bin = 0, i = 0; bin < 256; bin++)
+			for (int c = counts[bin]; c > 0; c--) array[i++] = (byte) (bin - 128);
+		return array[n];
+	}
+
+	/**
+	 * Returns the {@code n}-th smallest element of a byte-array, counting the values without modifying the array.
+	 * @param array the byte-array; not null
+	 * @param n the index of the element in sorted order
+	 * @return the {@code n}-th smallest element
+	 * @throws IndexOutOfBoundsException if {@code n} is out of the array
+	 * @since 1.10.0
+	 */
+	public static byte select(byte[] array, int n) {
+		checkSelectIndex(requireNonNull(array).length, n);
+		return (byte) (rankedBin(countBins(array.length, 256, i -> array[i] + 128), n) - 128);
+	}
+
+	/**
+	 * Returns the median of a byte-array, counting the values without modifying the array:
+	 * the middle element, or the mean of the two middle elements if the array has an even length.
+	 * @param array the byte-array; not null
+	 * @return the median
+	 * @throws IllegalArgumentException if the array is empty
+	 * @since 1.10.0
+	 */
+	public static double median(byte[] array) {
+		if (requireNonNull(array).length == 0) throw new IllegalArgumentException("At least 1 element.");
+		int[] counts = countBins(array.length, 256, i -> array[i] + 128);
+		int half = array.length >>> 1;
+		if ((array.length & 1) == 1) return rankedBin(counts, half) - 128;
+		return ((double) rankedBin(counts, half - 1) + rankedBin(counts, half)) / 2 - 128;
+	}
+
+	/**
+	 * Returns the {@code k} greatest elements of a byte-array in descending order, counting the values.
+	 * @param array the byte-array
+	 * @param k the number of elements; non-negative (clamped to the length of the array)
+	 * @return the greatest elements, or {@code null} if the array is {@code null}
+	 * @throws IllegalArgumentException if {@code k} is negative
+	 * @since 1.10.0
+	 */
+	public static byte[] topK(byte[] array, int k) {
+		if (isNull(array)) return null;
+		int[] bins = rankedBins(countBins(array.length, 256, i -> array[i] + 128), checkK(k, array.length), true);
+		byte[] result = new byte[bins.length];
+		for (int i = 0; i < bins.length; i++) result[i] = (byte) (bins[i] - 128);
+		return result;
+	}
+
+	/**
+	 * Returns the {@code k} smallest elements of a byte-array in ascending order, counting the values.
+	 * @param array the byte-array
+	 * @param k the number of elements; non-negative (clamped to the length of the array)
+	 * @return the smallest elements, or {@code null} if the array is {@code null}
+	 * @throws IllegalArgumentException if {@code k} is negative
+	 * @since 1.10.0
+	 */
+	public static byte[] bottomK(byte[] array, int k) {
+		if (isNull(array)) return null;
+		int[] bins = rankedBins(countBins(array.length, 256, i -> array[i] + 128), checkK(k, array.length), false);
+		byte[] result = new byte[bins.length];
+		for (int i = 0; i < bins.length; i++) result[i] = (byte) (bins[i] - 128);
+		return result;
+	}
+
+	/**
+	 * Rearranges a short-array in place so that the element at index {@code n} is the one a sort would put there,
+	 * the elements before it are not greater and the elements after it are not smaller.
+	 * Small-range values are counted, so the array ends up sorted in linear time.
+	 * @param array the short-array; not null
+	 * @param n the index of the element to place
+	 * @return the {@code n}-th smallest element
+	 * @throws IndexOutOfBoundsException if {@code n} is out of the array
+	 * @since 1.10.0
+	 */
+	public static short nthElement(short[] array, int n) {
+		checkSelectIndex(requireNonNull(array).length, n);
+		int[] counts = countBins(array.length, 65536, i -> array[i] + 32768);
+		for (int bin = 0, i = 0; bin < 65536; bin++)
+			for (int c = counts[bin]; c > 0; c--) array[i++] = (short) (bin - 32768);
+		return array[n];
+	}
+
+	/**
+	 * Returns the {@code n}-th smallest element of a short-array, counting the values without modifying the array.
+	 * @param array the short-array; not null
+	 * @param n the index of the element in sorted order
+	 * @return the {@code n}-th smallest element
+	 * @throws IndexOutOfBoundsException if {@code n} is out of the array
+	 * @since 1.10.0
+	 */
+	public static short select(short[] array, int n) {
+		checkSelectIndex(requireNonNull(array).length, n);
+		return (short) (rankedBin(countBins(array.length, 65536, i -> array[i] + 32768), n) - 32768);
+	}
+
+	/**
+	 * Returns the median of a short-array, counting the values without modifying the array:
+	 * the middle element, or the mean of the two middle elements if the array has an even length.
+	 * @param array the short-array; not null
+	 * @return the median
+	 * @throws IllegalArgumentException if the array is empty
+	 * @since 1.10.0
+	 */
+	public static double median(short[] array) {
+		if (requireNonNull(array).length == 0) throw new IllegalArgumentException("At least 1 element.");
+		int[] counts = countBins(array.length, 65536, i -> array[i] + 32768);
+		int half = array.length >>> 1;
+		if ((array.length & 1) == 1) return rankedBin(counts, half) - 32768;
+		return ((double) rankedBin(counts, half - 1) + rankedBin(counts, half)) / 2 - 32768;
+	}
+
+	/**
+	 * Returns the {@code k} greatest elements of a short-array in descending order, counting the values.
+	 * @param array the short-array
+	 * @param k the number of elements; non-negative (clamped to the length of the array)
+	 * @return the greatest elements, or {@code null} if the array is {@code null}
+	 * @throws IllegalArgumentException if {@code k} is negative
+	 * @since 1.10.0
+	 */
+	public static short[] topK(short[] array, int k) {
+		if (isNull(array)) return null;
+		int[] bins = rankedBins(countBins(array.length, 65536, i -> array[i] + 32768), checkK(k, array.length), true);
+		short[] result = new short[bins.length];
+		for (int i = 0; i < bins.length; i++) result[i] = (short) (bins[i] - 32768);
+		return result;
+	}
+
+	/**
+	 * Returns the {@code k} smallest elements of a short-array in ascending order, counting the values.
+	 * @param array the short-array
+	 * @param k the number of elements; non-negative (clamped to the length of the array)
+	 * @return the smallest elements, or {@code null} if the array is {@code null}
+	 * @throws IllegalArgumentException if {@code k} is negative
+	 * @since 1.10.0
+	 */
+	public static short[] bottomK(short[] array, int k) {
+		if (isNull(array)) return null;
+		int[] bins = rankedBins(countBins(array.length, 65536, i -> array[i] + 32768), checkK(k, array.length), false);
+		short[] result = new short[bins.length];
+		for (int i = 0; i < bins.length; i++) result[i] = (short) (bins[i] - 32768);
+		return result;
+	}
+
+	/**
+	 * Rearranges a char-array in place so that the element at index {@code n} is the one a sort would put there,
+	 * the elements before it are not greater and the elements after it are not smaller.
+	 * Small-range values are counted, so the array ends up sorted in linear time.
+	 * @param array the char-array; not null
+	 * @param n the index of the element to place
+	 * @return the {@code n}-th smallest element
+	 * @throws IndexOutOfBoundsException if {@code n} is out of the array
+	 * @since 1.10.0
+	 */
+	public static char nthElement(char[] array, int n) {
+		checkSelectIndex(requireNonNull(array).length, n);
+		int[] counts = countBins(array.length, 65536, i -> array[i]);
+		for (int bin = 0, i = 0; bin < 65536; bin++)
+			for (int c = counts[bin]; c > 0; c--) array[i++] = (char) (bin);
+		return array[n];
+	}
+
+	/**
+	 * Returns the {@code n}-th smallest element of a char-array, counting the values without modifying the array.
+	 * @param array the char-array; not null
+	 * @param n the index of the element in sorted order
+	 * @return the {@code n}-th smallest element
+	 * @throws IndexOutOfBoundsException if {@code n} is out of the array
+	 * @since 1.10.0
+	 */
+	public static char select(char[] array, int n) {
+		checkSelectIndex(requireNonNull(array).length, n);
+		return (char) (rankedBin(countBins(array.length, 65536, i -> array[i]), n));
+	}
+
+	/**
+	 * Returns the median of a char-array, counting the values without modifying the array:
+	 * the middle element, or the mean of the two middle elements if the array has an even length.
+	 * @param array the char-array; not null
+	 * @return the median
+	 * @throws IllegalArgumentException if the array is empty
+	 * @since 1.10.0
+	 */
+	public static double median(char[] array) {
+		if (requireNonNull(array).length == 0) throw new IllegalArgumentException("At least 1 element.");
+		int[] counts = countBins(array.length, 65536, i -> array[i]);
+		int half = array.length >>> 1;
+		if ((array.length & 1) == 1) return rankedBin(counts, half);
+		return ((double) rankedBin(counts, half - 1) + rankedBin(counts, half)) / 2;
+	}
+
+	/**
+	 * Returns the {@code k} greatest elements of a char-array in descending order, counting the values.
+	 * @param array the char-array
+	 * @param k the number of elements; non-negative (clamped to the length of the array)
+	 * @return the greatest elements, or {@code null} if the array is {@code null}
+	 * @throws IllegalArgumentException if {@code k} is negative
+	 * @since 1.10.0
+	 */
+	public static char[] topK(char[] array, int k) {
+		if (isNull(array)) return null;
+		int[] bins = rankedBins(countBins(array.length, 65536, i -> array[i]), checkK(k, array.length), true);
+		char[] result = new char[bins.length];
+		for (int i = 0; i < bins.length; i++) result[i] = (char) (bins[i]);
+		return result;
+	}
+
+	/**
+	 * Returns the {@code k} smallest elements of a char-array in ascending order, counting the values.
+	 * @param array the char-array
+	 * @param k the number of elements; non-negative (clamped to the length of the array)
+	 * @return the smallest elements, or {@code null} if the array is {@code null}
+	 * @throws IllegalArgumentException if {@code k} is negative
+	 * @since 1.10.0
+	 */
+	public static char[] bottomK(char[] array, int k) {
+		if (isNull(array)) return null;
+		int[] bins = rankedBins(countBins(array.length, 65536, i -> array[i]), checkK(k, array.length), false);
+		char[] result = new char[bins.length];
+		for (int i = 0; i < bins.length; i++) result[i] = (char) (bins[i]);
+		return result;
+	}
+
+	/**
+	 * Returns the {@code k} greatest elements of an iterator in descending order, keeping only {@code k} elements in a heap.
+	 * @param iterator the iterator; not null
+	 * @param k the number of elements; non-negative
+	 * @param comparator the comparator of the elements; not null
+	 * @param <E> the type of the elements
+	 * @return the greatest elements (fewer than {@code k} if the iterator has fewer elements)
+	 * @throws IllegalArgumentException if {@code k} is negative
+	 * @since 1.10.0
+	 */
+	public static <E> List<E> topK(Iterator<? extends E> iterator, int k, Comparator<? super E> comparator) {
+		return heapSelect(iterator, checkK(k, Integer.MAX_VALUE), comparator);
+	}
+
+	/**
+	 * Returns the {@code k} smallest elements of an iterator in ascending order, keeping only {@code k} elements in a heap.
+	 * @param iterator the iterator; not null
+	 * @param k the number of elements; non-negative
+	 * @param comparator the comparator of the elements; not null
+	 * @param <E> the type of the elements
+	 * @return the smallest elements (fewer than {@code k} if the iterator has fewer elements)
+	 * @throws IllegalArgumentException if {@code k} is negative
+	 * @since 1.10.0
+	 */
+	public static <E> List<E> bottomK(Iterator<? extends E> iterator, int k, Comparator<? super E> comparator) {
+		return heapSelect(iterator, checkK(k, Integer.MAX_VALUE), requireNonNull(comparator).reversed());
+	}
+
+	/**
+	 * Returns the {@code k} greatest elements of an iterator in descending order.
+	 */
+	private static <E> List<E> heapSelect(Iterator<? extends E> iterator, int k, Comparator<? super E> comparator) {
+		requireNonNull(iterator);
+		requireNonNull(comparator);
+		PriorityQueue<E> heap = new PriorityQueue<>(Math.max(1, Math.min(k, 1 << 16)), comparator);
+		while (k > 0 && iterator.hasNext()) {
+			E element = iterator.next();
+			if (heap.size() < k) heap.add(element);
+			else if (comparator.compare(element, heap.peek()) > 0) {
+				heap.poll();
+				heap.add(element);
+			}
+		}
+		List<E> result = new ArrayList<>(heap);
+		result.sort(comparator.reversed());
+		return result;
+	}
+
+	/**
+	 * Checks the index of a selection.
+	 * @param length the length of the array
+	 * @param n the index to select
+	 * @throws IndexOutOfBoundsException if the index is out of the array
+	 */
+	private static void checkSelectIndex(int length, int n) {
+		if (n < 0 || n >= length) throw new IndexOutOfBoundsException("Index: " + n + ", Length: " + length);
+	}
+
+	/**
+	 * Checks the number of elements of a top-k selection.
+	 * @param k the number of elements
+	 * @param length the length of the array
+	 * @return {@code k} clamped to the length of the array
+	 * @throws IllegalArgumentException if {@code k} is negative
+	 */
+	private static int checkK(int k, int length) {
+		if (k < 0) throw new IllegalArgumentException("Number must be non-negative.");
+		return Math.min(k, length);
+	}
+
+	/**
+	 * Returns the number of elements of the chunks selected in parallel.
+	 * @param length the length of the array
+	 * @return the chunk size
+	 */
+	private static int selectionChunk(int length) {
+		return Math.max(1 << 16, length / (Runtime.getRuntime().availableProcessors() * 4) + 1);
+	}
+
+	/**
+	 * Returns the bin holding the {@code n}-th smallest counted element.
+	 * @param counts the count of each bin
+	 * @param n the index of the element in sorted order
+	 * @return the bin
+	 */
+	private static int rankedBin(int[] counts, int n) {
+		int bin = 0;
+		long seen = counts[0];
+		while (seen <= n) seen += counts[++bin];
+		return bin;
+	}
+
+	/**
+	 * Returns the bins of the {@code k} greatest or smallest counted elements, in order.
+	 * @param counts the count of each bin
+	 * @param k the number of elements
+	 * @param top {@code true} for the greatest elements in descending order, {@code false} for the smallest in ascending order
+	 * @return the bins
+	 */
+	private static int[] rankedBins(int[] counts, int k, boolean top) {
+		int[] bins = new int[k];
+		for (int i = 0, step = 0; i < k; step++) {
+			int bin = top ? counts.length - 1 - step : step;
+			for (int c = Math.min(counts[bin], k - i); c > 0; c--) bins[i++] = bin;
+		}
+		return bins;
+	}
+
+	/**
+	 * Dictionary-encodes an array: each distinct element is stored once and the elements become byte, short or int codes,
+	 * depending on the number of distinct elements.
+	 * Searching, counting and duplicate detection on the result compare codes instead of calling {@link Object#equals(Object)},
+	 * unlike {@link #indexOf(Object[], Object)} and {@link #containsDuplicates(Object[])}.
+	 * @param array the array to encode
+	 * @param <E> the type of the elements
+	 * @return the encoded array, or {@code null} if the array is {@code null}
+	 * @since 1.10.0
+	 */
+	public static <E> DictionaryEncodedArray<E> dictionaryEncode(E[] array) {
+		if (isNull(array)) return null;
+		return DictionaryEncodedArray.of(array);
+	}
+
+	/**
+	 * Writes the elements of a byte-array to a channel, in bulk through a reused direct buffer.
+	 * @param channel the channel to write to; not null
+	 * @param array the byte-array to write ({@code null} writes nothing)
+	 * @param order the byte order; not null
+	 * @throws IOException if the channel fails
+	 * @see ArrayChannels#write(WritableByteChannel, ByteOrder, Object...)
+	 * @since 1.10.0
+	 */
+	public static void write(WritableByteChannel channel, byte[] array, ByteOrder order) throws IOException {
+		ArrayChannels.write(channel, order, isNull(array) ? new Object[0] : new Object[]{array});
+	}
+
+	/**
+	 * Fills a byte-array with elements read from a channel.
+	 * @param channel the channel to read from; not null
+	 * @param array the byte-array to fill
+	 * @param order the byte order; not null
+	 * @return the byte-array, or {@code null} if the array is {@code null}
+	 * @throws java.io.EOFException if the channel ends before the array is filled
+	 * @throws IOException if the channel fails
+	 * @see ArrayChannels#read(ReadableByteChannel, ByteOrder, Object...)
+	 * @since 1.10.0
+	 */
+	public static byte[] read(ReadableByteChannel channel, byte[] array, ByteOrder order) throws IOException {
+		if (isNull(array)) return null;
+		ArrayChannels.read(channel, order, (Object) array);
+		return array;
+	}
+
+	/**
+	 * Writes the elements of a short-array to a channel, in bulk through a reused direct buffer.
+	 * @param channel the channel to write to; not null
+	 * @param array the short-array to write ({@code null} writes nothing)
+	 * @param order the byte order; not null
+	 * @throws IOException if the channel fails
+	 * @see ArrayChannels#write(WritableByteChannel, ByteOrder, Object...)
+	 * @since 1.10.0
+	 */
+	public static void write(WritableByteChannel channel, short[] array, ByteOrder order) throws IOException {
+		ArrayChannels.write(channel, order, isNull(array) ? new Object[0] : new Object[]{array});
+	}
+
+	/**
+	 * Fills a short-array with elements read from a channel.
+	 * @param channel the channel to read from; not null
+	 * @param array the short-array to fill
+	 * @param order the byte order; not null
+	 * @return the short-array, or {@code null} if the array is {@code null}
+	 * @throws java.io.EOFException if the channel ends before the array is filled
+	 * @throws IOException if the channel fails
+	 * @see ArrayChannels#read(ReadableByteChannel, ByteOrder, Object...)
+	 * @since 1.10.0
+	 */
+	public static short[] read(ReadableByteChannel channel, short[] array, ByteOrder order) throws IOException {
+		if (isNull(array)) return null;
+		ArrayChannels.read(channel, order, (Object) array);
+		return array;
+	}
+
+	/**
+	 * Writes the elements of an int-array to a channel, in bulk through a reused direct buffer.
+	 * @param channel the channel to write to; not null
+	 * @param array the int-array to write ({@code null} writes nothing)
+	 * @param order the byte order; not null
+	 * @throws IOException if the channel fails
+	 * @see ArrayChannels#write(WritableByteChannel, ByteOrder, Object...)
+	 * @since 1.10.0
+	 */
+	public static void write(WritableByteChannel channel, int[] array, ByteOrder order) throws IOException {
+		ArrayChannels.write(channel, order, isNull(array) ? new Object[0] : new Object[]{array});
+	}
+
+	/**
+	 * Fills an int-array with elements read from a channel.
+	 * @param channel the channel to read from; not null
+	 * @param array the int-array to fill
+	 * @param order the byte order; not null
+	 * @return the int-array, or {@code null} if the array is {@code null}
+	 * @throws java.io.EOFException if the channel ends before the array is filled
+	 * @throws IOException if the channel fails
+	 * @see ArrayChannels#read(ReadableByteChannel, ByteOrder, Object...)
+	 * @since 1.10.0
+	 */
+	public static int[] read(ReadableByteChannel channel, int[] array, ByteOrder order) throws IOException {
+		if (isNull(array)) return null;
+		ArrayChannels.read(channel, order, (Object) array);
+		return array;
+	}
+
+	/**
+	 * Writes the elements of a long-array to a channel, in bulk through a reused direct buffer.
+	 * @param channel the channel to write to; not null
+	 * @param array the long-array to write ({@code null} writes nothing)
+	 * @param order the byte order; not null
+	 * @throws IOException if the channel fails
+	 * @see ArrayChannels#write(WritableByteChannel, ByteOrder, Object...)
+	 * @since 1.10.0
+	 */
+	public static void write(WritableByteChannel channel, long[] array, ByteOrder order) throws IOException {
+		ArrayChannels.write(channel, order, isNull(array) ? new Object[0] : new Object[]{array});
+	}
+
+	/**
+	 * Fills a long-array with elements read from a channel.
+	 * @param channel the channel to read from; not null
+	 * @param array the long-array to fill
+	 * @param order the byte order; not null
+	 * @return the long-array, or {@code null} if the array is {@code null}
+	 * @throws java.io.EOFException if the channel ends before the array is filled
+	 * @throws IOException if the channel fails
+	 * @see ArrayChannels#read(ReadableByteChannel, ByteOrder, Object...)
+	 * @since 1.10.0
+	 */
+	public static long[] read(ReadableByteChannel channel, long[] array, ByteOrder order) throws IOException {
+		if (isNull(array)) return null;
+		ArrayChannels.read(channel, order, (Object) array);
+		return array;
+	}
+
+	/**
+	 * Writes the elements of a float-array to a channel, in bulk through a reused direct buffer.
+	 * @param channel the channel to write to; not null
+	 * @param array the float-array to write ({@code null} writes nothing)
+	 * @param order the byte order; not null
+	 * @throws IOException if the channel fails
+	 * @see ArrayChannels#write(WritableByteChannel, ByteOrder, Object...)
+	 * @since 1.10.0
+	 */
+	public static void write(WritableByteChannel channel, float[] array, ByteOrder order) throws IOException {
+		ArrayChannels.write(channel, order, isNull(array) ? new Object[0] : new Object[]{array});
+	}
+
+	/**
+	 * Fills a float-array with elements read from a channel.
+	 * @param channel the channel to read from; not null
+	 * @param array the float-array to fill
+	 * @param order the byte order; not null
+	 * @return the float-array, or {@code null} if the array is {@code null}
+	 * @throws java.io.EOFException if the channel ends before the array is filled
+	 * @throws IOException if the channel fails
+	 * @see ArrayChannels#read(ReadableByteChannel, ByteOrder, Object...)
+	 * @since 1.10.0
+	 */
+	public static float[] read(ReadableByteChannel channel, float[] array, ByteOrder order) throws IOException {
+		if (isNull(array)) return null;
+		ArrayChannels.read(channel, order, (Object) array);
+		return array;
+	}
+
+	/**
+	 * Writes the elements of a double-array to a channel, in bulk through a reused direct buffer.
+	 * @param channel the channel to write to; not null
+	 * @param array the double-array to write ({@code null} writes nothing)
+	 * @param order the byte order; not null
+	 * @throws IOException if the channel fails
+	 * @see ArrayChannels#write(WritableByteChannel, ByteOrder, Object...)
+	 * @since 1.10.0
+	 */
+	public static void write(WritableByteChannel channel, double[] array, ByteOrder order) throws IOException {
+		ArrayChannels.write(channel, order, isNull(array) ? new Object[0] : new Object[]{array});
+	}
+
+	/**
+	 * Fills a double-array with elements read from a channel.
+	 * @param channel the channel to read from; not null
+	 * @param array the double-array to fill
+	 * @param order the byte order; not null
+	 * @return the double-array, or {@code null} if the array is {@code null}
+	 * @throws java.io.EOFException if the channel ends before the array is filled
+	 * @throws IOException if the channel fails
+	 * @see ArrayChannels#read(ReadableByteChannel, ByteOrder, Object...)
+	 * @since 1.10.0
+	 */
+	public static double[] read(ReadableByteChannel channel, double[] array, ByteOrder order) throws IOException {
+		if (isNull(array)) return null;
+		ArrayChannels.read(channel, order, (Object) array);
+		return array;
+	}
+
+	/**
+	 * Writes the elements of a char-array to a channel, in bulk through a reused direct buffer.
+	 * @param channel the channel to write to; not null
+	 * @param array the char-array to write ({@code null} writes nothing)
+	 * @param order the byte order; not null
+	 * @throws IOException if the channel fails
+	 * @see ArrayChannels#write(WritableByteChannel, ByteOrder, Object...)
+	 * @since 1.10.0
+	 */
+	public static void write(WritableByteChannel channel, char[] array, ByteOrder order) throws IOException {
+		ArrayChannels.write(channel, order, isNull(array) ? new Object[0] : new Object[]{array});
+	}
+
+	/**
+	 * Fills a char-array with elements read from a channel.
+	 * @param channel the channel to read from; not null
+	 * @param array the char-array to fill
+	 * @param order the byte order; not null
+	 * @return the char-array, or {@code null} if the array is {@code null}
+	 * @throws java.io.EOFException if the channel ends before the array is filled
+	 * @throws IOException if the channel fails
+	 * @see ArrayChannels#read(ReadableByteChannel, ByteOrder, Object...)
+	 * @since 1.10.0
+	 */
+	public static char[] read(ReadableByteChannel channel, char[] array, ByteOrder order) throws IOException {
+		if (isNull(array)) return null;
+		ArrayChannels.read(channel, order, (Object) array);
+		return array;
+	}
+
+	/**
+	 * Writes the elements of a boolean-array to a channel, one byte per element ({@code 0} or {@code 1}), in bulk through a reused direct buffer.
+	 * @param channel the channel to write to; not null
+	 * @param array the boolean-array to write ({@code null} writes nothing)
+	 * @param order the byte order; not null
+	 * @throws IOException if the channel fails
+	 * @see ArrayChannels#write(WritableByteChannel, ByteOrder, Object...)
+	 * @since 1.10.0
+	 */
+	public static void write(WritableByteChannel channel, boolean[] array, ByteOrder order) throws IOException {
+		ArrayChannels.write(channel, order, isNull(array) ? new Object[0] : new Object[]{array});
+	}
+
+	/**
+	 * Fills a boolean-array with elements read from a channel.
+	 * @param channel the channel to read from; not null
+	 * @param array the boolean-array to fill
+	 * @param order the byte order; not null
+	 * @return the boolean-array, or {@code null} if the array is {@code null}
+	 * @throws java.io.EOFException if the channel ends before the array is filled
+	 * @throws IOException if the channel fails
+	 * @see ArrayChannels#read(ReadableByteChannel, ByteOrder, Object...)
+	 * @since 1.10.0
+	 */
+	public static boolean[] read(ReadableByteChannel channel, boolean[] array, ByteOrder order) throws IOException {
+		if (isNull(array)) return null;
+		ArrayChannels.read(channel, order, (Object) array);
+		return array;
+	}
+
+	/**
+	 * Writes the elements of several primitive arrays to a channel, one array after the other,
+	 * with a gathering write per chunk if the channel is a {@link java.nio.channels.GatheringByteChannel}.
+	 * @param channel the channel to write to; not null
+	 * @param order the byte order; not null
+	 * @param arrays the primitive arrays to write; not null
+	 * @throws IOException if the channel fails
+	 * @throws IllegalArgumentException if an object is not a primitive array
+	 * @since 1.10.0
+	 */
+	public static void write(WritableByteChannel channel, ByteOrder order, Object... arrays) throws IOException {
+		ArrayChannels.write(channel, order, arrays);
+	}
+
+	/**
+	 * Fills several primitive arrays, one after the other, with elements read from a channel,
+	 * with a scattering read per chunk if the channel is a {@link java.nio.channels.ScatteringByteChannel}.
+	 * @param channel the channel to read from; not null
+	 * @param order the byte order; not null
+	 * @param arrays the primitive arrays to fill; not null
+	 * @throws java.io.EOFException if the channel ends before the arrays are filled
+	 * @throws IOException if the channel fails
+	 * @throws IllegalArgumentException if an object is not a primitive array
+	 * @since 1.10.0
+	 */
+	public static void read(ReadableByteChannel channel, ByteOrder order, Object... arrays) throws IOException {
+		ArrayChannels.read(channel, order, arrays);
+	}
+
+	/**
+	 * Writes primitive arrays to a channel, each one preceded by a header with its element type and length,
+	 * so that they can be read back with {@link #readFramed(ReadableByteChannel, ByteOrder)}.
+	 * @param channel the channel to write to; not null
+	 * @param order the byte order; not null
+	 * @param arrays the primitive arrays to write; not null
+	 * @throws IOException if the channel fails
+	 * @throws IllegalArgumentException if an object is not a primitive array
+	 * @since 1.10.0
+	 */
+	public static void writeFramed(WritableByteChannel channel, ByteOrder order, Object... arrays) throws IOException {
+		ArrayChannels.writeFramed(channel, order, arrays);
+	}
+
+	/**
+	 * Reads the next primitive array written by {@link #writeFramed(WritableByteChannel, ByteOrder, Object...)}.
+	 * @param channel the channel to read from; not null
+	 * @param order the byte order; not null
+	 * @return the primitive array, or {@code null} if the channel is at its end
+	 * @throws java.io.EOFException if the channel ends inside a frame
+	 * @throws IOException if the channel fails or the frame is invalid
+	 * @since 1.10.0
+	 */
+	public static Object readFramed(ReadableByteChannel channel, ByteOrder order) throws IOException {
+		return ArrayChannels.readFramed(channel, order);
+	}
+
+	/**
+	 * Creates a lazy pipeline over an int-array, whose filters, maps, slices and reversals run in a single pass
+	 * when the result is requested, instead of allocating an array per step as chained calls of this class do.
+	 * @param array the int-array
+	 * @return the pipeline, or {@code null} if the array is {@code null}
+	 * @since 1.10.0
+	 */
+	public static IntSeq seq(int[] array) {
+		if (isNull(array)) return null;
+		return IntSeq.of(array);
+	}
+
+	/**
+	 * Creates a lazy pipeline over a long-array, whose filters, maps, slices and reversals run in a single pass
+	 * when the result is requested, instead of allocating an array per step as chained calls of this class do.
+	 * @param array the long-array
+	 * @return the pipeline, or {@code null} if the array is {@code null}
+	 * @since 1.10.0
+	 */
+	public static LongSeq seq(long[] array) {
+		if (isNull(array)) return null;
+		return LongSeq.of(array);
+	}
+
+	/**
+	 * Creates a lazy pipeline over a double-array, whose filters, maps, slices and reversals run in a single pass
+	 * when the result is requested, instead of allocating an array per step as chained calls of this class do.
+	 * @param array the double-array
+	 * @return the pipeline, or {@code null} if the array is {@code null}
+	 * @since 1.10.0
+	 */
+	public static DoubleSeq seq(double[] array) {
+		if (isNull(array)) return null;
+		return DoubleSeq.of(array);
+	}
+
+	/**
+	 * Sorts an array of strings in ascending lexicographic order of their chars, as {@link CharSequence#compare(CharSequence, CharSequence)},
+	 * with a three-way radix quicksort: the strings are partitioned on one char at a time,
+	 * so a prefix common to many strings is read once per partition instead of once per comparison.
+	 * The sort is not stable.
+	 * @param array the array to sort, with no {@code null} elements
+	 * @param <S> the type of the strings
+	 * @throws NullPointerException if an element is {@code null}
+	 * @see #stableSortStrings(CharSequence[])
+	 * @since 1.10.0
+	 */
+	public static <S extends CharSequence> void sortStrings(S[] array) {
+		sortStrings(array, false);
+	}
+
+	/**
+	 * Sorts an array of strings in ascending lexicographic order of their chars with a three-way radix quicksort,
+	 * optionally ignoring the case of ASCII letters (the order of {@link String#CASE_INSENSITIVE_ORDER} on ASCII strings).
+	 * The sort is not stable.
+	 * @param array the array to sort, with no {@code null} elements
+	 * @param ignoreAsciiCase whether {@code 'A'} to {@code 'Z'} are ordered as {@code 'a'} to {@code 'z'}
+	 * @param <S> the type of the strings
+	 * @throws NullPointerException if an element is {@code null}
+	 * @see #sortStrings(CharSequence[])
+	 * @since 1.10.0
+	 */
+	public static <S extends CharSequence> void sortStrings(S[] array, boolean ignoreAsciiCase) {
+		if (isNull(array)) return;
+		for (S string : array) requireNonNull(string);
+		radixQuicksort(array, 0, array.length, 0, ignoreAsciiCase);
+	}
+
+	/**
+	 * Sorts an array of strings in ascending lexicographic order of their chars, as {@link CharSequence#compare(CharSequence, CharSequence)},
+	 * with a stable MSD radix sort: the strings are distributed on one byte of a char at a time
+	 * and runs of bytes shared by a whole bucket are skipped without distributing.
+	 * Equal strings keep their relative order.
+	 * @param array the array to sort, with no {@code null} elements
+	 * @param <S> the type of the strings
+	 * @throws NullPointerException if an element is {@code null}
+	 * @since 1.10.0
+	 */
+	public static <S extends CharSequence> void stableSortStrings(S[] array) {
+		stableSortStrings(array, false);
+	}
+
+	/**
+	 * Sorts an array of strings in ascending lexicographic order of their chars with a stable MSD radix sort,
+	 * optionally ignoring the case of ASCII letters (the order of {@link String#CASE_INSENSITIVE_ORDER} on ASCII strings).
+	 * Equal strings keep their relative order.
+	 * @param array the array to sort, with no {@code null} elements
+	 * @param ignoreAsciiCase whether {@code 'A'} to {@code 'Z'} are ordered as {@code 'a'} to {@code 'z'}
+	 * @param <S> the type of the strings
+	 * @throws NullPointerException if an element is {@code null}
+	 * @see #stableSortStrings(CharSequence[])
+	 * @since 1.10.0
+	 */
+	public static <S extends CharSequence> void stableSortStrings(S[] array, boolean ignoreAsciiCase) {
+		if (isNull(array)) return;
+		for (S string : array) requireNonNull(string);
+		msdSort(array, new CharSequence[array.length], 0, array.length, 0, ignoreAsciiCase, false);
+	}
+
+	/**
+	 * Sorts an array of strings in ascending lexicographic order of their chars with a stable MSD radix sort
+	 * whose large buckets are sorted concurrently in the common {@link ForkJoinPool}.
+	 * Equal strings keep their relative order.
+	 * @param array the array to sort, with no {@code null} elements
+	 * @param <S> the type of the strings
+	 * @throws NullPointerException if an element is {@code null}
+	 * @see #stableSortStrings(CharSequence[])
+	 * @since 1.10.0
+	 */
+	public static <S extends CharSequence> void parallelSortStrings(S[] array) {
+		parallelSortStrings(array, false);
+	}
+
+	/**
+	 * Sorts an array of strings in ascending lexicographic order of their chars with a stable MSD radix sort
+	 * whose large buckets are sorted concurrently, optionally ignoring the case of ASCII letters.
+	 * Equal strings keep their relative order.
+	 * @param array the array to sort, with no {@code null} elements
+	 * @param ignoreAsciiCase whether {@code 'A'} to {@code 'Z'} are ordered as {@code 'a'} to {@code 'z'}
+	 * @param <S> the type of the strings
+	 * @throws NullPointerException if an element is {@code null}
+	 * @see #parallelSortStrings(CharSequence[])
+	 * @since 1.10.0
+	 */
+	public static <S extends CharSequence> void parallelSortStrings(S[] array, boolean ignoreAsciiCase) {
+		if (isNull(array)) return;
+		for (S string : array) requireNonNull(string);
+		CharSequence[] aux = new CharSequence[array.length];
+		if (array.length < PARALLEL_SORT_THRESHOLD) msdSort(array, aux, 0, array.length, 0, ignoreAsciiCase, false);
+		else ForkJoinPool.commonPool().invoke(ForkJoinTask.adapt(() -> msdSort(array, aux, 0, array.length, 0, ignoreAsciiCase, true)));
+	}
+
+	private static char foldAscii(char c, boolean fold) {
+		return fold && c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+	}
+
+	/**
+	 * @return the char of a string at an index, or {@code -1} past its end
+	 */
+	private static int charKey(CharSequence string, int index, boolean fold) {
+		return index < string.length() ? foldAscii(string.charAt(index), fold) : -1;
+	}
+
+	/**
+	 * Compares two strings sharing their first chars.
+	 * @param index the index of the first char that may differ
+	 */
+	private static int compareStrings(CharSequence x, CharSequence y, int index, boolean fold) {
+		int length = Math.min(x.length(), y.length());
+		for (int i = index; i < length; i++) {
+			int difference = foldAscii(x.charAt(i), fold) - foldAscii(y.charAt(i), fold);
+			if (difference != 0) return difference;
+		}
+		return x.length() - y.length();
+	}
+
+	/**
+	 * Stably sorts a range of strings sharing their first chars.
+	 */
+	private static <S extends CharSequence> void insertionSortStrings(S[] array, int from, int to, int index, boolean fold) {
+		for (int i = from + 1; i < to; i++) {
+			S string = array[i];
+			int j = i - 1;
+			for (; j >= from && compareStrings(array[j], string, index, fold) > 0; j--) array[j + 1] = array[j];
+			array[j + 1] = string;
+		}
+	}
+
+	/**
+	 * Sorts a range of strings sharing their first {@code index} chars with a three-way radix quicksort,
+	 * looping on the partition of equal chars.
+	 */
+	private static <S extends CharSequence> void radixQuicksort(S[] array, int from, int to, int index, boolean fold) {
+		while (to - from > STRING_INSERTION_THRESHOLD) {
+			int a = charKey(array[from], index, fold), b = charKey(array[(from + to) >>> 1], index, fold), c = charKey(array[to - 1], index, fold);
+			int pivot = Math.max(Math.min(a, b), Math.min(Math.max(a, b), c));
+			int less = from, greater = to - 1, i = from;
+			while (i <= greater) {
+				int key = charKey(array[i], index, fold);
+				if (key < pivot) swap(array, less++, i++);
+				else if (key > pivot) swap(array, i, greater--);
+				else i++;
+			}
+			radixQuicksort(array, from, less, index, fold);
+			radixQuicksort(array, greater + 1, to, index, fold);
+			if (pivot < 0) return;
+			from = less;
+			to = greater + 1;
+			index++;
+		}
+		insertionSortStrings(array, from, to, index, fold);
+	}
+
+	/**
+	 * @return the byte {@code digit} of a string (the high and then the low byte of each char), or {@code -1} past its end
+	 */
+	private static int byteKey(CharSequence string, int digit, boolean fold) {
+		int index = digit >>> 1;
+		if (index >= string.length()) return -1;
+		char c = foldAscii(string.charAt(index), fold);
+		return (digit & 1) == 0 ? c >>> 8 : c & 0xFF;
+	}
+
+	/**
+	 * Stably sorts a range of strings sharing their first {@code digit} bytes with an MSD radix sort.
+	 * @param aux the buffer of the distribution, as long as the array
+	 * @param parallel whether large buckets are sorted concurrently, in a {@link ForkJoinPool}
+	 */
+	@SuppressWarnings("unchecked")
+	private static <S extends CharSequence> void msdSort(S[] array, CharSequence[] aux, int from, int to, int digit, boolean fold, boolean parallel) {
+		int[] count = new int[258];
+		while (true) {
+			if (to - from <= STRING_INSERTION_THRESHOLD) {
+				insertionSortStrings(array, from, to, digit >>> 1, fold);
+				return;
+			}
+			Arrays.fill(count, 0);
+			for (int i = from; i < to; i++) count[byteKey(array[i], digit, fold) + 2]++;
+			if (count[1] == to - from) return;
+			boolean shared = false;
+			for (int bucket = 2; bucket < count.length && !shared; bucket++) shared = count[bucket] == to - from;
+			if (shared) {
+				digit++;
+				continue;
+			}
+			for (int bucket = 0; bucket < count.length - 1; bucket++) count[bucket + 1] += count[bucket];
+			for (int i = from; i < to; i++) aux[from + count[byteKey(array[i], digit, fold) + 1]++] = array[i];
+			for (int i = from; i < to; i++) array[i] = (S) aux[i];
+			List<ForkJoinTask<?>> tasks = parallel ? new ArrayList<>() : null;
+			for (int bucket = 1; bucket < count.length - 1; bucket++) {
+				int start = from + count[bucket - 1], end = from + count[bucket], next = digit + 1;
+				if (end - start <= 1) continue;
+				if (parallel && end - start >= PARALLEL_SORT_THRESHOLD) tasks.add(ForkJoinTask.adapt(() -> msdSort(array, aux, start, end, next, fold, true)).fork());
+				else msdSort(array, aux, start, end, next, fold, false);
+			}
+			if (parallel) for (ForkJoinTask<?> task : tasks) task.join();
+			return;
+		}
+	}
+
+	/**
+	 * Creates a spliterator over a byte-array, widening the elements to {@code int}.
+	 * @param array the byte-array
+	 * @return the spliterator; empty if the array is {@code null}
+	 * @see ArraySpliterator
+	 * @since 1.10.0
+	 */
+	public static Spliterator.OfInt spliterator(byte[] array) {
+		return spliterator(array, 0, isNull(array) ? 0 : array.length, 1);
+	}
+
+	/**
+	 * Creates a spliterator over a range of a byte-array, widening the elements to {@code int}.
+	 * @param array the byte-array
+	 * @param startIndex the index of the first element, inclusive (clamped to the array)
+	 * @param endIndex the end of the range, exclusive (clamped to the array)
+	 * @return the spliterator; empty if the array is {@code null}
+	 * @see ArraySpliterator
+	 * @since 1.10.0
+	 */
+	public static Spliterator.OfInt spliterator(byte[] array, int startIndex, int endIndex) {
+		return spliterator(array, startIndex, endIndex, 1);
+	}
+
+	/**
+	 * Creates a spliterator over a range of a byte-array taking one element every {@code step}, widening the elements to {@code int}.
+	 * @param array the byte-array
+	 * @param startIndex the index of the first element, inclusive (clamped to the array)
+	 * @param endIndex the end of the range, exclusive (clamped to the array)
+	 * @param step the distance between two consecutive elements; positive
+	 * @return the spliterator; empty if the array is {@code null}
+	 * @throws IllegalArgumentException if {@code step} is not positive
+	 * @see ArraySpliterator
+	 * @since 1.10.0
+	 */
+	public static Spliterator.OfInt spliterator(byte[] array, int startIndex, int endIndex, int step) {
+		if (isNull(array)) array = EMPTY_BYTE_ARRAY;
+		if (endIndex > array.length) endIndex = array.length;
+		if (startIndex < 0) startIndex = 0;
+		if (startIndex > endIndex) startIndex = endIndex;
+		return ArraySpliterator.of(array, startIndex, endIndex, step);
+	}
+
+	/**
+	 * Creates a sequential stream over a byte-array, widening the elements to {@code int}.
+	 * The stream can be made parallel without copying the array.
+	 * @param array the byte-array
+	 * @return the stream; empty if the array is {@code null}
+	 * @since 1.10.0
+	 */
+	public static IntStream stream(byte[] array) {
+		return StreamSupport.intStream(spliterator(array), false);
+	}
+
+	/**
+	 * Creates a sequential stream over a range of a byte-array, widening the elements to {@code int}.
+	 * The stream can be made parallel without copying the array.
+	 * @param array the byte-array
+	 * @param startIndex the index of the first element, inclusive (clamped to the array)
+	 * @param endIndex the end of the range, exclusive (clamped to the array)
+	 * @return the stream; empty if the array is {@code null}
+	 * @since 1.10.0
+	 */
+	public static IntStream stream(byte[] array, int startIndex, int endIndex) {
+		return StreamSupport.intStream(spliterator(array, startIndex, endIndex), false);
+	}
+
+	/**
+	 * Creates a sequential stream over a range of a byte-array taking one element every {@code step}, widening the elements to {@code int}.
+	 * The stream can be made parallel without copying the array.
+	 * @param array the byte-array
+	 * @param startIndex the index of the first element, inclusive (clamped to the array)
+	 * @param endIndex the end of the range, exclusive (clamped to the array)
+	 * @param step the distance between two consecutive elements; positive
+	 * @return the stream; empty if the array is {@code null}
+	 * @throws IllegalArgumentException if {@code step} is not positive
+	 * @since 1.10.0
+	 */
+	public static IntStream stream(byte[] array, int startIndex, int endIndex, int step) {
+		return StreamSupport.intStream(spliterator(array, startIndex, endIndex, step), false);
+	}
+
+	/**
+	 * Creates a spliterator over a short-array, widening the elements to {@code int}.
+	 * @param array the short-array
+	 * @return the spliterator; empty if the array is {@code null}
+	 * @see ArraySpliterator
+	 * @since 1.10.0
+	 */
+	public static Spliterator.OfInt spliterator(short[] array) {
+		return spliterator(array, 0, isNull(array) ? 0 : array.length, 1);
+	}
+
+	/**
+	 * Creates a spliterator over a range of a short-array, widening the elements to {@code int}.
+	 * @param array the short-array
+	 * @param startIndex the index of the first element, inclusive (clamped to the array)
+	 * @param endIndex the end of the range, exclusive (clamped to the array)
+	 * @return the spliterator; empty if the array is {@code null}
+	 * @see ArraySpliterator
+	 * @since 1.10.0
+	 */
+	public static Spliterator.OfInt spliterator(short[] array, int startIndex, int endIndex) {
+		return spliterator(array, startIndex, endIndex, 1);
+	}
+
+	/**
+	 * Creates a spliterator over a range of a short-array taking one element every {@code step}, widening the elements to {@code int}.
+	 * @param array the short-array
+	 * @param startIndex the index of the first element, inclusive (clamped to the array)
+	 * @param endIndex the end of the range, exclusive (clamped to the array)
+	 * @param step the distance between two consecutive elements; positive
+	 * @return the spliterator; empty if the array is {@code null}
+	 * @throws IllegalArgumentException if {@code step} is not positive
+	 * @see ArraySpliterator
+	 * @since 1.10.0
+	 */
+	public static Spliterator.OfInt spliterator(short[] array, int startIndex, int endIndex, int step) {
+		if (isNull(array)) array = EMPTY_SHORT_ARRAY;
+		if (endIndex > array.length) endIndex = array.length;
+		if (startIndex < 0) startIndex = 0;
+		if (startIndex > endIndex) startIndex = endIndex;
+		return ArraySpliterator.of(array, startIndex, endIndex, step);
+	}
+
+	/**
+	 * Creates a sequential stream over a short-array, widening the elements to {@code int}.
+	 * The stream can be made parallel without copying the array.
+	 * @param array the short-array
+	 * @return the stream; empty if the array is {@code null}
+	 * @since 1.10.0
+	 */
+	public static IntStream stream(short[] array) {
+		return StreamSupport.intStream(spliterator(array), false);
+	}
+
+	/**
+	 * Creates a sequential stream over a range of a short-array, widening the elements to {@code int}.
+	 * The stream can be made parallel without copying the array.
+	 * @param array the short-array
+	 * @param startIndex the index of the first element, inclusive (clamped to the array)
+	 * @param endIndex the end of the range, exclusive (clamped to the array)
+	 * @return the stream; empty if the array is {@code null}
+	 * @since 1.10.0
+	 */
+	public static IntStream stream(short[] array, int startIndex, int endIndex) {
+		return StreamSupport.intStream(spliterator(array, startIndex, endIndex), false);
+	}
+
+	/**
+	 * Creates a sequential stream over a range of a short-array taking one element every {@code step}, widening the elements to {@code int}.
+	 * The stream can be made parallel without copying the array.
+	 * @param array the short-array
+	 * @param startIndex the index of the first element, inclusive (clamped to the array)
+	 * @param endIndex the end of the range, exclusive (clamped to the array)
+	 * @param step the distance between two consecutive elements; positive
+	 * @return the stream; empty if the array is {@code null}
+	 * @throws IllegalArgumentException if {@code step} is not positive
+	 * @since 1.10.0
+	 */
+	public static IntStream stream(short[] array, int startIndex, int endIndex, int step) {
+		return StreamSupport.intStream(spliterator(array, startIndex, endIndex, step), false);
+	}
+
+	/**
+	 * Creates a spliterator over an int-array.
+	 * @param array the int-array
+	 * @return the spliterator; empty if the array is {@code null}
+	 * @see ArraySpliterator
+	 * @since 1.10.0
+	 */
+	public static Spliterator.OfInt spliterator(int[] array) {
+		return spliterator(array, 0, isNull(array) ? 0 : array.length, 1);
+	}
+
+	/**
+	 * Creates a spliterator over a range of an int-array.
+	 * @param array the int-array
+	 * @param startIndex the index of the first element, inclusive (clamped to the array)
+	 * @param endIndex the end of the range, exclusive (clamped to the array)
+	 * @return the spliterator; empty if the array is {@code null}
+	 * @see ArraySpliterator
+	 * @since 1.10.0
+	 */
+	public static Spliterator.OfInt spliterator(int[] array, int startIndex, int endIndex) {
+		return spliterator(array, startIndex, endIndex, 1);
+	}
+
+	/**
+	 * Creates a spliterator over a range of an int-array taking one element every {@code step}.
+	 * @param array the int-array
+	 * @param startIndex the index of the first element, inclusive (clamped to the array)
+	 * @param endIndex the end of the range, exclusive (clamped to the array)
+	 * @param step the distance between two consecutive elements; positive
+	 * @return the spliterator; empty if the array is {@code null}
+	 * @throws IllegalArgumentException if {@code step} is not positive
+	 * @see ArraySpliterator
+	 * @since 1.10.0
+	 */
+	public static Spliterator.OfInt spliterator(int[] array, int startIndex, int endIndex, int step) {
+		if (isNull(array)) array = EMPTY_INT_ARRAY;
+		if (endIndex > array.length) endIndex = array.length;
+		if (startIndex < 0) startIndex = 0;
+		if (startIndex > endIndex) startIndex = endIndex;
+		return ArraySpliterator.of(array, startIndex, endIndex, step);
+	}
+
+	/**
+	 * Creates a sequential stream over an int-array.
+	 * The stream can be made parallel without copying the array.
+	 * @param array the int-array
+	 * @return the stream; empty if the array is {@code null}
+	 * @since 1.10.0
+	 */
+	public static IntStream stream(int[] array) {
+		return StreamSupport.intStream(spliterator(array), false);
+	}
+
+	/**
+	 * Creates a sequential stream over a range of an int-array.
+	 * The stream can be made parallel without copying the array.
+	 * @param array the int-array
+	 * @param startIndex the index of the first element, inclusive (clamped to the array)
+	 * @param endIndex the end of the range, exclusive (clamped to the array)
+	 * @return the stream; empty if the array is {@code null}
+	 * @since 1.10.0
+	 */
+	public static IntStream stream(int[] array, int startIndex, int endIndex) {
+		return StreamSupport.intStream(spliterator(array, startIndex, endIndex), false);
+	}
+
+	/**
+	 * Creates a sequential stream over a range of an int-array taking one element every {@code step}.
+	 * The stream can be made parallel without copying the array.
+	 * @param array the int-array
+	 * @param startIndex the index of the first element, inclusive (clamped to the array)
+	 * @param endIndex the end of the range, exclusive (clamped to the array)
+	 * @param step the distance between two consecutive elements; positive
+	 * @return the stream; empty if the array is {@code null}
+	 * @throws IllegalArgumentException if {@code step} is not positive
+	 * @since 1.10.0
+	 */
+	public static IntStream stream(int[] array, int startIndex, int endIndex, int step) {
+		return StreamSupport.intStream(spliterator(array, startIndex, endIndex, step), false);
+	}
+
+	/**
+	 * Creates a spliterator over a long-array.
+	 * @param array the long-array
+	 * @return the spliterator; empty if the array is {@code null}
+	 * @see ArraySpliterator
+	 * @since 1.10.0
+	 */
+	public static Spliterator.OfLong spliterator(long[] array) {
+		return spliterator(array, 0, isNull(array) ? 0 : array.length, 1);
+	}
+
+	/**
+	 * Creates a spliterator over a range of a long-array.
+	 * @param array the long-array
+	 * @param startIndex the index of the first element, inclusive (clamped to the array)
+	 * @param endIndex the end of the range, exclusive (clamped to the array)
+	 * @return the spliterator; empty if the array is {@code null}
+	 * @see ArraySpliterator
+	 * @since 1.10.0
+	 */
+	public static Spliterator.OfLong spliterator(long[] array, int startIndex, int endIndex) {
+		return spliterator(array, startIndex, endIndex, 1);
+	}
+
+	/**
+	 * Creates a spliterator over a range of a long-array taking one element every {@code step}.
+	 * @param array the long-array
+	 * @param startIndex the index of the first element, inclusive (clamped to the array)
+	 * @param endIndex the end of the range, exclusive (clamped to the array)
+	 * @param step the distance between two consecutive elements; positive
+	 * @return the spliterator; empty if the array is {@code null}
+	 * @throws IllegalArgumentException if {@code step} is not positive
+	 * @see ArraySpliterator
+	 * @since 1.10.0
+	 */
+	public static Spliterator.OfLong spliterator(long[] array, int startIndex, int endIndex, int step) {
+		if (isNull(array)) array = EMPTY_LONG_ARRAY;
+		if (endIndex > array.length) endIndex = array.length;
+		if (startIndex < 0) startIndex = 0;
+		if (startIndex > endIndex) startIndex = endIndex;
+		return ArraySpliterator.of(array, startIndex, endIndex, step);
+	}
+
+	/**
+	 * Creates a sequential stream over a long-array.
+	 * The stream can be made parallel without copying the array.
+	 * @param array the long-array
+	 * @return the stream; empty if the array is {@code null}
+	 * @since 1.10.0
+	 */
+	public static LongStream stream(long[] array) {
+		return StreamSupport.longStream(spliterator(array), false);
+	}
+
+	/**
+	 * Creates a sequential stream over a range of a long-array.
+	 * The stream can be made parallel without copying the array.
+	 * @param array the long-array
+	 * @param startIndex the index of the first element, inclusive (clamped to the array)
+	 * @param endIndex the end of the range, exclusive (clamped to the array)
+	 * @return the stream; empty if the array is {@code null}
+	 * @since 1.10.0
+	 */
+	public static LongStream stream(long[] array, int startIndex, int endIndex) {
+		return StreamSupport.longStream(spliterator(array, startIndex, endIndex), false);
+	}
+
+	/**
+	 * Creates a sequential stream over a range of a long-array taking one element every {@code step}.
+	 * The stream can be made parallel without copying the array.
+	 * @param array the long-array
+	 * @param startIndex the index of the first element, inclusive (clamped to the array)
+	 * @param endIndex the end of the range, exclusive (clamped to the array)
+	 * @param step the distance between two consecutive elements; positive
+	 * @return the stream; empty if the array is {@code null}
+	 * @throws IllegalArgumentException if {@code step} is not positive
+	 * @since 1.10.0
+	 */
+	public static LongStream stream(long[] array, int startIndex, int endIndex, int step) {
+		return StreamSupport.longStream(spliterator(array, startIndex, endIndex, step), false);
+	}
+
+	/**
+	 * Creates a spliterator over a float-array, widening the elements to {@code double}.
+	 * @param array the float-array
+	 * @return the spliterator; empty if the array is {@code null}
+	 * @see ArraySpliterator
+	 * @since 1.10.0
+	 */
+	public static Spliterator.OfDouble spliterator(float[] array) {
+		return spliterator(array, 0, isNull(array) ? 0 : array.length, 1);
+	}
+
+	/**
+	 * Creates a spliterator over a range of a float-array, widening the elements to {@code double}.
+	 * @param array the float-array
+	 * @param startIndex the index of the first element, inclusive (clamped to the array)
+	 * @param endIndex the end of the range, exclusive (clamped to the array)
+	 * @return the spliterator; empty if the array is {@code null}
+	 * @see ArraySpliterator
+	 * @since 1.10.0
+	 */
+	public static Spliterator.OfDouble spliterator(float[] array, int startIndex, int endIndex) {
+		return spliterator(array, startIndex, endIndex, 1);
+	}
+
+	/**
+	 * Creates a spliterator over a range of a float-array taking one element every {@code step}, widening the elements to {@code double}.
+	 * @param array the float-array
+	 * @param startIndex the index of the first element, inclusive (clamped to the array)
+	 * @param endIndex the end of the range, exclusive (clamped to the array)
+	 * @param step the distance between two consecutive elements; positive
+	 * @return the spliterator; empty if the array is {@code null}
+	 * @throws IllegalArgumentException if {@code step} is not positive
+	 * @see ArraySpliterator
+	 * @since 1.10.0
+	 */
+	public static Spliterator.OfDouble spliterator(float[] array, int startIndex, int endIndex, int step) {
+		if (isNull(array)) array = EMPTY_FLOAT_ARRAY;
+		if (endIndex > array.length) endIndex = array.length;
+		if (startIndex < 0) startIndex = 0;
+		if (startIndex > endIndex) startIndex = endIndex;
+		return ArraySpliterator.of(array, startIndex, endIndex, step);
+	}
+
+	/**
+	 * Creates a sequential stream over a float-array, widening the elements to {@code double}.
+	 * The stream can be made parallel without copying the array.
+	 * @param array the float-array
+	 * @return the stream; empty if the array is {@code null}
+	 * @since 1.10.0
+	 */
+	public static DoubleStream stream(float[] array) {
+		return StreamSupport.doubleStream(spliterator(array), false);
+	}
+
+	/**
+	 * Creates a sequential stream over a range of a float-array, widening the elements to {@code double}.
+	 * The stream can be made parallel without copying the array.
+	 * @param array the float-array
+	 * @param startIndex the index of the first element, inclusive (clamped to the array)
+	 * @param endIndex the end of the range, exclusive (clamped to the array)
+	 * @return the stream; empty if the array is {@code null}
+	 * @since 1.10.0
+	 */
+	public static DoubleStream stream(float[] array, int startIndex, int endIndex) {
+		return StreamSupport.doubleStream(spliterator(array, startIndex, endIndex), false);
+	}
+
+	/**
+	 * Creates a sequential stream over a range of a float-array taking one element every {@code step}, widening the elements to {@code double}.
+	 * The stream can be made parallel without copying the array.
+	 * @param array the float-array
+	 * @param startIndex the index of the first element, inclusive (clamped to the array)
+	 * @param endIndex the end of the range, exclusive (clamped to the array)
+	 * @param step the distance between two consecutive elements; positive
+	 * @return the stream; empty if the array is {@code null}
+	 * @throws IllegalArgumentException if {@code step} is not positive
+	 * @since 1.10.0
+	 */
+	public static DoubleStream stream(float[] array, int startIndex, int endIndex, int step) {
+		return StreamSupport.doubleStream(spliterator(array, startIndex, endIndex, step), false);
+	}
+
+	/**
+	 * Creates a spliterator over a double-array.
+	 * @param array the double-array
+	 * @return the spliterator; empty if the array is {@code null}
+	 * @see ArraySpliterator
+	 * @since 1.10.0
+	 */
+	public static Spliterator.OfDouble spliterator(double[] array) {
+		return spliterator(array, 0, isNull(array) ? 0 : array.length, 1);
+	}
+
+	/**
+	 * Creates a spliterator over a range of a double-array.
+	 * @param array the double-array
+	 * @param startIndex the index of the first element, inclusive (clamped to the array)
+	 * @param endIndex the end of the range, exclusive (clamped to the array)
+	 * @return the spliterator; empty if the array is {@code null}
+	 * @see ArraySpliterator
+	 * @since 1.10.0
+	 */
+	public static Spliterator.OfDouble spliterator(double[] array, int startIndex, int endIndex) {
+		return spliterator(array, startIndex, endIndex, 1);
+	}
+
+	/**
+	 * Creates a spliterator over a range of a double-array taking one element every {@code step}.
+	 * @param array the double-array
+	 * @param startIndex the index of the first element, inclusive (clamped to the array)
+	 * @param endIndex the end of the range, exclusive (clamped to the array)
+	 * @param step the distance between two consecutive elements; positive
+	 * @return the spliterator; empty if the array is {@code null}
+	 * @throws IllegalArgumentException if {@code step} is not positive
+	 * @see ArraySpliterator
+	 * @since 1.10.0
+	 */
+	public static Spliterator.OfDouble spliterator(double[] array, int startIndex, int endIndex, int step) {
+		if (isNull(array)) array = EMPTY_DOUBLE_ARRAY;
+		if (endIndex > array.length) endIndex = array.length;
+		if (startIndex < 0) startIndex = 0;
+		if (startIndex > endIndex) startIndex = endIndex;
+		return ArraySpliterator.of(array, startIndex, endIndex, step);
+	}
+
+	/**
+	 * Creates a sequential stream over a double-array.
+	 * The stream can be made parallel without copying the array.
+	 * @param array the double-array
+	 * @return the stream; empty if the array is {@code null}
+	 * @since 1.10.0
+	 */
+	public static DoubleStream stream(double[] array) {
+		return StreamSupport.doubleStream(spliterator(array), false);
+	}
+
+	/**
+	 * Creates a sequential stream over a range of a double-array.
+	 * The stream can be made parallel without copying the array.
+	 * @param array the double-array
+	 * @param startIndex the index of the first element, inclusive (clamped to the array)
+	 * @param endIndex the end of the range, exclusive (clamped to the array)
+	 * @return the stream; empty if the array is {@code null}
+	 * @since 1.10.0
+	 */
+	public static DoubleStream stream(double[] array, int startIndex, int endIndex) {
+		return StreamSupport.doubleStream(spliterator(array, startIndex, endIndex), false);
+	}
+
+	/**
+	 * Creates a sequential stream over a range of a double-array taking one element every {@code step}.
+	 * The stream can be made parallel without copying the array.
+	 * @param array the double-array
+	 * @param startIndex the index of the first element, inclusive (clamped to the array)
+	 * @param endIndex the end of the range, exclusive (clamped to the array)
+	 * @param step the distance between two consecutive elements; positive
+	 * @return the stream; empty if the array is {@code null}
+	 * @throws IllegalArgumentException if {@code step} is not positive
+	 * @since 1.10.0
+	 */
+	public static DoubleStream stream(double[] array, int startIndex, int endIndex, int step) {
+		return StreamSupport.doubleStream(spliterator(array, startIndex, endIndex, step), false);
+	}
+
+	/**
+	 * Creates a spliterator over a char-array, widening the elements to {@code int}.
+	 * @param array the char-array
+	 * @return the spliterator; empty if the array is {@code null}
+	 * @see ArraySpliterator
+	 * @since 1.10.0
+	 */
+	public static Spliterator.OfInt spliterator(char[] array) {
+		return spliterator(array, 0, isNull(array) ? 0 : array.length, 1);
+	}
+
+	/**
+	 * Creates a spliterator over a range of a char-array, widening the elements to {@code int}.
+	 * @param array the char-array
+	 * @param startIndex the index of the first element, inclusive (clamped to the array)
+	 * @param endIndex the end of the range, exclusive (clamped to the array)
+	 * @return the spliterator; empty if the array is {@code null}
+	 * @see ArraySpliterator
+	 * @since 1.10.0
+	 */
+	public static Spliterator.OfInt spliterator(char[] array, int startIndex, int endIndex) {
+		return spliterator(array, startIndex, endIndex, 1);
+	}
+
+	/**
+	 * Creates a spliterator over a range of a char-array taking one element every {@code step}, widening the elements to {@code int}.
+	 * @param array the char-array
+	 * @param startIndex the index of the first element, inclusive (clamped to the array)
+	 * @param endIndex the end of the range, exclusive (clamped to the array)
+	 * @param step the distance between two consecutive elements; positive
+	 * @return the spliterator; empty if the array is {@code null}
+	 * @throws IllegalArgumentException if {@code step} is not positive
+	 * @see ArraySpliterator
+	 * @since 1.10.0
+	 */
+	public static Spliterator.OfInt spliterator(char[] array, int startIndex, int endIndex, int step) {
+		if (isNull(array)) array = EMPTY_CHAR_ARRAY;
+		if (endIndex > array.length) endIndex = array.length;
+		if (startIndex < 0) startIndex = 0;
+		if (startIndex > endIndex) startIndex = endIndex;
+		return ArraySpliterator.of(array, startIndex, endIndex, step);
+	}
+
+	/**
+	 * Creates a sequential stream over a char-array, widening the elements to {@code int}.
+	 * The stream can be made parallel without copying the array.
+	 * @param array the char-array
+	 * @return the stream; empty if the array is {@code null}
+	 * @since 1.10.0
+	 */
+	public static IntStream stream(char[] array) {
+		return StreamSupport.intStream(spliterator(array), false);
+	}
+
+	/**
+	 * Creates a sequential stream over a range of a char-array, widening the elements to {@code int}.
+	 * The stream can be made parallel without copying the array.
+	 * @param array the char-array
+	 * @param startIndex the index of the first element, inclusive (clamped to the array)
+	 * @param endIndex the end of the range, exclusive (clamped to the array)
+	 * @return the stream; empty if the array is {@code null}
+	 * @since 1.10.0
+	 */
+	public static IntStream stream(char[] array, int startIndex, int endIndex) {
+		return StreamSupport.intStream(spliterator(array, startIndex, endIndex), false);
+	}
+
+	/**
+	 * Creates a sequential stream over a range of a char-array taking one element every {@code step}, widening the elements to {@code int}.
+	 * The stream can be made parallel without copying the array.
+	 * @param array the char-array
+	 * @param startIndex the index of the first element, inclusive (clamped to the array)
+	 * @param endIndex the end of the range, exclusive (clamped to the array)
+	 * @param step the distance between two consecutive elements; positive
+	 * @return the stream; empty if the array is {@code null}
+	 * @throws IllegalArgumentException if {@code step} is not positive
+	 * @since 1.10.0
+	 */
+	public static IntStream stream(char[] array, int startIndex, int endIndex, int step) {
+		return StreamSupport.intStream(spliterator(array, startIndex, endIndex, step), false);
+	}
+
+	/**
+	 * Creates a spliterator over a boolean-array, boxing the elements to the cached {@link Boolean} instances.
+	 * @param array the boolean-array
+	 * @return the spliterator; empty if the array is {@code null}
+	 * @see ArraySpliterator
+	 * @since 1.10.0
+	 */
+	public static Spliterator<Boolean> spliterator(boolean[] array) {
+		return spliterator(array, 0, isNull(array) ? 0 : array.length, 1);
+	}
+
+	/**
+	 * Creates a spliterator over a range of a boolean-array, boxing the elements to the cached {@link Boolean} instances.
+	 * @param array the boolean-array
+	 * @param startIndex the index of the first element, inclusive (clamped to the array)
+	 * @param endIndex the end of the range, exclusive (clamped to the array)
+	 * @return the spliterator; empty if the array is {@code null}
+	 * @see ArraySpliterator
+	 * @since 1.10.0
+	 */
+	public static Spliterator<Boolean> spliterator(boolean[] array, int startIndex, int endIndex) {
+		return spliterator(array, startIndex, endIndex, 1);
+	}
+
+	/**
+	 * Creates a spliterator over a range of a boolean-array taking one element every {@code step}, boxing the elements to the cached {@link Boolean} instances.
+	 * @param array the boolean-array
+	 * @param startIndex the index of the first element, inclusive (clamped to the array)
+	 * @param endIndex the end of the range, exclusive (clamped to the array)
+	 * @param step the distance between two consecutive elements; positive
+	 * @return the spliterator; empty if the array is {@code null}
+	 * @throws IllegalArgumentException if {@code step} is not positive
+	 * @see ArraySpliterator
+	 * @since 1.10.0
+	 */
+	public static Spliterator<Boolean> spliterator(boolean[] array, int startIndex, int endIndex, int step) {
+		if (isNull(array)) array = EMPTY_BOOLEAN_ARRAY;
+		if (endIndex > array.length) endIndex = array.length;
+		if (startIndex < 0) startIndex = 0;
+		if (startIndex > endIndex) startIndex = endIndex;
+		return ArraySpliterator.of(array, startIndex, endIndex, step);
+	}
+
+	/**
+	 * Creates a sequential stream over a boolean-array, boxing the elements to the cached {@link Boolean} instances.
+	 * The stream can be made parallel without copying the array.
+	 * @param array the boolean-array
+	 * @return the stream; empty if the array is {@code null}
+	 * @since 1.10.0
+	 */
+	public static Stream<Boolean> stream(boolean[] array) {
+		return StreamSupport.stream(spliterator(array), false);
+	}
+
+	/**
+	 * Creates a sequential stream over a range of a boolean-array, boxing the elements to the cached {@link Boolean} instances.
+	 * The stream can be made parallel without copying the array.
+	 * @param array the boolean-array
+	 * @param startIndex the index of the first element, inclusive (clamped to the array)
+	 * @param endIndex the end of the range, exclusive (clamped to the array)
+	 * @return the stream; empty if the array is {@code null}
+	 * @since 1.10.0
+	 */
+	public static Stream<Boolean> stream(boolean[] array, int startIndex, int endIndex) {
+		return StreamSupport.stream(spliterator(array, startIndex, endIndex), false);
+	}
+
+	/**
+	 * Creates a sequential stream over a range of a boolean-array taking one element every {@code step}, boxing the elements to the cached {@link Boolean} instances.
+	 * The stream can be made parallel without copying the array.
+	 * @param array the boolean-array
+	 * @param startIndex the index of the first element, inclusive (clamped to the array)
+	 * @param endIndex the end of the range, exclusive (clamped to the array)
+	 * @param step the distance between two consecutive elements; positive
+	 * @return the stream; empty if the array is {@code null}
+	 * @throws IllegalArgumentException if {@code step} is not positive
+	 * @since 1.10.0
+	 */
+	public static Stream<Boolean> stream(boolean[] array, int startIndex, int endIndex, int step) {
+		return StreamSupport.stream(spliterator(array, startIndex, endIndex, step), false);
+	}
 }
\ No newline at end of file
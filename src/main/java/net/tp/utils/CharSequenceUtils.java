@@ -1,9 +1,28 @@
 package net.tp.utils;
 
+import net.tp.utils.classes.AhoCorasick;
+import net.tp.utils.classes.CharArrayBuffer;
+import net.tp.utils.classes.CharMatcher;
+import net.tp.utils.classes.CharSlice;
+import net.tp.utils.classes.CompositeCharSequence;
+import net.tp.utils.classes.SearchPattern;
+import net.tp.utils.classes.Splitter;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Iterator;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.IntFunction;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.regex.Pattern;
+import java.util.stream.IntStream;
 
 import static java.util.Objects.*;
 import static java.util.regex.Pattern.CASE_INSENSITIVE;
@@ -27,6 +46,58 @@ public abstract class CharSequenceUtils {
 	 * The tab-only char sequence.
 	 */
 	private static final CharSequence TAB = "\t";
+	/**
+	 * The reference regular expression of {@link #isEmail(CharSequence)}, which accepts exactly the char sequences it matches.
+	 * @since 1.10.0
+	 */
+	public static final Pattern EMAIL_PATTERN = Pattern.compile("^([\\w-.]+){1,64}@([\\w&&[^_]]+){2,255}.[a-z]{2,}$", CASE_INSENSITIVE);
+	/**
+	 * The reference regular expression of {@link #isURL(CharSequence)}, which accepts exactly the char sequences it matches.
+	 * @since 1.10.0
+	 */
+	public static final Pattern URL_PATTERN = Pattern.compile("^(https?|ftp)://[^\\s/$.?#].[^\\s]*$", CASE_INSENSITIVE);
+	/**
+	 * The column length from which batch validators split the column across cores.
+	 */
+	private static final int PARALLEL_VALIDATE_THRESHOLD = 1 << 14;
+	/**
+	 * The number of search terms from which the multi-term searches compile an {@link AhoCorasick} automaton
+	 * instead of scanning the char sequence once per term.
+	 */
+	private static final int AHO_CORASICK_THRESHOLD = 4;
+	/**
+	 * The states of the domain automaton of {@link #isEmail(CharSequence)}:
+	 * no, one or at least two alphanumerics, the separator, one or at least two letters.
+	 */
+	private static final int EMAIL_START = 1, EMAIL_ONE_ALNUM = 2, EMAIL_ALNUMS = 4, EMAIL_SEPARATOR = 8, EMAIL_ONE_LETTER = 16, EMAIL_LETTERS = 32;
+	/**
+	 * The char classes of the classification predicates: lower case, upper case, digit and whitespace;
+	 * a predicate accepts the chars of any class of its mask.
+	 */
+	private static final int CLASS_LOWER = 1, CLASS_UPPER = 2, CLASS_DIGIT = 4, CLASS_SPACE = 8, CLASS_LETTER = CLASS_LOWER | CLASS_UPPER;
+	/**
+	 * The classes of each ASCII char, as {@link Character} computes them.
+	 */
+	private static final byte[] ASCII_CLASSES = new byte[128];
+	/**
+	 * The view of a byte-array as little-endian longs, to classify eight Latin-1 chars at once.
+	 */
+	private static final VarHandle LONGS = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+	/**
+	 * A long with each byte set to {@code 0x01}, and one with the high bit of each byte set.
+	 */
+	private static final long SWAR_ONES = 0x0101010101010101L, SWAR_HIGHS = 0x8080808080808080L;
+
+	static {
+		for (char c = 0; c < 128; c++) {
+			int classes = 0;
+			if (Character.isLowerCase(c)) classes |= CLASS_LOWER;
+			if (Character.isUpperCase(c)) classes |= CLASS_UPPER;
+			if (Character.isDigit(c)) classes |= CLASS_DIGIT;
+			if (Character.isWhitespace(c)) classes |= CLASS_SPACE;
+			ASCII_CLASSES[c] = (byte) classes;
+		}
+	}
 
 	/**
 	 * Return an empty char sequence casted to che specified type.
@@ -227,7 +298,7 @@ public abstract class CharSequenceUtils {
 	 */
 	@SafeVarargs
 	public static <T extends CharSequence> boolean allNullOrBlank(T... css) {
-		return Arrays.stream(css).allMatch(CharSequenceUtils::isNullOrBlank);
+		return allValid(css, CharSequenceUtils::isNullOrBlank);
 	}
 
 	/**
@@ -239,7 +310,7 @@ public abstract class CharSequenceUtils {
 	 */
 	@SafeVarargs
 	public static <T extends CharSequence> boolean anyNullOrBlank(T... css) {
-		return Arrays.stream(css).anyMatch(CharSequenceUtils::isNullOrBlank);
+		return anyValid(css, CharSequenceUtils::isNullOrBlank);
 	}
 
 	/**
@@ -267,7 +338,7 @@ public abstract class CharSequenceUtils {
 	 */
 	@SafeVarargs
 	public static <T extends CharSequence> boolean allNonBlank(T... css) {
-		return Arrays.stream(css).allMatch(CharSequenceUtils::nonBlank);
+		return allValid(css, CharSequenceUtils::nonBlank);
 	}
 
 	/**
@@ -279,7 +350,7 @@ public abstract class CharSequenceUtils {
 	 */
 	@SafeVarargs
 	public static <T extends CharSequence> boolean anyNonBlank(T... css) {
-		return Arrays.stream(css).anyMatch(CharSequenceUtils::nonBlank);
+		return anyValid(css, CharSequenceUtils::nonBlank);
 	}
 
 	/**
@@ -329,7 +400,7 @@ public abstract class CharSequenceUtils {
 	 */
 	@SafeVarargs
 	public static <T extends CharSequence> boolean allNullOrEmpty(T... css) {
-		return Arrays.stream(css).allMatch(CharSequenceUtils::isNullOrEmpty);
+		return allValid(css, CharSequenceUtils::isNullOrEmpty);
 	}
 
 	/**
@@ -341,7 +412,7 @@ public abstract class CharSequenceUtils {
 	 */
 	@SafeVarargs
 	public static <T extends CharSequence> boolean anyNullOrEmpty(T... css) {
-		return Arrays.stream(css).anyMatch(CharSequenceUtils::isNullOrEmpty);
+		return anyValid(css, CharSequenceUtils::isNullOrEmpty);
 	}
 
 	/**
@@ -369,7 +440,7 @@ public abstract class CharSequenceUtils {
 	 */
 	@SafeVarargs
 	public static <T extends CharSequence> boolean allEmpty(T... css) {
-		return Arrays.stream(css).allMatch(CharSequence::isEmpty);
+		return allValid(css, CharSequence::isEmpty);
 	}
 
 	/**
@@ -381,7 +452,7 @@ public abstract class CharSequenceUtils {
 	 */
 	@SafeVarargs
 	public static <T extends CharSequence> boolean anyEmpty(T... css) {
-		return Arrays.stream(css).anyMatch(CharSequence::isEmpty);
+		return anyValid(css, CharSequence::isEmpty);
 	}
 
 	/**
@@ -409,7 +480,7 @@ public abstract class CharSequenceUtils {
 	 */
 	@SafeVarargs
 	public static <T extends CharSequence> boolean allNonEmpty(T... css) {
-		return Arrays.stream(css).allMatch(CharSequenceUtils::nonEmpty);
+		return allValid(css, CharSequenceUtils::nonEmpty);
 	}
 
 	/**
@@ -421,7 +492,7 @@ public abstract class CharSequenceUtils {
 	 */
 	@SafeVarargs
 	public static <T extends CharSequence> boolean anyNonEmpty(T... css) {
-		return Arrays.stream(css).anyMatch(CharSequenceUtils::nonEmpty);
+		return anyValid(css, CharSequenceUtils::nonEmpty);
 	}
 
 	/**
@@ -447,7 +518,40 @@ public abstract class CharSequenceUtils {
 	 * @since 1.0.0
 	 */
 	public static <T extends CharSequence> boolean isLowerCase(T cs) {
-		return nonEmpty(cs) && cs.chars().allMatch(Character::isLowerCase);
+		return nonEmpty(cs) && allOfClass(cs, CLASS_LOWER);
+	}
+
+	/**
+	 * Checks if a range of a char-array is all lower case.
+	 * @param chars the char-array to check
+	 * @param fromIndex the index of the first char, inclusive
+	 * @param toIndex the end of the range, exclusive
+	 * @return {@code true} if the range is not empty and all lower case, {@code false} otherwise (also if the array is {@code null})
+	 * @throws IndexOutOfBoundsException if the range is out of the array
+	 * @see #isLowerCase(CharSequence)
+	 * @since 1.10.0
+	 */
+	public static boolean isLowerCase(char[] chars, int fromIndex, int toIndex) {
+		if (isNull(chars)) return false;
+		checkFromToIndex(fromIndex, toIndex, chars.length);
+		return fromIndex < toIndex && allOfClass(chars, fromIndex, toIndex, CLASS_LOWER);
+	}
+
+	/**
+	 * Checks if a range of Latin-1 (ISO-8859-1) encoded bytes is all lower case, each byte being a char.
+	 * Eight ASCII chars are checked at once, as the bytes of a long.
+	 * @param latin1 the bytes to check
+	 * @param fromIndex the index of the first byte, inclusive
+	 * @param toIndex the end of the range, exclusive
+	 * @return {@code true} if the range is not empty and all lower case, {@code false} otherwise (also if the array is {@code null})
+	 * @throws IndexOutOfBoundsException if the range is out of the array
+	 * @see #isLowerCase(CharSequence)
+	 * @since 1.10.0
+	 */
+	public static boolean isLowerCase(byte[] latin1, int fromIndex, int toIndex) {
+		if (isNull(latin1)) return false;
+		checkFromToIndex(fromIndex, toIndex, latin1.length);
+		return fromIndex < toIndex && allOfClass(latin1, fromIndex, toIndex, CLASS_LOWER);
 	}
 
 	/**
@@ -459,7 +563,7 @@ public abstract class CharSequenceUtils {
 	 */
 	@SafeVarargs
 	public static <T extends CharSequence> boolean allLowerCase(T... css) {
-		return Arrays.stream(css).allMatch(CharSequenceUtils::isLowerCase);
+		return allValid(css, CharSequenceUtils::isLowerCase);
 	}
 
 	/**
@@ -471,7 +575,7 @@ public abstract class CharSequenceUtils {
 	 */
 	@SafeVarargs
 	public static <T extends CharSequence> boolean anyLowerCase(T... css) {
-		return Arrays.stream(css).anyMatch(CharSequenceUtils::isLowerCase);
+		return anyValid(css, CharSequenceUtils::isLowerCase);
 	}
 
 	/**
@@ -498,7 +602,40 @@ public abstract class CharSequenceUtils {
 	 * @since 1.0.0
 	 */
 	public static <T extends CharSequence> boolean isUpperCase(T cs) {
-		return nonEmpty(cs) && cs.chars().allMatch(Character::isUpperCase);
+		return nonEmpty(cs) && allOfClass(cs, CLASS_UPPER);
+	}
+
+	/**
+	 * Checks if a range of a char-array is all upper case.
+	 * @param chars the char-array to check
+	 * @param fromIndex the index of the first char, inclusive
+	 * @param toIndex the end of the range, exclusive
+	 * @return {@code true} if the range is not empty and all upper case, {@code false} otherwise (also if the array is {@code null})
+	 * @throws IndexOutOfBoundsException if the range is out of the array
+	 * @see #isUpperCase(CharSequence)
+	 * @since 1.10.0
+	 */
+	public static boolean isUpperCase(char[] chars, int fromIndex, int toIndex) {
+		if (isNull(chars)) return false;
+		checkFromToIndex(fromIndex, toIndex, chars.length);
+		return fromIndex < toIndex && allOfClass(chars, fromIndex, toIndex, CLASS_UPPER);
+	}
+
+	/**
+	 * Checks if a range of Latin-1 (ISO-8859-1) encoded bytes is all upper case, each byte being a char.
+	 * Eight ASCII chars are checked at once, as the bytes of a long.
+	 * @param latin1 the bytes to check
+	 * @param fromIndex the index of the first byte, inclusive
+	 * @param toIndex the end of the range, exclusive
+	 * @return {@code true} if the range is not empty and all upper case, {@code false} otherwise (also if the array is {@code null})
+	 * @throws IndexOutOfBoundsException if the range is out of the array
+	 * @see #isUpperCase(CharSequence)
+	 * @since 1.10.0
+	 */
+	public static boolean isUpperCase(byte[] latin1, int fromIndex, int toIndex) {
+		if (isNull(latin1)) return false;
+		checkFromToIndex(fromIndex, toIndex, latin1.length);
+		return fromIndex < toIndex && allOfClass(latin1, fromIndex, toIndex, CLASS_UPPER);
 	}
 
 	/**
@@ -510,7 +647,7 @@ public abstract class CharSequenceUtils {
 	 */
 	@SafeVarargs
 	public static <T extends CharSequence> boolean allUpperCase(T... css) {
-		return Arrays.stream(css).allMatch(CharSequenceUtils::isUpperCase);
+		return allValid(css, CharSequenceUtils::isUpperCase);
 	}
 
 	/**
@@ -522,7 +659,7 @@ public abstract class CharSequenceUtils {
 	 */
 	@SafeVarargs
 	public static <T extends CharSequence> boolean anyUpperCase(T... css) {
-		return Arrays.stream(css).anyMatch(CharSequenceUtils::isUpperCase);
+		return anyValid(css, CharSequenceUtils::isUpperCase);
 	}
 
 	/**
@@ -552,6 +689,38 @@ public abstract class CharSequenceUtils {
 		return nonEmpty(cs) && !isLowerCase(cs) && !isUpperCase(cs);
 	}
 
+	/**
+	 * Checks if a range of a char-array is mixed case.
+	 * @param chars the char-array to check
+	 * @param fromIndex the index of the first char, inclusive
+	 * @param toIndex the end of the range, exclusive
+	 * @return {@code true} if the range is not empty, not all lower case and not all upper case, {@code false} otherwise (also if the array is {@code null})
+	 * @throws IndexOutOfBoundsException if the range is out of the array
+	 * @see #isMixedCase(CharSequence)
+	 * @since 1.10.0
+	 */
+	public static boolean isMixedCase(char[] chars, int fromIndex, int toIndex) {
+		if (isNull(chars)) return false;
+		checkFromToIndex(fromIndex, toIndex, chars.length);
+		return fromIndex < toIndex && !allOfClass(chars, fromIndex, toIndex, CLASS_LOWER) && !allOfClass(chars, fromIndex, toIndex, CLASS_UPPER);
+	}
+
+	/**
+	 * Checks if a range of Latin-1 (ISO-8859-1) encoded bytes is mixed case, each byte being a char.
+	 * @param latin1 the bytes to check
+	 * @param fromIndex the index of the first byte, inclusive
+	 * @param toIndex the end of the range, exclusive
+	 * @return {@code true} if the range is not empty, not all lower case and not all upper case, {@code false} otherwise (also if the array is {@code null})
+	 * @throws IndexOutOfBoundsException if the range is out of the array
+	 * @see #isMixedCase(CharSequence)
+	 * @since 1.10.0
+	 */
+	public static boolean isMixedCase(byte[] latin1, int fromIndex, int toIndex) {
+		if (isNull(latin1)) return false;
+		checkFromToIndex(fromIndex, toIndex, latin1.length);
+		return fromIndex < toIndex && !allOfClass(latin1, fromIndex, toIndex, CLASS_LOWER) && !allOfClass(latin1, fromIndex, toIndex, CLASS_UPPER);
+	}
+
 	/**
 	 * Checks if given char sequences is mixed case.
 	 * @param css the char sequences to check
@@ -561,7 +730,7 @@ public abstract class CharSequenceUtils {
 	 */
 	@SafeVarargs
 	public static <T extends CharSequence> boolean allMixedCase(T... css) {
-		return Arrays.stream(css).allMatch(CharSequenceUtils::isMixedCase);
+		return allValid(css, CharSequenceUtils::isMixedCase);
 	}
 
 	/**
@@ -573,7 +742,7 @@ public abstract class CharSequenceUtils {
 	 */
 	@SafeVarargs
 	public static <T extends CharSequence> boolean anyMixedCase(T... css) {
-		return Arrays.stream(css).anyMatch(CharSequenceUtils::isMixedCase);
+		return anyValid(css, CharSequenceUtils::isMixedCase);
 	}
 
 	/**
@@ -601,7 +770,40 @@ public abstract class CharSequenceUtils {
 	 * @since 1.0.0
 	 */
 	public static <T extends CharSequence> boolean isAlphabetic(T cs) {
-		return nonEmpty(cs) && cs.chars().allMatch(Character::isLetter);
+		return nonEmpty(cs) && allOfClass(cs, CLASS_LETTER);
+	}
+
+	/**
+	 * Checks if a range of a char-array is alphabetic.
+	 * @param chars the char-array to check
+	 * @param fromIndex the index of the first char, inclusive
+	 * @param toIndex the end of the range, exclusive
+	 * @return {@code true} if the range is not empty and alphabetic, {@code false} otherwise (also if the array is {@code null})
+	 * @throws IndexOutOfBoundsException if the range is out of the array
+	 * @see #isAlphabetic(CharSequence)
+	 * @since 1.10.0
+	 */
+	public static boolean isAlphabetic(char[] chars, int fromIndex, int toIndex) {
+		if (isNull(chars)) return false;
+		checkFromToIndex(fromIndex, toIndex, chars.length);
+		return fromIndex < toIndex && allOfClass(chars, fromIndex, toIndex, CLASS_LETTER);
+	}
+
+	/**
+	 * Checks if a range of Latin-1 (ISO-8859-1) encoded bytes is alphabetic, each byte being a char.
+	 * Eight ASCII chars are checked at once, as the bytes of a long.
+	 * @param latin1 the bytes to check
+	 * @param fromIndex the index of the first byte, inclusive
+	 * @param toIndex the end of the range, exclusive
+	 * @return {@code true} if the range is not empty and alphabetic, {@code false} otherwise (also if the array is {@code null})
+	 * @throws IndexOutOfBoundsException if the range is out of the array
+	 * @see #isAlphabetic(CharSequence)
+	 * @since 1.10.0
+	 */
+	public static boolean isAlphabetic(byte[] latin1, int fromIndex, int toIndex) {
+		if (isNull(latin1)) return false;
+		checkFromToIndex(fromIndex, toIndex, latin1.length);
+		return fromIndex < toIndex && allOfClass(latin1, fromIndex, toIndex, CLASS_LETTER);
 	}
 
 	/**
@@ -613,7 +815,7 @@ public abstract class CharSequenceUtils {
 	 */
 	@SafeVarargs
 	public static <T extends CharSequence> boolean allAlphabetic(T... css) {
-		return Arrays.stream(css).allMatch(CharSequenceUtils::isAlphabetic);
+		return allValid(css, CharSequenceUtils::isAlphabetic);
 	}
 
 	/**
@@ -625,7 +827,7 @@ public abstract class CharSequenceUtils {
 	 */
 	@SafeVarargs
 	public static <T extends CharSequence> boolean anyAlphabetic(T... css) {
-		return Arrays.stream(css).anyMatch(CharSequenceUtils::isAlphabetic);
+		return anyValid(css, CharSequenceUtils::isAlphabetic);
 	}
 
 	/**
@@ -652,7 +854,40 @@ public abstract class CharSequenceUtils {
 	 * @since 1.0.0
 	 */
 	public static <T extends CharSequence> boolean isAlphabeticSpace(T cs) {
-		return nonEmpty(cs) && cs.chars().allMatch(c -> Character.isLetter(c) || Character.isWhitespace(c));
+		return nonEmpty(cs) && allOfClass(cs, CLASS_LETTER | CLASS_SPACE);
+	}
+
+	/**
+	 * Checks if a range of a char-array is alphabetic or space.
+	 * @param chars the char-array to check
+	 * @param fromIndex the index of the first char, inclusive
+	 * @param toIndex the end of the range, exclusive
+	 * @return {@code true} if the range is not empty and alphabetic or space, {@code false} otherwise (also if the array is {@code null})
+	 * @throws IndexOutOfBoundsException if the range is out of the array
+	 * @see #isAlphabeticSpace(CharSequence)
+	 * @since 1.10.0
+	 */
+	public static boolean isAlphabeticSpace(char[] chars, int fromIndex, int toIndex) {
+		if (isNull(chars)) return false;
+		checkFromToIndex(fromIndex, toIndex, chars.length);
+		return fromIndex < toIndex && allOfClass(chars, fromIndex, toIndex, CLASS_LETTER | CLASS_SPACE);
+	}
+
+	/**
+	 * Checks if a range of Latin-1 (ISO-8859-1) encoded bytes is alphabetic or space, each byte being a char.
+	 * Eight ASCII chars are checked at once, as the bytes of a long.
+	 * @param latin1 the bytes to check
+	 * @param fromIndex the index of the first byte, inclusive
+	 * @param toIndex the end of the range, exclusive
+	 * @return {@code true} if the range is not empty and alphabetic or space, {@code false} otherwise (also if the array is {@code null})
+	 * @throws IndexOutOfBoundsException if the range is out of the array
+	 * @see #isAlphabeticSpace(CharSequence)
+	 * @since 1.10.0
+	 */
+	public static boolean isAlphabeticSpace(byte[] latin1, int fromIndex, int toIndex) {
+		if (isNull(latin1)) return false;
+		checkFromToIndex(fromIndex, toIndex, latin1.length);
+		return fromIndex < toIndex && allOfClass(latin1, fromIndex, toIndex, CLASS_LETTER | CLASS_SPACE);
 	}
 
 	/**
@@ -664,7 +899,7 @@ public abstract class CharSequenceUtils {
 	 */
 	@SafeVarargs
 	public static <T extends CharSequence> boolean allAlphabeticSpace(T... css) {
-		return Arrays.stream(css).allMatch(CharSequenceUtils::isAlphabeticSpace);
+		return allValid(css, CharSequenceUtils::isAlphabeticSpace);
 	}
 
 	/**
@@ -676,7 +911,7 @@ public abstract class CharSequenceUtils {
 	 */
 	@SafeVarargs
 	public static <T extends CharSequence> boolean anyAlphabeticSpace(T... css) {
-		return Arrays.stream(css).anyMatch(CharSequenceUtils::isAlphabeticSpace);
+		return anyValid(css, CharSequenceUtils::isAlphabeticSpace);
 	}
 
 	/**
@@ -703,7 +938,40 @@ public abstract class CharSequenceUtils {
 	 * @since 1.0.0
 	 */
 	public static <T extends CharSequence> boolean isAlphanumeric(T cs) {
-		return nonEmpty(cs) && cs.chars().allMatch(Character::isLetterOrDigit);
+		return nonEmpty(cs) && allOfClass(cs, CLASS_LETTER | CLASS_DIGIT);
+	}
+
+	/**
+	 * Checks if a range of a char-array is alphanumeric.
+	 * @param chars the char-array to check
+	 * @param fromIndex the index of the first char, inclusive
+	 * @param toIndex the end of the range, exclusive
+	 * @return {@code true} if the range is not empty and alphanumeric, {@code false} otherwise (also if the array is {@code null})
+	 * @throws IndexOutOfBoundsException if the range is out of the array
+	 * @see #isAlphanumeric(CharSequence)
+	 * @since 1.10.0
+	 */
+	public static boolean isAlphanumeric(char[] chars, int fromIndex, int toIndex) {
+		if (isNull(chars)) return false;
+		checkFromToIndex(fromIndex, toIndex, chars.length);
+		return fromIndex < toIndex && allOfClass(chars, fromIndex, toIndex, CLASS_LETTER | CLASS_DIGIT);
+	}
+
+	/**
+	 * Checks if a range of Latin-1 (ISO-8859-1) encoded bytes is alphanumeric, each byte being a char.
+	 * Eight ASCII chars are checked at once, as the bytes of a long.
+	 * @param latin1 the bytes to check
+	 * @param fromIndex the index of the first byte, inclusive
+	 * @param toIndex the end of the range, exclusive
+	 * @return {@code true} if the range is not empty and alphanumeric, {@code false} otherwise (also if the array is {@code null})
+	 * @throws IndexOutOfBoundsException if the range is out of the array
+	 * @see #isAlphanumeric(CharSequence)
+	 * @since 1.10.0
+	 */
+	public static boolean isAlphanumeric(byte[] latin1, int fromIndex, int toIndex) {
+		if (isNull(latin1)) return false;
+		checkFromToIndex(fromIndex, toIndex, latin1.length);
+		return fromIndex < toIndex && allOfClass(latin1, fromIndex, toIndex, CLASS_LETTER | CLASS_DIGIT);
 	}
 
 	/**
@@ -715,7 +983,7 @@ public abstract class CharSequenceUtils {
 	 */
 	@SafeVarargs
 	public static <T extends CharSequence> boolean allAlphanumeric(T... css) {
-		return Arrays.stream(css).allMatch(CharSequenceUtils::isAlphanumeric);
+		return allValid(css, CharSequenceUtils::isAlphanumeric);
 	}
 
 	/**
@@ -727,7 +995,7 @@ public abstract class CharSequenceUtils {
 	 */
 	@SafeVarargs
 	public static <T extends CharSequence> boolean anyAlphanumeric(T... css) {
-		return Arrays.stream(css).anyMatch(CharSequenceUtils::isAlphanumeric);
+		return anyValid(css, CharSequenceUtils::isAlphanumeric);
 	}
 
 	/**
@@ -754,7 +1022,40 @@ public abstract class CharSequenceUtils {
 	 * @since 1.0.0
 	 */
 	public static <T extends CharSequence> boolean isAlphanumericSpace(T cs) {
-		return nonEmpty(cs) && cs.chars().allMatch(c -> Character.isLetterOrDigit(c) || Character.isWhitespace(c));
+		return nonEmpty(cs) && allOfClass(cs, CLASS_LETTER | CLASS_DIGIT | CLASS_SPACE);
+	}
+
+	/**
+	 * Checks if a range of a char-array is alphanumeric or space.
+	 * @param chars the char-array to check
+	 * @param fromIndex the index of the first char, inclusive
+	 * @param toIndex the end of the range, exclusive
+	 * @return {@code true} if the range is not empty and alphanumeric or space, {@code false} otherwise (also if the array is {@code null})
+	 * @throws IndexOutOfBoundsException if the range is out of the array
+	 * @see #isAlphanumericSpace(CharSequence)
+	 * @since 1.10.0
+	 */
+	public static boolean isAlphanumericSpace(char[] chars, int fromIndex, int toIndex) {
+		if (isNull(chars)) return false;
+		checkFromToIndex(fromIndex, toIndex, chars.length);
+		return fromIndex < toIndex && allOfClass(chars, fromIndex, toIndex, CLASS_LETTER | CLASS_DIGIT | CLASS_SPACE);
+	}
+
+	/**
+	 * Checks if a range of Latin-1 (ISO-8859-1) encoded bytes is alphanumeric or space, each byte being a char.
+	 * Eight ASCII chars are checked at once, as the bytes of a long.
+	 * @param latin1 the bytes to check
+	 * @param fromIndex the index of the first byte, inclusive
+	 * @param toIndex the end of the range, exclusive
+	 * @return {@code true} if the range is not empty and alphanumeric or space, {@code false} otherwise (also if the array is {@code null})
+	 * @throws IndexOutOfBoundsException if the range is out of the array
+	 * @see #isAlphanumericSpace(CharSequence)
+	 * @since 1.10.0
+	 */
+	public static boolean isAlphanumericSpace(byte[] latin1, int fromIndex, int toIndex) {
+		if (isNull(latin1)) return false;
+		checkFromToIndex(fromIndex, toIndex, latin1.length);
+		return fromIndex < toIndex && allOfClass(latin1, fromIndex, toIndex, CLASS_LETTER | CLASS_DIGIT | CLASS_SPACE);
 	}
 
 	/**
@@ -766,7 +1067,7 @@ public abstract class CharSequenceUtils {
 	 */
 	@SafeVarargs
 	public static <T extends CharSequence> boolean allAlphanumericSpace(T... css) {
-		return Arrays.stream(css).allMatch(CharSequenceUtils::isAlphanumericSpace);
+		return allValid(css, CharSequenceUtils::isAlphanumericSpace);
 	}
 
 	/**
@@ -778,7 +1079,7 @@ public abstract class CharSequenceUtils {
 	 */
 	@SafeVarargs
 	public static <T extends CharSequence> boolean anyAlphanumericSpace(T... css) {
-		return Arrays.stream(css).anyMatch(CharSequenceUtils::isAlphanumericSpace);
+		return anyValid(css, CharSequenceUtils::isAlphanumericSpace);
 	}
 
 	/**
@@ -805,7 +1106,40 @@ public abstract class CharSequenceUtils {
 	 * @since 1.0.0
 	 */
 	public static <T extends CharSequence> boolean isNumeric(T cs) {
-		return nonEmpty(cs) && cs.chars().allMatch(Character::isDigit);
+		return nonEmpty(cs) && allOfClass(cs, CLASS_DIGIT);
+	}
+
+	/**
+	 * Checks if a range of a char-array is numeric.
+	 * @param chars the char-array to check
+	 * @param fromIndex the index of the first char, inclusive
+	 * @param toIndex the end of the range, exclusive
+	 * @return {@code true} if the range is not empty and numeric, {@code false} otherwise (also if the array is {@code null})
+	 * @throws IndexOutOfBoundsException if the range is out of the array
+	 * @see #isNumeric(CharSequence)
+	 * @since 1.10.0
+	 */
+	public static boolean isNumeric(char[] chars, int fromIndex, int toIndex) {
+		if (isNull(chars)) return false;
+		checkFromToIndex(fromIndex, toIndex, chars.length);
+		return fromIndex < toIndex && allOfClass(chars, fromIndex, toIndex, CLASS_DIGIT);
+	}
+
+	/**
+	 * Checks if a range of Latin-1 (ISO-8859-1) encoded bytes is numeric, each byte being a char.
+	 * Eight ASCII chars are checked at once, as the bytes of a long.
+	 * @param latin1 the bytes to check
+	 * @param fromIndex the index of the first byte, inclusive
+	 * @param toIndex the end of the range, exclusive
+	 * @return {@code true} if the range is not empty and numeric, {@code false} otherwise (also if the array is {@code null})
+	 * @throws IndexOutOfBoundsException if the range is out of the array
+	 * @see #isNumeric(CharSequence)
+	 * @since 1.10.0
+	 */
+	public static boolean isNumeric(byte[] latin1, int fromIndex, int toIndex) {
+		if (isNull(latin1)) return false;
+		checkFromToIndex(fromIndex, toIndex, latin1.length);
+		return fromIndex < toIndex && allOfClass(latin1, fromIndex, toIndex, CLASS_DIGIT);
 	}
 
 	/**
@@ -817,7 +1151,7 @@ public abstract class CharSequenceUtils {
 	 */
 	@SafeVarargs
 	public static <T extends CharSequence> boolean allNumeric(T... css) {
-		return Arrays.stream(css).allMatch(CharSequenceUtils::isNumeric);
+		return allValid(css, CharSequenceUtils::isNumeric);
 	}
 
 	/**
@@ -829,7 +1163,7 @@ public abstract class CharSequenceUtils {
 	 */
 	@SafeVarargs
 	public static <T extends CharSequence> boolean anyNumeric(T... css) {
-		return Arrays.stream(css).anyMatch(CharSequenceUtils::isNumeric);
+		return anyValid(css, CharSequenceUtils::isNumeric);
 	}
 
 	/**
@@ -856,7 +1190,40 @@ public abstract class CharSequenceUtils {
 	 * @since 1.0.0
 	 */
 	public static <T extends CharSequence> boolean isNumericSpace(T cs) {
-		return nonEmpty(cs) && cs.chars().allMatch(c -> Character.isDigit(c) || Character.isWhitespace(c));
+		return nonEmpty(cs) && allOfClass(cs, CLASS_DIGIT | CLASS_SPACE);
+	}
+
+	/**
+	 * Checks if a range of a char-array is numeric or space.
+	 * @param chars the char-array to check
+	 * @param fromIndex the index of the first char, inclusive
+	 * @param toIndex the end of the range, exclusive
+	 * @return {@code true} if the range is not empty and numeric or space, {@code false} otherwise (also if the array is {@code null})
+	 * @throws IndexOutOfBoundsException if the range is out of the array
+	 * @see #isNumericSpace(CharSequence)
+	 * @since 1.10.0
+	 */
+	public static boolean isNumericSpace(char[] chars, int fromIndex, int toIndex) {
+		if (isNull(chars)) return false;
+		checkFromToIndex(fromIndex, toIndex, chars.length);
+		return fromIndex < toIndex && allOfClass(chars, fromIndex, toIndex, CLASS_DIGIT | CLASS_SPACE);
+	}
+
+	/**
+	 * Checks if a range of Latin-1 (ISO-8859-1) encoded bytes is numeric or space, each byte being a char.
+	 * Eight ASCII chars are checked at once, as the bytes of a long.
+	 * @param latin1 the bytes to check
+	 * @param fromIndex the index of the first byte, inclusive
+	 * @param toIndex the end of the range, exclusive
+	 * @return {@code true} if the range is not empty and numeric or space, {@code false} otherwise (also if the array is {@code null})
+	 * @throws IndexOutOfBoundsException if the range is out of the array
+	 * @see #isNumericSpace(CharSequence)
+	 * @since 1.10.0
+	 */
+	public static boolean isNumericSpace(byte[] latin1, int fromIndex, int toIndex) {
+		if (isNull(latin1)) return false;
+		checkFromToIndex(fromIndex, toIndex, latin1.length);
+		return fromIndex < toIndex && allOfClass(latin1, fromIndex, toIndex, CLASS_DIGIT | CLASS_SPACE);
 	}
 
 	/**
@@ -868,7 +1235,7 @@ public abstract class CharSequenceUtils {
 	 */
 	@SafeVarargs
 	public static <T extends CharSequence> boolean allNumericSpace(T... css) {
-		return Arrays.stream(css).allMatch(CharSequenceUtils::isNumericSpace);
+		return allValid(css, CharSequenceUtils::isNumericSpace);
 	}
 
 	/**
@@ -880,7 +1247,7 @@ public abstract class CharSequenceUtils {
 	 */
 	@SafeVarargs
 	public static <T extends CharSequence> boolean anyNumericSpace(T... css) {
-		return Arrays.stream(css).anyMatch(CharSequenceUtils::isNumericSpace);
+		return anyValid(css, CharSequenceUtils::isNumericSpace);
 	}
 
 	/**
@@ -899,15 +1266,159 @@ public abstract class CharSequenceUtils {
 		return result;
 	}
 
+	/**
+	 * Checks if a char belongs to a class of a mask: ASCII chars by table, the others by {@link Character}.
+	 */
+	private static boolean isOfClass(char c, int mask) {
+		if (c < 128) return (ASCII_CLASSES[c] & mask) != 0;
+		if ((mask & CLASS_SPACE) != 0 && Character.isWhitespace(c)) return true;
+		return switch (mask & ~CLASS_SPACE) {
+			case CLASS_LOWER -> Character.isLowerCase(c);
+			case CLASS_UPPER -> Character.isUpperCase(c);
+			case CLASS_LETTER -> Character.isLetter(c);
+			case CLASS_LETTER | CLASS_DIGIT -> Character.isLetterOrDigit(c);
+			case CLASS_DIGIT -> Character.isDigit(c);
+			default -> false;
+		};
+	}
+
+	/**
+	 * Checks if all the chars of a char sequence belong to a class of a mask.
+	 */
+	private static boolean allOfClass(CharSequence cs, int mask) {
+		for (int i = 0, length = cs.length(); i < length; i++)
+			if (!isOfClass(cs.charAt(i), mask)) return false;
+		return true;
+	}
+
+	/**
+	 * Checks if all the chars of a range of a char-array belong to a class of a mask.
+	 */
+	private static boolean allOfClass(char[] chars, int from, int to, int mask) {
+		for (int i = from; i < to; i++)
+			if (!isOfClass(chars[i], mask)) return false;
+		return true;
+	}
+
+	/**
+	 * Checks if all the chars of a range of Latin-1 bytes belong to a class of a mask, eight at a time while they are ASCII.
+	 * A word with a non-ASCII byte is checked char by char, then the word-wise scan goes on.
+	 */
+	private static boolean allOfClass(byte[] latin1, int from, int to, int mask) {
+		int i = from;
+		for (; i <= to - Long.BYTES; i += Long.BYTES) {
+			long word = (long) LONGS.get(latin1, i);
+			if ((word & SWAR_HIGHS) == 0) {
+				if (swarClasses(word, mask) != SWAR_HIGHS) return false;
+			} else {
+				for (int j = i; j < i + Long.BYTES; j++)
+					if (!isOfClass((char) (latin1[j] & 0xFF), mask)) return false;
+			}
+		}
+		for (; i < to; i++)
+			if (!isOfClass((char) (latin1[i] & 0xFF), mask)) return false;
+		return true;
+	}
+
+	/**
+	 * Classifies eight ASCII chars at once.
+	 * @param word the chars, one per byte, all below {@code 0x80}
+	 * @param mask the classes
+	 * @return the high bit of each byte set if its char belongs to a class of the mask
+	 */
+	private static long swarClasses(long word, int mask) {
+		long classes = 0;
+		if ((mask & CLASS_LOWER) != 0) classes |= swarInRange(word, 'a', 'z');
+		if ((mask & CLASS_UPPER) != 0) classes |= swarInRange(word, 'A', 'Z');
+		if ((mask & CLASS_DIGIT) != 0) classes |= swarInRange(word, '0', '9');
+		if ((mask & CLASS_SPACE) != 0) classes |= swarInRange(word, 0x09, 0x0D) | swarInRange(word, 0x1C, 0x20);
+		return classes;
+	}
+
+	/**
+	 * Checks eight ASCII chars against a range at once: adding {@code 0x80 - low} sets the high bit of the bytes
+	 * at least {@code low}, adding {@code 0x7F - high} the one of the bytes greater than {@code high}, never carrying
+	 * into the next byte since every byte is below {@code 0x80}.
+	 * @param word the chars, one per byte, all below {@code 0x80}
+	 * @param low the first char of the range, inclusive, at least {@code 0x01}
+	 * @param high the last char of the range, inclusive, at least {@code low}
+	 * @return the high bit of each byte set if its char is in the range
+	 */
+	private static long swarInRange(long word, int low, int high) {
+		return (word + SWAR_ONES * (0x80 - low)) & ~(word + SWAR_ONES * (0x7F - high)) & SWAR_HIGHS;
+	}
+
 	/**
 	 * Checks if a given char sequence is a valid email.
+	 * The char sequence is read once by a finite-state machine accepting exactly the language of {@link #EMAIL_PATTERN}:
+	 * word chars, {@code '-'} or {@code '.'}, then {@code '@'}, at least two ASCII alphanumerics, any code point but a line terminator
+	 * and at least two ASCII letters. As for the regular expression, a surrogate pair is a single code point, and an unpaired surrogate is one.
+	 * The domain part runs all its possible states at once, as bits of an int, so it never backtracks.
 	 * @param cs the char sequence to check
 	 * @param <T> the type of the char sequence
 	 * @return {@code true} if the char sequence is a valid email, {@code false} otherwise
 	 * @since 1.0.0
 	 */
 	public static <T extends CharSequence> boolean isEmail(T cs) {
-		return nonEmpty(cs) && Pattern.compile("^([\\w-.]+){1,64}@([\\w&&[^_]]+){2,255}.[a-z]{2,}$", CASE_INSENSITIVE).matcher(cs).matches();
+		if (!nonEmpty(cs)) return false;
+		int length = cs.length(), i = 0;
+		while (i < length && isEmailLocalChar(cs.charAt(i))) i++;
+		if (i == 0 || i == length || cs.charAt(i) != '@') return false;
+		int states = EMAIL_START;
+		for (i++; i < length && states != 0; i++) {
+			char c = cs.charAt(i);
+			if (isSurrogatePair(cs, i)) {
+				states = (states & EMAIL_ALNUMS) != 0 ? EMAIL_SEPARATOR : 0;
+				i++;
+				continue;
+			}
+			int next = 0;
+			if (CharUtils.isAsciiAlphanumeric(c)) next |= (states & (EMAIL_START | EMAIL_ONE_ALNUM)) << 1 | states & EMAIL_ALNUMS;
+			if ((states & EMAIL_ALNUMS) != 0 && !isLineTerminator(c)) next |= EMAIL_SEPARATOR;
+			if (CharUtils.isAsciiAlpha(c)) next |= (states & (EMAIL_SEPARATOR | EMAIL_ONE_LETTER)) << 1 | states & EMAIL_LETTERS;
+			states = next;
+		}
+		return (states & EMAIL_LETTERS) != 0;
+	}
+
+	/**
+	 * @return whether the char at an index of a char sequence starts a surrogate pair, read as one code point by a regular expression
+	 */
+	private static boolean isSurrogatePair(CharSequence cs, int index) {
+		return Character.isHighSurrogate(cs.charAt(index)) && index + 1 < cs.length() && Character.isLowSurrogate(cs.charAt(index + 1));
+	}
+
+	/**
+	 * @return whether the char is a word char, {@code '-'} or {@code '.'}
+	 */
+	private static boolean isEmailLocalChar(char c) {
+		return CharUtils.isAsciiAlphanumeric(c) || c == '_' || c == '-' || c == '.';
+	}
+
+	/**
+	 * @return whether the char ends a line, so that {@code '.'} of a regular expression does not match it
+	 */
+	private static boolean isLineTerminator(char c) {
+		return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+	}
+
+	/**
+	 * @return whether the char is matched by {@code \s} of a regular expression
+	 */
+	private static boolean isRegexSpace(char c) {
+		return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+	}
+
+	/**
+	 * @return whether a region of a char sequence equals a lower-case ASCII string, ignoring the case of ASCII letters
+	 */
+	private static boolean regionMatchesAscii(CharSequence cs, int offset, String lower) {
+		if (offset + lower.length() > cs.length()) return false;
+		for (int i = 0; i < lower.length(); i++) {
+			char c = cs.charAt(offset + i);
+			if ((CharUtils.isAsciiAlphaUpper(c) ? (char) (c + ('a' - 'A')) : c) != lower.charAt(i)) return false;
+		}
+		return true;
 	}
 
 	/**
@@ -919,7 +1430,7 @@ public abstract class CharSequenceUtils {
 	 */
 	@SafeVarargs
 	public static <T extends CharSequence> boolean allEmail(T... css) {
-		return Arrays.stream(css).allMatch(CharSequenceUtils::isEmail);
+		return allValid(css, CharSequenceUtils::isEmail);
 	}
 
 	/**
@@ -931,7 +1442,7 @@ public abstract class CharSequenceUtils {
 	 */
 	@SafeVarargs
 	public static <T extends CharSequence> boolean anyEmail(T... css) {
-		return Arrays.stream(css).anyMatch(CharSequenceUtils::isEmail);
+		return anyValid(css, CharSequenceUtils::isEmail);
 	}
 
 	/**
@@ -952,13 +1463,31 @@ public abstract class CharSequenceUtils {
 
 	/**
 	 * Checks if a given char sequence is a valid URL.
+	 * The char sequence is read once, accepting exactly the language of {@link #URL_PATTERN}:
+	 * {@code http}, {@code https} or {@code ftp} in any case, {@code "://"}, a code point that is neither a space nor one of {@code "/$.?#"},
+	 * any code point but a line terminator and then no spaces.
+	 * As for the regular expression, a surrogate pair is a single code point, and an unpaired surrogate is one.
 	 * @param cs the char sequence to check
 	 * @param <T> the type of the char sequence
 	 * @return {@code true} if the char sequence is a valid URL, {@code false} otherwise
 	 * @since 1.0.0
 	 */
 	public static <T extends CharSequence> boolean isURL(T cs) {
-		return nonEmpty(cs) && Pattern.compile("^(https?|ftp)://[^\\s/$.?#].[^\\s]*$", CASE_INSENSITIVE).matcher(cs).matches();
+		if (!nonEmpty(cs)) return false;
+		int i;
+		if (regionMatchesAscii(cs, 0, "https://")) i = 8;
+		else if (regionMatchesAscii(cs, 0, "http://")) i = 7;
+		else if (regionMatchesAscii(cs, 0, "ftp://")) i = 6;
+		else return false;
+		int length = cs.length();
+		if (length < i + 2) return false;
+		char first = cs.charAt(i);
+		if (isRegexSpace(first) || first == '/' || first == '$' || first == '.' || first == '?' || first == '#') return false;
+		i += isSurrogatePair(cs, i) ? 2 : 1;
+		if (i == length || isLineTerminator(cs.charAt(i))) return false;
+		for (i++; i < length; i++)
+			if (isRegexSpace(cs.charAt(i))) return false;
+		return true;
 	}
 
 	/**
@@ -970,7 +1499,7 @@ public abstract class CharSequenceUtils {
 	 */
 	@SafeVarargs
 	public static <T extends CharSequence> boolean allURL(T... css) {
-		return Arrays.stream(css).allMatch(CharSequenceUtils::isURL);
+		return allValid(css, CharSequenceUtils::isURL);
 	}
 
 	/**
@@ -982,7 +1511,7 @@ public abstract class CharSequenceUtils {
 	 */
 	@SafeVarargs
 	public static <T extends CharSequence> boolean anyURL(T... css) {
-		return Arrays.stream(css).anyMatch(CharSequenceUtils::isURL);
+		return anyValid(css, CharSequenceUtils::isURL);
 	}
 
 	/**
@@ -1001,6 +1530,283 @@ public abstract class CharSequenceUtils {
 		return result;
 	}
 
+	/**
+	 * Validates a column of char sequences into a bit mask: bit {@code i} is set if {@code column[i]} is valid, cleared otherwise.
+	 * Columns of at least {@value #PARALLEL_VALIDATE_THRESHOLD} cells are split across cores in chunks of whole mask words.
+	 * @param column the char sequences to validate; not null
+	 * @param validator the validator, for instance {@code CharSequenceUtils::isEmail}; not null, stateless
+	 * @param mask the mask to write to, bits from {@code 0} to {@code column.length - 1}; not null
+	 * @param <T> the type of the char sequences
+	 * @return the number of valid char sequences
+	 * @since 1.10.0
+	 */
+	public static <T extends CharSequence> int validate(T[] column, Predicate<? super T> validator, BitSet mask) {
+		requireNonNull(column);
+		return validateInto(column.length, i -> column[i], validator, requireNonNull(mask));
+	}
+
+	/**
+	 * Validates a column of char sequences into a bit mask of words: bit {@code i % 64} of {@code mask[i / 64]} is set
+	 * if {@code column[i]} is valid, cleared otherwise; the bits past the column are left unchanged.
+	 * Columns of at least {@value #PARALLEL_VALIDATE_THRESHOLD} cells are split across cores in chunks of whole words.
+	 * @param column the char sequences to validate; not null
+	 * @param validator the validator; not null, stateless
+	 * @param mask the words to write to; not null, at least {@code (column.length + 63) / 64} long
+	 * @param <T> the type of the char sequences
+	 * @return the number of valid char sequences
+	 * @throws IllegalArgumentException if the mask is too short
+	 * @since 1.10.0
+	 */
+	public static <T extends CharSequence> int validate(T[] column, Predicate<? super T> validator, long[] mask) {
+		requireNonNull(column);
+		return validateWords(column.length, i -> column[i], requireNonNull(validator), checkMask(column.length, mask));
+	}
+
+	/**
+	 * Validates a list of char sequences into a bit mask: bit {@code i} is set if the {@code i}-th element is valid, cleared otherwise.
+	 * Random-access lists of at least {@value #PARALLEL_VALIDATE_THRESHOLD} elements are split across cores.
+	 * @param column the char sequences to validate; not null
+	 * @param validator the validator; not null, stateless
+	 * @param mask the mask to write to; not null
+	 * @param <T> the type of the char sequences
+	 * @return the number of valid char sequences
+	 * @since 1.10.0
+	 */
+	public static <T extends CharSequence> int validate(List<? extends T> column, Predicate<? super T> validator, BitSet mask) {
+		if (requireNonNull(column) instanceof RandomAccess) return validateInto(column.size(), column::get, validator, requireNonNull(mask));
+		return validate(column.iterator(), validator, mask);
+	}
+
+	/**
+	 * Validates a list of char sequences into a bit mask of words, as {@link #validate(CharSequence[], Predicate, long[])}.
+	 * @param column the char sequences to validate; not null
+	 * @param validator the validator; not null, stateless
+	 * @param mask the words to write to; not null, at least {@code (column.size() + 63) / 64} long
+	 * @param <T> the type of the char sequences
+	 * @return the number of valid char sequences
+	 * @throws IllegalArgumentException if the mask is too short
+	 * @since 1.10.0
+	 */
+	public static <T extends CharSequence> int validate(List<? extends T> column, Predicate<? super T> validator, long[] mask) {
+		requireNonNull(column);
+		requireNonNull(validator);
+		checkMask(column.size(), mask);
+		if (column instanceof RandomAccess) return validateWords(column.size(), column::get, validator, mask);
+		int count = 0, i = 0;
+		for (T cs : column) {
+			if (validator.test(cs)) {
+				mask[i >>> 6] |= 1L << i;
+				count++;
+			} else mask[i >>> 6] &= ~(1L << i);
+			i++;
+		}
+		return count;
+	}
+
+	/**
+	 * Validates the char sequences of an iterator into a bit mask, sequentially: bit {@code i} is set if the {@code i}-th char sequence is valid,
+	 * cleared otherwise.
+	 * @param column the char sequences to validate; not null
+	 * @param validator the validator; not null
+	 * @param mask the mask to write to; not null
+	 * @param <T> the type of the char sequences
+	 * @return the number of valid char sequences
+	 * @since 1.10.0
+	 */
+	public static <T extends CharSequence> int validate(Iterator<? extends T> column, Predicate<? super T> validator, BitSet mask) {
+		requireNonNull(column);
+		requireNonNull(validator);
+		requireNonNull(mask);
+		int count = 0;
+		for (int i = 0; column.hasNext(); i++) {
+			boolean valid = validator.test(column.next());
+			mask.set(i, valid);
+			if (valid) count++;
+		}
+		return count;
+	}
+
+	/**
+	 * Checks if all the char sequences of a column are valid.
+	 * Columns of at least {@value #PARALLEL_VALIDATE_THRESHOLD} cells are split across cores, all of them stopping at the first invalid cell found.
+	 * @param column the char sequences to check; not null
+	 * @param validator the validator; not null, stateless
+	 * @param <T> the type of the char sequences
+	 * @return {@code true} if all the char sequences are valid, otherwise {@code false}
+	 * @since 1.10.0
+	 */
+	public static <T extends CharSequence> boolean allValid(T[] column, Predicate<? super T> validator) {
+		requireNonNull(column);
+		return !findAny(column.length, i -> column[i], requireNonNull(validator).negate());
+	}
+
+	/**
+	 * Checks if all the char sequences of a list are valid, splitting random-access lists across cores as {@link #allValid(CharSequence[], Predicate)}.
+	 * @param column the char sequences to check; not null
+	 * @param validator the validator; not null, stateless
+	 * @param <T> the type of the char sequences
+	 * @return {@code true} if all the char sequences are valid, otherwise {@code false}
+	 * @since 1.10.0
+	 */
+	public static <T extends CharSequence> boolean allValid(List<? extends T> column, Predicate<? super T> validator) {
+		if (requireNonNull(column) instanceof RandomAccess) return !findAny(column.size(), column::get, requireNonNull(validator).negate());
+		return allValid(column.iterator(), validator);
+	}
+
+	/**
+	 * Checks if all the char sequences of an iterator are valid, stopping at the first invalid one.
+	 * @param column the char sequences to check; not null
+	 * @param validator the validator; not null
+	 * @param <T> the type of the char sequences
+	 * @return {@code true} if all the char sequences are valid, otherwise {@code false}
+	 * @since 1.10.0
+	 */
+	public static <T extends CharSequence> boolean allValid(Iterator<? extends T> column, Predicate<? super T> validator) {
+		requireNonNull(column);
+		requireNonNull(validator);
+		while (column.hasNext())
+			if (!validator.test(column.next())) return false;
+		return true;
+	}
+
+	/**
+	 * Checks if at least one char sequence of a column is valid.
+	 * Columns of at least {@value #PARALLEL_VALIDATE_THRESHOLD} cells are split across cores, all of them stopping at the first valid cell found.
+	 * @param column the char sequences to check; not null
+	 * @param validator the validator; not null, stateless
+	 * @param <T> the type of the char sequences
+	 * @return {@code true} if at least one char sequence is valid, otherwise {@code false}
+	 * @since 1.10.0
+	 */
+	public static <T extends CharSequence> boolean anyValid(T[] column, Predicate<? super T> validator) {
+		requireNonNull(column);
+		return findAny(column.length, i -> column[i], requireNonNull(validator));
+	}
+
+	/**
+	 * Checks if at least one char sequence of a list is valid, splitting random-access lists across cores as {@link #anyValid(CharSequence[], Predicate)}.
+	 * @param column the char sequences to check; not null
+	 * @param validator the validator; not null, stateless
+	 * @param <T> the type of the char sequences
+	 * @return {@code true} if at least one char sequence is valid, otherwise {@code false}
+	 * @since 1.10.0
+	 */
+	public static <T extends CharSequence> boolean anyValid(List<? extends T> column, Predicate<? super T> validator) {
+		if (requireNonNull(column) instanceof RandomAccess) return findAny(column.size(), column::get, requireNonNull(validator));
+		return anyValid(column.iterator(), validator);
+	}
+
+	/**
+	 * Checks if at least one char sequence of an iterator is valid, stopping at the first valid one.
+	 * @param column the char sequences to check; not null
+	 * @param validator the validator; not null
+	 * @param <T> the type of the char sequences
+	 * @return {@code true} if at least one char sequence is valid, otherwise {@code false}
+	 * @since 1.10.0
+	 */
+	public static <T extends CharSequence> boolean anyValid(Iterator<? extends T> column, Predicate<? super T> validator) {
+		requireNonNull(column);
+		requireNonNull(validator);
+		while (column.hasNext())
+			if (validator.test(column.next())) return true;
+		return false;
+	}
+
+	private static long[] checkMask(int length, long[] mask) {
+		if (requireNonNull(mask).length < (length + 63) >>> 6) throw new IllegalArgumentException("Mask must have at least " + ((length + 63) >>> 6) + " words.");
+		return mask;
+	}
+
+	/**
+	 * @return the cells of the chunks validated in parallel, a multiple of 64
+	 */
+	private static int validateChunkSize(int length) {
+		int chunk = Math.max(PARALLEL_VALIDATE_THRESHOLD / 4, length / (Runtime.getRuntime().availableProcessors() * 4) + 1);
+		return (chunk + 63) & ~63;
+	}
+
+	/**
+	 * Validates cells into a mask, in parallel chunks of whole words for long columns, setting the valid bits of each word in place.
+	 */
+	private static <T extends CharSequence> int validateInto(int length, IntFunction<? extends T> cell, Predicate<? super T> validator, BitSet mask) {
+		requireNonNull(validator);
+		mask.clear(0, length);
+		if (length < PARALLEL_VALIDATE_THRESHOLD) return validateRange(0, length, cell, validator, mask);
+		int chunk = validateChunkSize(length);
+		return IntStream.range(0, (length + chunk - 1) / chunk).parallel()
+				.map(c -> validateRange(c * chunk, Math.min(length, c * chunk + chunk), cell, validator, mask)).sum();
+	}
+
+	/**
+	 * Validates a range of cells starting at a word boundary into a cleared range of a mask, shared by the chunks.
+	 */
+	private static <T extends CharSequence> int validateRange(int from, int to, IntFunction<? extends T> cell, Predicate<? super T> validator, BitSet mask) {
+		int count = 0;
+		for (int start = from; start < to; start += 64) {
+			long bits = validateWord(start, Math.min(to, start + 64), cell, validator);
+			if (bits == 0) continue;
+			synchronized (mask) {
+				for (long rest = bits; rest != 0; rest &= rest - 1) mask.set(start + Long.numberOfTrailingZeros(rest));
+			}
+			count += Long.bitCount(bits);
+		}
+		return count;
+	}
+
+	/**
+	 * Validates cells into the words of a mask, in parallel chunks of whole words for long columns.
+	 */
+	private static <T extends CharSequence> int validateWords(int length, IntFunction<? extends T> cell, Predicate<? super T> validator, long[] words) {
+		if (length < PARALLEL_VALIDATE_THRESHOLD) return validateRange(0, length, cell, validator, words);
+		int chunk = validateChunkSize(length);
+		return IntStream.range(0, (length + chunk - 1) / chunk).parallel()
+				.map(c -> validateRange(c * chunk, Math.min(length, c * chunk + chunk), cell, validator, words)).sum();
+	}
+
+	/**
+	 * Validates a range of cells starting at a word boundary.
+	 */
+	private static <T extends CharSequence> int validateRange(int from, int to, IntFunction<? extends T> cell, Predicate<? super T> validator, long[] words) {
+		int count = 0;
+		for (int start = from; start < to; start += 64) {
+			int end = Math.min(to, start + 64);
+			long bits = validateWord(start, end, cell, validator);
+			long written = end - start == 64 ? -1L : (1L << (end - start)) - 1;
+			words[start >>> 6] = words[start >>> 6] & ~written | bits;
+			count += Long.bitCount(bits);
+		}
+		return count;
+	}
+
+	/**
+	 * @return the bits of the valid cells of a word, from a word boundary to at most 64 cells further
+	 */
+	private static <T extends CharSequence> long validateWord(int start, int end, IntFunction<? extends T> cell, Predicate<? super T> validator) {
+		long bits = 0;
+		for (int i = start; i < end; i++)
+			if (validator.test(cell.apply(i))) bits |= 1L << i;
+		return bits;
+	}
+
+	/**
+	 * Searches a cell matching a predicate, in parallel chunks for long columns that stop as soon as any chunk finds one.
+	 */
+	private static <T extends CharSequence> boolean findAny(int length, IntFunction<? extends T> cell, Predicate<? super T> predicate) {
+		if (length < PARALLEL_VALIDATE_THRESHOLD) {
+			for (int i = 0; i < length; i++)
+				if (predicate.test(cell.apply(i))) return true;
+			return false;
+		}
+		int chunk = validateChunkSize(length);
+		AtomicBoolean found = new AtomicBoolean();
+		IntStream.range(0, (length + chunk - 1) / chunk).parallel().forEach(c -> {
+			for (int i = c * chunk, end = Math.min(length, i + chunk); i < end && !found.get(); i++) {
+				if (predicate.test(cell.apply(i))) found.set(true);
+			}
+		});
+		return found.get();
+	}
+
 	/**
 	 * Abbreviate a given char sequence.
 	 * @param cs the char sequence to abbreviate
@@ -1017,30 +1823,7 @@ public abstract class CharSequenceUtils {
 			return result;
 		}
 		if (anyEmpty(cs, abbrevMarker)) return cs;
-
-		int abbrevMarkerLength = abbrevMarker.length();
-		int minAbbrevWidth = abbrevMarkerLength + 1;
-		int minAbbrevWidthOffset = abbrevMarkerLength + abbrevMarkerLength + 1;
-		if (maxWidth < minAbbrevWidth) throw new IllegalArgumentException(String.format("Minimum abbreviation width is %d", minAbbrevWidth));
-
-		int csLen = cs.length();
-		if (csLen <= maxWidth) return cs;
-
-		if (offset > csLen) offset = csLen;
-
-		if (csLen - offset < maxWidth - abbrevMarkerLength)
-			offset = csLen - (maxWidth - abbrevMarkerLength);
-
-		if (offset <= abbrevMarkerLength + 1) {
-			@SuppressWarnings("unchecked") T result = (T) (cs.subSequence(0, maxWidth - abbrevMarkerLength).toString() + abbrevMarker);
-			return result;
-		}
-		if (maxWidth < minAbbrevWidthOffset)
-			throw new IllegalArgumentException(String.format("Minimum abbreviation width with offset is %d", minAbbrevWidthOffset));
-
-		@SuppressWarnings("unchecked") T result1 = (T) (abbrevMarker.toString() + abbreviate(cs.subSequence(offset, cs.length()), abbrevMarker, maxWidth - abbrevMarkerLength));
-		@SuppressWarnings("unchecked") T result2 = (T) (abbrevMarker.toString() + cs.subSequence(csLen - (maxWidth - abbrevMarkerLength), cs.length()));
-		return offset + maxWidth - abbrevMarkerLength < csLen ? result1 :  result2;
+		return materialize(cs, abbreviateView(cs, abbrevMarker, offset, maxWidth));
 	}
 
 	/**
@@ -1084,28 +1867,151 @@ public abstract class CharSequenceUtils {
 	}
 
 	/**
-	 * Abbreviate a given char sequence in the middle.
+	 * Abbreviate a given char sequence, as {@link #abbreviate(CharSequence, CharSequence, int, int)}, without copying it.
+	 * Unlike it, a {@code null} char sequence or marker gives back the char sequence,
+	 * and an empty marker of any type cuts the char sequence to at most {@code maxWidth} chars.
 	 * @param cs the char sequence to abbreviate
-	 * @param middle the middle char sequence
-	 * @param length the length of the abbreviation
-	 * @param <T> the type of the char sequence
-	 * @return the abbreviated char sequence
-	 * @since 1.0.0
+	 * @param abbrevMarker the abbreviation marker
+	 * @param offset the offset of the abbreviation
+	 * @param maxWidth the maximum width of the abbreviation
+	 * @return the char sequence itself if not abbreviated, otherwise a {@link CharSlice} or a {@link CompositeCharSequence} over it
+	 * @throws IllegalArgumentException if the maximum width is too small for the marker
+	 * @since 1.10.0
 	 */
-	public static <T extends CharSequence> T abbreviateMiddle(T cs, T middle, int length) {
-		if (!anyEmpty(cs, middle) && length < cs.length() && length >= middle.length() + 2) {
-			int targetSting = length - middle.length();
-			int startOffset = targetSting / 2 + targetSting % 2;
-			int endOffset = cs.length() - targetSting / 2;
+	public static CharSequence abbreviateView(CharSequence cs, CharSequence abbrevMarker, int offset, int maxWidth) {
+		if (nonEmpty(cs) && nonNull(abbrevMarker) && abbrevMarker.length() == 0 && maxWidth > 0)
+			return cs.length() <= maxWidth ? cs : CharSlice.of(cs, 0, maxWidth);
+		if (isNullOrEmpty(cs) || isNullOrEmpty(abbrevMarker)) return cs;
 
-			@SuppressWarnings("unchecked") T result = (T) (cs.subSequence(0, startOffset).toString() + middle + cs.subSequence(endOffset, cs.length()));
-			return result;
-		} else {
-			return cs;
-		}
-	}
+		int abbrevMarkerLength = abbrevMarker.length();
+		int minAbbrevWidth = abbrevMarkerLength + 1;
+		int minAbbrevWidthOffset = abbrevMarkerLength + abbrevMarkerLength + 1;
+		if (maxWidth < minAbbrevWidth) throw new IllegalArgumentException(String.format("Minimum abbreviation width is %d", minAbbrevWidth));
 
-	/**
+		int csLen = cs.length();
+		if (csLen <= maxWidth) return cs;
+
+		if (offset > csLen) offset = csLen;
+		if (csLen - offset < maxWidth - abbrevMarkerLength) offset = csLen - (maxWidth - abbrevMarkerLength);
+
+		if (offset <= abbrevMarkerLength + 1) return CompositeCharSequence.of(CharSlice.of(cs, 0, maxWidth - abbrevMarkerLength), abbrevMarker);
+		if (maxWidth < minAbbrevWidthOffset)
+			throw new IllegalArgumentException(String.format("Minimum abbreviation width with offset is %d", minAbbrevWidthOffset));
+
+		if (offset + maxWidth - abbrevMarkerLength < csLen)
+			return CompositeCharSequence.of(abbrevMarker, CharSlice.of(cs, offset, offset + maxWidth - 2 * abbrevMarkerLength), abbrevMarker);
+		return CompositeCharSequence.of(abbrevMarker, CharSlice.of(cs, csLen - (maxWidth - abbrevMarkerLength), csLen));
+	}
+
+	/**
+	 * Abbreviate a given char sequence with {@code "..."}, without copying it.
+	 * @param cs the char sequence to abbreviate
+	 * @param maxWidth the maximum width of the abbreviation
+	 * @return the char sequence itself if not abbreviated, otherwise a {@link CompositeCharSequence} over it
+	 * @throws IllegalArgumentException if the maximum width is less than 4
+	 * @since 1.10.0
+	 */
+	public static CharSequence abbreviateView(CharSequence cs, int maxWidth) {
+		return abbreviateView(cs, "...", 0, maxWidth);
+	}
+
+	/**
+	 * Writes a char sequence abbreviated, as {@link #abbreviate(CharSequence, CharSequence, int, int)}, to an appendable, without building it.
+	 * @param out the appendable to write to
+	 * @param cs the char sequence to abbreviate; if {@code null}, nothing is written
+	 * @param abbrevMarker the abbreviation marker
+	 * @param offset the offset of the abbreviation
+	 * @param maxWidth the maximum width of the abbreviation
+	 * @param <A> the type of the appendable
+	 * @return the appendable
+	 * @throws IOException if the appendable fails
+	 * @throws IllegalArgumentException if the maximum width is too small for the marker
+	 * @since 1.10.0
+	 */
+	public static <A extends Appendable> A abbreviateTo(A out, CharSequence cs, CharSequence abbrevMarker, int offset, int maxWidth) throws IOException {
+		return appendView(out, abbreviateView(cs, abbrevMarker, offset, maxWidth));
+	}
+
+	/**
+	 * Writes a char sequence abbreviated with {@code "..."} to an appendable, without building it.
+	 * @param out the appendable to write to
+	 * @param cs the char sequence to abbreviate; if {@code null}, nothing is written
+	 * @param maxWidth the maximum width of the abbreviation
+	 * @param <A> the type of the appendable
+	 * @return the appendable
+	 * @throws IOException if the appendable fails
+	 * @throws IllegalArgumentException if the maximum width is less than 4
+	 * @since 1.10.0
+	 */
+	public static <A extends Appendable> A abbreviateTo(A out, CharSequence cs, int maxWidth) throws IOException {
+		return appendView(out, abbreviateView(cs, maxWidth));
+	}
+
+	/**
+	 * Materializes the view of a char sequence, once.
+	 * @return the char sequence itself if it is the view, otherwise the chars of the view in a new string
+	 */
+	private static <T extends CharSequence> T materialize(T cs, CharSequence view) {
+		@SuppressWarnings("unchecked") T result = view == cs ? cs : (T) view.toString();
+		return result;
+	}
+
+	/**
+	 * Writes a view to an appendable, if not {@code null}.
+	 * @return the appendable
+	 */
+	private static <A extends Appendable> A appendView(A out, CharSequence view) throws IOException {
+		requireNonNull(out);
+		return isNull(view) ? out : CompositeCharSequence.appendTo(out, view);
+	}
+
+	/**
+	 * Abbreviate a given char sequence in the middle.
+	 * @param cs the char sequence to abbreviate
+	 * @param middle the middle char sequence
+	 * @param length the length of the abbreviation
+	 * @param <T> the type of the char sequence
+	 * @return the abbreviated char sequence
+	 * @since 1.0.0
+	 */
+	public static <T extends CharSequence> T abbreviateMiddle(T cs, T middle, int length) {
+		if (anyEmpty(cs, middle)) return cs;
+		return materialize(cs, abbreviateMiddleView(cs, middle, length));
+	}
+
+	/**
+	 * Abbreviate a given char sequence in the middle, as {@link #abbreviateMiddle(CharSequence, CharSequence, int)}, without copying it.
+	 * Unlike it, a {@code null} char sequence or middle gives back the char sequence.
+	 * @param cs the char sequence to abbreviate
+	 * @param middle the middle char sequence
+	 * @param length the length of the abbreviation
+	 * @return the char sequence itself if not abbreviated, otherwise a {@link CompositeCharSequence} over it
+	 * @since 1.10.0
+	 */
+	public static CharSequence abbreviateMiddleView(CharSequence cs, CharSequence middle, int length) {
+		if (isNullOrEmpty(cs) || isNullOrEmpty(middle) || length >= cs.length() || length < middle.length() + 2) return cs;
+		int targetSting = length - middle.length();
+		int startOffset = targetSting / 2 + targetSting % 2;
+		int endOffset = cs.length() - targetSting / 2;
+		return CompositeCharSequence.of(CharSlice.of(cs, 0, startOffset), middle, CharSlice.of(cs, endOffset, cs.length()));
+	}
+
+	/**
+	 * Writes a char sequence abbreviated in the middle, as {@link #abbreviateMiddle(CharSequence, CharSequence, int)}, to an appendable, without building it.
+	 * @param out the appendable to write to
+	 * @param cs the char sequence to abbreviate; if {@code null}, nothing is written
+	 * @param middle the middle char sequence
+	 * @param length the length of the abbreviation
+	 * @param <A> the type of the appendable
+	 * @return the appendable
+	 * @throws IOException if the appendable fails
+	 * @since 1.10.0
+	 */
+	public static <A extends Appendable> A abbreviateMiddleTo(A out, CharSequence cs, CharSequence middle, int length) throws IOException {
+		return appendView(out, abbreviateMiddleView(cs, middle, length));
+	}
+
+	/**
 	 * Appends a suffix to a char sequence if it is missing.
 	 * @param cs the char sequence to append the suffix to
 	 * @param suffix the suffix to append
@@ -1149,15 +2055,7 @@ public abstract class CharSequenceUtils {
 	 * @since 1.0.0
 	 */
 	public static <T extends CharSequence> T center(T cs, int size, char padChar) {
-		if (nonNull(cs) && size > 0) {
-			int strLen = cs.length();
-			int pads = size - strLen;
-			if (pads <= 0) return cs;
-
-			cs = leftPad(cs, strLen + pads / 2, padChar);
-			cs = rightPad(cs, size, padChar);
-		}
-		return cs;
+		return materialize(cs, centerView(cs, size, padChar));
 	}
 
 	/**
@@ -1170,17 +2068,68 @@ public abstract class CharSequenceUtils {
 	 * @since 1.0.0
 	 */
 	public static <T extends CharSequence> T center(T cs, int size, T padStr) {
-		if (nonNull(cs) && size > 0) {
-			if (isNullOrEmpty(padStr)) padStr = space();
+		return materialize(cs, centerView(cs, size, padStr));
+	}
 
-			int strLen = cs.length();
-			int pads = size - strLen;
-			if (pads <= 0) return cs;
+	/**
+	 * Center a char sequence in a larger char sequence, as {@link #center(CharSequence, int, char)}, without copying it.
+	 * @param cs the char sequence to center
+	 * @param size the size of the char sequence to center in
+	 * @param padChar the padding char
+	 * @return the char sequence itself if not padded, otherwise a {@link CompositeCharSequence} over it
+	 * @since 1.10.0
+	 */
+	public static CharSequence centerView(CharSequence cs, int size, char padChar) {
+		if (isNull(cs) || size <= 0) return cs;
+		int pads = size - cs.length();
+		if (pads <= 0) return cs;
+		return CompositeCharSequence.of(CompositeCharSequence.repeat(padChar, pads / 2), cs, CompositeCharSequence.repeat(padChar, pads - pads / 2));
+	}
 
-			cs = leftPad(cs, strLen + pads / 2, padStr);
-			cs = rightPad(cs, size, padStr);
-		}
-		return cs;
+	/**
+	 * Center a char sequence in a larger char sequence, as {@link #center(CharSequence, int, CharSequence)}, without copying it.
+	 * @param cs the char sequence to center
+	 * @param size the size of the char sequence to center in
+	 * @param padStr the padding char sequence; if {@code null} or empty, a space
+	 * @return the char sequence itself if not padded, otherwise a {@link CompositeCharSequence} over it
+	 * @since 1.10.0
+	 */
+	public static CharSequence centerView(CharSequence cs, int size, CharSequence padStr) {
+		if (isNull(cs) || size <= 0) return cs;
+		if (isNullOrEmpty(padStr)) padStr = space();
+		int pads = size - cs.length();
+		if (pads <= 0) return cs;
+		return CompositeCharSequence.of(CompositeCharSequence.repeat(padStr, pads / 2), cs, CompositeCharSequence.repeat(padStr, pads - pads / 2));
+	}
+
+	/**
+	 * Writes a char sequence centered, as {@link #center(CharSequence, int, char)}, to an appendable, without building it.
+	 * @param out the appendable to write to
+	 * @param cs the char sequence to center; if {@code null}, nothing is written
+	 * @param size the size of the char sequence to center in
+	 * @param padChar the padding char
+	 * @param <A> the type of the appendable
+	 * @return the appendable
+	 * @throws IOException if the appendable fails
+	 * @since 1.10.0
+	 */
+	public static <A extends Appendable> A centerTo(A out, CharSequence cs, int size, char padChar) throws IOException {
+		return appendView(out, centerView(cs, size, padChar));
+	}
+
+	/**
+	 * Writes a char sequence centered, as {@link #center(CharSequence, int, CharSequence)}, to an appendable, without building it.
+	 * @param out the appendable to write to
+	 * @param cs the char sequence to center; if {@code null}, nothing is written
+	 * @param size the size of the char sequence to center in
+	 * @param padStr the padding char sequence; if {@code null} or empty, a space
+	 * @param <A> the type of the appendable
+	 * @return the appendable
+	 * @throws IOException if the appendable fails
+	 * @since 1.10.0
+	 */
+	public static <A extends Appendable> A centerTo(A out, CharSequence cs, int size, CharSequence padStr) throws IOException {
+		return appendView(out, centerView(cs, size, padStr));
 	}
 
 	/**
@@ -1227,6 +2176,61 @@ public abstract class CharSequenceUtils {
 		return result;
 	}
 
+	/**
+	 * Chomp a char sequence, as {@link #chomp(CharSequence)}, without copying it.
+	 * @param cs the char sequence to chomp
+	 * @return the char sequence itself if not chomped, otherwise a {@link CharSlice} over it
+	 * @since 1.10.0
+	 */
+	public static CharSequence chompView(CharSequence cs) {
+		if (isNullOrEmpty(cs)) return cs;
+		int lastIdx = cs.length() - 1;
+		char last = cs.charAt(lastIdx);
+		if (last == '\n') {
+			if (lastIdx > 0 && cs.charAt(lastIdx - 1) == '\r') --lastIdx;
+		} else if (last != '\r') return cs;
+		return CharSlice.of(cs, 0, lastIdx);
+	}
+
+	/**
+	 * Chop a char sequence, as {@link #chop(CharSequence)}, without copying it.
+	 * @param cs the char sequence to chop
+	 * @return a {@link CharSlice} over the char sequence, or {@code null} if it is {@code null}
+	 * @since 1.10.0
+	 */
+	public static CharSequence chopView(CharSequence cs) {
+		if (isNull(cs)) return null;
+		int lastIdx = cs.length() - 1;
+		if (lastIdx < 1) return CharSlice.of(cs, 0, 0);
+		return CharSlice.of(cs, 0, cs.charAt(lastIdx) == '\n' && cs.charAt(lastIdx - 1) == '\r' ? lastIdx - 1 : lastIdx);
+	}
+
+	/**
+	 * Writes a char sequence chomped, as {@link #chomp(CharSequence)}, to an appendable.
+	 * @param out the appendable to write to
+	 * @param cs the char sequence to chomp; if {@code null}, nothing is written
+	 * @param <A> the type of the appendable
+	 * @return the appendable
+	 * @throws IOException if the appendable fails
+	 * @since 1.10.0
+	 */
+	public static <A extends Appendable> A chompTo(A out, CharSequence cs) throws IOException {
+		return appendView(out, chompView(cs));
+	}
+
+	/**
+	 * Writes a char sequence chopped, as {@link #chop(CharSequence)}, to an appendable.
+	 * @param out the appendable to write to
+	 * @param cs the char sequence to chop; if {@code null}, nothing is written
+	 * @param <A> the type of the appendable
+	 * @return the appendable
+	 * @throws IOException if the appendable fails
+	 * @since 1.10.0
+	 */
+	public static <A extends Appendable> A chopTo(A out, CharSequence cs) throws IOException {
+		return appendView(out, chopView(cs));
+	}
+
 	/**
 	 * Checks if a given char sequence contains all the given chars.
 	 * @param cs the char sequence to check
@@ -1237,24 +2241,29 @@ public abstract class CharSequenceUtils {
 	 */
 	public static <T extends CharSequence> boolean containsAll(T cs, char... searchChars) {
 		if (isNullOrEmpty(cs)) return false;
+		String str = cs.toString();
 		for (char ch : searchChars) {
-			if (cs.toString().indexOf(ch) < 0) return false;
+			if (str.indexOf(ch) < 0) return false;
 		} return true;
 	}
 
 	/**
 	 * Checks if a given char sequence contains all the given char sequences.
+	 * From {@value #AHO_CORASICK_THRESHOLD} char sequences on, they are all searched in a single pass.
 	 * @param cs the char sequence to check
 	 * @param searchCharSequences the char sequences to search for
 	 * @param <T> the type of the char sequence
 	 * @return {@code true} if the char sequence contains all the given char sequences, {@code false} otherwise
+	 * @see AhoCorasick#containsAll(CharSequence)
 	 * @since 1.0.0
 	 */
 	@SafeVarargs
 	public static <T extends CharSequence> boolean containsAll(T cs, T... searchCharSequences) {
 		if (isNullOrEmpty(cs)) return false;
+		if (searchCharSequences.length >= AHO_CORASICK_THRESHOLD) return AhoCorasick.of(searchCharSequences).containsAll(cs);
+		String str = cs.toString();
 		for (CharSequence searchCharSequence : searchCharSequences) {
-			if (!cs.toString().contains(searchCharSequence.toString())) return false;
+			if (!str.contains(searchCharSequence.toString())) return false;
 		} return true;
 	}
 
@@ -1280,32 +2289,31 @@ public abstract class CharSequenceUtils {
 	 * @param searchChars the chars to search for
 	 * @param <T> the type of the char sequence
 	 * @return {@code true} if the char sequence contains any of the given chars, {@code false} otherwise
+	 * @see CharMatcher#matchesAnyOf(CharSequence)
 	 * @since 1.0.0
 	 */
 	public static <T extends CharSequence> boolean containsAny(T cs, char...searchChars) {
 		if (isNullOrEmpty(cs)) return false;
-		int csLen = cs.length();
-		for (int i = 0; i < csLen; i++) {
-			char ch = cs.charAt(i);
-			for (char searchChar : searchChars) {
-				if (searchChar == ch) return true;
-			}
-		} return false;
+		return CharMatcher.of(searchChars).matchesAnyOf(cs);
 	}
 
 	/**
 	 * Checks if a given char sequence contains any of the given char sequences.
+	 * From {@value #AHO_CORASICK_THRESHOLD} char sequences on, they are all searched in a single pass.
 	 * @param cs the char sequence to check
 	 * @param searchCharSequences the char sequences to search for
 	 * @param <T> the type of the char sequence
 	 * @return {@code true} if the char sequence contains any of the given char sequences, {@code false} otherwise
+	 * @see AhoCorasick#containsAny(CharSequence)
 	 * @since 1.0.0
 	 */
 	@SafeVarargs
 	public static <T extends CharSequence> boolean containsAny(T cs, T... searchCharSequences) {
 		if (isNullOrEmpty(cs)) return false;
+		if (searchCharSequences.length >= AHO_CORASICK_THRESHOLD) return AhoCorasick.of(searchCharSequences).containsAny(cs);
+		String str = cs.toString();
 		for (CharSequence searchCharSequence : searchCharSequences) {
-			if (cs.toString().contains(searchCharSequence)) return true;
+			if (str.contains(searchCharSequence)) return true;
 		}
 		return false;
 	}
@@ -1320,9 +2328,7 @@ public abstract class CharSequenceUtils {
 	 */
 	public static <T extends CharSequence> boolean containsAny(T cs, T searchCharSequence) {
 		if (isNullOrEmpty(cs)) return false;
-		for (int i = 0; i < searchCharSequence.length(); i++) {
-			if (cs.toString().indexOf(searchCharSequence.charAt(i)) >= 0) return true;
-		} return false;
+		return CharMatcher.of(searchCharSequence).matchesAnyOf(cs);
 	}
 
 	/**
@@ -1368,21 +2374,12 @@ public abstract class CharSequenceUtils {
 	 * @param valid the valid chars
 	 * @param <T> the type of the char sequence
 	 * @return {@code true} if the char sequence contains only the given chars, {@code false} otherwise
+	 * @see CharMatcher#matchesAllOf(CharSequence)
 	 * @since 1.0.0
 	 */
 	public static <T extends CharSequence> boolean containsOnly(T cs, char... valid) {
 		if (isNullOrEmpty(cs)) return false;
-		int csLen = cs.length();
-		for (int i = 0; i < csLen; i++) {
-			boolean contains = false;
-			char ch = cs.charAt(i);
-			for (char c : valid) {
-				if (c == ch) {
-					contains = true;
-					break;
-				}
-			} if (!contains) return false;
-		} return true;
+		return CharMatcher.of(valid).matchesAllOf(cs);
 	}
 
 	/**
@@ -1396,17 +2393,9 @@ public abstract class CharSequenceUtils {
 	@SafeVarargs
 	public static <T extends CharSequence> boolean containsOnly(T cs, T... valid) {
 		if (isNullOrEmpty(cs)) return false;
-		int csLen = cs.length();
-		for (int i = 0; i < csLen; i++) {
-			boolean contains = false;
-			char ch = cs.charAt(i);
-			for (CharSequence c : valid) {
-				if (c.toString().indexOf(ch) >= 0) {
-					contains = true;
-					break;
-				}
-			} if (!contains) return false;
-		} return true;
+		StringBuilder chars = new StringBuilder();
+		for (CharSequence c : valid) chars.append(requireNonNull(c));
+		return CharMatcher.of(chars).matchesAllOf(cs);
 	}
 
 	/**
@@ -1419,10 +2408,7 @@ public abstract class CharSequenceUtils {
 	 */
 	public static <T extends CharSequence> boolean containsOnly(T cs, T valid) {
 		if (isNullOrEmpty(cs)) return false;
-		int csLen = cs.length();
-		for (int i = 0; i < csLen; i++) {
-			if (valid.toString().indexOf(cs.charAt(i)) < 0) return false;
-		} return true;
+		return CharMatcher.of(valid).matchesAllOf(cs);
 	}
 
 	/**
@@ -1456,7 +2442,7 @@ public abstract class CharSequenceUtils {
 	}
 
 	/**
-	 * Counts the number of occurrences of a chars in a char sequence.
+	 * Counts the number of occurrences of a chars in a char sequence, in a single pass over it.
 	 * @param cs the char sequence to check
 	 * @param chars the chars to count
 	 * @param <T> the type of the char sequence
@@ -1465,39 +2451,53 @@ public abstract class CharSequenceUtils {
 	 */
 	public static <T extends CharSequence> int[] countMatches(T cs, char... chars) {
 		int[] counts = new int[requireNonNull(chars).length];
+		requireNonNull(cs);
+		if (chars.length == 0) return counts;
+		char[] distinct = chars.clone();
+		Arrays.sort(distinct);
+		int unique = 1;
+		for (int i = 1; i < distinct.length; i++) if (distinct[i] != distinct[unique - 1]) distinct[unique++] = distinct[i];
+		distinct = Arrays.copyOf(distinct, unique);
+		int[] distinctCounts = new int[distinct.length];
+		CharMatcher matcher = CharMatcher.of(chars);
+		for (int i = 0; i < cs.length(); i++) {
+			char ch = cs.charAt(i);
+			if (matcher.matches(ch)) distinctCounts[Arrays.binarySearch(distinct, ch)]++;
+		}
 		for (int i = 0; i < chars.length; i++) {
-			counts[i] = countMatches(cs, chars[i]);
+			counts[i] = distinctCounts[Arrays.binarySearch(distinct, chars[i])];
 		} return counts;
 	}
 
 	/**
-	 * Counts the number of occurrences of a char sequence in a char sequence.
+	 * Counts the number of non-overlapping occurrences of a char sequence in a char sequence, without copying it.
 	 * @param cs the char sequence to check
 	 * @param sub the char sequence to count
 	 * @param <T> the type of the char sequence
-	 * @return the number of occurrences of the char sequence in the char sequence
+	 * @return the number of occurrences of the char sequence in the char sequence, {@code 0} if it is empty
+	 * @see SearchPattern#countIn(CharSequence)
 	 * @since 1.0.0
 	 */
 	public static <T extends CharSequence> int countMatches(T cs, T sub) {
-		int count = 0;
-		int idx = 0;
-		while ((idx = requireNonNull(cs).toString().indexOf(requireNonNull(sub).toString(), idx)) != -1) {
-			count++;
-			idx += sub.length();
-		} return count;
+		requireNonNull(cs);
+		if (requireNonNull(sub).length() == 0) return 0;
+		return SearchPattern.of(sub).countIn(cs);
 	}
 
 	/**
-	 * Counts the number of occurrences of a char sequences in a char sequence.
+	 * Counts the number of non-overlapping occurrences of a char sequences in a char sequence.
+	 * From {@value #AHO_CORASICK_THRESHOLD} char sequences on, they are all counted in a single pass.
 	 * @param cs the char sequence to check
 	 * @param subs the char sequences to count
 	 * @param <T> the type of the char sequence
 	 * @return the array with the numbers of occurrences of the char sequence in the char sequence
+	 * @see AhoCorasick#countMatches(CharSequence)
 	 * @since 1.0.0
 	 */
 	@SafeVarargs
 	public static <T extends CharSequence> int[] countMatches(T cs, T... subs) {
-		int[] counts = new int[requireNonNull(subs).length];
+		if (requireNonNull(subs).length >= AHO_CORASICK_THRESHOLD) return AhoCorasick.of(subs).countMatches(requireNonNull(cs));
+		int[] counts = new int[subs.length];
 		for (int i = 0; i < subs.length; i++) {
 			counts[i] = countMatches(cs, subs[i]);
 		} return counts;
@@ -1520,6 +2520,26 @@ public abstract class CharSequenceUtils {
 		return result;
 	}
 
+	/**
+	 * Repeat a char sequence, copying it once and then doubling the copied run.
+	 * @param cs the char sequence to repeat
+	 * @param repeat the number of times to repeat
+	 * @param <T> the type of the char sequence
+	 * @return the repeated char sequence; empty if the char sequence is {@code null} or empty, or the number is not positive
+	 * @throws IllegalArgumentException if the length of the result overflows an int
+	 * @since 1.10.0
+	 */
+	public static <T extends CharSequence> T repeat(T cs, int repeat) {
+		if (isNullOrEmpty(cs) || repeat <= 0) return empty();
+		long length = (long) cs.length() * repeat;
+		if (length > Integer.MAX_VALUE) throw new IllegalArgumentException("Length overflows an int.");
+		char[] chars = new char[(int) length];
+		fillCycle(cs, chars, 0, chars.length);
+
+		@SuppressWarnings("unchecked") T result = (T) new String(chars);
+		return result;
+	}
+
 	/**
 	 * Left pad of a char sequence.
 	 * @param cs the char sequence to pad
@@ -1547,8 +2567,12 @@ public abstract class CharSequenceUtils {
 		int pads = size - cs.length();
 		if (pads <= 0) return cs;
 
-		@SuppressWarnings("unchecked") T result2 = (T) repeat(padChar, pads).toString().concat(cs.toString());
-		return pads > 8192 ? leftPad(cs, size, padChar) : result2;
+		char[] chars = new char[size];
+		Arrays.fill(chars, 0, pads, padChar);
+		copyChars(cs, chars, pads);
+
+		@SuppressWarnings("unchecked") T result = (T) new String(chars);
+		return result;
 	}
 
 	/**
@@ -1562,33 +2586,79 @@ public abstract class CharSequenceUtils {
 	 */
 	public static <T extends CharSequence> T leftPad(T cs, int size, T padCs) {
 		if (isNull(cs)) return null;
-
 		if (isNullOrEmpty(padCs)) padCs = space();
 
-		int padLen = padCs.length();
 		int strLen = cs.length();
 		int pads = size - strLen;
 		if (pads <= 0) return cs;
-		if (padLen == 1 && pads <= 8192) return leftPad(cs, size, padCs.charAt(0));
-		if (pads == padLen) {
-			@SuppressWarnings("unchecked") T result = (T) padCs.toString().concat(cs.toString());
-			return result;
-		} else if (pads < padLen) {
-			@SuppressWarnings("unchecked") T result = (T) padCs.subSequence(0, pads).toString().concat(cs.toString());
-			return result;
-		}
 
-		char[] padding = new char[pads];
-		char[] padChars = padCs.toString().toCharArray();
+		char[] chars = new char[size];
+		fillCycle(padCs, chars, 0, pads);
+		copyChars(cs, chars, pads);
 
-		for(int i = 0; i < pads; ++i) {
-			padding[i] = padChars[i % padLen];
-		}
-
-		@SuppressWarnings("unchecked") T result = (T) new String(padding).concat(cs.toString());
+		@SuppressWarnings("unchecked") T result = (T) new String(chars);
 		return result;
 	}
 
+	/**
+	 * Left pad of a char sequence, as {@link #leftPad(CharSequence, int, char)}, without copying it.
+	 * @param cs the char sequence to pad
+	 * @param size the size of the padding
+	 * @param padChar the padding char
+	 * @return the char sequence itself if not padded, otherwise a {@link CompositeCharSequence} over it
+	 * @since 1.10.0
+	 */
+	public static CharSequence leftPadView(CharSequence cs, int size, char padChar) {
+		if (isNull(cs)) return null;
+		int pads = size - cs.length();
+		return pads <= 0 ? cs : CompositeCharSequence.of(CompositeCharSequence.repeat(padChar, pads), cs);
+	}
+
+	/**
+	 * Left pad of a char sequence, repeating a padding char sequence, without copying it.
+	 * @param cs the char sequence to pad
+	 * @param size the size of the padding
+	 * @param padCs the padding char sequence; if {@code null} or empty, a space
+	 * @return the char sequence itself if not padded, otherwise a {@link CompositeCharSequence} over it
+	 * @since 1.10.0
+	 */
+	public static CharSequence leftPadView(CharSequence cs, int size, CharSequence padCs) {
+		if (isNull(cs)) return null;
+		if (isNullOrEmpty(padCs)) padCs = space();
+		int pads = size - cs.length();
+		return pads <= 0 ? cs : CompositeCharSequence.of(CompositeCharSequence.repeat(padCs, pads), cs);
+	}
+
+	/**
+	 * Writes a char sequence left padded, as {@link #leftPad(CharSequence, int, char)}, to an appendable, without building it.
+	 * @param out the appendable to write to
+	 * @param cs the char sequence to pad; if {@code null}, nothing is written
+	 * @param size the size of the padding
+	 * @param padChar the padding char
+	 * @param <A> the type of the appendable
+	 * @return the appendable
+	 * @throws IOException if the appendable fails
+	 * @since 1.10.0
+	 */
+	public static <A extends Appendable> A leftPadTo(A out, CharSequence cs, int size, char padChar) throws IOException {
+		return appendView(out, leftPadView(cs, size, padChar));
+	}
+
+	/**
+	 * Writes a char sequence left padded with a repeated padding char sequence to an appendable, without building it.
+	 * @param out the appendable to write to
+	 * @param cs the char sequence to pad; if {@code null}, nothing is written
+	 * @param size the size of the padding
+	 * @param padCs the padding char sequence; if {@code null} or empty, a space
+	 * @param <A> the type of the appendable
+	 * @return the appendable
+	 * @throws IOException if the appendable fails
+	 * @since 1.10.0
+	 */
+	public static <A extends Appendable> A leftPadTo(A out, CharSequence cs, int size, CharSequence padCs) throws IOException {
+		return appendView(out, leftPadView(cs, size, padCs));
+	}
+
 	/**
 	 * Right pad of a char sequence.
 	 * @param cs the char sequence to pad
@@ -1616,8 +2686,12 @@ public abstract class CharSequenceUtils {
 		int pads = size - cs.length();
 		if (pads <= 0) return cs;
 
-		@SuppressWarnings("unchecked") T result2 = (T) cs.toString().concat(repeat(padChar, pads).toString());
-		return pads > 8192 ? rightPad(cs, size, padChar) : result2;
+		char[] chars = new char[size];
+		copyChars(cs, chars, 0);
+		Arrays.fill(chars, cs.length(), size, padChar);
+
+		@SuppressWarnings("unchecked") T result = (T) new String(chars);
+		return result;
 	}
 
 	/**
@@ -1631,30 +2705,101 @@ public abstract class CharSequenceUtils {
 	 */
 	public static <T extends CharSequence> T rightPad(T cs, int size, T padCs) {
 		if (isNull(cs)) return null;
-		if (isNullOrEmpty(padCs)) padCs = empty();
+		if (isNullOrEmpty(padCs)) padCs = space();
 
-		int padLen = padCs.length();
 		int strLen = cs.length();
 		int pads = size - strLen;
 		if (pads <= 0) return cs;
-		if (padLen == 1 && pads <= 8192) return rightPad(cs, size, padCs.charAt(0));
-		if (pads == padLen) {
-			@SuppressWarnings("unchecked") T result = (T) cs.toString().concat(padCs.toString());
-			return result;
-		} else if (pads < padLen) {
-			@SuppressWarnings("unchecked") T result = (T) cs.toString().concat(padCs.subSequence(0, pads).toString());
-			return result;
-		}
 
-		char[] padding = new char[pads];
-		char[] padChars = padCs.toString().toCharArray();
+		char[] chars = new char[size];
+		copyChars(cs, chars, 0);
+		fillCycle(padCs, chars, strLen, pads);
+
+		@SuppressWarnings("unchecked") T result = (T) new String(chars);
+		return result;
+	}
+
+	/**
+	 * Copies the chars of a char sequence into a char-array.
+	 */
+	private static void copyChars(CharSequence cs, char[] dest, int offset) {
+		if (cs instanceof String) ((String) cs).getChars(0, cs.length(), dest, offset);
+		else if (cs instanceof StringBuilder) ((StringBuilder) cs).getChars(0, cs.length(), dest, offset);
+		else for (int i = 0, length = cs.length(); i < length; i++) dest[offset + i] = cs.charAt(i);
+	}
 
-		for(int i = 0; i < pads; ++i) {
-			padding[i] = padChars[i % padLen];
+	/**
+	 * Fills a range of a char-array with a char sequence repeated and cut to the length of the range,
+	 * copying it once and then doubling the copied run.
+	 */
+	private static void fillCycle(CharSequence pattern, char[] dest, int offset, int length) {
+		int filled = Math.min(pattern.length(), length);
+		if (filled == pattern.length()) copyChars(pattern, dest, offset);
+		else for (int i = 0; i < filled; i++) dest[offset + i] = pattern.charAt(i);
+		while (filled < length) {
+			int count = Math.min(filled, length - filled);
+			System.arraycopy(dest, offset, dest, offset + filled, count);
+			filled += count;
 		}
+	}
 
-		@SuppressWarnings("unchecked") T result = (T) cs.toString().concat(new String(padding));
-		return result;
+	/**
+	 * Right pad of a char sequence, as {@link #rightPad(CharSequence, int, char)}, without copying it.
+	 * @param cs the char sequence to pad
+	 * @param size the size of the padding
+	 * @param padChar the padding char
+	 * @return the char sequence itself if not padded, otherwise a {@link CompositeCharSequence} over it
+	 * @since 1.10.0
+	 */
+	public static CharSequence rightPadView(CharSequence cs, int size, char padChar) {
+		if (isNull(cs)) return null;
+		int pads = size - cs.length();
+		return pads <= 0 ? cs : CompositeCharSequence.of(cs, CompositeCharSequence.repeat(padChar, pads));
+	}
+
+	/**
+	 * Right pad of a char sequence, repeating a padding char sequence, without copying it.
+	 * @param cs the char sequence to pad
+	 * @param size the size of the padding
+	 * @param padCs the padding char sequence; if {@code null} or empty, a space
+	 * @return the char sequence itself if not padded, otherwise a {@link CompositeCharSequence} over it
+	 * @since 1.10.0
+	 */
+	public static CharSequence rightPadView(CharSequence cs, int size, CharSequence padCs) {
+		if (isNull(cs)) return null;
+		if (isNullOrEmpty(padCs)) padCs = space();
+		int pads = size - cs.length();
+		return pads <= 0 ? cs : CompositeCharSequence.of(cs, CompositeCharSequence.repeat(padCs, pads));
+	}
+
+	/**
+	 * Writes a char sequence right padded, as {@link #rightPad(CharSequence, int, char)}, to an appendable, without building it.
+	 * @param out the appendable to write to
+	 * @param cs the char sequence to pad; if {@code null}, nothing is written
+	 * @param size the size of the padding
+	 * @param padChar the padding char
+	 * @param <A> the type of the appendable
+	 * @return the appendable
+	 * @throws IOException if the appendable fails
+	 * @since 1.10.0
+	 */
+	public static <A extends Appendable> A rightPadTo(A out, CharSequence cs, int size, char padChar) throws IOException {
+		return appendView(out, rightPadView(cs, size, padChar));
+	}
+
+	/**
+	 * Writes a char sequence right padded with a repeated padding char sequence to an appendable, without building it.
+	 * @param out the appendable to write to
+	 * @param cs the char sequence to pad; if {@code null}, nothing is written
+	 * @param size the size of the padding
+	 * @param padCs the padding char sequence; if {@code null} or empty, a space
+	 * @param <A> the type of the appendable
+	 * @return the appendable
+	 * @throws IOException if the appendable fails
+	 * @since 1.10.0
+	 */
+	public static <A extends Appendable> A rightPadTo(A out, CharSequence cs, int size, CharSequence padCs) throws IOException {
+		return appendView(out, rightPadView(cs, size, padCs));
 	}
 
 	/**
@@ -1757,10 +2902,84 @@ public abstract class CharSequenceUtils {
 	public static <T extends CharSequence> T replace(T cs, T search, T replace) {
 		if (isNull(cs)) return null;
 
-		@SuppressWarnings("unchecked") T result = (T) cs.toString().replace(search, replace);
+		@SuppressWarnings("unchecked") T result = (T) (cs instanceof String || search.length() == 0 ? cs.toString().replace(search, replace) : SearchPattern.of(search).replaceIn(cs, requireNonNull(replace)));
 		return result;
 	}
 
+	/**
+	 * Writes a char sequence to an appendable, with all non-overlapping occurrences of a non-empty char sequence replaced.
+	 * The char sequence is searched in place and written in ranges, so it is never copied as a whole.
+	 * @param out the appendable to write to; not null
+	 * @param cs the char sequence to check; nothing is written if it is {@code null}
+	 * @param search the char sequence to search for; not null (if empty, the char sequence is written unchanged)
+	 * @param replace the char sequence to replace with; not null
+	 * @param <A> the type of the appendable
+	 * @param <T> the type of the char sequence
+	 * @return the appendable
+	 * @throws IOException if the appendable fails
+	 * @see SearchPattern#replaceTo(Appendable, CharSequence, CharSequence)
+	 * @since 1.10.0
+	 */
+	public static <A extends Appendable, T extends CharSequence> A replaceTo(A out, T cs, T search, T replace) throws IOException {
+		requireNonNull(out);
+		if (isNull(cs)) return out;
+		return SearchPattern.of(search).replaceTo(out, cs, replace);
+	}
+
+	/**
+	 * Returns the index of the first occurrence of a char sequence in a char sequence, without copying it.
+	 * @param cs the char sequence to check; not null
+	 * @param search the char sequence to search for; not null
+	 * @param <T> the type of the char sequence
+	 * @return the index of the first occurrence, or {@code -1} if absent or empty
+	 * @see SearchPattern#indexIn(CharSequence)
+	 * @since 1.10.0
+	 */
+	public static <T extends CharSequence> int indexOf(T cs, T search) {
+		return SearchPattern.of(search).indexIn(requireNonNull(cs), 0);
+	}
+
+	/**
+	 * Returns the index of the first occurrence of a char sequence in a char sequence, starting at an index, without copying it.
+	 * @param cs the char sequence to check; not null
+	 * @param search the char sequence to search for; not null
+	 * @param fromIndex the index to start at (clamped to the char sequence)
+	 * @param <T> the type of the char sequence
+	 * @return the index of the first occurrence, or {@code -1} if absent or empty
+	 * @see SearchPattern#indexIn(CharSequence, int)
+	 * @since 1.10.0
+	 */
+	public static <T extends CharSequence> int indexOf(T cs, T search, int fromIndex) {
+		return SearchPattern.of(search).indexIn(requireNonNull(cs), fromIndex);
+	}
+
+	/**
+	 * Returns the index of the last occurrence of a char sequence in a char sequence, without copying it.
+	 * @param cs the char sequence to check; not null
+	 * @param search the char sequence to search for; not null
+	 * @param <T> the type of the char sequence
+	 * @return the index of the last occurrence, or {@code -1} if absent or empty
+	 * @see SearchPattern#lastIndexIn(CharSequence)
+	 * @since 1.10.0
+	 */
+	public static <T extends CharSequence> int lastIndexOf(T cs, T search) {
+		return SearchPattern.of(search).lastIndexIn(requireNonNull(cs), Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Returns the index of the last occurrence of a char sequence in a char sequence, searching backward from an index, without copying it.
+	 * @param cs the char sequence to check; not null
+	 * @param search the char sequence to search for; not null
+	 * @param fromIndex the greatest index the occurrence can start at (clamped to the char sequence)
+	 * @param <T> the type of the char sequence
+	 * @return the index of the last occurrence, or {@code -1} if absent or empty
+	 * @see SearchPattern#lastIndexIn(CharSequence, int)
+	 * @since 1.10.0
+	 */
+	public static <T extends CharSequence> int lastIndexOf(T cs, T search, int fromIndex) {
+		return SearchPattern.of(search).lastIndexIn(requireNonNull(cs), fromIndex);
+	}
+
 	/**
 	 * Replace all occurrences of a char sequence in a char sequence.
 	 * @param cs the char sequence to check
@@ -1781,11 +3000,13 @@ public abstract class CharSequenceUtils {
 
 	/**
 	 * Replace all occurrences of a char sequence in a char sequence.
+	 * The char sequences are replaced one after the other, each in the result of the previous ones.
 	 * @param cs the char sequence to check
 	 * @param search the char sequence to search for
 	 * @param replace the char sequence to replace with
 	 * @param <T> the type of the char sequence
 	 * @return the char sequence with the replaced char sequence
+	 * @see #replaceEach(CharSequence, CharSequence[], CharSequence)
 	 * @since 1.0.0
 	 */
 	public static <T extends CharSequence> T replace(T cs, T[] search, T replace) {
@@ -1797,6 +3018,47 @@ public abstract class CharSequenceUtils {
 		return result;
 	}
 
+	/**
+	 * Replace all occurrences of any of the given char sequences in a char sequence, in a single pass.
+	 * Where occurrences overlap, the one starting first and then the longest is replaced;
+	 * the replacements are not searched again.
+	 * To replace the same terms in many char sequences, compile an {@link AhoCorasick} automaton once instead.
+	 * @param cs the char sequence to check
+	 * @param search the char sequences to search for
+	 * @param replace the char sequence to replace with
+	 * @param <T> the type of the char sequence
+	 * @return the char sequence with the replaced char sequences
+	 * @see AhoCorasick#replace(CharSequence, CharSequence, AhoCorasick.MatchKind)
+	 * @since 1.10.0
+	 */
+	public static <T extends CharSequence> T replaceEach(T cs, T[] search, T replace) {
+		if (isNull(cs) || isNull(search) || search.length == 0) return cs;
+
+		@SuppressWarnings("unchecked") T result = (T) AhoCorasick.of(search).replace(cs, requireNonNull(replace), AhoCorasick.MatchKind.LEFTMOST_LONGEST);
+		return result;
+	}
+
+	/**
+	 * Replace all occurrences of the given char sequences in a char sequence, each with its own replacement, in a single pass.
+	 * Where occurrences overlap, the one starting first and then the longest is replaced;
+	 * the replacements are not searched again.
+	 * To replace the same terms in many char sequences, compile an {@link AhoCorasick} automaton once instead.
+	 * @param cs the char sequence to check
+	 * @param search the char sequences to search for
+	 * @param replace the char sequences to replace with, by index of the searched ones
+	 * @param <T> the type of the char sequence
+	 * @return the char sequence with the replaced char sequences
+	 * @throws IllegalArgumentException if the number of replacements differs from the number of searched char sequences
+	 * @see AhoCorasick#replace(CharSequence, CharSequence[], AhoCorasick.MatchKind)
+	 * @since 1.10.0
+	 */
+	public static <T extends CharSequence> T replaceEach(T cs, T[] search, T[] replace) {
+		if (isNull(cs) || isNull(search) || search.length == 0) return cs;
+
+		@SuppressWarnings("unchecked") T result = (T) AhoCorasick.of(search).replace(cs, replace, AhoCorasick.MatchKind.LEFTMOST_LONGEST);
+		return result;
+	}
+
 	/**
 	 * Capitalize a char sequence.
 	 * @param cs the char sequence to capitalize
@@ -1811,6 +3073,31 @@ public abstract class CharSequenceUtils {
 		return result;
 	}
 
+	/**
+	 * Capitalize a char sequence, as {@link #capitalize(CharSequence)}, without copying it.
+	 * @param cs the char sequence to capitalize
+	 * @return the char sequence itself if already capitalized, otherwise a {@link CompositeCharSequence} over it
+	 * @since 1.10.0
+	 */
+	public static CharSequence capitalizeView(CharSequence cs) {
+		if (isNullOrEmpty(cs)) return cs;
+		char first = cs.charAt(0), title = Character.toTitleCase(first);
+		return first == title ? cs : CompositeCharSequence.of(CompositeCharSequence.repeat(title, 1), CharSlice.of(cs, 1, cs.length()));
+	}
+
+	/**
+	 * Writes a char sequence capitalized, as {@link #capitalize(CharSequence)}, to an appendable.
+	 * @param out the appendable to write to
+	 * @param cs the char sequence to capitalize; if {@code null}, nothing is written
+	 * @param <A> the type of the appendable
+	 * @return the appendable
+	 * @throws IOException if the appendable fails
+	 * @since 1.10.0
+	 */
+	public static <A extends Appendable> A capitalizeTo(A out, CharSequence cs) throws IOException {
+		return appendView(out, capitalizeView(cs));
+	}
+
 	/**
 	 * Reverse a char sequence.
 	 * @param cs the char sequence to reverse
@@ -1841,13 +3128,19 @@ public abstract class CharSequenceUtils {
 	 */
 	public static <T extends CharSequence> T join(Object delimiter, Object... elements) {
 		if (isNull(delimiter) || isNull(elements) || elements.length == 0) return empty();
-		StringBuilder sb = new StringBuilder();
-		for (int i = 0; i < elements.length; i++) {
-			if (i > 0) sb.append(delimiter);
-			sb.append(elements[i].toString());
-		}
+		CharSequence separator = joinDelimiter(delimiter);
+		long length = joinLength(separator, elements);
+		String joined;
+		if (length >= 0 && length <= Integer.MAX_VALUE) {
+			StringBuilder sb = new StringBuilder((int) length);
+			for (int i = 0; i < elements.length; i++) {
+				if (i > 0) sb.append(separator);
+				sb.append((CharSequence) elements[i]);
+			}
+			joined = sb.toString();
+		} else joined = joinToBuffer(delimiter, elements).toString();
 
-		@SuppressWarnings("unchecked") T result = (T) sb.toString();
+		@SuppressWarnings("unchecked") T result = (T) joined;
 		return result;
 	}
 
@@ -1861,24 +3154,122 @@ public abstract class CharSequenceUtils {
 	 */
 	public static <T extends CharSequence> T join(Object delimiter, Iterable<?> elements) {
 		if (isNull(delimiter) || isNull(elements)) return empty();
-		StringBuilder sb = new StringBuilder();
+		@SuppressWarnings("unchecked") T result = (T) joinToBuffer(delimiter, elements).toString();
+		return result;
+	}
+
+	/**
+	 * Writes elements to an appendable, separated by a delimiter, without building the joined string.
+	 * The elements are formatted into a {@link CharArrayBuffer} reused by the thread, which is written to the appendable in bulk;
+	 * boxed integers, floating values, chars and booleans are formatted without creating a string,
+	 * char sequences are copied as they are and other elements are formatted by {@link String#valueOf(Object)}.
+	 * For arrays of primitives, use {@link ArrayUtils#joinTo(Appendable, CharSequence, int[])} and its overloads.
+	 * @param out the appendable to write to, as a {@link java.io.Writer} or a {@link java.nio.CharBuffer}; not null
+	 * @param delimiter the delimiter; if {@code null}, nothing is written
+	 * @param elements the elements to join; if {@code null}, nothing is written
+	 * @param <A> the type of the appendable
+	 * @return the appendable
+	 * @throws IOException if the appendable fails
+	 * @since 1.10.0
+	 */
+	public static <A extends Appendable> A joinTo(A out, Object delimiter, Object... elements) throws IOException {
+		requireNonNull(out);
+		if (isNull(delimiter) || isNull(elements)) return out;
+		CharSequence separator = joinDelimiter(delimiter);
+		CharArrayBuffer buffer = ArrayUtils.joinBuffer(out);
+		if (buffer == out) {
+			long length = joinLength(separator, elements);
+			if (length >= 0 && buffer.length() + length <= Integer.MAX_VALUE) buffer.ensureCapacity(buffer.length() + (int) length);
+		}
+		for (int i = 0; i < elements.length; i++) {
+			if (i > 0) buffer.append(separator);
+			appendElement(buffer, elements[i]);
+			if (buffer.length() >= ArrayUtils.JOIN_FLUSH_SIZE) ArrayUtils.joinFlush(buffer, out);
+		}
+		ArrayUtils.joinEnd(buffer, out);
+		return out;
+	}
+
+	/**
+	 * Writes elements to an appendable, separated by a delimiter, without building the joined string.
+	 * The elements are formatted as by {@link #joinTo(Appendable, Object, Object...)}.
+	 * @param out the appendable to write to, as a {@link java.io.Writer} or a {@link java.nio.CharBuffer}; not null
+	 * @param delimiter the delimiter; if {@code null}, nothing is written
+	 * @param elements the elements to join; if {@code null}, nothing is written
+	 * @param <A> the type of the appendable
+	 * @return the appendable
+	 * @throws IOException if the appendable fails
+	 * @since 1.10.0
+	 */
+	public static <A extends Appendable> A joinTo(A out, Object delimiter, Iterable<?> elements) throws IOException {
+		requireNonNull(out);
+		if (isNull(delimiter) || isNull(elements)) return out;
+		CharSequence separator = joinDelimiter(delimiter);
+		CharArrayBuffer buffer = ArrayUtils.joinBuffer(out);
 		Iterator<?> it = elements.iterator();
 		while (it.hasNext()) {
-			sb.append(it.next());
-			if (it.hasNext()) sb.append(delimiter);
+			appendElement(buffer, it.next());
+			if (it.hasNext()) buffer.append(separator);
+			if (buffer.length() >= ArrayUtils.JOIN_FLUSH_SIZE) ArrayUtils.joinFlush(buffer, out);
 		}
+		ArrayUtils.joinEnd(buffer, out);
+		return out;
+	}
 
-		@SuppressWarnings("unchecked") T result = (T) sb.toString();
-		return result;
+	/**
+	 * @return the delimiter of a join as a char sequence
+	 */
+	private static CharSequence joinDelimiter(Object delimiter) {
+		return delimiter instanceof CharSequence ? (CharSequence) delimiter : delimiter.toString();
+	}
+
+	/**
+	 * Computes the exact length of a join of char sequences.
+	 * @return the length, or {@code -1} if an element is not a char sequence
+	 */
+	private static long joinLength(CharSequence separator, Object[] elements) {
+		long length = elements.length == 0 ? 0 : (long) separator.length() * (elements.length - 1);
+		for (Object element : elements) {
+			if (!(element instanceof CharSequence)) return -1;
+			length += ((CharSequence) element).length();
+		}
+		return length;
+	}
+
+	/**
+	 * Joins elements into a new buffer, which holds the whole result.
+	 */
+	private static CharArrayBuffer joinToBuffer(Object delimiter, Object elements) {
+		try {
+			if (elements instanceof Iterable) return joinTo(new CharArrayBuffer(), delimiter, (Iterable<?>) elements);
+			return joinTo(new CharArrayBuffer(), delimiter, (Object[]) elements);
+		} catch (IOException e) {
+			throw new AssertionError(e);
+		}
 	}
 
+	/**
+	 * Formats an element of a join into a buffer, without creating a string for boxed primitives.
+	 */
+	private static void appendElement(CharArrayBuffer buffer, Object element) {
+		if (element instanceof CharSequence) buffer.append((CharSequence) element);
+		else if (element instanceof Integer || element instanceof Long || element instanceof Short || element instanceof Byte)
+			buffer.append(((Number) element).longValue());
+		else if (element instanceof Double) buffer.append((double) (Double) element);
+		else if (element instanceof Float) buffer.append((float) (Float) element);
+		else if (element instanceof Character) buffer.append((char) (Character) element);
+		else if (element instanceof Boolean) buffer.append((boolean) (Boolean) element);
+		else buffer.append(String.valueOf(element));
+	}
 
 	/**
 	 * Split a char sequence by a delimiter and make a {@link String#strip()}.
+	 * The delimiter is a regular expression, as for {@link String#split(String)}; to split many char sequences lazily and without copying, use a {@link Splitter}.
 	 * @param cs the char sequence to split
 	 * @param delimiter the delimiter
 	 * @param <T> the type of the char sequence
 	 * @return the split char sequence
+	 * @see Splitter
 	 * @since 1.9.1
 	 */
 	public static <T extends CharSequence> T[] splitAndStrip(T cs, String delimiter) {
@@ -1892,6 +3283,7 @@ public abstract class CharSequenceUtils {
 	 * @param limit the limit
 	 * @param <T> the type of the char sequence
 	 * @return the split char sequence
+	 * @see Splitter
 	 * @since 1.9.1
 	 */
 	public static <T extends CharSequence> T[] splitAndStrip(T cs, String delimiter, int limit) {
@@ -1905,6 +3297,7 @@ public abstract class CharSequenceUtils {
 	 * @param withDelimiters {@code true} to include the delimiters in the result
 	 * @param <T> the type of the char sequence
 	 * @return the split char sequence
+	 * @see Splitter
 	 * @since 1.9.1
 	 */
 	public static <T extends CharSequence> T[] splitAndStrip(T cs, String delimiter, boolean withDelimiters) {
@@ -1919,14 +3312,14 @@ public abstract class CharSequenceUtils {
 	 * @param withDelimiters {@code true} to include the delimiters in the result
 	 * @param <T> the type of the char sequence
 	 * @return the split char sequence
+	 * @see Splitter
 	 * @since 1.9.1
 	 */
 	public static <T extends CharSequence> T[] splitAndStrip(T cs, String delimiter, int limit, boolean withDelimiters) {
 		if (isNullOrEmpty(cs)) return null;
-		String[] split = Arrays.stream(withDelimiters
-				? cs.toString().splitWithDelimiters(delimiter, limit)
-				: cs.toString().split(delimiter, limit)
-		).map(String::strip).toArray(String[]::new);
+		String str = cs.toString();
+		String[] split = withDelimiters ? str.splitWithDelimiters(delimiter, limit) : str.split(delimiter, limit);
+		for (int i = 0; i < split.length; i++) split[i] = split[i].strip();
 
 		@SuppressWarnings("unchecked") T[] result = (T[]) split;
 		return result;
@@ -0,0 +1,189 @@
+package net.tp.utils.classes;
+
+import java.util.NoSuchElementException;
+
+/**
+ * The index bookkeeping shared by the fixed-capacity ring buffers.
+ * <p>
+ * The elements live in a circular array: {@code head} is the physical slot of the first element
+ * and the logical index {@code i} is stored at {@code (head + i) % capacity}.
+ *
+ * @author Tommaso Pastorelli
+ * @since 1.10.0
+ */
+abstract class AbstractRingBuffer {
+	/**
+	 * The maximum number of elements.
+	 */
+	final int capacity;
+	/**
+	 * The physical slot of the first element.
+	 */
+	int head;
+	/**
+	 * The number of elements.
+	 */
+	int size;
+
+	AbstractRingBuffer(int capacity) {
+		if (capacity <= 0) throw new IllegalArgumentException("Capacity must be positive.");
+		this.capacity = capacity;
+	}
+
+	/**
+	 * @return the maximum number of elements
+	 * @since 1.10.0
+	 */
+	public int capacity() {
+		return capacity;
+	}
+
+	/**
+	 * @return the number of elements
+	 * @since 1.10.0
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * @return {@code true} if the buffer has no elements, {@code false} otherwise
+	 * @since 1.10.0
+	 */
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * @return {@code true} if the buffer has as many elements as its capacity, {@code false} otherwise
+	 * @since 1.10.0
+	 */
+	public boolean isFull() {
+		return size == capacity;
+	}
+
+	/**
+	 * Removes all the elements.
+	 * @since 1.10.0
+	 */
+	public void clear() {
+		head = 0;
+		size = 0;
+	}
+
+	/**
+	 * Returns the physical slot of a logical index, without checking it.
+	 * @param index the logical index
+	 * @return the physical slot
+	 */
+	final int slot(int index) {
+		int slot = head + index;
+		return slot >= capacity ? slot - capacity : slot;
+	}
+
+	/**
+	 * Returns the physical slot of a logical index.
+	 * @param index the logical index
+	 * @return the physical slot
+	 * @throws IndexOutOfBoundsException if the index is out of range
+	 */
+	final int checkedSlot(int index) {
+		if (index < 0 || index >= size) throw new IndexOutOfBoundsException("Index: " + index + ", Length: " + size);
+		return slot(index);
+	}
+
+	/**
+	 * Reserves the slot of a new first element.
+	 * @return the physical slot
+	 * @throws IllegalStateException if the buffer is full
+	 */
+	final int addFirstSlot() {
+		if (size == capacity) throw new IllegalStateException("Ring buffer is full.");
+		head = head == 0 ? capacity - 1 : head - 1;
+		size++;
+		return head;
+	}
+
+	/**
+	 * Reserves the slot of a new last element.
+	 * @return the physical slot
+	 * @throws IllegalStateException if the buffer is full
+	 */
+	final int addLastSlot() {
+		if (size == capacity) throw new IllegalStateException("Ring buffer is full.");
+		return slot(size++);
+	}
+
+	/**
+	 * Reserves the slot of a new last element, dropping the first element if the buffer is full.
+	 * @return the physical slot
+	 */
+	final int putSlot() {
+		if (size < capacity) return slot(size++);
+		int slot = head;
+		head = slot(1);
+		return slot;
+	}
+
+	/**
+	 * Releases the slot of the first element.
+	 * @return the physical slot
+	 * @throws NoSuchElementException if the buffer is empty
+	 */
+	final int removeFirstSlot() {
+		if (size == 0) throw new NoSuchElementException("Ring buffer is empty.");
+		int slot = head;
+		head = slot(1);
+		size--;
+		return slot;
+	}
+
+	/**
+	 * Releases the slot of the last element.
+	 * @return the physical slot
+	 * @throws NoSuchElementException if the buffer is empty
+	 */
+	final int removeLastSlot() {
+		if (size == 0) throw new NoSuchElementException("Ring buffer is empty.");
+		return slot(--size);
+	}
+
+	/**
+	 * Returns the physical slot of the first element.
+	 * @return the physical slot
+	 * @throws NoSuchElementException if the buffer is empty
+	 */
+	final int firstSlot() {
+		if (size == 0) throw new NoSuchElementException("Ring buffer is empty.");
+		return head;
+	}
+
+	/**
+	 * Returns the physical slot of the last element.
+	 * @return the physical slot
+	 * @throws NoSuchElementException if the buffer is empty
+	 */
+	final int lastSlot() {
+		if (size == 0) throw new NoSuchElementException("Ring buffer is empty.");
+		return slot(size - 1);
+	}
+
+	/**
+	 * Copies a logical range of the buffer into an array, in at most two bulk copies.
+	 * @param storage the circular array of the buffer
+	 * @param fromIndex the logical index of the first copied element
+	 * @param destination the destination array
+	 * @param destinationIndex the index of the first copied element in the destination
+	 * @param length the number of elements to copy
+	 * @throws IndexOutOfBoundsException if the range is out of the buffer
+	 */
+	final void copy(Object storage, int fromIndex, Object destination, int destinationIndex, int length) {
+		if (fromIndex < 0 || length < 0 || fromIndex + length > size)
+			throw new IndexOutOfBoundsException("Index: " + (fromIndex + length) + ", Length: " + size);
+		if (length == 0) return;
+		int start = slot(fromIndex);
+		int first = Math.min(length, capacity - start);
+		System.arraycopy(storage, start, destination, destinationIndex, first);
+		if (first < length) System.arraycopy(storage, 0, destination, destinationIndex + first, length - first);
+	}
+}
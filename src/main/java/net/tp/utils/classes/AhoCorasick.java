@@ -0,0 +1,507 @@
+package net.tp.utils.classes;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A compiled Aho-Corasick automaton, searching many patterns in a single pass over a text.
+ * <p>
+ * The patterns are stored in a trie whose states are linked to their longest proper suffix in the trie (failure links)
+ * and to the nearest suffix state ending a pattern (output links), so every occurrence of every pattern is found
+ * while reading each char of the text once. The automaton is immutable and can be shared between threads.
+ * Optionally the case of ASCII letters is ignored.
+ * <p>
+ * Empty patterns never match; {@link #containsAll(CharSequence)} and {@link #containsAny(CharSequence)}
+ * consider them contained in any text, as {@link String#contains(CharSequence)} does.
+ *
+ * @author Tommaso Pastorelli
+ * @since 1.10.0
+ */
+@SuppressWarnings("unused")
+public final class AhoCorasick {
+	/**
+	 * How overlapping matches are resolved when the matches must not overlap.
+	 * @since 1.10.0
+	 */
+	public enum MatchKind {
+		/**
+		 * The match starting first wins; among those, the longest one.
+		 * @since 1.10.0
+		 */
+		LEFTMOST_LONGEST,
+		/**
+		 * The match starting first wins; among those, the one of the pattern given first, as an alternation of a regular expression.
+		 * @since 1.10.0
+		 */
+		LEFTMOST_FIRST
+	}
+
+	/**
+	 * The root state.
+	 */
+	private static final int ROOT = 0;
+	/**
+	 * The empty slot of the transition table.
+	 */
+	private static final long EMPTY_KEY = -1;
+
+	/**
+	 * The patterns.
+	 */
+	private final String[] patterns;
+	/**
+	 * For each pattern, the first pattern equal to it (itself if none), for the patterns sharing a state.
+	 */
+	private final int[] canonical;
+	/**
+	 * Whether the case of ASCII letters is ignored.
+	 */
+	private final boolean ignoreAsciiCase;
+	/**
+	 * The transitions of the root on ASCII chars.
+	 */
+	private final int[] rootAscii = new int[128];
+	/**
+	 * The keys of the transition table: the state shifted left by 16 bits, or the char.
+	 */
+	private final long[] keys;
+	/**
+	 * The targets of the transition table.
+	 */
+	private final int[] targets;
+	/**
+	 * The depth of each state.
+	 */
+	private final int[] depths;
+	/**
+	 * The failure link of each state.
+	 */
+	private final int[] failures;
+	/**
+	 * The first pattern ending at each state, or {@code -1}.
+	 */
+	private final int[] outputs;
+	/**
+	 * The nearest proper suffix state of each state having an output, or {@code -1}.
+	 */
+	private final int[] outputLinks;
+
+	private AhoCorasick(CharSequence[] patterns, boolean ignoreAsciiCase) {
+		this.ignoreAsciiCase = ignoreAsciiCase;
+		this.patterns = new String[patterns.length];
+		this.canonical = new int[patterns.length];
+		int states = 1;
+		for (int p = 0; p < patterns.length; p++) {
+			this.patterns[p] = requireNonNull(patterns[p]).toString();
+			states += this.patterns[p].length();
+		}
+		int capacity = Integer.highestOneBit(Math.max(states, 2) * 2 - 1) << 1;
+		this.keys = new long[capacity];
+		this.targets = new int[capacity];
+		Arrays.fill(keys, EMPTY_KEY);
+		Arrays.fill(rootAscii, -1);
+
+		int[] depths = new int[states], outputs = new int[states];
+		int[] firstChild = new int[states], nextSibling = new int[states];
+		char[] edgeChars = new char[states];
+		Arrays.fill(outputs, -1);
+		Arrays.fill(firstChild, -1);
+		int count = 1;
+		for (int p = 0; p < patterns.length; p++) {
+			String pattern = this.patterns[p];
+			canonical[p] = p;
+			if (pattern.isEmpty()) continue;
+			int state = ROOT;
+			for (int i = 0; i < pattern.length(); i++) {
+				char c = fold(pattern.charAt(i));
+				int next = transition(state, c);
+				if (next < 0) {
+					next = count++;
+					depths[next] = depths[state] + 1;
+					edgeChars[next] = c;
+					nextSibling[next] = firstChild[state];
+					firstChild[state] = next;
+					put(state, c, next);
+				}
+				state = next;
+			}
+			if (outputs[state] < 0) outputs[state] = p;
+			else canonical[p] = outputs[state];
+		}
+
+		this.depths = Arrays.copyOf(depths, count);
+		this.outputs = Arrays.copyOf(outputs, count);
+		this.failures = new int[count];
+		this.outputLinks = new int[count];
+		outputLinks[ROOT] = -1;
+		int[] queue = new int[count];
+		int head = 0, tail = 0;
+		for (int child = firstChild[ROOT]; child >= 0; child = nextSibling[child]) {
+			failures[child] = ROOT;
+			outputLinks[child] = -1;
+			queue[tail++] = child;
+		}
+		while (head < tail) {
+			int state = queue[head++];
+			for (int child = firstChild[state]; child >= 0; child = nextSibling[child]) {
+				char c = edgeChars[child];
+				int failure = failures[state], next;
+				while ((next = transition(failure, c)) < 0 && failure != ROOT) failure = failures[failure];
+				failures[child] = next >= 0 ? next : ROOT;
+				int suffix = failures[child];
+				outputLinks[child] = this.outputs[suffix] >= 0 ? suffix : outputLinks[suffix];
+				queue[tail++] = child;
+			}
+		}
+	}
+
+	/**
+	 * Compiles patterns.
+	 * @param patterns the patterns; not null, with no {@code null} elements
+	 * @return the automaton
+	 * @since 1.10.0
+	 */
+	public static AhoCorasick of(CharSequence... patterns) {
+		return new AhoCorasick(requireNonNull(patterns), false);
+	}
+
+	/**
+	 * Compiles patterns.
+	 * @param patterns the patterns; not null, with no {@code null} elements
+	 * @return the automaton
+	 * @since 1.10.0
+	 */
+	public static AhoCorasick of(List<? extends CharSequence> patterns) {
+		return new AhoCorasick(requireNonNull(patterns).toArray(new CharSequence[0]), false);
+	}
+
+	/**
+	 * Compiles patterns matching regardless of the case of ASCII letters.
+	 * @param patterns the patterns; not null, with no {@code null} elements
+	 * @return the automaton
+	 * @since 1.10.0
+	 */
+	public static AhoCorasick ofIgnoreAsciiCase(CharSequence... patterns) {
+		return new AhoCorasick(requireNonNull(patterns), true);
+	}
+
+	/**
+	 * Compiles patterns matching regardless of the case of ASCII letters.
+	 * @param patterns the patterns; not null, with no {@code null} elements
+	 * @return the automaton
+	 * @since 1.10.0
+	 */
+	public static AhoCorasick ofIgnoreAsciiCase(List<? extends CharSequence> patterns) {
+		return new AhoCorasick(requireNonNull(patterns).toArray(new CharSequence[0]), true);
+	}
+
+	private char fold(char c) {
+		return ignoreAsciiCase && c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+	}
+
+	private int slot(long key) {
+		long hash = key * 0x9E3779B97F4A7C15L;
+		return (int) (hash >>> 32 ^ hash) & (keys.length - 1);
+	}
+
+	private void put(int state, char c, int target) {
+		if (state == ROOT && c < 128) rootAscii[c] = target;
+		long key = (long) state << 16 | c;
+		int slot = slot(key);
+		while (keys[slot] != EMPTY_KEY) slot = (slot + 1) & (keys.length - 1);
+		keys[slot] = key;
+		targets[slot] = target;
+	}
+
+	/**
+	 * @return the trie transition of a state on a folded char, or {@code -1}
+	 */
+	private int transition(int state, char c) {
+		if (state == ROOT && c < 128) return rootAscii[c];
+		long key = (long) state << 16 | c;
+		for (int slot = slot(key); ; slot = (slot + 1) & (keys.length - 1)) {
+			if (keys[slot] == key) return targets[slot];
+			if (keys[slot] == EMPTY_KEY) return -1;
+		}
+	}
+
+	/**
+	 * @return the state after reading a char, following the failure links
+	 */
+	private int step(int state, char c) {
+		c = fold(c);
+		int next;
+		while ((next = transition(state, c)) < 0) {
+			if (state == ROOT) return ROOT;
+			state = failures[state];
+		}
+		return next;
+	}
+
+	/**
+	 * @return the number of patterns
+	 * @since 1.10.0
+	 */
+	public int patternCount() {
+		return patterns.length;
+	}
+
+	/**
+	 * Returns a pattern.
+	 * @param index the index of the pattern
+	 * @return the pattern
+	 * @throws IndexOutOfBoundsException if the index is out of range
+	 * @since 1.10.0
+	 */
+	public String pattern(int index) {
+		if (index < 0 || index >= patterns.length) throw new IndexOutOfBoundsException("Index: " + index + ", Length: " + patterns.length);
+		return patterns[index];
+	}
+
+	/**
+	 * @return whether the case of ASCII letters is ignored
+	 * @since 1.10.0
+	 */
+	public boolean isIgnoreAsciiCase() {
+		return ignoreAsciiCase;
+	}
+
+	/**
+	 * Checks if a text contains at least one of the patterns, stopping at the first occurrence.
+	 * @param text the text; not null
+	 * @return {@code true} if a pattern occurs in the text, otherwise {@code false}
+	 * @since 1.10.0
+	 */
+	public boolean containsAny(CharSequence text) {
+		requireNonNull(text);
+		for (String pattern : patterns)
+			if (pattern.isEmpty()) return true;
+		for (int i = 0, state = ROOT; i < text.length(); i++) {
+			state = step(state, text.charAt(i));
+			if (outputs[state] >= 0 || outputLinks[state] >= 0) return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Checks if a text contains all the patterns, stopping as soon as all of them occurred.
+	 * @param text the text; not null
+	 * @return {@code true} if every pattern occurs in the text, otherwise {@code false}
+	 * @since 1.10.0
+	 */
+	public boolean containsAll(CharSequence text) {
+		requireNonNull(text);
+		boolean[] found = new boolean[patterns.length];
+		int missing = 0;
+		for (int p = 0; p < patterns.length; p++)
+			if (canonical[p] == p && !patterns[p].isEmpty()) missing++;
+		for (int i = 0, state = ROOT; i < text.length() && missing > 0; i++) {
+			state = step(state, text.charAt(i));
+			for (int s = outputs[state] >= 0 ? state : outputLinks[state]; s >= 0; s = outputLinks[s]) {
+				if (!found[outputs[s]]) {
+					found[outputs[s]] = true;
+					missing--;
+				}
+			}
+		}
+		return missing == 0;
+	}
+
+	/**
+	 * Counts the occurrences of each pattern in a text, each pattern independently and without overlapping itself,
+	 * as repeated {@link String#indexOf(String, int)} calls would.
+	 * @param text the text; not null
+	 * @return the number of occurrences of each pattern, by index ({@code 0} for empty patterns)
+	 * @since 1.10.0
+	 */
+	public int[] countMatches(CharSequence text) {
+		requireNonNull(text);
+		int[] counts = new int[patterns.length];
+		int[] nextStart = new int[patterns.length];
+		for (int i = 0, state = ROOT; i < text.length(); i++) {
+			state = step(state, text.charAt(i));
+			for (int s = outputs[state] >= 0 ? state : outputLinks[state]; s >= 0; s = outputLinks[s]) {
+				int p = outputs[s], start = i + 1 - depths[s];
+				if (start >= nextStart[p]) {
+					counts[p]++;
+					nextStart[p] = i + 1;
+				}
+			}
+		}
+		for (int p = 0; p < patterns.length; p++) counts[p] = counts[canonical[p]];
+		return counts;
+	}
+
+	/**
+	 * Finds all the occurrences of the patterns in a text, overlapping ones included.
+	 * Patterns equal to a previous one are reported with the index of the first of them.
+	 * @param text the text; not null
+	 * @return the matches, by ascending end and then by descending length
+	 * @since 1.10.0
+	 */
+	public List<Match> findAll(CharSequence text) {
+		requireNonNull(text);
+		List<Match> matches = new ArrayList<>();
+		for (int i = 0, state = ROOT; i < text.length(); i++) {
+			state = step(state, text.charAt(i));
+			for (int s = outputs[state] >= 0 ? state : outputLinks[state]; s >= 0; s = outputLinks[s])
+				matches.add(new Match(outputs[s], i + 1 - depths[s], i + 1));
+		}
+		return matches;
+	}
+
+	/**
+	 * Finds the non-overlapping occurrences of the patterns in a text, from left to right.
+	 * @param text the text; not null
+	 * @param kind how overlapping occurrences are resolved; not null
+	 * @return the matches, by ascending start
+	 * @since 1.10.0
+	 */
+	public List<Match> findLeftmost(CharSequence text, MatchKind kind) {
+		requireNonNull(text);
+		requireNonNull(kind);
+		List<Match> matches = new ArrayList<>();
+		for (int from = 0; ; ) {
+			long match = leftmost(text, from, kind);
+			if (match < 0) return matches;
+			int pattern = (int) (match >>> 32), start = (int) match, end = start + patterns[pattern].length();
+			matches.add(new Match(pattern, start, end));
+			from = end;
+		}
+	}
+
+	/**
+	 * Replaces the non-overlapping occurrences of the patterns in a text, each with the replacement of its pattern.
+	 * @param text the text; not null
+	 * @param replacements the replacement of each pattern, by index; not null, as many as the patterns
+	 * @param kind how overlapping occurrences are resolved; not null
+	 * @return the text with the occurrences replaced
+	 * @throws IllegalArgumentException if the number of replacements differs from the number of patterns
+	 * @since 1.10.0
+	 */
+	public String replace(CharSequence text, CharSequence[] replacements, MatchKind kind) {
+		if (requireNonNull(replacements).length != patterns.length) throw new IllegalArgumentException("Replacements must be as many as the patterns.");
+		return replace(text, null, replacements, kind);
+	}
+
+	/**
+	 * Replaces the non-overlapping occurrences of all the patterns in a text with the same replacement, for instance to redact them.
+	 * @param text the text; not null
+	 * @param replacement the replacement; not null
+	 * @param kind how overlapping occurrences are resolved; not null
+	 * @return the text with the occurrences replaced
+	 * @since 1.10.0
+	 */
+	public String replace(CharSequence text, CharSequence replacement, MatchKind kind) {
+		return replace(text, requireNonNull(replacement), null, kind);
+	}
+
+	private String replace(CharSequence text, CharSequence replacement, CharSequence[] replacements, MatchKind kind) {
+		requireNonNull(text);
+		requireNonNull(kind);
+		StringBuilder builder = null;
+		int copied = 0;
+		for (int from = 0; ; ) {
+			long match = leftmost(text, from, kind);
+			if (match < 0) break;
+			int pattern = (int) (match >>> 32), start = (int) match, end = start + patterns[pattern].length();
+			if (builder == null) builder = new StringBuilder(text.length());
+			builder.append(text, copied, start).append(replacement != null ? replacement : requireNonNull(replacements[pattern]));
+			copied = from = end;
+		}
+		if (builder == null) return text.toString();
+		return builder.append(text, copied, text.length()).toString();
+	}
+
+	/**
+	 * Finds the leftmost occurrence starting at or after an index.
+	 * @return the pattern in the high 32 bits and the start in the low 32 bits, or {@code -1} if none
+	 */
+	private long leftmost(CharSequence text, int from, MatchKind kind) {
+		int bestPattern = -1, bestStart = 0, state = ROOT;
+		for (int i = from; i < text.length(); i++) {
+			state = step(state, text.charAt(i));
+			if (bestPattern >= 0 && i + 1 - depths[state] > bestStart) break;
+			for (int s = outputs[state] >= 0 ? state : outputLinks[state]; s >= 0; s = outputLinks[s]) {
+				int pattern = outputs[s], start = i + 1 - depths[s];
+				if (bestPattern < 0 || start < bestStart || start == bestStart && (kind == MatchKind.LEFTMOST_LONGEST
+						? depths[s] > patterns[bestPattern].length() : pattern < bestPattern)) {
+					bestPattern = pattern;
+					bestStart = start;
+				}
+			}
+		}
+		return bestPattern < 0 ? -1 : (long) bestPattern << 32 | bestStart;
+	}
+
+	/**
+	 * An occurrence of a pattern in a text.
+	 * @since 1.10.0
+	 */
+	public static final class Match {
+		/**
+		 * The index of the pattern.
+		 */
+		private final int pattern;
+		/**
+		 * The start of the occurrence, inclusive.
+		 */
+		private final int start;
+		/**
+		 * The end of the occurrence, exclusive.
+		 */
+		private final int end;
+
+		private Match(int pattern, int start, int end) {
+			this.pattern = pattern;
+			this.start = start;
+			this.end = end;
+		}
+
+		/**
+		 * @return the index of the pattern
+		 * @since 1.10.0
+		 */
+		public int pattern() {
+			return pattern;
+		}
+
+		/**
+		 * @return the start of the occurrence, inclusive
+		 * @since 1.10.0
+		 */
+		public int start() {
+			return start;
+		}
+
+		/**
+		 * @return the end of the occurrence, exclusive
+		 * @since 1.10.0
+		 */
+		public int end() {
+			return end;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) return true;
+			if (o == null || getClass() != o.getClass()) return false;
+			Match match = (Match) o;
+			return pattern == match.pattern && start == match.start && end == match.end;
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(pattern, start, end);
+		}
+
+		@Override
+		public String toString() {
+			return "Match{pattern=" + pattern + ", start=" + start + ", end=" + end + "}";
+		}
+	}
+}
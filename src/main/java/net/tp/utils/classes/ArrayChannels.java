@@ -0,0 +1,369 @@
+package net.tp.utils.classes;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.lang.reflect.Array;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.GatheringByteChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.ScatteringByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.Arrays;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Binary I/O of primitive arrays over NIO channels.
+ * <p>
+ * The elements are transferred in chunks through reused direct {@link ByteBuffer}s, filled and drained in bulk
+ * through their typed views ({@link ByteBuffer#asIntBuffer()}, {@link ByteBuffer#asLongBuffer()}, ...) in the chosen byte order,
+ * so huge arrays never need a second copy of their size. Several arrays are transferred with one gathering write or
+ * scattering read per group of up to 16 chunks when the channel supports it, as a {@link java.nio.channels.FileChannel} does,
+ * so each thread keeps at most 16 buffers however many arrays are transferred.
+ * {@code boolean} elements take one byte each, {@code 0} or {@code 1}.
+ * <p>
+ * A framed array is preceded by a header of five bytes: the element type (see {@link #typeOf(Object)})
+ * and the number of elements as an int, in the chosen byte order. A framed array is read in chunks into an array
+ * grown as its elements arrive, so a corrupt header cannot allocate more than twice the bytes the channel actually holds.
+ *
+ * @author Tommaso Pastorelli
+ * @since 1.10.0
+ */
+@SuppressWarnings("unused")
+public abstract class ArrayChannels {
+	/**
+	 * The size of the chunks, a multiple of every element size.
+	 */
+	private static final int CHUNK_SIZE = 1 << 16;
+	/**
+	 * The maximum number of chunks in a gathering write or a scattering read.
+	 */
+	private static final int MAX_BUFFERS = 16;
+	/**
+	 * The size of a frame header.
+	 */
+	private static final int HEADER_SIZE = Byte.BYTES + Integer.BYTES;
+	/**
+	 * The element types, by type code.
+	 */
+	private static final Class<?>[] TYPES = {
+			byte.class, short.class, int.class, long.class, float.class, double.class, char.class, boolean.class
+	};
+	/**
+	 * The element sizes, by type code.
+	 */
+	private static final int[] SIZES = {
+			Byte.BYTES, Short.BYTES, Integer.BYTES, Long.BYTES, Float.BYTES, Double.BYTES, Character.BYTES, Byte.BYTES
+	};
+	/**
+	 * The chunk buffers of each thread.
+	 */
+	private static final ThreadLocal<ByteBuffer[]> BUFFERS = ThreadLocal.withInitial(() -> new ByteBuffer[0]);
+
+	/**
+	 * Returns the type code of a primitive array: {@code 0} to {@code 7} for
+	 * {@code byte}, {@code short}, {@code int}, {@code long}, {@code float}, {@code double}, {@code char} and {@code boolean}.
+	 * @param array the array
+	 * @return the type code
+	 * @throws IllegalArgumentException if the object is not a primitive array
+	 * @since 1.10.0
+	 */
+	public static int typeOf(Object array) {
+		if (array != null) {
+			Class<?> component = array.getClass().getComponentType();
+			for (int type = 0; type < TYPES.length; type++)
+				if (TYPES[type] == component) return type;
+		}
+		throw new IllegalArgumentException("Not a primitive array.");
+	}
+
+	/**
+	 * Returns the chunk buffers of the current thread.
+	 * @param count the number of buffers, at most {@link #MAX_BUFFERS}
+	 * @return the buffers, at least {@code count}
+	 */
+	private static ByteBuffer[] buffers(int count) {
+		ByteBuffer[] buffers = BUFFERS.get();
+		if (buffers.length < count) {
+			ByteBuffer[] grown = Arrays.copyOf(buffers, count);
+			for (int i = buffers.length; i < count; i++) grown[i] = ByteBuffer.allocateDirect(CHUNK_SIZE);
+			BUFFERS.set(buffers = grown);
+		}
+		return buffers;
+	}
+
+	private static Cursor[] cursors(Object[] arrays) {
+		Cursor[] cursors = new Cursor[requireNonNull(arrays).length];
+		for (int i = 0; i < arrays.length; i++) cursors[i] = new Cursor(arrays[i]);
+		return cursors;
+	}
+
+	/**
+	 * Writes the elements of primitive arrays to a channel, one after the other.
+	 * With more arrays and a {@link GatheringByteChannel}, up to 16 consecutive chunks are written together,
+	 * keeping the same layout as any other channel.
+	 * @param channel the channel to write to; not null
+	 * @param order the byte order; not null
+	 * @param arrays the primitive arrays; not null
+	 * @throws IOException if the channel fails
+	 * @throws IllegalArgumentException if an object is not a primitive array
+	 * @since 1.10.0
+	 */
+	public static void write(WritableByteChannel channel, ByteOrder order, Object... arrays) throws IOException {
+		requireNonNull(channel);
+		requireNonNull(order);
+		Cursor[] cursors = cursors(arrays);
+		if (cursors.length > 1 && channel instanceof GatheringByteChannel) {
+			GatheringByteChannel gathering = (GatheringByteChannel) channel;
+			int count = Math.min(cursors.length, MAX_BUFFERS);
+			ByteBuffer[] buffers = buffers(count);
+			int cursor = 0;
+			while (cursor < cursors.length) {
+				int filled = 0;
+				while (filled < count && cursor < cursors.length) {
+					if (!cursors[cursor].hasRemaining()) {
+						cursor++;
+						continue;
+					}
+					cursors[cursor].fill(buffers[filled].clear().order(order));
+					buffers[filled++].flip();
+				}
+				while (hasRemaining(buffers, filled)) gathering.write(buffers, 0, filled);
+			}
+			return;
+		}
+		ByteBuffer buffer = buffers(1)[0];
+		for (Cursor cursor : cursors) {
+			while (cursor.hasRemaining()) {
+				cursor.fill(buffer.clear().order(order));
+				buffer.flip();
+				while (buffer.hasRemaining()) channel.write(buffer);
+			}
+		}
+	}
+
+	private static boolean hasRemaining(ByteBuffer[] buffers, int count) {
+		for (int i = 0; i < count; i++)
+			if (buffers[i].hasRemaining()) return true;
+		return false;
+	}
+
+	/**
+	 * Reads elements from a channel into primitive arrays, filling each array in turn.
+	 * With more arrays and a {@link ScatteringByteChannel}, up to 16 consecutive chunks are read together,
+	 * expecting the same layout as any other channel.
+	 * @param channel the channel to read from; not null
+	 * @param order the byte order; not null
+	 * @param arrays the primitive arrays to fill; not null
+	 * @throws EOFException if the channel ends before the arrays are filled
+	 * @throws IOException if the channel fails
+	 * @throws IllegalArgumentException if an object is not a primitive array
+	 * @since 1.10.0
+	 */
+	public static void read(ReadableByteChannel channel, ByteOrder order, Object... arrays) throws IOException {
+		requireNonNull(channel);
+		requireNonNull(order);
+		Cursor[] cursors = cursors(arrays);
+		if (cursors.length > 1 && channel instanceof ScatteringByteChannel) {
+			ScatteringByteChannel scattering = (ScatteringByteChannel) channel;
+			int count = Math.min(cursors.length, MAX_BUFFERS);
+			ByteBuffer[] buffers = buffers(count);
+			Cursor[] owners = new Cursor[count];
+			int cursor = 0, planned = 0;
+			while (cursor < cursors.length) {
+				int filled = 0;
+				while (filled < count && cursor < cursors.length) {
+					int bytes = cursors[cursor].chunkBytes(planned);
+					if (bytes == 0) {
+						cursor++;
+						planned = 0;
+						continue;
+					}
+					buffers[filled].clear().order(order).limit(bytes);
+					owners[filled++] = cursors[cursor];
+					planned += bytes / SIZES[cursors[cursor].type];
+				}
+				while (hasRemaining(buffers, filled))
+					if (scattering.read(buffers, 0, filled) < 0) throw new EOFException();
+				for (int i = 0; i < filled; i++) owners[i].drain(buffers[i].flip());
+			}
+			return;
+		}
+		for (Cursor cursor : cursors) read(channel, order, cursor);
+	}
+
+	/**
+	 * Reads elements from a channel into the rest of an array, chunk by chunk.
+	 */
+	private static void read(ReadableByteChannel channel, ByteOrder order, Cursor cursor) throws IOException {
+		ByteBuffer buffer = buffers(1)[0];
+		while (cursor.hasRemaining()) {
+			readFully(channel, buffer.clear().order(order).limit(cursor.chunkBytes()));
+			cursor.drain(buffer.flip());
+		}
+	}
+
+	private static void readFully(ReadableByteChannel channel, ByteBuffer buffer) throws IOException {
+		while (buffer.hasRemaining())
+			if (channel.read(buffer) < 0) throw new EOFException();
+	}
+
+	/**
+	 * Writes primitive arrays to a channel, each preceded by its frame header.
+	 * @param channel the channel to write to; not null
+	 * @param order the byte order; not null
+	 * @param arrays the primitive arrays; not null
+	 * @throws IOException if the channel fails
+	 * @throws IllegalArgumentException if an object is not a primitive array
+	 * @see #readFramed(ReadableByteChannel, ByteOrder)
+	 * @since 1.10.0
+	 */
+	public static void writeFramed(WritableByteChannel channel, ByteOrder order, Object... arrays) throws IOException {
+		requireNonNull(channel);
+		requireNonNull(order);
+		ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(order);
+		for (Object array : requireNonNull(arrays)) {
+			header.clear().put((byte) typeOf(array)).putInt(Array.getLength(array)).flip();
+			while (header.hasRemaining()) channel.write(header);
+			write(channel, order, array);
+		}
+	}
+
+	/**
+	 * Reads the next framed array from a channel.
+	 * The array is grown as the elements arrive, so a frame header larger than the channel
+	 * ends in an {@link EOFException} instead of a huge allocation.
+	 * @param channel the channel to read from; not null
+	 * @param order the byte order; not null
+	 * @return the primitive array, or {@code null} if the channel is at its end
+	 * @throws EOFException if the channel ends inside a frame
+	 * @throws IOException if the channel fails or the frame header is invalid
+	 * @see #writeFramed(WritableByteChannel, ByteOrder, Object...)
+	 * @since 1.10.0
+	 */
+	public static Object readFramed(ReadableByteChannel channel, ByteOrder order) throws IOException {
+		requireNonNull(channel);
+		ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(requireNonNull(order));
+		while (header.hasRemaining()) {
+			if (channel.read(header) < 0) {
+				if (header.position() == 0) return null;
+				throw new EOFException();
+			}
+		}
+		header.flip();
+		int type = header.get(), length = header.getInt();
+		if (type < 0 || type >= TYPES.length) throw new IOException("Invalid frame type: " + type);
+		if (length < 0) throw new IOException("Invalid frame length: " + length);
+		Object array = Array.newInstance(TYPES[type], Math.min(length, CHUNK_SIZE / SIZES[type]));
+		int filled = 0;
+		while (true) {
+			read(channel, order, new Cursor(array, filled));
+			if ((filled = Array.getLength(array)) == length) return array;
+			Object grown = Array.newInstance(TYPES[type], (int) Math.min(length, 2L * filled));
+			System.arraycopy(array, 0, grown, 0, filled);
+			array = grown;
+		}
+	}
+
+	/**
+	 * A position in a primitive array being transferred.
+	 */
+	private static final class Cursor {
+		/**
+		 * The array.
+		 */
+		private final Object array;
+		/**
+		 * The type code of the array.
+		 */
+		private final int type;
+		/**
+		 * The number of elements of the array.
+		 */
+		private final int length;
+		/**
+		 * The index of the next element to transfer.
+		 */
+		private int position;
+
+		private Cursor(Object array) {
+			this(array, 0);
+		}
+
+		/**
+		 * @param array the array
+		 * @param position the index of the first element to transfer
+		 */
+		private Cursor(Object array, int position) {
+			this.array = array;
+			this.type = typeOf(array);
+			this.length = Array.getLength(array);
+			this.position = position;
+		}
+
+		private boolean hasRemaining() {
+			return position < length;
+		}
+
+		/**
+		 * @return the bytes of the next chunk
+		 */
+		private int chunkBytes() {
+			return chunkBytes(position);
+		}
+
+		/**
+		 * @param from the index of the first element of the chunk
+		 * @return the bytes of the chunk starting at an element
+		 */
+		private int chunkBytes(int from) {
+			return (int) Math.min((long) (length - from) * SIZES[type], CHUNK_SIZE);
+		}
+
+		/**
+		 * Puts the next chunk of elements into a buffer.
+		 * @param buffer the cleared buffer
+		 */
+		private void fill(ByteBuffer buffer) {
+			int count = chunkBytes() / SIZES[type];
+			switch (type) {
+				case 0 -> buffer.put((byte[]) array, position, count);
+				case 1 -> buffer.asShortBuffer().put((short[]) array, position, count);
+				case 2 -> buffer.asIntBuffer().put((int[]) array, position, count);
+				case 3 -> buffer.asLongBuffer().put((long[]) array, position, count);
+				case 4 -> buffer.asFloatBuffer().put((float[]) array, position, count);
+				case 5 -> buffer.asDoubleBuffer().put((double[]) array, position, count);
+				case 6 -> buffer.asCharBuffer().put((char[]) array, position, count);
+				default -> {
+					boolean[] booleans = (boolean[]) array;
+					for (int i = position; i < position + count; i++) buffer.put(booleans[i] ? (byte) 1 : (byte) 0);
+				}
+			}
+			buffer.position(count * SIZES[type]);
+			position += count;
+		}
+
+		/**
+		 * Gets the next chunk of elements from a buffer.
+		 * @param buffer the flipped buffer, holding whole elements
+		 */
+		private void drain(ByteBuffer buffer) {
+			int count = buffer.remaining() / SIZES[type];
+			switch (type) {
+				case 0 -> buffer.get((byte[]) array, position, count);
+				case 1 -> buffer.asShortBuffer().get((short[]) array, position, count);
+				case 2 -> buffer.asIntBuffer().get((int[]) array, position, count);
+				case 3 -> buffer.asLongBuffer().get((long[]) array, position, count);
+				case 4 -> buffer.asFloatBuffer().get((float[]) array, position, count);
+				case 5 -> buffer.asDoubleBuffer().get((double[]) array, position, count);
+				case 6 -> buffer.asCharBuffer().get((char[]) array, position, count);
+				default -> {
+					boolean[] booleans = (boolean[]) array;
+					for (int i = position; i < position + count; i++) booleans[i] = buffer.get() != 0;
+				}
+			}
+			position += count;
+		}
+	}
+}
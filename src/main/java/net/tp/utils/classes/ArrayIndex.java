@@ -0,0 +1,826 @@
+package net.tp.utils.classes;
+
+import java.util.Arrays;
+import java.util.function.IntFunction;
+import java.util.function.IntToLongFunction;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.requireNonNull;
+import static java.util.stream.IntStream.range;
+
+/**
+ * An index from the values of an array to their positions, built once and queried many times.
+ * <p>
+ * Each distinct value is hashed to a packed, ascending list of its positions,
+ * so first, last and all positions, membership and counts are answered in constant time
+ * instead of scanning the array.
+ * Primitive arrays are indexed without boxing; {@code float} and {@code double} values are compared with {@code ==},
+ * so {@code -0.0} equals {@code 0.0} and {@code NaN} is never found, as in {@code ArrayUtils.indexOf}.
+ * {@code null} elements of object arrays are not indexed.
+ * <p>
+ * The index can follow the changes made to the array with {@link #add(long)}, {@link #add(int, long)},
+ * {@link #set(int, long)} and {@link #remove(int)} (and their overloads).
+ * Appending and setting cost the size of the touched positions lists,
+ * inserting and removing shift the following positions and cost the length of the array, but never rehash.
+ *
+ * @param <E> the type of the elements (the wrapper type for primitive arrays)
+ * @author Tommaso Pastorelli
+ * @since 1.10.0
+ */
+@SuppressWarnings("unused")
+public class ArrayIndex<E> {
+	/**
+	 * The array length from which the index is built in parallel.
+	 */
+	private static final int PARALLEL_THRESHOLD = 1 << 16;
+	/**
+	 * The number of elements indexed by each parallel task.
+	 */
+	private static final int CHUNK_SIZE = 1 << 14;
+	/**
+	 * The key of every {@code NaN}, which is never indexed.
+	 */
+	private static final long NAN_KEY = 0x7ff8000000000000L;
+	/**
+	 * The index value indicating that the element was not found.
+	 */
+	private static final int INDEX_NOT_FOUND = -1;
+
+	/**
+	 * If the index is built over an object array.
+	 */
+	private final boolean objects;
+	/**
+	 * If the index is built over a {@code float} or {@code double} array.
+	 */
+	private final boolean floating;
+	/**
+	 * The primitive keys of the slots.
+	 */
+	private long[] keys;
+	/**
+	 * The object keys of the slots.
+	 */
+	private Object[] objectKeys;
+	/**
+	 * If the slots are used.
+	 */
+	private boolean[] used;
+	/**
+	 * The ascending positions of the value of each slot.
+	 */
+	private int[][] positions;
+	/**
+	 * The number of positions of each slot.
+	 */
+	private int[] counts;
+	/**
+	 * The slot of the value at each position ({@code -1} if the value is not indexed).
+	 */
+	private int[] slotAt;
+	/**
+	 * The length of the indexed array.
+	 */
+	private int size;
+	/**
+	 * The number of distinct indexed values.
+	 */
+	private int distinct;
+
+	private ArrayIndex(boolean objects, boolean floating, int length) {
+		this(objects, floating, length, Math.min(length, 1 << 20));
+	}
+
+	private ArrayIndex(boolean objects, boolean floating, int length, int expectedDistinct) {
+		this.objects = objects;
+		this.floating = floating;
+		this.slotAt = new int[Math.max(length, 8)];
+		allocate(tableSize(expectedDistinct));
+	}
+
+	private static int tableSize(int expected) {
+		int capacity = 16;
+		while (capacity < expected * 2L && capacity < 1 << 30) capacity <<= 1;
+		return capacity;
+	}
+
+	private void allocate(int capacity) {
+		if (objects) objectKeys = new Object[capacity];
+		else keys = new long[capacity];
+		used = new boolean[capacity];
+		positions = new int[capacity][];
+		counts = new int[capacity];
+	}
+
+	private static int mix(long key) {
+		key ^= key >>> 33;
+		key *= 0xff51afd7ed558ccdL;
+		key ^= key >>> 33;
+		return (int) key;
+	}
+
+	private static int mix(Object key) {
+		int h = key.hashCode();
+		return h ^ (h >>> 16);
+	}
+
+	/**
+	 * Encodes a floating value to its key.
+	 * @param value the value
+	 * @return the key of the value
+	 */
+	private static long encode(double value) {
+		if (Double.isNaN(value)) return NAN_KEY;
+		return Double.doubleToRawLongBits(value == 0 ? 0.0 : value);
+	}
+
+	/**
+	 * Returns the slot of a primitive key.
+	 * @param key the key
+	 * @return the slot of the key, or {@code -1} if the key is not indexed
+	 */
+	private int find(long key) {
+		if (objects || (floating && key == NAN_KEY)) return INDEX_NOT_FOUND;
+		int mask = used.length - 1;
+		for (int slot = mix(key) & mask; used[slot]; slot = (slot + 1) & mask)
+			if (keys[slot] == key) return slot;
+		return INDEX_NOT_FOUND;
+	}
+
+	/**
+	 * Returns the slot of an object key.
+	 * @param key the key
+	 * @return the slot of the key, or {@code -1} if the key is not indexed
+	 */
+	private int find(Object key) {
+		if (isNull(key)) return INDEX_NOT_FOUND;
+		if (!objects) {
+			if (key instanceof Double || key instanceof Float) return lookup(((Number) key).doubleValue());
+			if (key instanceof Number) return lookup(((Number) key).longValue());
+			if (key instanceof Character) return lookup((long) (Character) key);
+			if (key instanceof Boolean) return lookup((Boolean) key ? 1L : 0L);
+			return INDEX_NOT_FOUND;
+		}
+		int mask = used.length - 1;
+		for (int slot = mix(key) & mask; used[slot]; slot = (slot + 1) & mask)
+			if (key.equals(objectKeys[slot])) return slot;
+		return INDEX_NOT_FOUND;
+	}
+
+	/**
+	 * Returns the slot of a primitive key, creating it if missing.
+	 * @param key the key
+	 * @return the slot of the key
+	 */
+	private int slot(long key) {
+		int mask = used.length - 1;
+		int slot = mix(key) & mask;
+		for (; used[slot]; slot = (slot + 1) & mask)
+			if (keys[slot] == key) return slot;
+		used[slot] = true;
+		keys[slot] = key;
+		positions[slot] = new int[2];
+		if (++distinct * 2 > used.length) return rehash(slot);
+		return slot;
+	}
+
+	/**
+	 * Returns the slot of an object key, creating it if missing.
+	 * @param key the key
+	 * @return the slot of the key
+	 */
+	private int slot(Object key) {
+		int mask = used.length - 1;
+		int slot = mix(key) & mask;
+		for (; used[slot]; slot = (slot + 1) & mask)
+			if (key.equals(objectKeys[slot])) return slot;
+		used[slot] = true;
+		objectKeys[slot] = key;
+		positions[slot] = new int[2];
+		if (++distinct * 2 > used.length) return rehash(slot);
+		return slot;
+	}
+
+	/**
+	 * Doubles the table.
+	 * @param tracked a slot to follow through the rehash
+	 * @return the new slot of the tracked slot
+	 */
+	private int rehash(int tracked) {
+		long[] oldKeys = keys;
+		Object[] oldObjectKeys = objectKeys;
+		boolean[] oldUsed = used;
+		int[][] oldPositions = positions;
+		int[] oldCounts = counts;
+		int[] moved = new int[oldUsed.length];
+		allocate(oldUsed.length << 1);
+		int mask = used.length - 1;
+		int result = INDEX_NOT_FOUND;
+		for (int old = 0; old < oldUsed.length; old++) {
+			if (!oldUsed[old]) continue;
+			int slot = (objects ? mix(oldObjectKeys[old]) : mix(oldKeys[old])) & mask;
+			while (used[slot]) slot = (slot + 1) & mask;
+			used[slot] = true;
+			if (objects) objectKeys[slot] = oldObjectKeys[old];
+			else keys[slot] = oldKeys[old];
+			positions[slot] = oldPositions[old];
+			counts[slot] = oldCounts[old];
+			moved[old] = slot;
+			if (old == tracked) result = slot;
+		}
+		for (int i = 0; i < size; i++) if (slotAt[i] >= 0) slotAt[i] = moved[slotAt[i]];
+		return result;
+	}
+
+	/**
+	 * Inserts a position in the positions list of a slot.
+	 * @param slot the slot, or {@code -1} for a value which is not indexed
+	 * @param position the position
+	 */
+	private void insertPosition(int slot, int position) {
+		if (slot < 0) return;
+		int[] list = positions[slot];
+		int count = counts[slot];
+		if (count == list.length) positions[slot] = list = Arrays.copyOf(list, count << 1);
+		int at = count > 0 && list[count - 1] < position ? count : -Arrays.binarySearch(list, 0, count, position) - 1;
+		System.arraycopy(list, at, list, at + 1, count - at);
+		list[at] = position;
+		counts[slot] = count + 1;
+	}
+
+	/**
+	 * Removes a position from the positions list of a slot.
+	 * @param slot the slot, or {@code -1} for a value which is not indexed
+	 * @param position the position
+	 */
+	private void removePosition(int slot, int position) {
+		if (slot < 0) return;
+		int[] list = positions[slot];
+		int count = counts[slot];
+		int at = Arrays.binarySearch(list, 0, count, position);
+		System.arraycopy(list, at + 1, list, at, count - at - 1);
+		counts[slot] = count - 1;
+	}
+
+	/**
+	 * Appends the next position to the index.
+	 * @param slot the slot of the value, or {@code -1} for a value which is not indexed
+	 */
+	private void append(int slot) {
+		if (size == slotAt.length) slotAt = Arrays.copyOf(slotAt, size << 1);
+		slotAt[size] = slot;
+		insertPosition(slot, size++);
+	}
+
+	/**
+	 * Makes room for a position, shifting the following positions.
+	 * @param index the position
+	 */
+	private void open(int index) {
+		if (index < 0 || index > size) throw new IndexOutOfBoundsException("Index: " + index + ", Length: " + size);
+		for (int slot = 0; slot < used.length; slot++) {
+			if (!used[slot]) continue;
+			int[] list = positions[slot];
+			for (int i = counts[slot] - 1; i >= 0 && list[i] >= index; i--) list[i]++;
+		}
+		if (size == slotAt.length) slotAt = Arrays.copyOf(slotAt, size << 1);
+		System.arraycopy(slotAt, index, slotAt, index + 1, size - index);
+		size++;
+	}
+
+	private void insert(int index, int slot) {
+		open(index);
+		slotAt[index] = slot;
+		insertPosition(slot, index);
+	}
+
+	private void replace(int index, int slot) {
+		if (index < 0 || index >= size) throw new IndexOutOfBoundsException("Index: " + index + ", Length: " + size);
+		removePosition(slotAt[index], index);
+		slotAt[index] = slot;
+		insertPosition(slot, index);
+	}
+
+	private static boolean integral(double value) {
+		return value >= -0x1p63 && value < 0x1p63 && value == (long) value;
+	}
+
+	/**
+	 * Returns the slot of a primitive value.
+	 * @param value the value
+	 * @return the slot of the value, or {@code -1} if the value is not indexed
+	 */
+	private int lookup(long value) {
+		return find(floating ? encode(value) : value);
+	}
+
+	/**
+	 * Returns the slot of a primitive value.
+	 * @param value the value
+	 * @return the slot of the value, or {@code -1} if the value is not indexed
+	 */
+	private int lookup(double value) {
+		if (floating) return find(encode(value));
+		return integral(value) ? find((long) value) : INDEX_NOT_FOUND;
+	}
+
+	/**
+	 * Returns the slot of a new primitive value, creating it if missing.
+	 * @param value the value
+	 * @return the slot of the value, or {@code -1} if the value cannot be indexed
+	 */
+	private int valueSlot(long value) {
+		if (objects) throw new UnsupportedOperationException("Index of objects.");
+		return slot(floating ? encode(value) : value);
+	}
+
+	/**
+	 * Returns the slot of a new primitive value, creating it if missing.
+	 * @param value the value
+	 * @return the slot of the value, or {@code -1} if the value cannot be indexed ({@code NaN}, or a fraction for an integral index)
+	 */
+	private int valueSlot(double value) {
+		if (objects) throw new UnsupportedOperationException("Index of objects.");
+		if (floating) return Double.isNaN(value) ? INDEX_NOT_FOUND : slot(encode(value));
+		return integral(value) ? slot((long) value) : INDEX_NOT_FOUND;
+	}
+
+	/**
+	 * Returns the slot of a new element, creating it if missing.
+	 * @param value the element
+	 * @return the slot of the element, or {@code -1} if the element cannot be indexed
+	 */
+	private int valueSlot(Object value) {
+		if (isNull(value)) return INDEX_NOT_FOUND;
+		if (objects) return slot(value);
+		if (value instanceof Double || value instanceof Float) return valueSlot(((Number) value).doubleValue());
+		if (value instanceof Number) return valueSlot(((Number) value).longValue());
+		if (value instanceof Character) return valueSlot((long) (Character) value);
+		if (value instanceof Boolean) return valueSlot((Boolean) value ? 1L : 0L);
+		throw new IllegalArgumentException("Element is not a primitive value: " + value);
+	}
+
+	/**
+	 * Builds a primitive index, in parallel for large arrays.
+	 */
+	private static <E> ArrayIndex<E> build(int length, boolean floating, IntToLongFunction keyAt) {
+		if (length < PARALLEL_THRESHOLD) {
+			ArrayIndex<E> index = new ArrayIndex<>(false, floating, length);
+			for (int i = 0; i < length; i++) {
+				long key = keyAt.applyAsLong(i);
+				index.append(floating && key == NAN_KEY ? INDEX_NOT_FOUND : index.slot(key));
+			}
+			return index;
+		}
+		@SuppressWarnings("unchecked") ArrayIndex<E>[] chunks = range(0, (length + CHUNK_SIZE - 1) / CHUNK_SIZE).parallel().mapToObj(c -> {
+			int from = c * CHUNK_SIZE, to = Math.min(from + CHUNK_SIZE, length);
+			ArrayIndex<E> chunk = new ArrayIndex<>(false, floating, to - from);
+			for (int i = from; i < to; i++) {
+				long key = keyAt.applyAsLong(i);
+				chunk.append(floating && key == NAN_KEY ? INDEX_NOT_FOUND : chunk.slot(key));
+			}
+			return chunk;
+		}).toArray(ArrayIndex[]::new);
+		return merge(false, floating, length, chunks);
+	}
+
+	/**
+	 * Builds an object index, in parallel for large arrays.
+	 */
+	private static <E> ArrayIndex<E> build(int length, IntFunction<Object> elementAt) {
+		if (length < PARALLEL_THRESHOLD) {
+			ArrayIndex<E> index = new ArrayIndex<>(true, false, length);
+			for (int i = 0; i < length; i++) index.append(index.valueSlot(elementAt.apply(i)));
+			return index;
+		}
+		@SuppressWarnings("unchecked") ArrayIndex<E>[] chunks = range(0, (length + CHUNK_SIZE - 1) / CHUNK_SIZE).parallel().mapToObj(c -> {
+			int from = c * CHUNK_SIZE, to = Math.min(from + CHUNK_SIZE, length);
+			ArrayIndex<E> chunk = new ArrayIndex<>(true, false, to - from);
+			for (int i = from; i < to; i++) chunk.append(chunk.valueSlot(elementAt.apply(i)));
+			return chunk;
+		}).toArray(ArrayIndex[]::new);
+		return merge(true, false, length, chunks);
+	}
+
+	/**
+	 * Merges the indexes of consecutive chunks.
+	 * The table is sized for the distinct values of all the chunks, and the slots of the positions are resolved
+	 * once all the values are inserted, so a rehash while merging cannot leave them stale.
+	 */
+	private static <E> ArrayIndex<E> merge(boolean objects, boolean floating, int length, ArrayIndex<E>[] chunks) {
+		long expected = 0;
+		for (ArrayIndex<E> chunk : chunks) expected += chunk.distinct;
+		ArrayIndex<E> index = new ArrayIndex<>(objects, floating, length, (int) Math.min(expected, length));
+		int offset = 0;
+		for (ArrayIndex<E> chunk : chunks) {
+			for (int c = 0; c < chunk.used.length; c++) {
+				if (!chunk.used[c]) continue;
+				int slot = objects ? index.slot(chunk.objectKeys[c]) : index.slot(chunk.keys[c]);
+				int count = index.counts[slot], added = chunk.counts[c];
+				if (count + added > index.positions[slot].length)
+					index.positions[slot] = Arrays.copyOf(index.positions[slot], Math.max(count + added, count << 1));
+				int[] list = index.positions[slot];
+				int[] from = chunk.positions[c];
+				for (int i = 0; i < added; i++) list[count + i] = from[i] + offset;
+				index.counts[slot] = count + added;
+			}
+			offset += chunk.size;
+		}
+		offset = 0;
+		for (ArrayIndex<E> chunk : chunks) {
+			int[] moved = new int[chunk.used.length];
+			for (int c = 0; c < chunk.used.length; c++)
+				if (chunk.used[c]) moved[c] = objects ? index.find(chunk.objectKeys[c]) : index.find(chunk.keys[c]);
+			for (int i = 0; i < chunk.size; i++) index.slotAt[offset + i] = chunk.slotAt[i] < 0 ? INDEX_NOT_FOUND : moved[chunk.slotAt[i]];
+			offset += chunk.size;
+		}
+		index.size = offset;
+		return index;
+	}
+
+	/**
+	 * Creates the index of an array.
+	 * @param array the array to index; not null
+	 * @param <E> the type of the elements
+	 * @return the index
+	 * @since 1.10.0
+	 */
+	public static <E> ArrayIndex<E> of(E[] array) {
+		return build(requireNonNull(array).length, i -> array[i]);
+	}
+
+	/**
+	 * Creates the index of a byte-array.
+	 * @param array the byte-array to index; not null
+	 * @return the index
+	 * @since 1.10.0
+	 */
+	public static ArrayIndex<Byte> of(byte[] array) {
+		return build(requireNonNull(array).length, false, i -> array[i]);
+	}
+
+	/**
+	 * Creates the index of a short-array.
+	 * @param array the short-array to index; not null
+	 * @return the index
+	 * @since 1.10.0
+	 */
+	public static ArrayIndex<Short> of(short[] array) {
+		return build(requireNonNull(array).length, false, i -> array[i]);
+	}
+
+	/**
+	 * Creates the index of an int-array.
+	 * @param array the int-array to index; not null
+	 * @return the index
+	 * @since 1.10.0
+	 */
+	public static ArrayIndex<Integer> of(int[] array) {
+		return build(requireNonNull(array).length, false, i -> array[i]);
+	}
+
+	/**
+	 * Creates the index of a long-array.
+	 * @param array the long-array to index; not null
+	 * @return the index
+	 * @since 1.10.0
+	 */
+	public static ArrayIndex<Long> of(long[] array) {
+		return build(requireNonNull(array).length, false, i -> array[i]);
+	}
+
+	/**
+	 * Creates the index of a float-array.
+	 * @param array the float-array to index; not null
+	 * @return the index
+	 * @since 1.10.0
+	 */
+	public static ArrayIndex<Float> of(float[] array) {
+		return build(requireNonNull(array).length, true, i -> encode(array[i]));
+	}
+
+	/**
+	 * Creates the index of a double-array.
+	 * @param array the double-array to index; not null
+	 * @return the index
+	 * @since 1.10.0
+	 */
+	public static ArrayIndex<Double> of(double[] array) {
+		return build(requireNonNull(array).length, true, i -> encode(array[i]));
+	}
+
+	/**
+	 * Creates the index of a char-array.
+	 * @param array the char-array to index; not null
+	 * @return the index
+	 * @since 1.10.0
+	 */
+	public static ArrayIndex<Character> of(char[] array) {
+		return build(requireNonNull(array).length, false, i -> array[i]);
+	}
+
+	/**
+	 * Creates the index of a boolean-array ({@code true} is indexed as {@code 1}, {@code false} as {@code 0}).
+	 * @param array the boolean-array to index; not null
+	 * @return the index
+	 * @since 1.10.0
+	 */
+	public static ArrayIndex<Boolean> of(boolean[] array) {
+		return build(requireNonNull(array).length, false, i -> array[i] ? 1 : 0);
+	}
+
+	/**
+	 * @return the length of the indexed array
+	 * @since 1.10.0
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * @return the number of distinct indexed values
+	 * @since 1.10.0
+	 */
+	public int distinctCount() {
+		int count = 0;
+		for (int slot = 0; slot < used.length; slot++) if (used[slot] && counts[slot] > 0) count++;
+		return count;
+	}
+
+	private int first(int slot) {
+		return slot < 0 || counts[slot] == 0 ? INDEX_NOT_FOUND : positions[slot][0];
+	}
+
+	private int last(int slot) {
+		return slot < 0 || counts[slot] == 0 ? INDEX_NOT_FOUND : positions[slot][counts[slot] - 1];
+	}
+
+	private int[] all(int slot) {
+		return slot < 0 ? new int[0] : Arrays.copyOf(positions[slot], counts[slot]);
+	}
+
+	private int count(int slot) {
+		return slot < 0 ? 0 : counts[slot];
+	}
+
+	/**
+	 * Returns the index of the first occurrence of the element.
+	 * @param element the element to search for
+	 * @return the index of the first occurrence of the element, or {@code -1} if the element is not present
+	 * @since 1.10.0
+	 */
+	public int indexOf(E element) {
+		return first(find((Object) element));
+	}
+
+	/**
+	 * Returns the index of the first occurrence of the value in a primitive index.
+	 * @param value the value to search for
+	 * @return the index of the first occurrence of the value, or {@code -1} if the value is not present
+	 * @since 1.10.0
+	 */
+	public int indexOf(long value) {
+		return first(lookup(value));
+	}
+
+	/**
+	 * Returns the index of the first occurrence of the value in a primitive index.
+	 * @param value the value to search for
+	 * @return the index of the first occurrence of the value, or {@code -1} if the value is not present
+	 * @since 1.10.0
+	 */
+	public int indexOf(double value) {
+		return first(lookup(value));
+	}
+
+	/**
+	 * Returns the index of the last occurrence of the element.
+	 * @param element the element to search for
+	 * @return the index of the last occurrence of the element, or {@code -1} if the element is not present
+	 * @since 1.10.0
+	 */
+	public int lastIndexOf(E element) {
+		return last(find((Object) element));
+	}
+
+	/**
+	 * Returns the index of the last occurrence of the value in a primitive index.
+	 * @param value the value to search for
+	 * @return the index of the last occurrence of the value, or {@code -1} if the value is not present
+	 * @since 1.10.0
+	 */
+	public int lastIndexOf(long value) {
+		return last(lookup(value));
+	}
+
+	/**
+	 * Returns the index of the last occurrence of the value in a primitive index.
+	 * @param value the value to search for
+	 * @return the index of the last occurrence of the value, or {@code -1} if the value is not present
+	 * @since 1.10.0
+	 */
+	public int lastIndexOf(double value) {
+		return last(lookup(value));
+	}
+
+	/**
+	 * Returns the ascending indexes of the occurrences of the element.
+	 * @param element the element to search for
+	 * @return the indexes of the occurrences of the element
+	 * @since 1.10.0
+	 */
+	public int[] indexesOf(E element) {
+		return all(find((Object) element));
+	}
+
+	/**
+	 * Returns the ascending indexes of the occurrences of the value in a primitive index.
+	 * @param value the value to search for
+	 * @return the indexes of the occurrences of the value
+	 * @since 1.10.0
+	 */
+	public int[] indexesOf(long value) {
+		return all(lookup(value));
+	}
+
+	/**
+	 * Returns the ascending indexes of the occurrences of the value in a primitive index.
+	 * @param value the value to search for
+	 * @return the indexes of the occurrences of the value
+	 * @since 1.10.0
+	 */
+	public int[] indexesOf(double value) {
+		return all(lookup(value));
+	}
+
+	/**
+	 * Checks if the element is present.
+	 * @param element the element to check
+	 * @return {@code true} if the element is present, {@code false} otherwise
+	 * @since 1.10.0
+	 */
+	public boolean contains(E element) {
+		return count(find((Object) element)) > 0;
+	}
+
+	/**
+	 * Checks if the value is present in a primitive index.
+	 * @param value the value to check
+	 * @return {@code true} if the value is present, {@code false} otherwise
+	 * @since 1.10.0
+	 */
+	public boolean contains(long value) {
+		return count(lookup(value)) > 0;
+	}
+
+	/**
+	 * Checks if the value is present in a primitive index.
+	 * @param value the value to check
+	 * @return {@code true} if the value is present, {@code false} otherwise
+	 * @since 1.10.0
+	 */
+	public boolean contains(double value) {
+		return count(lookup(value)) > 0;
+	}
+
+	/**
+	 * Counts the occurrences of the element.
+	 * @param element the element to count
+	 * @return the number of occurrences of the element
+	 * @since 1.10.0
+	 */
+	public int count(E element) {
+		return count(find((Object) element));
+	}
+
+	/**
+	 * Counts the occurrences of the value in a primitive index.
+	 * @param value the value to count
+	 * @return the number of occurrences of the value
+	 * @since 1.10.0
+	 */
+	public int count(long value) {
+		return count(lookup(value));
+	}
+
+	/**
+	 * Counts the occurrences of the value in a primitive index.
+	 * @param value the value to count
+	 * @return the number of occurrences of the value
+	 * @since 1.10.0
+	 */
+	public int count(double value) {
+		return count(lookup(value));
+	}
+
+	/**
+	 * Follows an element appended to the end of the array.
+	 * @param element the appended element
+	 * @since 1.10.0
+	 */
+	public void add(E element) {
+		append(valueSlot((Object) element));
+	}
+
+	/**
+	 * Follows a value appended to the end of the array of a primitive index.
+	 * @param value the appended value
+	 * @since 1.10.0
+	 */
+	public void add(long value) {
+		append(valueSlot(value));
+	}
+
+	/**
+	 * Follows a value appended to the end of the array of a primitive index.
+	 * @param value the appended value
+	 * @since 1.10.0
+	 */
+	public void add(double value) {
+		append(valueSlot(value));
+	}
+
+	/**
+	 * Follows an element inserted in the array, as by {@code ArrayUtils.add(array, index, element)}.
+	 * @param index the index of the inserted element
+	 * @param element the inserted element
+	 * @throws IndexOutOfBoundsException if the index is out of range
+	 * @since 1.10.0
+	 */
+	public void add(int index, E element) {
+		insert(index, valueSlot((Object) element));
+	}
+
+	/**
+	 * Follows a value inserted in the array of a primitive index, as by {@code ArrayUtils.add(array, index, element)}.
+	 * @param index the index of the inserted value
+	 * @param value the inserted value
+	 * @throws IndexOutOfBoundsException if the index is out of range
+	 * @since 1.10.0
+	 */
+	public void add(int index, long value) {
+		insert(index, valueSlot(value));
+	}
+
+	/**
+	 * Follows a value inserted in the array of a primitive index, as by {@code ArrayUtils.add(array, index, element)}.
+	 * @param index the index of the inserted value
+	 * @param value the inserted value
+	 * @throws IndexOutOfBoundsException if the index is out of range
+	 * @since 1.10.0
+	 */
+	public void add(int index, double value) {
+		insert(index, valueSlot(value));
+	}
+
+	/**
+	 * Follows an element replaced in the array.
+	 * @param index the index of the replaced element
+	 * @param element the new element
+	 * @throws IndexOutOfBoundsException if the index is out of range
+	 * @since 1.10.0
+	 */
+	public void set(int index, E element) {
+		replace(index, valueSlot((Object) element));
+	}
+
+	/**
+	 * Follows a value replaced in the array of a primitive index.
+	 * @param index the index of the replaced value
+	 * @param value the new value
+	 * @throws IndexOutOfBoundsException if the index is out of range
+	 * @since 1.10.0
+	 */
+	public void set(int index, long value) {
+		replace(index, valueSlot(value));
+	}
+
+	/**
+	 * Follows a value replaced in the array of a primitive index.
+	 * @param index the index of the replaced value
+	 * @param value the new value
+	 * @throws IndexOutOfBoundsException if the index is out of range
+	 * @since 1.10.0
+	 */
+	public void set(int index, double value) {
+		replace(index, valueSlot(value));
+	}
+
+	/**
+	 * Follows an element removed from the array, as by {@code ArrayUtils.remove(array, index)}.
+	 * @param index the index of the removed element
+	 * @throws IndexOutOfBoundsException if the index is out of range
+	 * @since 1.10.0
+	 */
+	public void remove(int index) {
+		if (index < 0 || index >= size) throw new IndexOutOfBoundsException("Index: " + index + ", Length: " + size);
+		removePosition(slotAt[index], index);
+		for (int slot = 0; slot < used.length; slot++) {
+			if (!used[slot]) continue;
+			int[] list = positions[slot];
+			for (int i = counts[slot] - 1; i >= 0 && list[i] > index; i--) list[i]--;
+		}
+		System.arraycopy(slotAt, index + 1, slotAt, index, size - index - 1);
+		size--;
+	}
+}
@@ -0,0 +1,619 @@
+package net.tp.utils.classes;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Spliterators over a range of a primitive array, optionally strided.
+ * <p>
+ * {@code byte}, {@code short} and {@code char} arrays are traversed as {@code int} values,
+ * {@code float} arrays as {@code double} values and {@code boolean} arrays as (cached) {@link Boolean} values,
+ * without copying the array into a wider one.
+ * The spliterators report {@link Spliterator#SIZED}, {@link Spliterator#SUBSIZED}, {@link Spliterator#ORDERED}
+ * and {@link Spliterator#IMMUTABLE}, and split in two halves with the same number of elements,
+ * so they are suitable sources for parallel streams.
+ *
+ * @author Tommaso Pastorelli
+ * @since 1.10.0
+ */
+@SuppressWarnings("unused")
+public abstract class ArraySpliterator {
+	/**
+	 * The characteristics of every array spliterator.
+	 */
+	private static final int CHARACTERISTICS = Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED | Spliterator.IMMUTABLE;
+
+	/**
+	 * The index of the next element.
+	 */
+	int index;
+	/**
+	 * The number of elements left.
+	 */
+	int remaining;
+	/**
+	 * The distance between two consecutive elements.
+	 */
+	final int step;
+
+	private ArraySpliterator(int index, int remaining, int step) {
+		this.index = index;
+		this.remaining = remaining;
+		this.step = step;
+	}
+
+	/**
+	 * Returns the number of elements of a strided range, validating it.
+	 * @param length the length of the array
+	 * @param fromIndex the index of the first element, inclusive
+	 * @param toIndex the end of the range, exclusive
+	 * @param step the distance between two consecutive elements
+	 * @return the number of elements of the range
+	 * @throws IndexOutOfBoundsException if the range is out of the array
+	 * @throws IllegalArgumentException if {@code step} is not positive
+	 */
+	private static int count(int length, int fromIndex, int toIndex, int step) {
+		if (fromIndex < 0 || fromIndex > length) throw new IndexOutOfBoundsException("Index: " + fromIndex + ", Length: " + length);
+		if (toIndex < fromIndex || toIndex > length) throw new IndexOutOfBoundsException("Index: " + toIndex + ", Length: " + length);
+		if (step <= 0) throw new IllegalArgumentException("Step must be positive.");
+		return (int) (((long) toIndex - fromIndex + step - 1) / step);
+	}
+
+	/**
+	 * Returns the number of elements of the prefix to split off.
+	 * @return the number of elements of the prefix, or {@code 0} if the spliterator cannot be split
+	 */
+	int splitSize() {
+		return remaining >>> 1;
+	}
+
+	/**
+	 * Advances past the split prefix.
+	 * @param size the number of elements of the prefix
+	 */
+	void skip(int size) {
+		index += size * step;
+		remaining -= size;
+	}
+
+	/**
+	 * @return the exact number of elements left
+	 * @since 1.10.0
+	 */
+	public long estimateSize() {
+		return remaining;
+	}
+
+	/**
+	 * @return the exact number of elements left
+	 * @since 1.10.0
+	 */
+	public long getExactSizeIfKnown() {
+		return remaining;
+	}
+
+	/**
+	 * @return {@code SIZED | SUBSIZED | ORDERED | IMMUTABLE}
+	 * @since 1.10.0
+	 */
+	public int characteristics() {
+		return CHARACTERISTICS;
+	}
+
+	/**
+	 * Creates a spliterator over a byte-array.
+	 * @param array the byte-array; not null
+	 * @return the spliterator
+	 * @since 1.10.0
+	 */
+	public static Spliterator.OfInt of(byte[] array) {
+		return of(requireNonNull(array), 0, array.length, 1);
+	}
+
+	/**
+	 * Creates a spliterator over a range of a byte-array, taking one element every {@code step}.
+	 * @param array the byte-array; not null
+	 * @param fromIndex the index of the first element, inclusive
+	 * @param toIndex the end of the range, exclusive
+	 * @param step the distance between two consecutive elements; positive
+	 * @return the spliterator
+	 * @throws IndexOutOfBoundsException if the range is out of the array
+	 * @throws IllegalArgumentException if {@code step} is not positive
+	 * @since 1.10.0
+	 */
+	public static Spliterator.OfInt of(byte[] array, int fromIndex, int toIndex, int step) {
+		return new ByteRange(requireNonNull(array), fromIndex, count(array.length, fromIndex, toIndex, step), step);
+	}
+
+	/**
+	 * Creates a spliterator over a short-array.
+	 * @param array the short-array; not null
+	 * @return the spliterator
+	 * @since 1.10.0
+	 */
+	public static Spliterator.OfInt of(short[] array) {
+		return of(requireNonNull(array), 0, array.length, 1);
+	}
+
+	/**
+	 * Creates a spliterator over a range of a short-array, taking one element every {@code step}.
+	 * @param array the short-array; not null
+	 * @param fromIndex the index of the first element, inclusive
+	 * @param toIndex the end of the range, exclusive
+	 * @param step the distance between two consecutive elements; positive
+	 * @return the spliterator
+	 * @throws IndexOutOfBoundsException if the range is out of the array
+	 * @throws IllegalArgumentException if {@code step} is not positive
+	 * @since 1.10.0
+	 */
+	public static Spliterator.OfInt of(short[] array, int fromIndex, int toIndex, int step) {
+		return new ShortRange(requireNonNull(array), fromIndex, count(array.length, fromIndex, toIndex, step), step);
+	}
+
+	/**
+	 * Creates a spliterator over a char-array.
+	 * @param array the char-array; not null
+	 * @return the spliterator
+	 * @since 1.10.0
+	 */
+	public static Spliterator.OfInt of(char[] array) {
+		return of(requireNonNull(array), 0, array.length, 1);
+	}
+
+	/**
+	 * Creates a spliterator over a range of a char-array, taking one element every {@code step}.
+	 * @param array the char-array; not null
+	 * @param fromIndex the index of the first element, inclusive
+	 * @param toIndex the end of the range, exclusive
+	 * @param step the distance between two consecutive elements; positive
+	 * @return the spliterator
+	 * @throws IndexOutOfBoundsException if the range is out of the array
+	 * @throws IllegalArgumentException if {@code step} is not positive
+	 * @since 1.10.0
+	 */
+	public static Spliterator.OfInt of(char[] array, int fromIndex, int toIndex, int step) {
+		return new CharRange(requireNonNull(array), fromIndex, count(array.length, fromIndex, toIndex, step), step);
+	}
+
+	/**
+	 * Creates a spliterator over an int-array.
+	 * @param array the int-array; not null
+	 * @return the spliterator
+	 * @since 1.10.0
+	 */
+	public static Spliterator.OfInt of(int[] array) {
+		return of(requireNonNull(array), 0, array.length, 1);
+	}
+
+	/**
+	 * Creates a spliterator over a range of an int-array, taking one element every {@code step}.
+	 * @param array the int-array; not null
+	 * @param fromIndex the index of the first element, inclusive
+	 * @param toIndex the end of the range, exclusive
+	 * @param step the distance between two consecutive elements; positive
+	 * @return the spliterator
+	 * @throws IndexOutOfBoundsException if the range is out of the array
+	 * @throws IllegalArgumentException if {@code step} is not positive
+	 * @since 1.10.0
+	 */
+	public static Spliterator.OfInt of(int[] array, int fromIndex, int toIndex, int step) {
+		return new IntRange(requireNonNull(array), fromIndex, count(array.length, fromIndex, toIndex, step), step);
+	}
+
+	/**
+	 * Creates a spliterator over a long-array.
+	 * @param array the long-array; not null
+	 * @return the spliterator
+	 * @since 1.10.0
+	 */
+	public static Spliterator.OfLong of(long[] array) {
+		return of(requireNonNull(array), 0, array.length, 1);
+	}
+
+	/**
+	 * Creates a spliterator over a range of a long-array, taking one element every {@code step}.
+	 * @param array the long-array; not null
+	 * @param fromIndex the index of the first element, inclusive
+	 * @param toIndex the end of the range, exclusive
+	 * @param step the distance between two consecutive elements; positive
+	 * @return the spliterator
+	 * @throws IndexOutOfBoundsException if the range is out of the array
+	 * @throws IllegalArgumentException if {@code step} is not positive
+	 * @since 1.10.0
+	 */
+	public static Spliterator.OfLong of(long[] array, int fromIndex, int toIndex, int step) {
+		return new LongRange(requireNonNull(array), fromIndex, count(array.length, fromIndex, toIndex, step), step);
+	}
+
+	/**
+	 * Creates a spliterator over a float-array.
+	 * @param array the float-array; not null
+	 * @return the spliterator
+	 * @since 1.10.0
+	 */
+	public static Spliterator.OfDouble of(float[] array) {
+		return of(requireNonNull(array), 0, array.length, 1);
+	}
+
+	/**
+	 * Creates a spliterator over a range of a float-array, taking one element every {@code step}.
+	 * @param array the float-array; not null
+	 * @param fromIndex the index of the first element, inclusive
+	 * @param toIndex the end of the range, exclusive
+	 * @param step the distance between two consecutive elements; positive
+	 * @return the spliterator
+	 * @throws IndexOutOfBoundsException if the range is out of the array
+	 * @throws IllegalArgumentException if {@code step} is not positive
+	 * @since 1.10.0
+	 */
+	public static Spliterator.OfDouble of(float[] array, int fromIndex, int toIndex, int step) {
+		return new FloatRange(requireNonNull(array), fromIndex, count(array.length, fromIndex, toIndex, step), step);
+	}
+
+	/**
+	 * Creates a spliterator over a double-array.
+	 * @param array the double-array; not null
+	 * @return the spliterator
+	 * @since 1.10.0
+	 */
+	public static Spliterator.OfDouble of(double[] array) {
+		return of(requireNonNull(array), 0, array.length, 1);
+	}
+
+	/**
+	 * Creates a spliterator over a range of a double-array, taking one element every {@code step}.
+	 * @param array the double-array; not null
+	 * @param fromIndex the index of the first element, inclusive
+	 * @param toIndex the end of the range, exclusive
+	 * @param step the distance between two consecutive elements; positive
+	 * @return the spliterator
+	 * @throws IndexOutOfBoundsException if the range is out of the array
+	 * @throws IllegalArgumentException if {@code step} is not positive
+	 * @since 1.10.0
+	 */
+	public static Spliterator.OfDouble of(double[] array, int fromIndex, int toIndex, int step) {
+		return new DoubleRange(requireNonNull(array), fromIndex, count(array.length, fromIndex, toIndex, step), step);
+	}
+
+	/**
+	 * Creates a spliterator over a boolean-array.
+	 * @param array the boolean-array; not null
+	 * @return the spliterator
+	 * @since 1.10.0
+	 */
+	public static Spliterator<Boolean> of(boolean[] array) {
+		return of(requireNonNull(array), 0, array.length, 1);
+	}
+
+	/**
+	 * Creates a spliterator over a range of a boolean-array, taking one element every {@code step}.
+	 * @param array the boolean-array; not null
+	 * @param fromIndex the index of the first element, inclusive
+	 * @param toIndex the end of the range, exclusive
+	 * @param step the distance between two consecutive elements; positive
+	 * @return the spliterator
+	 * @throws IndexOutOfBoundsException if the range is out of the array
+	 * @throws IllegalArgumentException if {@code step} is not positive
+	 * @since 1.10.0
+	 */
+	public static Spliterator<Boolean> of(boolean[] array, int fromIndex, int toIndex, int step) {
+		return new BooleanRange(requireNonNull(array), fromIndex, count(array.length, fromIndex, toIndex, step), step);
+	}
+
+	private static final class ByteRange extends ArraySpliterator implements Spliterator.OfInt {
+		private final byte[] array;
+
+		private ByteRange(byte[] array, int index, int remaining, int step) {
+			super(index, remaining, step);
+			this.array = array;
+		}
+
+		@Override
+		public Spliterator.OfInt trySplit() {
+			int size = splitSize();
+			if (size == 0) return null;
+			ByteRange prefix = new ByteRange(array, index, size, step);
+			skip(size);
+			return prefix;
+		}
+
+		@Override
+		public boolean tryAdvance(IntConsumer action) {
+			requireNonNull(action);
+			if (remaining == 0) return false;
+			int i = index;
+			index += step;
+			remaining--;
+			action.accept(array[i]);
+			return true;
+		}
+
+		@Override
+		public void forEachRemaining(IntConsumer action) {
+			requireNonNull(action);
+			byte[] a = array;
+			int i = index, n = remaining, s = step;
+			index += n * s;
+			remaining = 0;
+			for (; n > 0; n--, i += s) action.accept(a[i]);
+		}
+	}
+
+	private static final class ShortRange extends ArraySpliterator implements Spliterator.OfInt {
+		private final short[] array;
+
+		private ShortRange(short[] array, int index, int remaining, int step) {
+			super(index, remaining, step);
+			this.array = array;
+		}
+
+		@Override
+		public Spliterator.OfInt trySplit() {
+			int size = splitSize();
+			if (size == 0) return null;
+			ShortRange prefix = new ShortRange(array, index, size, step);
+			skip(size);
+			return prefix;
+		}
+
+		@Override
+		public boolean tryAdvance(IntConsumer action) {
+			requireNonNull(action);
+			if (remaining == 0) return false;
+			int i = index;
+			index += step;
+			remaining--;
+			action.accept(array[i]);
+			return true;
+		}
+
+		@Override
+		public void forEachRemaining(IntConsumer action) {
+			requireNonNull(action);
+			short[] a = array;
+			int i = index, n = remaining, s = step;
+			index += n * s;
+			remaining = 0;
+			for (; n > 0; n--, i += s) action.accept(a[i]);
+		}
+	}
+
+	private static final class CharRange extends ArraySpliterator implements Spliterator.OfInt {
+		private final char[] array;
+
+		private CharRange(char[] array, int index, int remaining, int step) {
+			super(index, remaining, step);
+			this.array = array;
+		}
+
+		@Override
+		public Spliterator.OfInt trySplit() {
+			int size = splitSize();
+			if (size == 0) return null;
+			CharRange prefix = new CharRange(array, index, size, step);
+			skip(size);
+			return prefix;
+		}
+
+		@Override
+		public boolean tryAdvance(IntConsumer action) {
+			requireNonNull(action);
+			if (remaining == 0) return false;
+			int i = index;
+			index += step;
+			remaining--;
+			action.accept(array[i]);
+			return true;
+		}
+
+		@Override
+		public void forEachRemaining(IntConsumer action) {
+			requireNonNull(action);
+			char[] a = array;
+			int i = index, n = remaining, s = step;
+			index += n * s;
+			remaining = 0;
+			for (; n > 0; n--, i += s) action.accept(a[i]);
+		}
+	}
+
+	private static final class IntRange extends ArraySpliterator implements Spliterator.OfInt {
+		private final int[] array;
+
+		private IntRange(int[] array, int index, int remaining, int step) {
+			super(index, remaining, step);
+			this.array = array;
+		}
+
+		@Override
+		public Spliterator.OfInt trySplit() {
+			int size = splitSize();
+			if (size == 0) return null;
+			IntRange prefix = new IntRange(array, index, size, step);
+			skip(size);
+			return prefix;
+		}
+
+		@Override
+		public boolean tryAdvance(IntConsumer action) {
+			requireNonNull(action);
+			if (remaining == 0) return false;
+			int i = index;
+			index += step;
+			remaining--;
+			action.accept(array[i]);
+			return true;
+		}
+
+		@Override
+		public void forEachRemaining(IntConsumer action) {
+			requireNonNull(action);
+			int[] a = array;
+			int i = index, n = remaining, s = step;
+			index += n * s;
+			remaining = 0;
+			for (; n > 0; n--, i += s) action.accept(a[i]);
+		}
+	}
+
+	private static final class LongRange extends ArraySpliterator implements Spliterator.OfLong {
+		private final long[] array;
+
+		private LongRange(long[] array, int index, int remaining, int step) {
+			super(index, remaining, step);
+			this.array = array;
+		}
+
+		@Override
+		public Spliterator.OfLong trySplit() {
+			int size = splitSize();
+			if (size == 0) return null;
+			LongRange prefix = new LongRange(array, index, size, step);
+			skip(size);
+			return prefix;
+		}
+
+		@Override
+		public boolean tryAdvance(LongConsumer action) {
+			requireNonNull(action);
+			if (remaining == 0) return false;
+			int i = index;
+			index += step;
+			remaining--;
+			action.accept(array[i]);
+			return true;
+		}
+
+		@Override
+		public void forEachRemaining(LongConsumer action) {
+			requireNonNull(action);
+			long[] a = array;
+			int i = index, n = remaining, s = step;
+			index += n * s;
+			remaining = 0;
+			for (; n > 0; n--, i += s) action.accept(a[i]);
+		}
+	}
+
+	private static final class FloatRange extends ArraySpliterator implements Spliterator.OfDouble {
+		private final float[] array;
+
+		private FloatRange(float[] array, int index, int remaining, int step) {
+			super(index, remaining, step);
+			this.array = array;
+		}
+
+		@Override
+		public Spliterator.OfDouble trySplit() {
+			int size = splitSize();
+			if (size == 0) return null;
+			FloatRange prefix = new FloatRange(array, index, size, step);
+			skip(size);
+			return prefix;
+		}
+
+		@Override
+		public boolean tryAdvance(DoubleConsumer action) {
+			requireNonNull(action);
+			if (remaining == 0) return false;
+			int i = index;
+			index += step;
+			remaining--;
+			action.accept(array[i]);
+			return true;
+		}
+
+		@Override
+		public void forEachRemaining(DoubleConsumer action) {
+			requireNonNull(action);
+			float[] a = array;
+			int i = index, n = remaining, s = step;
+			index += n * s;
+			remaining = 0;
+			for (; n > 0; n--, i += s) action.accept(a[i]);
+		}
+	}
+
+	private static final class DoubleRange extends ArraySpliterator implements Spliterator.OfDouble {
+		private final double[] array;
+
+		private DoubleRange(double[] array, int index, int remaining, int step) {
+			super(index, remaining, step);
+			this.array = array;
+		}
+
+		@Override
+		public Spliterator.OfDouble trySplit() {
+			int size = splitSize();
+			if (size == 0) return null;
+			DoubleRange prefix = new DoubleRange(array, index, size, step);
+			skip(size);
+			return prefix;
+		}
+
+		@Override
+		public boolean tryAdvance(DoubleConsumer action) {
+			requireNonNull(action);
+			if (remaining == 0) return false;
+			int i = index;
+			index += step;
+			remaining--;
+			action.accept(array[i]);
+			return true;
+		}
+
+		@Override
+		public void forEachRemaining(DoubleConsumer action) {
+			requireNonNull(action);
+			double[] a = array;
+			int i = index, n = remaining, s = step;
+			index += n * s;
+			remaining = 0;
+			for (; n > 0; n--, i += s) action.accept(a[i]);
+		}
+	}
+
+	private static final class BooleanRange extends ArraySpliterator implements Spliterator<Boolean> {
+		private final boolean[] array;
+
+		private BooleanRange(boolean[] array, int index, int remaining, int step) {
+			super(index, remaining, step);
+			this.array = array;
+		}
+
+		@Override
+		public Spliterator<Boolean> trySplit() {
+			int size = splitSize();
+			if (size == 0) return null;
+			BooleanRange prefix = new BooleanRange(array, index, size, step);
+			skip(size);
+			return prefix;
+		}
+
+		@Override
+		public boolean tryAdvance(Consumer<? super Boolean> action) {
+			requireNonNull(action);
+			if (remaining == 0) return false;
+			int i = index;
+			index += step;
+			remaining--;
+			action.accept(array[i]);
+			return true;
+		}
+
+		@Override
+		public void forEachRemaining(Consumer<? super Boolean> action) {
+			requireNonNull(action);
+			boolean[] a = array;
+			int i = index, n = remaining, s = step;
+			index += n * s;
+			remaining = 0;
+			for (; n > 0; n--, i += s) action.accept(a[i]);
+		}
+	}
+}
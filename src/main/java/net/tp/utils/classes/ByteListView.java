@@ -0,0 +1,161 @@
+package net.tp.utils.classes;
+
+import java.util.Arrays;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A fixed-size {@link java.util.List} view over a range of a byte-array.
+ *
+ * @see PrimitiveListView
+ * @author Tommaso Pastorelli
+ * @since 1.10.0
+ */
+@SuppressWarnings("unused")
+public final class ByteListView extends PrimitiveListView<Byte> {
+	/**
+	 * The backing array.
+	 */
+	private final byte[] array;
+
+	private ByteListView(byte[] array, int fromIndex, int toIndex) {
+		super(array.length, fromIndex, toIndex);
+		this.array = array;
+	}
+
+	/**
+	 * Creates a view over a byte-array.
+	 * @param array the byte-array; not null
+	 * @return the view
+	 * @since 1.10.0
+	 */
+	public static ByteListView of(byte[] array) {
+		return new ByteListView(requireNonNull(array), 0, array.length);
+	}
+
+	/**
+	 * Creates a view over a range of a byte-array.
+	 * @param array the byte-array; not null
+	 * @param fromIndex the start of the range, inclusive
+	 * @param toIndex the end of the range, exclusive
+	 * @return the view
+	 * @throws IndexOutOfBoundsException if the range is out of the array
+	 * @since 1.10.0
+	 */
+	public static ByteListView of(byte[] array, int fromIndex, int toIndex) {
+		return new ByteListView(requireNonNull(array), fromIndex, toIndex);
+	}
+
+	/**
+	 * Returns the element at the specified index, boxed.
+	 * @param index the index of the element
+	 * @return the element
+	 * @throws IndexOutOfBoundsException if the index is out of the view
+	 * @since 1.10.0
+	 */
+	@Override
+	public Byte get(int index) {
+		return array[arrayIndex(index)];
+	}
+
+	/**
+	 * Returns the element at the specified index, without boxing.
+	 * @param index the index of the element
+	 * @return the element
+	 * @throws IndexOutOfBoundsException if the index is out of the view
+	 * @since 1.10.0
+	 */
+	public byte getByte(int index) {
+		return array[arrayIndex(index)];
+	}
+
+	/**
+	 * Replaces the element at the specified index, writing through to the array.
+	 * @param index the index of the element
+	 * @param element the new element; not null
+	 * @return the previous element
+	 * @throws IndexOutOfBoundsException if the index is out of the view
+	 * @since 1.10.0
+	 */
+	@Override
+	public Byte set(int index, Byte element) {
+		return setByte(index, element);
+	}
+
+	/**
+	 * Replaces the element at the specified index, writing through to the array, without boxing.
+	 * @param index the index of the element
+	 * @param element the new element
+	 * @return the previous element
+	 * @throws IndexOutOfBoundsException if the index is out of the view
+	 * @since 1.10.0
+	 */
+	public byte setByte(int index, byte element) {
+		int i = arrayIndex(index);
+		byte previous = array[i];
+		array[i] = element;
+		return previous;
+	}
+
+	/**
+	 * Returns the index of the first occurrence of the element.
+	 * @param o the element to search for
+	 * @return the index of the first occurrence of the element, or {@code -1} if the element is not present
+	 * @since 1.10.0
+	 */
+	@Override
+	public int indexOf(Object o) {
+		if (!(o instanceof Byte)) return -1;
+		byte value = (Byte) o;
+		for (int i = offset; i < offset + size; i++) if (array[i] == value) return i - offset;
+		return -1;
+	}
+
+	/**
+	 * Returns the index of the last occurrence of the element.
+	 * @param o the element to search for
+	 * @return the index of the last occurrence of the element, or {@code -1} if the element is not present
+	 * @since 1.10.0
+	 */
+	@Override
+	public int lastIndexOf(Object o) {
+		if (!(o instanceof Byte)) return -1;
+		byte value = (Byte) o;
+		for (int i = offset + size - 1; i >= offset; i--) if (array[i] == value) return i - offset;
+		return -1;
+	}
+
+	/**
+	 * Checks if the element is present.
+	 * @param o the element to check
+	 * @return {@code true} if the element is present, {@code false} otherwise
+	 * @since 1.10.0
+	 */
+	@Override
+	public boolean contains(Object o) {
+		return indexOf(o) >= 0;
+	}
+
+	/**
+	 * Returns a view over a range of this view, backed by the same array.
+	 * @param fromIndex the start of the range, inclusive
+	 * @param toIndex the end of the range, exclusive
+	 * @return the view over the range
+	 * @throws IndexOutOfBoundsException if the range is out of the view
+	 * @since 1.10.0
+	 */
+	@Override
+	public ByteListView subList(int fromIndex, int toIndex) {
+		checkRange(size, fromIndex, toIndex);
+		return new ByteListView(array, offset + fromIndex, offset + toIndex);
+	}
+
+	/**
+	 * Copies the elements of the view into a new byte-array.
+	 * @return the byte-array with the elements of the view
+	 * @since 1.10.0
+	 */
+	public byte[] toByteArray() {
+		return Arrays.copyOfRange(array, offset, offset + size);
+	}
+}
@@ -0,0 +1,319 @@
+package net.tp.utils.classes;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.CharBuffer;
+import java.util.Arrays;
+
+import static java.util.Objects.isNull;
+
+/**
+ * A reusable, growable character buffer for formatting primitive values without creating a {@link String} per value.
+ * <p>
+ * Integers are written digit pair by digit pair from a lookup table.
+ * {@code float} and {@code double} values are written in their shortest round-tripping form,
+ * the same text as {@link Double#toString(double)} and {@link Float#toString(float)}, through a reused scratch builder.
+ * The content can be flushed in bulk to any {@link Appendable} with {@link #flushTo(Appendable)}, which empties the buffer for reuse.
+ * <p>
+ * The buffer is not thread-safe.
+ *
+ * @author Tommaso Pastorelli
+ * @since 1.10.0
+ */
+@SuppressWarnings("unused")
+public class CharArrayBuffer implements Appendable, CharSequence {
+	/**
+	 * The default initial capacity.
+	 */
+	private static final int DEFAULT_CAPACITY = 1024;
+	/**
+	 * The two-digit strings of the numbers from {@code 0} to {@code 99}, concatenated.
+	 */
+	private static final char[] DIGIT_PAIRS = new char[200];
+
+	static {
+		for (int i = 0; i < 100; i++) {
+			DIGIT_PAIRS[i << 1] = (char) ('0' + i / 10);
+			DIGIT_PAIRS[(i << 1) + 1] = (char) ('0' + i % 10);
+		}
+	}
+
+	/**
+	 * The characters of the buffer.
+	 */
+	private char[] chars;
+	/**
+	 * The number of characters in the buffer.
+	 */
+	private int length;
+	/**
+	 * The scratch builder for floating values, created on first use.
+	 */
+	private StringBuilder scratch;
+
+	/**
+	 * Creates an empty buffer with the default capacity.
+	 * @since 1.10.0
+	 */
+	public CharArrayBuffer() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Creates an empty buffer.
+	 * @param capacity the initial capacity
+	 * @throws IllegalArgumentException if the capacity is negative
+	 * @since 1.10.0
+	 */
+	public CharArrayBuffer(int capacity) {
+		if (capacity < 0) throw new IllegalArgumentException("Capacity must be non-negative.");
+		this.chars = new char[capacity];
+	}
+
+	/**
+	 * @return the number of characters the buffer can hold without growing
+	 * @since 1.10.0
+	 */
+	public int capacity() {
+		return chars.length;
+	}
+
+	/**
+	 * Makes room for at least the specified number of characters.
+	 * @param capacity the minimum capacity
+	 * @since 1.10.0
+	 */
+	public void ensureCapacity(int capacity) {
+		if (capacity > chars.length) chars = Arrays.copyOf(chars, Math.max(capacity, chars.length << 1));
+	}
+
+	/**
+	 * Appends a character sequence ({@code "null"} if it is {@code null}).
+	 * @param csq the character sequence to append
+	 * @return this buffer
+	 * @since 1.10.0
+	 */
+	@Override
+	public CharArrayBuffer append(CharSequence csq) {
+		if (isNull(csq)) csq = "null";
+		return append(csq, 0, csq.length());
+	}
+
+	/**
+	 * Appends a range of a character sequence ({@code "null"} if it is {@code null}).
+	 * @param csq the character sequence to append
+	 * @param start the start of the range, inclusive
+	 * @param end the end of the range, exclusive
+	 * @return this buffer
+	 * @throws IndexOutOfBoundsException if the range is out of the character sequence
+	 * @since 1.10.0
+	 */
+	@Override
+	public CharArrayBuffer append(CharSequence csq, int start, int end) {
+		if (isNull(csq)) csq = "null";
+		if (start < 0 || start > end || end > csq.length()) throw new IndexOutOfBoundsException("Index: " + end + ", Length: " + csq.length());
+		ensureCapacity(length + end - start);
+		if (csq instanceof String) ((String) csq).getChars(start, end, chars, length);
+		else if (csq instanceof StringBuilder) ((StringBuilder) csq).getChars(start, end, chars, length);
+		else if (csq instanceof CharArrayBuffer) System.arraycopy(((CharArrayBuffer) csq).chars, start, chars, length, end - start);
+		else for (int i = start; i < end; i++) chars[length + i - start] = csq.charAt(i);
+		length += end - start;
+		return this;
+	}
+
+	/**
+	 * Appends a range of a char-array.
+	 * @param array the char-array to append
+	 * @param start the start of the range, inclusive
+	 * @param end the end of the range, exclusive
+	 * @return this buffer
+	 * @since 1.10.0
+	 */
+	public CharArrayBuffer append(char[] array, int start, int end) {
+		ensureCapacity(length + end - start);
+		System.arraycopy(array, start, chars, length, end - start);
+		length += end - start;
+		return this;
+	}
+
+	/**
+	 * Appends a character.
+	 * @param c the character to append
+	 * @return this buffer
+	 * @since 1.10.0
+	 */
+	@Override
+	public CharArrayBuffer append(char c) {
+		ensureCapacity(length + 1);
+		chars[length++] = c;
+		return this;
+	}
+
+	/**
+	 * Appends the decimal representation of an int.
+	 * @param value the value to append
+	 * @return this buffer
+	 * @since 1.10.0
+	 */
+	public CharArrayBuffer append(int value) {
+		return append((long) value);
+	}
+
+	/**
+	 * Appends the decimal representation of a long, as {@link Long#toString(long)}.
+	 * @param value the value to append
+	 * @return this buffer
+	 * @since 1.10.0
+	 */
+	public CharArrayBuffer append(long value) {
+		if (value == Long.MIN_VALUE) return append("-9223372036854775808");
+		boolean negative = value < 0;
+		if (negative) value = -value;
+		int end = length + digits(value) + (negative ? 1 : 0);
+		ensureCapacity(end);
+		int position = end;
+		while (value >= 100) {
+			int pair = (int) (value % 100) << 1;
+			value /= 100;
+			chars[--position] = DIGIT_PAIRS[pair + 1];
+			chars[--position] = DIGIT_PAIRS[pair];
+		}
+		if (value >= 10) {
+			int pair = (int) value << 1;
+			chars[--position] = DIGIT_PAIRS[pair + 1];
+			chars[--position] = DIGIT_PAIRS[pair];
+		} else chars[--position] = (char) ('0' + value);
+		if (negative) chars[--position] = '-';
+		length = end;
+		return this;
+	}
+
+	/**
+	 * Returns the number of decimal digits of a non-negative long.
+	 * @param value the value
+	 * @return the number of digits
+	 */
+	private static int digits(long value) {
+		long power = 10;
+		for (int digits = 1; digits < 19; digits++, power *= 10)
+			if (value < power) return digits;
+		return 19;
+	}
+
+	/**
+	 * Appends the shortest representation of a float, as {@link Float#toString(float)}.
+	 * @param value the value to append
+	 * @return this buffer
+	 * @since 1.10.0
+	 */
+	public CharArrayBuffer append(float value) {
+		return appendScratch(scratch().append(value));
+	}
+
+	/**
+	 * Appends the shortest representation of a double, as {@link Double#toString(double)}.
+	 * @param value the value to append
+	 * @return this buffer
+	 * @since 1.10.0
+	 */
+	public CharArrayBuffer append(double value) {
+		return appendScratch(scratch().append(value));
+	}
+
+	/**
+	 * Appends {@code "true"} or {@code "false"}.
+	 * @param value the value to append
+	 * @return this buffer
+	 * @since 1.10.0
+	 */
+	public CharArrayBuffer append(boolean value) {
+		return append(value ? "true" : "false");
+	}
+
+	private StringBuilder scratch() {
+		if (isNull(scratch)) scratch = new StringBuilder(32);
+		scratch.setLength(0);
+		return scratch;
+	}
+
+	private CharArrayBuffer appendScratch(StringBuilder builder) {
+		return append(builder, 0, builder.length());
+	}
+
+	/**
+	 * Writes the content of the buffer to an appendable and empties the buffer.
+	 * {@link Writer}, {@link StringBuilder}, {@link CharBuffer} and {@code CharArrayBuffer} targets receive the characters in bulk.
+	 * @param out the appendable to write to; not null
+	 * @throws IOException if the appendable fails
+	 * @since 1.10.0
+	 */
+	public void flushTo(Appendable out) throws IOException {
+		if (out instanceof Writer) ((Writer) out).write(chars, 0, length);
+		else if (out instanceof StringBuilder) ((StringBuilder) out).append(chars, 0, length);
+		else if (out instanceof CharBuffer) ((CharBuffer) out).put(chars, 0, length);
+		else if (out instanceof CharArrayBuffer) ((CharArrayBuffer) out).append(chars, 0, length);
+		else out.append(this, 0, length);
+		length = 0;
+	}
+
+	/**
+	 * Empties the buffer, keeping its capacity.
+	 * @since 1.10.0
+	 */
+	public void clear() {
+		length = 0;
+	}
+
+	/**
+	 * @return the number of characters in the buffer
+	 * @since 1.10.0
+	 */
+	@Override
+	public int length() {
+		return length;
+	}
+
+	/**
+	 * Returns the character at the specified index.
+	 * @param index the index of the character
+	 * @return the character
+	 * @throws IndexOutOfBoundsException if the index is out of the buffer
+	 * @since 1.10.0
+	 */
+	@Override
+	public char charAt(int index) {
+		if (index < 0 || index >= length) throw new IndexOutOfBoundsException("Index: " + index + ", Length: " + length);
+		return chars[index];
+	}
+
+	/**
+	 * Returns a copy of a range of the buffer.
+	 * @param start the start of the range, inclusive
+	 * @param end the end of the range, exclusive
+	 * @return the characters of the range
+	 * @throws IndexOutOfBoundsException if the range is out of the buffer
+	 * @since 1.10.0
+	 */
+	@Override
+	public CharSequence subSequence(int start, int end) {
+		if (start < 0 || start > end || end > length) throw new IndexOutOfBoundsException("Index: " + end + ", Length: " + length);
+		return new String(chars, start, end - start);
+	}
+
+	/**
+	 * @return a copy of the characters of the buffer
+	 * @since 1.10.0
+	 */
+	public char[] toCharArray() {
+		return Arrays.copyOf(chars, length);
+	}
+
+	/**
+	 * @return the content of the buffer
+	 * @since 1.10.0
+	 */
+	@Override
+	public String toString() {
+		return new String(chars, 0, length);
+	}
+}
@@ -0,0 +1,590 @@
+package net.tp.utils.classes;
+
+import net.tp.utils.CharUtils;
+
+import java.util.Arrays;
+import java.util.function.IntPredicate;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * An immutable, compiled set of chars, checked in constant time per char.
+ * <p>
+ * The set is kept as sorted, disjoint ranges of chars, from which two lookup structures are derived:
+ * a 128-bit mask for the ASCII chars, checked with a shift and no branch on the set size,
+ * and, for the other chars, a binary search over the ranges or, for sets of many ranges, a bitmap of the whole BMP.
+ * Matchers are built from chars, ranges, the {@link CharUtils} ASCII predicates or any predicate,
+ * and combined with {@link #or(CharMatcher)}, {@link #and(CharMatcher)} and {@link #negate()}.
+ * <p>
+ * Building a matcher costs a pass over its chars; the scanning operations cost a lookup per char of the text,
+ * whatever the size of the set.
+ *
+ * @author Tommaso Pastorelli
+ * @since 1.10.0
+ */
+@SuppressWarnings("unused")
+public final class CharMatcher {
+	/**
+	 * The number of non-ASCII ranges above which a bitmap of the BMP replaces the binary search.
+	 */
+	private static final int BITMAP_THRESHOLD = 8;
+	/**
+	 * The index value indicating that no char matched.
+	 */
+	private static final int INDEX_NOT_FOUND = -1;
+
+	/**
+	 * The shared matchers of the factories.
+	 */
+	private static final CharMatcher NONE = new CharMatcher(new int[0], 0);
+	private static final CharMatcher ANY = inRange(Character.MIN_VALUE, Character.MAX_VALUE);
+	private static final CharMatcher WHITESPACE = scan(Character.MAX_VALUE + 1, Character::isWhitespace);
+	private static final CharMatcher ASCII = scan(128, c -> CharUtils.isAscii((char) c));
+	private static final CharMatcher ASCII_ALPHA = scan(128, c -> CharUtils.isAsciiAlpha((char) c));
+	private static final CharMatcher ASCII_ALPHA_LOWER = scan(128, c -> CharUtils.isAsciiAlphaLower((char) c));
+	private static final CharMatcher ASCII_ALPHA_UPPER = scan(128, c -> CharUtils.isAsciiAlphaUpper((char) c));
+	private static final CharMatcher ASCII_ALPHANUMERIC = scan(128, c -> CharUtils.isAsciiAlphanumeric((char) c));
+	private static final CharMatcher ASCII_CONTROL = scan(128, c -> CharUtils.isAsciiControl((char) c));
+	private static final CharMatcher ASCII_NUMERIC = scan(128, c -> CharUtils.isAsciiNumeric((char) c));
+	private static final CharMatcher ASCII_PRINTABLE = scan(128, c -> CharUtils.isAsciiPrintable((char) c));
+
+	/**
+	 * The ranges of the set, as inclusive first and last chars, sorted, disjoint and not adjacent.
+	 */
+	private final char[] ranges;
+	/**
+	 * The chars {@code 0} to {@code 63} of the set.
+	 */
+	private final long lowAscii;
+	/**
+	 * The chars {@code 64} to {@code 127} of the set.
+	 */
+	private final long highAscii;
+	/**
+	 * The index in {@link #ranges} of the first range ending past the ASCII chars.
+	 */
+	private final int nonAscii;
+	/**
+	 * The chars of the BMP in the set, if it has more than {@value #BITMAP_THRESHOLD} non-ASCII ranges; otherwise {@code null}.
+	 */
+	private final long[] bitmap;
+
+	/**
+	 * Creates a matcher from normalized ranges.
+	 * @param pairs the first and last char of each range, sorted, disjoint and not adjacent
+	 * @param length the number of used elements of the pairs
+	 */
+	private CharMatcher(int[] pairs, int length) {
+		this.ranges = new char[length];
+		for (int i = 0; i < length; i++) ranges[i] = (char) pairs[i];
+		long low = 0, high = 0;
+		int i = 0;
+		for (; i < length && pairs[i] < 128; i += 2) {
+			for (int c = pairs[i], end = Math.min(pairs[i + 1], 127); c <= end; c++) {
+				if (c < 64) low |= 1L << c;
+				else high |= 1L << c;
+			}
+			if (pairs[i + 1] >= 128) break;
+		}
+		this.lowAscii = low;
+		this.highAscii = high;
+		this.nonAscii = i;
+		if ((length - i) / 2 > BITMAP_THRESHOLD) {
+			this.bitmap = new long[(Character.MAX_VALUE + 1) >>> 6];
+			for (int r = i; r < length; r += 2)
+				for (int c = Math.max(pairs[r], 128); c <= pairs[r + 1]; c++) bitmap[c >>> 6] |= 1L << c;
+		} else {
+			this.bitmap = null;
+		}
+	}
+
+	/**
+	 * Creates a matcher from ranges in any order, merging the overlapping and adjacent ones.
+	 * @param pairs the first and last char of each range
+	 * @param length the number of used elements of the pairs
+	 * @return the matcher
+	 */
+	private static CharMatcher normalize(int[] pairs, int length) {
+		long[] sorted = new long[length / 2];
+		for (int i = 0; i < sorted.length; i++) sorted[i] = (long) pairs[2 * i] << 32 | pairs[2 * i + 1];
+		Arrays.sort(sorted);
+		int[] merged = new int[length];
+		int count = 0;
+		for (long range : sorted) {
+			int start = (int) (range >>> 32), end = (int) range;
+			if (count > 0 && start <= merged[count - 1] + 1) merged[count - 1] = Math.max(merged[count - 1], end);
+			else {
+				merged[count++] = start;
+				merged[count++] = end;
+			}
+		}
+		return new CharMatcher(merged, count);
+	}
+
+	/**
+	 * Creates a matcher from the chars below a bound satisfying a predicate.
+	 * @param bound the bound, exclusive
+	 * @param predicate the predicate
+	 * @return the matcher
+	 */
+	private static CharMatcher scan(int bound, IntPredicate predicate) {
+		int[] pairs = new int[16];
+		int count = 0;
+		for (int c = 0; c < bound; c++) {
+			if (!predicate.test(c)) continue;
+			if (count > 0 && pairs[count - 1] == c - 1) pairs[count - 1] = c;
+			else {
+				if (count == pairs.length) pairs = Arrays.copyOf(pairs, count << 1);
+				pairs[count++] = c;
+				pairs[count++] = c;
+			}
+		}
+		return new CharMatcher(pairs, count);
+	}
+
+	/**
+	 * Creates a matcher of the given chars.
+	 * @param chars the chars; not null
+	 * @return the matcher
+	 * @since 1.10.0
+	 */
+	public static CharMatcher of(char... chars) {
+		int[] pairs = new int[requireNonNull(chars).length * 2];
+		for (int i = 0; i < chars.length; i++) pairs[2 * i] = pairs[2 * i + 1] = chars[i];
+		return normalize(pairs, pairs.length);
+	}
+
+	/**
+	 * Creates a matcher of the chars of a char sequence.
+	 * @param chars the chars; not null
+	 * @return the matcher
+	 * @since 1.10.0
+	 */
+	public static CharMatcher of(CharSequence chars) {
+		int[] pairs = new int[requireNonNull(chars).length() * 2];
+		for (int i = 0; i < chars.length(); i++) pairs[2 * i] = pairs[2 * i + 1] = chars.charAt(i);
+		return normalize(pairs, pairs.length);
+	}
+
+	/**
+	 * Creates a matcher of a range of chars.
+	 * @param from the first char, inclusive
+	 * @param to the last char, inclusive
+	 * @return the matcher
+	 * @throws IllegalArgumentException if {@code from} is greater than {@code to}
+	 * @since 1.10.0
+	 */
+	public static CharMatcher inRange(char from, char to) {
+		if (from > to) throw new IllegalArgumentException("Range is empty.");
+		return new CharMatcher(new int[]{from, to}, 2);
+	}
+
+	/**
+	 * Creates a matcher of the chars satisfying a predicate, testing each char of the BMP once.
+	 * @param predicate the predicate, given the char; not null
+	 * @return the matcher
+	 * @since 1.10.0
+	 */
+	public static CharMatcher matching(IntPredicate predicate) {
+		return scan(Character.MAX_VALUE + 1, requireNonNull(predicate));
+	}
+
+	/**
+	 * @return the matcher of no char
+	 * @since 1.10.0
+	 */
+	public static CharMatcher none() {
+		return NONE;
+	}
+
+	/**
+	 * @return the matcher of every char
+	 * @since 1.10.0
+	 */
+	public static CharMatcher any() {
+		return ANY;
+	}
+
+	/**
+	 * @return the matcher of the chars {@link Character#isWhitespace(char)} accepts
+	 * @since 1.10.0
+	 */
+	public static CharMatcher whitespace() {
+		return WHITESPACE;
+	}
+
+	/**
+	 * @return the matcher of the chars {@link CharUtils#isAscii(char)} accepts
+	 * @since 1.10.0
+	 */
+	public static CharMatcher ascii() {
+		return ASCII;
+	}
+
+	/**
+	 * @return the matcher of the chars {@link CharUtils#isAsciiAlpha(char)} accepts
+	 * @since 1.10.0
+	 */
+	public static CharMatcher asciiAlpha() {
+		return ASCII_ALPHA;
+	}
+
+	/**
+	 * @return the matcher of the chars {@link CharUtils#isAsciiAlphaLower(char)} accepts
+	 * @since 1.10.0
+	 */
+	public static CharMatcher asciiAlphaLower() {
+		return ASCII_ALPHA_LOWER;
+	}
+
+	/**
+	 * @return the matcher of the chars {@link CharUtils#isAsciiAlphaUpper(char)} accepts
+	 * @since 1.10.0
+	 */
+	public static CharMatcher asciiAlphaUpper() {
+		return ASCII_ALPHA_UPPER;
+	}
+
+	/**
+	 * @return the matcher of the chars {@link CharUtils#isAsciiAlphanumeric(char)} accepts
+	 * @since 1.10.0
+	 */
+	public static CharMatcher asciiAlphanumeric() {
+		return ASCII_ALPHANUMERIC;
+	}
+
+	/**
+	 * @return the matcher of the chars {@link CharUtils#isAsciiControl(char)} accepts
+	 * @since 1.10.0
+	 */
+	public static CharMatcher asciiControl() {
+		return ASCII_CONTROL;
+	}
+
+	/**
+	 * @return the matcher of the chars {@link CharUtils#isAsciiNumeric(char)} accepts
+	 * @since 1.10.0
+	 */
+	public static CharMatcher asciiNumeric() {
+		return ASCII_NUMERIC;
+	}
+
+	/**
+	 * @return the matcher of the chars {@link CharUtils#isAsciiPrintable(char)} accepts
+	 * @since 1.10.0
+	 */
+	public static CharMatcher asciiPrintable() {
+		return ASCII_PRINTABLE;
+	}
+
+	/**
+	 * @param other the other matcher; not null
+	 * @return the matcher of the chars matched by this matcher or the other
+	 * @since 1.10.0
+	 */
+	public CharMatcher or(CharMatcher other) {
+		int[] pairs = new int[ranges.length + requireNonNull(other).ranges.length];
+		for (int i = 0; i < ranges.length; i++) pairs[i] = ranges[i];
+		for (int i = 0; i < other.ranges.length; i++) pairs[ranges.length + i] = other.ranges[i];
+		return normalize(pairs, pairs.length);
+	}
+
+	/**
+	 * @param other the other matcher; not null
+	 * @return the matcher of the chars matched by both this matcher and the other
+	 * @since 1.10.0
+	 */
+	public CharMatcher and(CharMatcher other) {
+		return negate().or(requireNonNull(other).negate()).negate();
+	}
+
+	/**
+	 * @return the matcher of the chars not matched by this matcher
+	 * @since 1.10.0
+	 */
+	public CharMatcher negate() {
+		int[] pairs = new int[ranges.length + 2];
+		int count = 0, next = Character.MIN_VALUE;
+		for (int i = 0; i < ranges.length; i += 2) {
+			if (ranges[i] > next) {
+				pairs[count++] = next;
+				pairs[count++] = ranges[i] - 1;
+			}
+			next = ranges[i + 1] + 1;
+		}
+		if (next <= Character.MAX_VALUE) {
+			pairs[count++] = next;
+			pairs[count++] = Character.MAX_VALUE;
+		}
+		return new CharMatcher(pairs, count);
+	}
+
+	/**
+	 * Checks if a char is in the set.
+	 * @param c the char
+	 * @return {@code true} if the char is in the set, otherwise {@code false}
+	 * @since 1.10.0
+	 */
+	public boolean matches(char c) {
+		if (c < 128) return ((c < 64 ? lowAscii : highAscii) >>> c & 1) != 0;
+		if (bitmap != null) return (bitmap[c >>> 6] >>> c & 1) != 0;
+		int low = nonAscii >>> 1, high = (ranges.length >>> 1) - 1;
+		while (low <= high) {
+			int middle = (low + high) >>> 1;
+			if (c < ranges[2 * middle]) high = middle - 1;
+			else if (c > ranges[2 * middle + 1]) low = middle + 1;
+			else return true;
+		}
+		return false;
+	}
+
+	/**
+	 * @return the number of chars in the set
+	 * @since 1.10.0
+	 */
+	public int cardinality() {
+		int cardinality = 0;
+		for (int i = 0; i < ranges.length; i += 2) cardinality += ranges[i + 1] - ranges[i] + 1;
+		return cardinality;
+	}
+
+	/**
+	 * Checks if any char of a char sequence is in the set.
+	 * @param cs the char sequence
+	 * @return {@code true} if a char is in the set, otherwise {@code false} (also if the char sequence is {@code null})
+	 * @since 1.10.0
+	 */
+	public boolean matchesAnyOf(CharSequence cs) {
+		return indexIn(cs, 0) != INDEX_NOT_FOUND;
+	}
+
+	/**
+	 * Checks if all the chars of a char sequence are in the set.
+	 * @param cs the char sequence
+	 * @return {@code true} if every char is in the set, otherwise {@code false} ({@code true} if the char sequence is {@code null} or empty)
+	 * @since 1.10.0
+	 */
+	public boolean matchesAllOf(CharSequence cs) {
+		if (isNull(cs)) return true;
+		for (int i = 0; i < cs.length(); i++)
+			if (!matches(cs.charAt(i))) return false;
+		return true;
+	}
+
+	/**
+	 * Checks if no char of a char sequence is in the set.
+	 * @param cs the char sequence
+	 * @return {@code true} if no char is in the set, otherwise {@code false} (also {@code true} if the char sequence is {@code null})
+	 * @since 1.10.0
+	 */
+	public boolean matchesNoneOf(CharSequence cs) {
+		return indexIn(cs, 0) == INDEX_NOT_FOUND;
+	}
+
+	/**
+	 * Counts the chars of a char sequence in the set.
+	 * @param cs the char sequence
+	 * @return the number of chars in the set ({@code 0} if the char sequence is {@code null})
+	 * @since 1.10.0
+	 */
+	public int countIn(CharSequence cs) {
+		if (isNull(cs)) return 0;
+		int count = 0;
+		for (int i = 0; i < cs.length(); i++)
+			if (matches(cs.charAt(i))) count++;
+		return count;
+	}
+
+	/**
+	 * Returns the index of the first char of a char sequence in the set.
+	 * @param cs the char sequence
+	 * @return the index of the first char in the set, or {@code -1} if none
+	 * @since 1.10.0
+	 */
+	public int indexIn(CharSequence cs) {
+		return indexIn(cs, 0);
+	}
+
+	/**
+	 * Returns the index of the first char of a char sequence in the set, starting from a specified index.
+	 * @param cs the char sequence
+	 * @param fromIndex the index to start the search from
+	 * @return the index of the first char in the set, or {@code -1} if none
+	 * @since 1.10.0
+	 */
+	public int indexIn(CharSequence cs, int fromIndex) {
+		if (isNull(cs)) return INDEX_NOT_FOUND;
+		for (int i = Math.max(fromIndex, 0); i < cs.length(); i++)
+			if (matches(cs.charAt(i))) return i;
+		return INDEX_NOT_FOUND;
+	}
+
+	/**
+	 * Returns the index of the last char of a char sequence in the set.
+	 * @param cs the char sequence
+	 * @return the index of the last char in the set, or {@code -1} if none
+	 * @since 1.10.0
+	 */
+	public int lastIndexIn(CharSequence cs) {
+		if (isNull(cs)) return INDEX_NOT_FOUND;
+		for (int i = cs.length() - 1; i >= 0; i--)
+			if (matches(cs.charAt(i))) return i;
+		return INDEX_NOT_FOUND;
+	}
+
+	/**
+	 * Removes the leading and trailing chars of a char sequence in the set.
+	 * @param cs the char sequence
+	 * @return the trimmed char sequence, or {@code null} if it is {@code null}
+	 * @since 1.10.0
+	 */
+	public String trimFrom(CharSequence cs) {
+		if (isNull(cs)) return null;
+		int start = 0, end = cs.length();
+		while (start < end && matches(cs.charAt(start))) start++;
+		while (end > start && matches(cs.charAt(end - 1))) end--;
+		return cs.subSequence(start, end).toString();
+	}
+
+	/**
+	 * Removes the leading chars of a char sequence in the set.
+	 * @param cs the char sequence
+	 * @return the trimmed char sequence, or {@code null} if it is {@code null}
+	 * @since 1.10.0
+	 */
+	public String trimLeadingFrom(CharSequence cs) {
+		if (isNull(cs)) return null;
+		int start = 0;
+		while (start < cs.length() && matches(cs.charAt(start))) start++;
+		return cs.subSequence(start, cs.length()).toString();
+	}
+
+	/**
+	 * Removes the trailing chars of a char sequence in the set.
+	 * @param cs the char sequence
+	 * @return the trimmed char sequence, or {@code null} if it is {@code null}
+	 * @since 1.10.0
+	 */
+	public String trimTrailingFrom(CharSequence cs) {
+		if (isNull(cs)) return null;
+		int end = cs.length();
+		while (end > 0 && matches(cs.charAt(end - 1))) end--;
+		return cs.subSequence(0, end).toString();
+	}
+
+	/**
+	 * Replaces each run of consecutive chars of a char sequence in the set with a single char.
+	 * @param cs the char sequence
+	 * @param replacement the char replacing each run
+	 * @return the collapsed char sequence, or {@code null} if it is {@code null}
+	 * @since 1.10.0
+	 */
+	public String collapseFrom(CharSequence cs, char replacement) {
+		if (isNull(cs)) return null;
+		return collapse(cs, 0, cs.length(), replacement);
+	}
+
+	/**
+	 * Removes the leading and trailing chars of a char sequence in the set,
+	 * then replaces each run of consecutive chars in the set with a single char.
+	 * For instance, {@code whitespace().trimAndCollapseFrom(cs, ' ')} normalizes the spacing of a text.
+	 * @param cs the char sequence
+	 * @param replacement the char replacing each run
+	 * @return the trimmed and collapsed char sequence, or {@code null} if it is {@code null}
+	 * @since 1.10.0
+	 */
+	public String trimAndCollapseFrom(CharSequence cs, char replacement) {
+		if (isNull(cs)) return null;
+		int start = 0, end = cs.length();
+		while (start < end && matches(cs.charAt(start))) start++;
+		while (end > start && matches(cs.charAt(end - 1))) end--;
+		return collapse(cs, start, end, replacement);
+	}
+
+	/**
+	 * Collapses the runs of a range of a char sequence.
+	 */
+	private String collapse(CharSequence cs, int start, int end, char replacement) {
+		char[] out = new char[end - start];
+		int length = 0;
+		for (int i = start; i < end; i++) {
+			char c = cs.charAt(i);
+			if (!matches(c)) out[length++] = c;
+			else if (i == start || !matches(cs.charAt(i - 1))) out[length++] = replacement;
+		}
+		return new String(out, 0, length);
+	}
+
+	/**
+	 * Keeps only the chars of a char sequence in the set.
+	 * @param cs the char sequence
+	 * @return the chars in the set, or {@code null} if the char sequence is {@code null}
+	 * @since 1.10.0
+	 */
+	public String retainFrom(CharSequence cs) {
+		if (isNull(cs)) return null;
+		char[] out = new char[cs.length()];
+		int length = 0;
+		for (int i = 0; i < cs.length(); i++) {
+			char c = cs.charAt(i);
+			if (matches(c)) out[length++] = c;
+		}
+		return new String(out, 0, length);
+	}
+
+	/**
+	 * Removes the chars of a char sequence in the set.
+	 * @param cs the char sequence
+	 * @return the chars not in the set, or {@code null} if the char sequence is {@code null}
+	 * @since 1.10.0
+	 */
+	public String removeFrom(CharSequence cs) {
+		if (isNull(cs)) return null;
+		char[] out = new char[cs.length()];
+		int length = 0;
+		for (int i = 0; i < cs.length(); i++) {
+			char c = cs.charAt(i);
+			if (!matches(c)) out[length++] = c;
+		}
+		return new String(out, 0, length);
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) return true;
+		if (o == null || getClass() != o.getClass()) return false;
+		return Arrays.equals(ranges, ((CharMatcher) o).ranges);
+	}
+
+	@Override
+	public int hashCode() {
+		return Arrays.hashCode(ranges);
+	}
+
+	/**
+	 * Returns the ranges of the set, as {@code CharMatcher[0-9, _, a-z]}.
+	 * Printable ASCII chars are written as they are; the other chars, the space, {@code ','}, {@code '-'}, {@code '['},
+	 * {@code ']'} and {@code '\'} are written as Java escapes, as <code>&#92;u00E0-&#92;u00FF</code>.
+	 * @return the ranges of the set
+	 * @since 1.10.0
+	 */
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder("CharMatcher[");
+		for (int i = 0; i < ranges.length; i += 2) {
+			if (i > 0) builder.append(", ");
+			appendChar(builder, ranges[i]);
+			if (ranges[i + 1] != ranges[i]) appendChar(builder.append('-'), ranges[i + 1]);
+		}
+		return builder.append(']').toString();
+	}
+
+	/**
+	 * Writes a char of {@link #toString()}, escaped if it is not printable ASCII or it is a separator.
+	 */
+	private static void appendChar(StringBuilder builder, char c) {
+		if (c > ' ' && c < 0x7F && c != ',' && c != '-' && c != '[' && c != ']' && c != '\\') builder.append(c);
+		else builder.append(String.format("\\u%04X", (int) c));
+	}
+}
@@ -0,0 +1,164 @@
+package net.tp.utils.classes;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A view over a range of a char sequence, sharing its chars instead of copying them.
+ * <p>
+ * Slicing a slice narrows the range over the same source, so nested slices never copy;
+ * a string is created only by {@link #toString()}. A slice of a mutable char sequence, as a {@link StringBuilder},
+ * reads its current chars, so it must not be used after the source is shortened.
+ * Two slices are equal if they have the same chars, and the hash code is the one of the equal {@link String}.
+ *
+ * @author Tommaso Pastorelli
+ * @since 1.10.0
+ */
+@SuppressWarnings("unused")
+public final class CharSlice implements CharSequence {
+	/**
+	 * The viewed char sequence.
+	 */
+	private final CharSequence source;
+	/**
+	 * The start of the range, inclusive.
+	 */
+	private final int start;
+	/**
+	 * The end of the range, exclusive.
+	 */
+	private final int end;
+
+	private CharSlice(CharSequence source, int start, int end) {
+		this.source = source;
+		this.start = start;
+		this.end = end;
+	}
+
+	/**
+	 * Creates a view over a whole char sequence.
+	 * @param source the char sequence; not null
+	 * @return the view
+	 * @since 1.10.0
+	 */
+	public static CharSlice of(CharSequence source) {
+		return of(source, 0, requireNonNull(source).length());
+	}
+
+	/**
+	 * Creates a view over a range of a char sequence. If the char sequence is a slice, the view is over its source.
+	 * @param source the char sequence; not null
+	 * @param start the start of the range, inclusive
+	 * @param end the end of the range, exclusive
+	 * @return the view
+	 * @throws IndexOutOfBoundsException if the range is out of the char sequence
+	 * @since 1.10.0
+	 */
+	public static CharSlice of(CharSequence source, int start, int end) {
+		if (start < 0 || end > requireNonNull(source).length() || start > end)
+			throw new IndexOutOfBoundsException("Start: " + start + ", End: " + end + ", Length: " + source.length());
+		if (source instanceof CharSlice) {
+			CharSlice slice = (CharSlice) source;
+			return new CharSlice(slice.source, slice.start + start, slice.start + end);
+		}
+		return new CharSlice(source, start, end);
+	}
+
+	/**
+	 * @return the viewed char sequence
+	 * @since 1.10.0
+	 */
+	public CharSequence source() {
+		return source;
+	}
+
+	/**
+	 * @return the start of the range in the viewed char sequence, inclusive
+	 * @since 1.10.0
+	 */
+	public int start() {
+		return start;
+	}
+
+	/**
+	 * @return the end of the range in the viewed char sequence, exclusive
+	 * @since 1.10.0
+	 */
+	public int end() {
+		return end;
+	}
+
+	@Override
+	public int length() {
+		return end - start;
+	}
+
+	@Override
+	public char charAt(int index) {
+		if (index < 0 || index >= end - start) throw new IndexOutOfBoundsException("Index: " + index + ", Length: " + (end - start));
+		return source.charAt(start + index);
+	}
+
+	/**
+	 * Returns a view over a range of this slice, over the same source.
+	 * @param start the start of the range, inclusive
+	 * @param end the end of the range, exclusive
+	 * @return the view
+	 * @throws IndexOutOfBoundsException if the range is out of this slice
+	 * @since 1.10.0
+	 */
+	@Override
+	public CharSlice subSequence(int start, int end) {
+		return of(this, start, end);
+	}
+
+	/**
+	 * Returns a view without the leading and trailing whitespace, as {@link String#strip()} but without copying.
+	 * @return the stripped view
+	 * @since 1.10.0
+	 */
+	public CharSlice strip() {
+		int from = start, to = end;
+		while (from < to && Character.isWhitespace(source.charAt(from))) from++;
+		while (to > from && Character.isWhitespace(source.charAt(to - 1))) to--;
+		return from == start && to == end ? this : new CharSlice(source, from, to);
+	}
+
+	/**
+	 * Checks if this slice has the same chars as a char sequence.
+	 * @param cs the char sequence
+	 * @return {@code true} if the chars are the same, otherwise {@code false}
+	 * @since 1.10.0
+	 */
+	public boolean contentEquals(CharSequence cs) {
+		if (cs == null || cs.length() != end - start) return false;
+		for (int i = start; i < end; i++)
+			if (source.charAt(i) != cs.charAt(i - start)) return false;
+		return true;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) return true;
+		if (o == null || getClass() != o.getClass()) return false;
+		return contentEquals((CharSlice) o);
+	}
+
+	@Override
+	public int hashCode() {
+		int hash = 0;
+		for (int i = start; i < end; i++) hash = 31 * hash + source.charAt(i);
+		return hash;
+	}
+
+	/**
+	 * @return the chars of the slice, copied into a new string
+	 * @since 1.10.0
+	 */
+	@Override
+	public String toString() {
+		if (source instanceof String) return ((String) source).substring(start, end);
+		if (source instanceof StringBuilder) return ((StringBuilder) source).substring(start, end);
+		if (source instanceof CompositeCharSequence) return ((CompositeCharSequence) source).toString(start, end);
+		return new StringBuilder(end - start).append(source, start, end).toString();
+	}
+}
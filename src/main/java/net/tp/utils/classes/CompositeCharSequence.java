@@ -0,0 +1,295 @@
+package net.tp.utils.classes;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A view over the concatenation of char sequences, sharing their chars instead of copying them.
+ * <p>
+ * The parts are kept as given, with the offset of each one, so {@link #charAt(int)} finds its part by binary search
+ * and {@link #appendTo(Appendable)} writes each part as a range, without building the concatenation.
+ * A string is created only by {@link #toString()}, with its exact length.
+ * Runs of repeated chars, as paddings, are parts of {@link #repeat(CharSequence, int)} without chars of their own.
+ * Two composites are equal if they have the same chars, and the hash code is the one of the equal {@link String}.
+ *
+ * @author Tommaso Pastorelli
+ * @since 1.10.0
+ */
+@SuppressWarnings("unused")
+public final class CompositeCharSequence implements CharSequence {
+	/**
+	 * The non-empty parts.
+	 */
+	private final CharSequence[] parts;
+	/**
+	 * The offset of each part, followed by the length.
+	 */
+	private final int[] offsets;
+
+	private CompositeCharSequence(CharSequence[] parts, int[] offsets) {
+		this.parts = parts;
+		this.offsets = offsets;
+	}
+
+	/**
+	 * Creates a view over the concatenation of char sequences.
+	 * @param parts the char sequences; not null, with no {@code null} elements
+	 * @return the view
+	 * @throws IllegalArgumentException if the total length overflows an int
+	 * @since 1.10.0
+	 */
+	public static CompositeCharSequence of(CharSequence... parts) {
+		CharSequence[] nonEmpty = new CharSequence[requireNonNull(parts).length];
+		int[] offsets = new int[parts.length + 1];
+		int count = 0;
+		long length = 0;
+		for (CharSequence part : parts) {
+			if (requireNonNull(part).length() == 0) continue;
+			offsets[count] = (int) length;
+			nonEmpty[count++] = part;
+			length += part.length();
+		}
+		if (length > Integer.MAX_VALUE) throw new IllegalArgumentException("Length overflows an int.");
+		offsets[count] = (int) length;
+		return new CompositeCharSequence(Arrays.copyOf(nonEmpty, count), Arrays.copyOf(offsets, count + 1));
+	}
+
+	/**
+	 * Creates a view over a char repeated, without storing the chars.
+	 * @param c the char
+	 * @param length the length of the view
+	 * @return the view
+	 * @throws IllegalArgumentException if the length is negative
+	 * @since 1.10.0
+	 */
+	public static CharSequence repeat(char c, int length) {
+		return repeat(String.valueOf(c), length);
+	}
+
+	/**
+	 * Creates a view over a char sequence repeated and cut to a length, without storing the chars:
+	 * the char at index {@code i} is the one of the pattern at index {@code i % pattern.length()}.
+	 * @param pattern the repeated char sequence; not null and not empty
+	 * @param length the length of the view
+	 * @return the view
+	 * @throws IllegalArgumentException if the pattern is empty or the length negative
+	 * @since 1.10.0
+	 */
+	public static CharSequence repeat(CharSequence pattern, int length) {
+		if (requireNonNull(pattern).length() == 0) throw new IllegalArgumentException("Pattern must not be empty.");
+		if (length < 0) throw new IllegalArgumentException("Length must not be negative.");
+		return new Repeated(pattern.toString(), length);
+	}
+
+	/**
+	 * Writes a char sequence to an appendable: views are written part by part, as ranges of their sources.
+	 * @param out the appendable to write to; not null
+	 * @param cs the char sequence; not null
+	 * @param <A> the type of the appendable
+	 * @return the appendable
+	 * @throws IOException if the appendable fails
+	 * @since 1.10.0
+	 */
+	public static <A extends Appendable> A appendTo(A out, CharSequence cs) throws IOException {
+		appendRange(requireNonNull(out), cs, 0, requireNonNull(cs).length());
+		return out;
+	}
+
+	/**
+	 * Writes a range of a char sequence to an appendable, unwrapping the views.
+	 */
+	private static void appendRange(Appendable out, CharSequence cs, int start, int end) throws IOException {
+		if (cs instanceof CompositeCharSequence) ((CompositeCharSequence) cs).appendRange(out, start, end);
+		else if (cs instanceof Repeated) ((Repeated) cs).appendRange(out, start, end);
+		else if (cs instanceof CharSlice) {
+			CharSlice slice = (CharSlice) cs;
+			appendRange(out, slice.source(), slice.start() + start, slice.start() + end);
+		} else out.append(cs, start, end);
+	}
+
+	/**
+	 * Writes a range of the chars to an appendable, part by part.
+	 */
+	private void appendRange(Appendable out, int start, int end) throws IOException {
+		if (start == end) return;
+		for (int part = partOf(start); part < parts.length && offsets[part] < end; part++) {
+			int offset = offsets[part];
+			appendRange(out, parts[part], Math.max(start, offset) - offset, Math.min(end, offsets[part + 1]) - offset);
+		}
+	}
+
+	/**
+	 * Copies a range of the chars into a new string.
+	 * @param start the start of the range, inclusive
+	 * @param end the end of the range, exclusive
+	 * @return the string
+	 */
+	String toString(int start, int end) {
+		StringBuilder builder = new StringBuilder(end - start);
+		try {
+			appendRange(builder, start, end);
+		} catch (IOException e) {
+			throw new AssertionError(e);
+		}
+		return builder.toString();
+	}
+
+	/**
+	 * @return the number of parts
+	 * @since 1.10.0
+	 */
+	public int partCount() {
+		return parts.length;
+	}
+
+	/**
+	 * Returns a part.
+	 * @param index the index of the part
+	 * @return the part
+	 * @throws IndexOutOfBoundsException if the index is out of range
+	 * @since 1.10.0
+	 */
+	public CharSequence part(int index) {
+		if (index < 0 || index >= parts.length) throw new IndexOutOfBoundsException("Index: " + index + ", Length: " + parts.length);
+		return parts[index];
+	}
+
+	@Override
+	public int length() {
+		return offsets[parts.length];
+	}
+
+	@Override
+	public char charAt(int index) {
+		if (index < 0 || index >= length()) throw new IndexOutOfBoundsException("Index: " + index + ", Length: " + length());
+		int part = partOf(index);
+		return parts[part].charAt(index - offsets[part]);
+	}
+
+	/**
+	 * @return the index of the part holding a char
+	 */
+	private int partOf(int index) {
+		int low = 0, high = parts.length - 1;
+		while (low < high) {
+			int middle = (low + high + 1) >>> 1;
+			if (offsets[middle] <= index) low = middle;
+			else high = middle - 1;
+		}
+		return low;
+	}
+
+	/**
+	 * Returns a view over a range of this composite.
+	 * @param start the start of the range, inclusive
+	 * @param end the end of the range, exclusive
+	 * @return the view
+	 * @throws IndexOutOfBoundsException if the range is out of this composite
+	 * @since 1.10.0
+	 */
+	@Override
+	public CharSlice subSequence(int start, int end) {
+		return CharSlice.of(this, start, end);
+	}
+
+	/**
+	 * Writes the chars to an appendable, part by part.
+	 * @param out the appendable to write to; not null
+	 * @param <A> the type of the appendable
+	 * @return the appendable
+	 * @throws IOException if the appendable fails
+	 * @since 1.10.0
+	 */
+	public <A extends Appendable> A appendTo(A out) throws IOException {
+		appendRange(requireNonNull(out), 0, length());
+		return out;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) return true;
+		if (o == null || getClass() != o.getClass()) return false;
+		CompositeCharSequence other = (CompositeCharSequence) o;
+		if (other.length() != length()) return false;
+		for (int i = 0; i < length(); i++)
+			if (charAt(i) != other.charAt(i)) return false;
+		return true;
+	}
+
+	@Override
+	public int hashCode() {
+		int hash = 0;
+		for (CharSequence part : parts)
+			for (int i = 0; i < part.length(); i++) hash = 31 * hash + part.charAt(i);
+		return hash;
+	}
+
+	/**
+	 * @return the concatenation of the parts, copied into a new string
+	 * @since 1.10.0
+	 */
+	@Override
+	public String toString() {
+		return toString(0, length());
+	}
+
+	/**
+	 * A char sequence repeated and cut to a length.
+	 */
+	private static final class Repeated implements CharSequence {
+		/**
+		 * The repeated chars.
+		 */
+		private final String pattern;
+		/**
+		 * The length.
+		 */
+		private final int length;
+
+		private Repeated(String pattern, int length) {
+			this.pattern = pattern;
+			this.length = length;
+		}
+
+		@Override
+		public int length() {
+			return length;
+		}
+
+		@Override
+		public char charAt(int index) {
+			if (index < 0 || index >= length) throw new IndexOutOfBoundsException("Index: " + index + ", Length: " + length);
+			return pattern.length() == 1 ? pattern.charAt(0) : pattern.charAt(index % pattern.length());
+		}
+
+		@Override
+		public CharSequence subSequence(int start, int end) {
+			return CharSlice.of(this, start, end);
+		}
+
+		/**
+		 * Writes a range of the chars to an appendable, a whole pattern at a time.
+		 */
+		private void appendRange(Appendable out, int start, int end) throws IOException {
+			int patternLength = pattern.length();
+			if (patternLength == 1) {
+				char c = pattern.charAt(0);
+				for (int i = start; i < end; i++) out.append(c);
+				return;
+			}
+			for (int i = start; i < end; ) {
+				int offset = i % patternLength, count = Math.min(patternLength - offset, end - i);
+				out.append(pattern, offset, offset + count);
+				i += count;
+			}
+		}
+
+		@Override
+		public String toString() {
+			if (pattern.length() == 1) return String.valueOf(pattern.charAt(0)).repeat(length);
+			return pattern.repeat(length / pattern.length()) + pattern.substring(0, length % pattern.length());
+		}
+	}
+}
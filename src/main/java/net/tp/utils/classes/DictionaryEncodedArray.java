@@ -0,0 +1,349 @@
+package net.tp.utils.classes;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntFunction;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * An immutable array that stores each distinct value once, in a dictionary, and the elements as codes into it.
+ * <p>
+ * The codes are bytes, shorts or ints depending on the number of distinct values, so an array repeating a few values
+ * takes one or two bytes per element. Searching, counting, duplicate detection and frequencies compare codes
+ * instead of calling {@link Object#equals(Object)} on every element; the value searched is looked up once in the dictionary.
+ * Codes are assigned in order of first occurrence and {@code null} is a value like the others.
+ *
+ * @param <E> the type of the values
+ * @author Tommaso Pastorelli
+ * @since 1.10.0
+ */
+@SuppressWarnings("unused")
+public final class DictionaryEncodedArray<E> {
+	/**
+	 * The distinct values, by code.
+	 */
+	private final Object[] dictionary;
+	/**
+	 * The code of each distinct value.
+	 */
+	private final Map<Object, Integer> codes;
+	/**
+	 * The number of elements of each code.
+	 */
+	private final int[] counts;
+	/**
+	 * The number of elements.
+	 */
+	private final int size;
+	/**
+	 * The codes of the elements, if there are at most 256 distinct values.
+	 */
+	private final byte[] byteCodes;
+	/**
+	 * The codes of the elements, if there are more than 256 and at most 65536 distinct values.
+	 */
+	private final short[] shortCodes;
+	/**
+	 * The codes of the elements, if there are more than 65536 distinct values.
+	 */
+	private final int[] intCodes;
+
+	private DictionaryEncodedArray(Object[] values) {
+		this.size = values.length;
+		this.codes = new HashMap<>();
+		int[] all = new int[size];
+		for (int i = 0; i < size; i++) {
+			Integer code = codes.putIfAbsent(values[i], codes.size());
+			all[i] = code == null ? codes.size() - 1 : code;
+		}
+		int cardinality = codes.size();
+		this.dictionary = new Object[cardinality];
+		this.counts = new int[cardinality];
+		for (int i = 0; i < size; i++) {
+			if (counts[all[i]]++ == 0) dictionary[all[i]] = values[i];
+		}
+		if (cardinality <= 1 << Byte.SIZE) {
+			this.byteCodes = new byte[size];
+			for (int i = 0; i < size; i++) byteCodes[i] = (byte) all[i];
+			this.shortCodes = null;
+			this.intCodes = null;
+		} else if (cardinality <= 1 << Short.SIZE) {
+			this.byteCodes = null;
+			this.shortCodes = new short[size];
+			for (int i = 0; i < size; i++) shortCodes[i] = (short) all[i];
+			this.intCodes = null;
+		} else {
+			this.byteCodes = null;
+			this.shortCodes = null;
+			this.intCodes = all;
+		}
+	}
+
+	/**
+	 * Encodes an array.
+	 * @param values the array; not null
+	 * @param <E> the type of the values
+	 * @return the encoded array
+	 * @since 1.10.0
+	 */
+	public static <E> DictionaryEncodedArray<E> of(E[] values) {
+		return new DictionaryEncodedArray<>(requireNonNull(values));
+	}
+
+	/**
+	 * @return the number of elements
+	 * @since 1.10.0
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * @return the number of distinct values
+	 * @since 1.10.0
+	 */
+	public int cardinality() {
+		return dictionary.length;
+	}
+
+	/**
+	 * @return the distinct values, in order of code
+	 * @since 1.10.0
+	 */
+	@SuppressWarnings("unchecked")
+	public List<E> dictionary() {
+		return Collections.unmodifiableList((List<E>) Arrays.asList(dictionary));
+	}
+
+	/**
+	 * @return the bytes of each code: {@code 1}, {@code 2} or {@code 4}
+	 * @since 1.10.0
+	 */
+	public int codeBytes() {
+		return byteCodes != null ? Byte.BYTES : shortCodes != null ? Short.BYTES : Integer.BYTES;
+	}
+
+	/**
+	 * Returns the code of a value.
+	 * @param value the value
+	 * @return the code of the value, or {@code -1} if it is not in the array
+	 * @since 1.10.0
+	 */
+	public int codeOf(E value) {
+		Integer code = codes.get(value);
+		return code == null ? -1 : code;
+	}
+
+	/**
+	 * Returns the code of an element.
+	 * @param index the index of the element
+	 * @return the code of the element
+	 * @throws IndexOutOfBoundsException if the index is out of range
+	 * @since 1.10.0
+	 */
+	public int code(int index) {
+		if (index < 0 || index >= size) throw new IndexOutOfBoundsException("Index: " + index + ", Length: " + size);
+		return codeAt(index);
+	}
+
+	private int codeAt(int index) {
+		if (byteCodes != null) return byteCodes[index] & 0xFF;
+		if (shortCodes != null) return shortCodes[index] & 0xFFFF;
+		return intCodes[index];
+	}
+
+	/**
+	 * Returns the value of a code.
+	 * @param code the code
+	 * @return the value
+	 * @throws IndexOutOfBoundsException if the code is out of the dictionary
+	 * @since 1.10.0
+	 */
+	@SuppressWarnings("unchecked")
+	public E decode(int code) {
+		if (code < 0 || code >= dictionary.length) throw new IndexOutOfBoundsException("Index: " + code + ", Length: " + dictionary.length);
+		return (E) dictionary[code];
+	}
+
+	/**
+	 * Returns an element.
+	 * @param index the index of the element
+	 * @return the element
+	 * @throws IndexOutOfBoundsException if the index is out of range
+	 * @since 1.10.0
+	 */
+	@SuppressWarnings("unchecked")
+	public E get(int index) {
+		return (E) dictionary[code(index)];
+	}
+
+	/**
+	 * Returns the index of the first occurrence of a value.
+	 * @param value the value
+	 * @return the index of the first occurrence, or {@code -1} if absent
+	 * @since 1.10.0
+	 */
+	public int indexOf(E value) {
+		int code = codeOf(value);
+		if (code < 0) return -1;
+		if (byteCodes != null) {
+			byte target = (byte) code;
+			for (int i = 0; i < size; i++)
+				if (byteCodes[i] == target) return i;
+		} else if (shortCodes != null) {
+			short target = (short) code;
+			for (int i = 0; i < size; i++)
+				if (shortCodes[i] == target) return i;
+		} else {
+			for (int i = 0; i < size; i++)
+				if (intCodes[i] == code) return i;
+		}
+		return -1;
+	}
+
+	/**
+	 * Returns the index of the last occurrence of a value.
+	 * @param value the value
+	 * @return the index of the last occurrence, or {@code -1} if absent
+	 * @since 1.10.0
+	 */
+	public int lastIndexOf(E value) {
+		int code = codeOf(value);
+		if (code < 0) return -1;
+		if (byteCodes != null) {
+			byte target = (byte) code;
+			for (int i = size - 1; i >= 0; i--)
+				if (byteCodes[i] == target) return i;
+		} else if (shortCodes != null) {
+			short target = (short) code;
+			for (int i = size - 1; i >= 0; i--)
+				if (shortCodes[i] == target) return i;
+		} else {
+			for (int i = size - 1; i >= 0; i--)
+				if (intCodes[i] == code) return i;
+		}
+		return -1;
+	}
+
+	/**
+	 * Returns the indexes of all the occurrences of a value.
+	 * @param value the value
+	 * @return the indexes of the occurrences, ascending
+	 * @since 1.10.0
+	 */
+	public int[] indexesOf(E value) {
+		int code = codeOf(value);
+		if (code < 0) return new int[0];
+		int[] indexes = new int[counts[code]];
+		int found = 0;
+		if (byteCodes != null) {
+			byte target = (byte) code;
+			for (int i = 0; found < indexes.length; i++)
+				if (byteCodes[i] == target) indexes[found++] = i;
+		} else if (shortCodes != null) {
+			short target = (short) code;
+			for (int i = 0; found < indexes.length; i++)
+				if (shortCodes[i] == target) indexes[found++] = i;
+		} else {
+			for (int i = 0; found < indexes.length; i++)
+				if (intCodes[i] == code) indexes[found++] = i;
+		}
+		return indexes;
+	}
+
+	/**
+	 * @param value the value
+	 * @return whether the array contains the value
+	 * @since 1.10.0
+	 */
+	public boolean contains(E value) {
+		return codes.containsKey(value);
+	}
+
+	/**
+	 * Counts the occurrences of a value, in constant time.
+	 * @param value the value
+	 * @return the number of occurrences
+	 * @since 1.10.0
+	 */
+	public int count(E value) {
+		int code = codeOf(value);
+		return code < 0 ? 0 : counts[code];
+	}
+
+	/**
+	 * Checks if the array contains duplicates, in constant time.
+	 * @return {@code true} if a value occurs more than once, otherwise {@code false}
+	 * @since 1.10.0
+	 */
+	public boolean containsDuplicates() {
+		return dictionary.length < size;
+	}
+
+	/**
+	 * @return the number of elements of each code, indexed by code
+	 * @since 1.10.0
+	 */
+	public int[] codeCounts() {
+		return counts.clone();
+	}
+
+	/**
+	 * @return the number of occurrences of each distinct value, in order of code
+	 * @since 1.10.0
+	 */
+	@SuppressWarnings("unchecked")
+	public Map<E, Integer> frequencies() {
+		Map<E, Integer> frequencies = new LinkedHashMap<>();
+		for (int code = 0; code < dictionary.length; code++) frequencies.put((E) dictionary[code], counts[code]);
+		return frequencies;
+	}
+
+	/**
+	 * Returns the code of the most frequent value (the lowest one if more values are the most frequent).
+	 * @return the code of the most frequent value, or {@code -1} if the array is empty
+	 * @since 1.10.0
+	 */
+	public int modeCode() {
+		int mode = -1;
+		for (int code = 0; code < counts.length; code++) if (mode < 0 || counts[code] > counts[mode]) mode = code;
+		return mode;
+	}
+
+	/**
+	 * @return the elements
+	 * @since 1.10.0
+	 */
+	public Object[] toArray() {
+		Object[] values = new Object[size];
+		for (int i = 0; i < size; i++) values[i] = dictionary[codeAt(i)];
+		return values;
+	}
+
+	/**
+	 * Decodes the elements into a new array.
+	 * @param generator the function creating an array of the given length, for instance {@code String[]::new}; not null
+	 * @return the elements
+	 * @since 1.10.0
+	 */
+	@SuppressWarnings("unchecked")
+	public E[] toArray(IntFunction<E[]> generator) {
+		E[] values = requireNonNull(generator).apply(size);
+		for (int i = 0; i < size; i++) values[i] = (E) dictionary[codeAt(i)];
+		return values;
+	}
+
+	/**
+	 * @return the elements, as {@link Arrays#toString(Object[])}
+	 * @since 1.10.0
+	 */
+	@Override
+	public String toString() {
+		return Arrays.toString(toArray());
+	}
+}
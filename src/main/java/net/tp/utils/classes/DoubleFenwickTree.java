@@ -0,0 +1,217 @@
+package net.tp.utils.classes;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A Fenwick tree (binary indexed tree) of double values: prefix sums in logarithmic time, point updates and range sums in squared logarithmic time.
+ * <p>
+ * The tree is built in linear time from an array, which is copied.
+ * Batch updates touching a large part of the values rebuild the tree in linear time
+ * instead of updating it element by element.
+ * Sums are accumulated in floating point, so they carry the rounding errors of the additions.
+ * Updated nodes are recomputed from the values and range sums add only the nodes inside the range,
+ * so a {@code NaN}, an infinity or a large value out of a range never reaches its sum.
+ * The tree is not thread-safe.
+ *
+ * @author Tommaso Pastorelli
+ * @since 1.10.0
+ */
+@SuppressWarnings("unused")
+public class DoubleFenwickTree {
+	/**
+	 * The values.
+	 */
+	private final double[] values;
+	/**
+	 * The partial sums: {@code tree[i]} is the sum of the values from {@code (i & (i + 1))} to {@code i}.
+	 */
+	private final double[] tree;
+
+	private DoubleFenwickTree(double[] values) {
+		this.values = values;
+		this.tree = new double[values.length];
+		build();
+	}
+
+	/**
+	 * Builds a Fenwick tree over the values of a double-array, in linear time.
+	 * @param values the double-array; not null
+	 * @return the Fenwick tree
+	 * @since 1.10.0
+	 */
+	public static DoubleFenwickTree of(double[] values) {
+		return new DoubleFenwickTree(requireNonNull(values).clone());
+	}
+
+	/**
+	 * Creates a Fenwick tree of zeros.
+	 * @param size the number of values; non-negative
+	 * @return the Fenwick tree
+	 * @throws IllegalArgumentException if the size is negative
+	 * @since 1.10.0
+	 */
+	public static DoubleFenwickTree ofSize(int size) {
+		if (size < 0) throw new IllegalArgumentException("Size must be non-negative.");
+		return new DoubleFenwickTree(new double[size]);
+	}
+
+	private void build() {
+		int n = values.length;
+		System.arraycopy(values, 0, tree, 0, n);
+		for (int i = 0; i < n; i++) {
+			int parent = i | (i + 1);
+			if (parent < n) tree[parent] += tree[i];
+		}
+	}
+
+	/**
+	 * Recomputes the nodes holding a value, from the values and the nodes below them.
+	 */
+	private void update(int index) {
+		for (int i = index; i < tree.length; i |= i + 1) {
+			double sum = values[i];
+			for (int child = i - 1, low = i & (i + 1); child >= low; child = (child & (child + 1)) - 1) sum += tree[child];
+			tree[i] = sum;
+		}
+	}
+
+	private void checkIndex(int index) {
+		if (index < 0 || index >= values.length) throw new IndexOutOfBoundsException("Index: " + index + ", Length: " + values.length);
+	}
+
+	private void checkRange(int fromIndex, int toIndex) {
+		if (fromIndex < 0 || fromIndex > toIndex) throw new IndexOutOfBoundsException("Index: " + fromIndex + ", Length: " + values.length);
+		if (toIndex > values.length) throw new IndexOutOfBoundsException("Index: " + toIndex + ", Length: " + values.length);
+	}
+
+	/**
+	 * @return the number of values
+	 * @since 1.10.0
+	 */
+	public int size() {
+		return values.length;
+	}
+
+	/**
+	 * Returns a value.
+	 * @param index the index of the value
+	 * @return the value
+	 * @throws IndexOutOfBoundsException if the index is out of range
+	 * @since 1.10.0
+	 */
+	public double get(int index) {
+		checkIndex(index);
+		return values[index];
+	}
+
+	/**
+	 * Adds a delta to a value.
+	 * @param index the index of the value
+	 * @param delta the delta to add
+	 * @throws IndexOutOfBoundsException if the index is out of range
+	 * @since 1.10.0
+	 */
+	public void add(int index, double delta) {
+		checkIndex(index);
+		values[index] += delta;
+		update(index);
+	}
+
+	/**
+	 * Replaces a value.
+	 * @param index the index of the value
+	 * @param value the new value
+	 * @throws IndexOutOfBoundsException if the index is out of range
+	 * @since 1.10.0
+	 */
+	public void set(int index, double value) {
+		checkIndex(index);
+		values[index] = value;
+		update(index);
+	}
+
+	/**
+	 * Adds deltas to many values, rebuilding the tree if that is cheaper than updating it value by value.
+	 * @param indexes the indexes of the values; not null
+	 * @param deltas the delta to add to each value; not null, as long as {@code indexes}
+	 * @throws IllegalArgumentException if the arrays have different lengths
+	 * @throws IndexOutOfBoundsException if an index is out of range
+	 * @since 1.10.0
+	 */
+	public void addAll(int[] indexes, double[] deltas) {
+		if (requireNonNull(indexes).length != requireNonNull(deltas).length) throw new IllegalArgumentException("Indexes and deltas must have the same length.");
+		if (!rebuildCheaper(indexes.length)) {
+			for (int i = 0; i < indexes.length; i++) add(indexes[i], deltas[i]);
+			return;
+		}
+		for (int index : indexes) checkIndex(index);
+		for (int i = 0; i < indexes.length; i++) values[indexes[i]] += deltas[i];
+		build();
+	}
+
+	/**
+	 * Replaces many values, rebuilding the tree if that is cheaper than updating it value by value.
+	 * @param indexes the indexes of the values; not null
+	 * @param newValues the new value of each index; not null, as long as {@code indexes}
+	 * @throws IllegalArgumentException if the arrays have different lengths
+	 * @throws IndexOutOfBoundsException if an index is out of range
+	 * @since 1.10.0
+	 */
+	public void setAll(int[] indexes, double[] newValues) {
+		if (requireNonNull(indexes).length != requireNonNull(newValues).length) throw new IllegalArgumentException("Indexes and values must have the same length.");
+		if (!rebuildCheaper(indexes.length)) {
+			for (int i = 0; i < indexes.length; i++) set(indexes[i], newValues[i]);
+			return;
+		}
+		for (int index : indexes) checkIndex(index);
+		for (int i = 0; i < indexes.length; i++) values[indexes[i]] = newValues[i];
+		build();
+	}
+
+	private boolean rebuildCheaper(int updates) {
+		return (long) updates * (32 - Integer.numberOfLeadingZeros(values.length)) > values.length;
+	}
+
+	/**
+	 * Returns the sum of the first values.
+	 * @param toIndex the end of the prefix, exclusive
+	 * @return the sum of the values from {@code 0} (inclusive) to {@code toIndex} (exclusive)
+	 * @throws IndexOutOfBoundsException if {@code toIndex} is out of range
+	 * @since 1.10.0
+	 */
+	public double prefixSum(int toIndex) {
+		checkRange(0, toIndex);
+		double sum = 0;
+		for (int i = toIndex - 1; i >= 0; i = (i & (i + 1)) - 1) sum += tree[i];
+		return sum;
+	}
+
+	/**
+	 * Returns the sum of a range of values.
+	 * @param fromIndex the start of the range, inclusive
+	 * @param toIndex the end of the range, exclusive
+	 * @return the sum of the values of the range
+	 * @throws IndexOutOfBoundsException if the range is out of the values
+	 * @since 1.10.0
+	 */
+	public double sum(int fromIndex, int toIndex) {
+		checkRange(fromIndex, toIndex);
+		double sum = 0;
+		for (int i = toIndex - 1; i >= fromIndex; ) {
+			int low = i & (i + 1);
+			if (low >= fromIndex) {
+				sum += tree[i];
+				i = low - 1;
+			} else sum += values[i--];
+		}
+		return sum;
+	}
+
+	/**
+	 * @return a copy of the values
+	 * @since 1.10.0
+	 */
+	public double[] toArray() {
+		return values.clone();
+	}
+}
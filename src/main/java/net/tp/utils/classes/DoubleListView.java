@@ -0,0 +1,161 @@
+package net.tp.utils.classes;
+
+import java.util.Arrays;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A fixed-size {@link java.util.List} view over a range of a double-array.
+ *
+ * @see PrimitiveListView
+ * @author Tommaso Pastorelli
+ * @since 1.10.0
+ */
+@SuppressWarnings("unused")
+public final class DoubleListView extends PrimitiveListView<Double> {
+	/**
+	 * The backing array.
+	 */
+	private final double[] array;
+
+	private DoubleListView(double[] array, int fromIndex, int toIndex) {
+		super(array.length, fromIndex, toIndex);
+		this.array = array;
+	}
+
+	/**
+	 * Creates a view over a double-array.
+	 * @param array the double-array; not null
+	 * @return the view
+	 * @since 1.10.0
+	 */
+	public static DoubleListView of(double[] array) {
+		return new DoubleListView(requireNonNull(array), 0, array.length);
+	}
+
+	/**
+	 * Creates a view over a range of a double-array.
+	 * @param array the double-array; not null
+	 * @param fromIndex the start of the range, inclusive
+	 * @param toIndex the end of the range, exclusive
+	 * @return the view
+	 * @throws IndexOutOfBoundsException if the range is out of the array
+	 * @since 1.10.0
+	 */
+	public static DoubleListView of(double[] array, int fromIndex, int toIndex) {
+		return new DoubleListView(requireNonNull(array), fromIndex, toIndex);
+	}
+
+	/**
+	 * Returns the element at the specified index, boxed.
+	 * @param index the index of the element
+	 * @return the element
+	 * @throws IndexOutOfBoundsException if the index is out of the view
+	 * @since 1.10.0
+	 */
+	@Override
+	public Double get(int index) {
+		return array[arrayIndex(index)];
+	}
+
+	/**
+	 * Returns the element at the specified index, without boxing.
+	 * @param index the index of the element
+	 * @return the element
+	 * @throws IndexOutOfBoundsException if the index is out of the view
+	 * @since 1.10.0
+	 */
+	public double getDouble(int index) {
+		return array[arrayIndex(index)];
+	}
+
+	/**
+	 * Replaces the element at the specified index, writing through to the array.
+	 * @param index the index of the element
+	 * @param element the new element; not null
+	 * @return the previous element
+	 * @throws IndexOutOfBoundsException if the index is out of the view
+	 * @since 1.10.0
+	 */
+	@Override
+	public Double set(int index, Double element) {
+		return setDouble(index, element);
+	}
+
+	/**
+	 * Replaces the element at the specified index, writing through to the array, without boxing.
+	 * @param index the index of the element
+	 * @param element the new element
+	 * @return the previous element
+	 * @throws IndexOutOfBoundsException if the index is out of the view
+	 * @since 1.10.0
+	 */
+	public double setDouble(int index, double element) {
+		int i = arrayIndex(index);
+		double previous = array[i];
+		array[i] = element;
+		return previous;
+	}
+
+	/**
+	 * Returns the index of the first occurrence of the element (as by {@link Double#equals(Object)}).
+	 * @param o the element to search for
+	 * @return the index of the first occurrence of the element, or {@code -1} if the element is not present
+	 * @since 1.10.0
+	 */
+	@Override
+	public int indexOf(Object o) {
+		if (!(o instanceof Double)) return -1;
+		long bits = Double.doubleToLongBits((Double) o);
+		for (int i = offset; i < offset + size; i++) if (Double.doubleToLongBits(array[i]) == bits) return i - offset;
+		return -1;
+	}
+
+	/**
+	 * Returns the index of the last occurrence of the element (as by {@link Double#equals(Object)}).
+	 * @param o the element to search for
+	 * @return the index of the last occurrence of the element, or {@code -1} if the element is not present
+	 * @since 1.10.0
+	 */
+	@Override
+	public int lastIndexOf(Object o) {
+		if (!(o instanceof Double)) return -1;
+		long bits = Double.doubleToLongBits((Double) o);
+		for (int i = offset + size - 1; i >= offset; i--) if (Double.doubleToLongBits(array[i]) == bits) return i - offset;
+		return -1;
+	}
+
+	/**
+	 * Checks if the element is present (as by {@link Double#equals(Object)}).
+	 * @param o the element to check
+	 * @return {@code true} if the element is present, {@code false} otherwise
+	 * @since 1.10.0
+	 */
+	@Override
+	public boolean contains(Object o) {
+		return indexOf(o) >= 0;
+	}
+
+	/**
+	 * Returns a view over a range of this view, backed by the same array.
+	 * @param fromIndex the start of the range, inclusive
+	 * @param toIndex the end of the range, exclusive
+	 * @return the view over the range
+	 * @throws IndexOutOfBoundsException if the range is out of the view
+	 * @since 1.10.0
+	 */
+	@Override
+	public DoubleListView subList(int fromIndex, int toIndex) {
+		checkRange(size, fromIndex, toIndex);
+		return new DoubleListView(array, offset + fromIndex, offset + toIndex);
+	}
+
+	/**
+	 * Copies the elements of the view into a new double-array.
+	 * @return the double-array with the elements of the view
+	 * @since 1.10.0
+	 */
+	public double[] toDoubleArray() {
+		return Arrays.copyOfRange(array, offset, offset + size);
+	}
+}
@@ -0,0 +1,242 @@
+package net.tp.utils.classes;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A segment tree of double values: point updates and range sum, minimum and maximum queries in logarithmic time.
+ * <p>
+ * The tree is kept bottom-up in arrays of {@code 2 * size} nodes, the values being the leaves at {@code size + i},
+ * and is built in linear time from an array, which is copied.
+ * Batch updates touching a large part of the values rebuild the tree in linear time
+ * instead of updating it element by element.
+ * Minimum and maximum follow {@link Math#min(double, double)} and {@link Math#max(double, double)}, so a {@code NaN} in a range makes them {@code NaN}.
+ * The tree is not thread-safe.
+ *
+ * @author Tommaso Pastorelli
+ * @since 1.10.0
+ */
+@SuppressWarnings("unused")
+public class DoubleSegmentTree {
+	/**
+	 * The number of values.
+	 */
+	private final int size;
+	/**
+	 * The sums of the nodes.
+	 */
+	private final double[] sums;
+	/**
+	 * The minimums of the nodes.
+	 */
+	private final double[] mins;
+	/**
+	 * The maximums of the nodes.
+	 */
+	private final double[] maxs;
+
+	private DoubleSegmentTree(double[] values) {
+		this.size = values.length;
+		this.sums = new double[size << 1];
+		this.mins = new double[size << 1];
+		this.maxs = new double[size << 1];
+		System.arraycopy(values, 0, sums, size, size);
+		System.arraycopy(values, 0, mins, size, size);
+		System.arraycopy(values, 0, maxs, size, size);
+		build();
+	}
+
+	/**
+	 * Builds a segment tree over the values of a double-array, in linear time.
+	 * @param values the double-array; not null
+	 * @return the segment tree
+	 * @since 1.10.0
+	 */
+	public static DoubleSegmentTree of(double[] values) {
+		return new DoubleSegmentTree(requireNonNull(values));
+	}
+
+	private void build() {
+		for (int node = size - 1; node > 0; node--) pull(node);
+	}
+
+	private void pull(int node) {
+		int left = node << 1, right = left | 1;
+		sums[node] = sums[left] + sums[right];
+		mins[node] = Math.min(mins[left], mins[right]);
+		maxs[node] = Math.max(maxs[left], maxs[right]);
+	}
+
+	private void leaf(int index, double value) {
+		int node = index + size;
+		sums[node] = value;
+		mins[node] = value;
+		maxs[node] = value;
+	}
+
+	private void checkIndex(int index) {
+		if (index < 0 || index >= size) throw new IndexOutOfBoundsException("Index: " + index + ", Length: " + size);
+	}
+
+	private void checkRange(int fromIndex, int toIndex) {
+		if (fromIndex < 0 || fromIndex > toIndex) throw new IndexOutOfBoundsException("Index: " + fromIndex + ", Length: " + size);
+		if (toIndex > size) throw new IndexOutOfBoundsException("Index: " + toIndex + ", Length: " + size);
+	}
+
+	private void checkNonEmptyRange(int fromIndex, int toIndex) {
+		checkRange(fromIndex, toIndex);
+		if (fromIndex == toIndex) throw new IllegalArgumentException("Range is empty.");
+	}
+
+	/**
+	 * @return the number of values
+	 * @since 1.10.0
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Returns a value.
+	 * @param index the index of the value
+	 * @return the value
+	 * @throws IndexOutOfBoundsException if the index is out of range
+	 * @since 1.10.0
+	 */
+	public double get(int index) {
+		checkIndex(index);
+		return sums[index + size];
+	}
+
+	/**
+	 * Replaces a value.
+	 * @param index the index of the value
+	 * @param value the new value
+	 * @throws IndexOutOfBoundsException if the index is out of range
+	 * @since 1.10.0
+	 */
+	public void set(int index, double value) {
+		checkIndex(index);
+		leaf(index, value);
+		for (int node = (index + size) >>> 1; node > 0; node >>>= 1) pull(node);
+	}
+
+	/**
+	 * Adds a delta to a value.
+	 * @param index the index of the value
+	 * @param delta the delta to add
+	 * @throws IndexOutOfBoundsException if the index is out of range
+	 * @since 1.10.0
+	 */
+	public void add(int index, double delta) {
+		checkIndex(index);
+		set(index, sums[index + size] + delta);
+	}
+
+	/**
+	 * Replaces many values, rebuilding the tree if that is cheaper than updating it value by value.
+	 * @param indexes the indexes of the values; not null
+	 * @param values the new value of each index; not null, as long as {@code indexes}
+	 * @throws IllegalArgumentException if the arrays have different lengths
+	 * @throws IndexOutOfBoundsException if an index is out of range
+	 * @since 1.10.0
+	 */
+	public void setAll(int[] indexes, double[] values) {
+		if (requireNonNull(indexes).length != requireNonNull(values).length) throw new IllegalArgumentException("Indexes and values must have the same length.");
+		if (!rebuildCheaper(indexes.length)) {
+			for (int i = 0; i < indexes.length; i++) set(indexes[i], values[i]);
+			return;
+		}
+		for (int index : indexes) checkIndex(index);
+		for (int i = 0; i < indexes.length; i++) leaf(indexes[i], values[i]);
+		build();
+	}
+
+	/**
+	 * Adds deltas to many values, rebuilding the tree if that is cheaper than updating it value by value.
+	 * @param indexes the indexes of the values; not null
+	 * @param deltas the delta to add to each value; not null, as long as {@code indexes}
+	 * @throws IllegalArgumentException if the arrays have different lengths
+	 * @throws IndexOutOfBoundsException if an index is out of range
+	 * @since 1.10.0
+	 */
+	public void addAll(int[] indexes, double[] deltas) {
+		if (requireNonNull(indexes).length != requireNonNull(deltas).length) throw new IllegalArgumentException("Indexes and deltas must have the same length.");
+		if (!rebuildCheaper(indexes.length)) {
+			for (int i = 0; i < indexes.length; i++) add(indexes[i], deltas[i]);
+			return;
+		}
+		for (int index : indexes) checkIndex(index);
+		for (int i = 0; i < indexes.length; i++) leaf(indexes[i], sums[indexes[i] + size] + deltas[i]);
+		build();
+	}
+
+	private boolean rebuildCheaper(int updates) {
+		return (long) updates * (32 - Integer.numberOfLeadingZeros(size)) > size;
+	}
+
+	/**
+	 * Returns the sum of a range of values.
+	 * @param fromIndex the start of the range, inclusive
+	 * @param toIndex the end of the range, exclusive
+	 * @return the sum of the values of the range ({@code 0} if the range is empty)
+	 * @throws IndexOutOfBoundsException if the range is out of the values
+	 * @since 1.10.0
+	 */
+	public double sum(int fromIndex, int toIndex) {
+		checkRange(fromIndex, toIndex);
+		double sum = 0;
+		for (int left = fromIndex + size, right = toIndex + size; left < right; left >>>= 1, right >>>= 1) {
+			if ((left & 1) == 1) sum += sums[left++];
+			if ((right & 1) == 1) sum += sums[--right];
+		}
+		return sum;
+	}
+
+	/**
+	 * Returns the minimum of a range of values.
+	 * @param fromIndex the start of the range, inclusive
+	 * @param toIndex the end of the range, exclusive
+	 * @return the minimum of the values of the range
+	 * @throws IndexOutOfBoundsException if the range is out of the values
+	 * @throws IllegalArgumentException if the range is empty
+	 * @since 1.10.0
+	 */
+	public double min(int fromIndex, int toIndex) {
+		checkNonEmptyRange(fromIndex, toIndex);
+		double min = mins[fromIndex + size];
+		for (int left = fromIndex + size, right = toIndex + size; left < right; left >>>= 1, right >>>= 1) {
+			if ((left & 1) == 1) min = Math.min(min, mins[left++]);
+			if ((right & 1) == 1) min = Math.min(min, mins[--right]);
+		}
+		return min;
+	}
+
+	/**
+	 * Returns the maximum of a range of values.
+	 * @param fromIndex the start of the range, inclusive
+	 * @param toIndex the end of the range, exclusive
+	 * @return the maximum of the values of the range
+	 * @throws IndexOutOfBoundsException if the range is out of the values
+	 * @throws IllegalArgumentException if the range is empty
+	 * @since 1.10.0
+	 */
+	public double max(int fromIndex, int toIndex) {
+		checkNonEmptyRange(fromIndex, toIndex);
+		double max = maxs[fromIndex + size];
+		for (int left = fromIndex + size, right = toIndex + size; left < right; left >>>= 1, right >>>= 1) {
+			if ((left & 1) == 1) max = Math.max(max, maxs[left++]);
+			if ((right & 1) == 1) max = Math.max(max, maxs[--right]);
+		}
+		return max;
+	}
+
+	/**
+	 * @return a copy of the values
+	 * @since 1.10.0
+	 */
+	public double[] toArray() {
+		double[] values = new double[size];
+		System.arraycopy(sums, size, values, 0, size);
+		return values;
+	}
+}
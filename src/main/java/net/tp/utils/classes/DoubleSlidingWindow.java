@@ -0,0 +1,252 @@
+package net.tp.utils.classes;
+
+import java.util.NoSuchElementException;
+
+/**
+ * The minimum, maximum, sum and mean of the last {@code window} double values added, updated in amortized constant time.
+ * <p>
+ * The values of the window are kept in a ring buffer, and the candidates for the minimum and the maximum
+ * in two monotonic deques, so each value is added and dropped at most once.
+ * Values are compared as by {@link Double#compare(double, double)}. The sum is never updated by subtracting the values
+ * leaving the window: the oldest values hold their suffix sums, rebuilt once every {@code window} values,
+ * and the newest ones a compensated (Kahan) running sum, so a {@code NaN} or an infinity only affects the sums
+ * of the windows holding it and large values leaving the window do not cancel the smaller ones.
+ * Nothing is allocated after construction. The window is not thread-safe.
+ *
+ * @author Tommaso Pastorelli
+ * @since 1.10.0
+ */
+@SuppressWarnings("unused")
+public class DoubleSlidingWindow {
+	/**
+	 * The values of the window.
+	 */
+	private final DoubleRingBuffer values;
+	/**
+	 * The positions of the candidates for the minimum, increasing.
+	 */
+	private final LongRingBuffer minPositions;
+	/**
+	 * The candidates for the minimum, increasing.
+	 */
+	private final DoubleRingBuffer minValues;
+	/**
+	 * The positions of the candidates for the maximum, increasing.
+	 */
+	private final LongRingBuffer maxPositions;
+	/**
+	 * The candidates for the maximum, decreasing.
+	 */
+	private final DoubleRingBuffer maxValues;
+	/**
+	 * The suffix sums of the oldest values of the window, from the one at {@link #frontHead}.
+	 */
+	private final double[] suffix;
+	/**
+	 * The index in {@link #suffix} of the oldest value of the window.
+	 */
+	private int frontHead;
+	/**
+	 * The number of the oldest values of the window held by {@link #suffix}.
+	 */
+	private int frontSize;
+	/**
+	 * The sum of the newest values of the window, not held by {@link #suffix}.
+	 */
+	private double sum;
+	/**
+	 * The compensation of the running sum.
+	 */
+	private double compensation;
+	/**
+	 * The number of values added since the creation or the last clear.
+	 */
+	private long count;
+
+	/**
+	 * Creates an empty sliding window.
+	 * @param window the number of values of the window; positive
+	 * @throws IllegalArgumentException if the window is not positive
+	 * @since 1.10.0
+	 */
+	public DoubleSlidingWindow(int window) {
+		if (window <= 0) throw new IllegalArgumentException("Window must be positive.");
+		this.values = new DoubleRingBuffer(window);
+		this.minPositions = new LongRingBuffer(window);
+		this.minValues = new DoubleRingBuffer(window);
+		this.maxPositions = new LongRingBuffer(window);
+		this.maxValues = new DoubleRingBuffer(window);
+		this.suffix = new double[window];
+	}
+
+	/**
+	 * Adds a value, dropping the oldest one if the window is full.
+	 * @param value the value to add
+	 * @since 1.10.0
+	 */
+	public void add(double value) {
+		if (values.isFull()) {
+			if (frontSize == 0) rebuild();
+			frontHead++;
+			frontSize--;
+		}
+		values.put(value);
+		accumulate(value);
+		long position = count++;
+		long oldest = count - values.size();
+		while (!minPositions.isEmpty() && minPositions.getFirst() < oldest) {
+			minPositions.removeFirst();
+			minValues.removeFirst();
+		}
+		while (!minValues.isEmpty() && Double.compare(minValues.getLast(), value) >= 0) {
+			minPositions.removeLast();
+			minValues.removeLast();
+		}
+		minPositions.addLast(position);
+		minValues.addLast(value);
+		while (!maxPositions.isEmpty() && maxPositions.getFirst() < oldest) {
+			maxPositions.removeFirst();
+			maxValues.removeFirst();
+		}
+		while (!maxValues.isEmpty() && Double.compare(maxValues.getLast(), value) <= 0) {
+			maxPositions.removeLast();
+			maxValues.removeLast();
+		}
+		maxPositions.addLast(position);
+		maxValues.addLast(value);
+	}
+
+	private void accumulate(double value) {
+		double y = value - compensation;
+		double t = sum + y;
+		compensation = Double.isFinite(t) ? (t - sum) - y : 0;
+		sum = t;
+	}
+
+	/**
+	 * Moves all the values of the window to the suffix sums, emptying the running sum.
+	 */
+	private void rebuild() {
+		int size = values.size();
+		double suffixSum = 0, suffixCompensation = 0;
+		for (int i = size - 1; i >= 0; i--) {
+			double y = values.get(i) - suffixCompensation;
+			double t = suffixSum + y;
+			suffixCompensation = Double.isFinite(t) ? (t - suffixSum) - y : 0;
+			suffix[i] = suffixSum = t;
+		}
+		frontHead = 0;
+		frontSize = size;
+		sum = 0;
+		compensation = 0;
+	}
+
+	/**
+	 * @return the minimum value of the window
+	 * @throws NoSuchElementException if the window is empty
+	 * @since 1.10.0
+	 */
+	public double min() {
+		checkNotEmpty();
+		return minValues.getFirst();
+	}
+
+	/**
+	 * @return the maximum value of the window
+	 * @throws NoSuchElementException if the window is empty
+	 * @since 1.10.0
+	 */
+	public double max() {
+		checkNotEmpty();
+		return maxValues.getFirst();
+	}
+
+	/**
+	 * @return the sum of the values of the window ({@code 0} if the window is empty)
+	 * @since 1.10.0
+	 */
+	public double sum() {
+		return frontSize == 0 ? sum : suffix[frontHead] + sum;
+	}
+
+	/**
+	 * @return the mean of the values of the window
+	 * @throws NoSuchElementException if the window is empty
+	 * @since 1.10.0
+	 */
+	public double mean() {
+		checkNotEmpty();
+		return sum() / values.size();
+	}
+
+	/**
+	 * @return the oldest value of the window
+	 * @throws NoSuchElementException if the window is empty
+	 * @since 1.10.0
+	 */
+	public double first() {
+		return values.getFirst();
+	}
+
+	/**
+	 * @return the newest value of the window
+	 * @throws NoSuchElementException if the window is empty
+	 * @since 1.10.0
+	 */
+	public double last() {
+		return values.getLast();
+	}
+
+	/**
+	 * @return the number of values of the window
+	 * @since 1.10.0
+	 */
+	public int size() {
+		return values.size();
+	}
+
+	/**
+	 * @return the maximum number of values of the window
+	 * @since 1.10.0
+	 */
+	public int window() {
+		return values.capacity();
+	}
+
+	/**
+	 * @return {@code true} if the window holds {@code window} values, {@code false} otherwise
+	 * @since 1.10.0
+	 */
+	public boolean isFull() {
+		return values.isFull();
+	}
+
+	/**
+	 * @return the values of the window, from the oldest to the newest
+	 * @since 1.10.0
+	 */
+	public double[] toArray() {
+		return values.toArray();
+	}
+
+	/**
+	 * Removes all the values.
+	 * @since 1.10.0
+	 */
+	public void clear() {
+		values.clear();
+		minPositions.clear();
+		minValues.clear();
+		maxPositions.clear();
+		maxValues.clear();
+		frontHead = 0;
+		frontSize = 0;
+		sum = 0;
+		compensation = 0;
+		count = 0;
+	}
+
+	private void checkNotEmpty() {
+		if (values.isEmpty()) throw new NoSuchElementException("Window is empty.");
+	}
+}
@@ -0,0 +1,161 @@
+package net.tp.utils.classes;
+
+import java.util.Arrays;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A fixed-size {@link java.util.List} view over a range of a float-array.
+ *
+ * @see PrimitiveListView
+ * @author Tommaso Pastorelli
+ * @since 1.10.0
+ */
+@SuppressWarnings("unused")
+public final class FloatListView extends PrimitiveListView<Float> {
+	/**
+	 * The backing array.
+	 */
+	private final float[] array;
+
+	private FloatListView(float[] array, int fromIndex, int toIndex) {
+		super(array.length, fromIndex, toIndex);
+		this.array = array;
+	}
+
+	/**
+	 * Creates a view over a float-array.
+	 * @param array the float-array; not null
+	 * @return the view
+	 * @since 1.10.0
+	 */
+	public static FloatListView of(float[] array) {
+		return new FloatListView(requireNonNull(array), 0, array.length);
+	}
+
+	/**
+	 * Creates a view over a range of a float-array.
+	 * @param array the float-array; not null
+	 * @param fromIndex the start of the range, inclusive
+	 * @param toIndex the end of the range, exclusive
+	 * @return the view
+	 * @throws IndexOutOfBoundsException if the range is out of the array
+	 * @since 1.10.0
+	 */
+	public static FloatListView of(float[] array, int fromIndex, int toIndex) {
+		return new FloatListView(requireNonNull(array), fromIndex, toIndex);
+	}
+
+	/**
+	 * Returns the element at the specified index, boxed.
+	 * @param index the index of the element
+	 * @return the element
+	 * @throws IndexOutOfBoundsException if the index is out of the view
+	 * @since 1.10.0
+	 */
+	@Override
+	public Float get(int index) {
+		return array[arrayIndex(index)];
+	}
+
+	/**
+	 * Returns the element at the specified index, without boxing.
+	 * @param index the index of the element
+	 * @return the element
+	 * @throws IndexOutOfBoundsException if the index is out of the view
+	 * @since 1.10.0
+	 */
+	public float getFloat(int index) {
+		return array[arrayIndex(index)];
+	}
+
+	/**
+	 * Replaces the element at the specified index, writing through to the array.
+	 * @param index the index of the element
+	 * @param element the new element; not null
+	 * @return the previous element
+	 * @throws IndexOutOfBoundsException if the index is out of the view
+	 * @since 1.10.0
+	 */
+	@Override
+	public Float set(int index, Float element) {
+		return setFloat(index, element);
+	}
+
+	/**
+	 * Replaces the element at the specified index, writing through to the array, without boxing.
+	 * @param index the index of the element
+	 * @param element the new element
+	 * @return the previous element
+	 * @throws IndexOutOfBoundsException if the index is out of the view
+	 * @since 1.10.0
+	 */
+	public float setFloat(int index, float element) {
+		int i = arrayIndex(index);
+		float previous = array[i];
+		array[i] = element;
+		return previous;
+	}
+
+	/**
+	 * Returns the index of the first occurrence of the element (as by {@link Float#equals(Object)}).
+	 * @param o the element to search for
+	 * @return the index of the first occurrence of the element, or {@code -1} if the element is not present
+	 * @since 1.10.0
+	 */
+	@Override
+	public int indexOf(Object o) {
+		if (!(o instanceof Float)) return -1;
+		int bits = Float.floatToIntBits((Float) o);
+		for (int i = offset; i < offset + size; i++) if (Float.floatToIntBits(array[i]) == bits) return i - offset;
+		return -1;
+	}
+
+	/**
+	 * Returns the index of the last occurrence of the element (as by {@link Float#equals(Object)}).
+	 * @param o the element to search for
+	 * @return the index of the last occurrence of the element, or {@code -1} if the element is not present
+	 * @since 1.10.0
+	 */
+	@Override
+	public int lastIndexOf(Object o) {
+		if (!(o instanceof Float)) return -1;
+		int bits = Float.floatToIntBits((Float) o);
+		for (int i = offset + size - 1; i >= offset; i--) if (Float.floatToIntBits(array[i]) == bits) return i - offset;
+		return -1;
+	}
+
+	/**
+	 * Checks if the element is present (as by {@link Float#equals(Object)}).
+	 * @param o the element to check
+	 * @return {@code true} if the element is present, {@code false} otherwise
+	 * @since 1.10.0
+	 */
+	@Override
+	public boolean contains(Object o) {
+		return indexOf(o) >= 0;
+	}
+
+	/**
+	 * Returns a view over a range of this view, backed by the same array.
+	 * @param fromIndex the start of the range, inclusive
+	 * @param toIndex the end of the range, exclusive
+	 * @return the view over the range
+	 * @throws IndexOutOfBoundsException if the range is out of the view
+	 * @since 1.10.0
+	 */
+	@Override
+	public FloatListView subList(int fromIndex, int toIndex) {
+		checkRange(size, fromIndex, toIndex);
+		return new FloatListView(array, offset + fromIndex, offset + toIndex);
+	}
+
+	/**
+	 * Copies the elements of the view into a new float-array.
+	 * @return the float-array with the elements of the view
+	 * @since 1.10.0
+	 */
+	public float[] toFloatArray() {
+		return Arrays.copyOfRange(array, offset, offset + size);
+	}
+}
@@ -0,0 +1,509 @@
+package net.tp.utils.classes;
+
+import java.util.Arrays;
+import java.util.function.IntToLongFunction;
+
+import static java.util.Objects.requireNonNull;
+import static java.util.stream.IntStream.range;
+
+/**
+ * The frequencies of the values of a primitive array: its distinct values in ascending order, each with its number of occurrences.
+ * <p>
+ * {@code byte}, {@code short}, {@code char} and {@code boolean} arrays are counted in direct tables,
+ * the other types in a primitive open-addressing map, without boxing.
+ * Large arrays are counted in parallel chunks whose partial counts are then merged.
+ * {@code boolean} values are counted as {@code 0} ({@code false}) and {@code 1} ({@code true}).
+ * {@code float} and {@code double} values are counted by {@code ==}, so {@code -0.0} is counted as {@code 0.0};
+ * every {@code NaN} is counted as one value, which comes last.
+ *
+ * @author Tommaso Pastorelli
+ * @since 1.10.0
+ */
+@SuppressWarnings("unused")
+public class Histogram {
+	/**
+	 * The array length from which the values are counted in parallel.
+	 */
+	private static final int PARALLEL_THRESHOLD = 1 << 16;
+	/**
+	 * The minimum number of elements counted by each parallel task.
+	 */
+	private static final int MIN_CHUNK_SIZE = 1 << 14;
+	/**
+	 * The key of every {@code NaN}.
+	 */
+	private static final long NAN_KEY = 0x7ff8000000000000L;
+
+	/**
+	 * The distinct integral values, in ascending order ({@code null} for floating values).
+	 */
+	private final long[] longValues;
+	/**
+	 * The distinct floating values, in ascending order ({@code null} for integral values).
+	 */
+	private final double[] doubleValues;
+	/**
+	 * The number of occurrences of each value.
+	 */
+	private final int[] counts;
+	/**
+	 * The total number of counted elements.
+	 */
+	private final long total;
+
+	private Histogram(long[] longValues, double[] doubleValues, int[] counts) {
+		this.longValues = longValues;
+		this.doubleValues = doubleValues;
+		this.counts = counts;
+		long total = 0;
+		for (int count : counts) total += count;
+		this.total = total;
+	}
+
+	/**
+	 * Counts the values of a byte-array.
+	 * @param array the byte-array; not null
+	 * @return the histogram of the values
+	 * @since 1.10.0
+	 */
+	public static Histogram of(byte[] array) {
+		return ofTable(dense(requireNonNull(array).length, 256, i -> array[i] + 128), -128);
+	}
+
+	/**
+	 * Counts the values of a short-array.
+	 * @param array the short-array; not null
+	 * @return the histogram of the values
+	 * @since 1.10.0
+	 */
+	public static Histogram of(short[] array) {
+		return ofTable(dense(requireNonNull(array).length, 65536, i -> array[i] + 32768), -32768);
+	}
+
+	/**
+	 * Counts the values of a char-array.
+	 * @param array the char-array; not null
+	 * @return the histogram of the values
+	 * @since 1.10.0
+	 */
+	public static Histogram of(char[] array) {
+		return ofTable(dense(requireNonNull(array).length, 65536, i -> array[i]), 0);
+	}
+
+	/**
+	 * Counts the values of a boolean-array ({@code false} as {@code 0}, {@code true} as {@code 1}).
+	 * @param array the boolean-array; not null
+	 * @return the histogram of the values
+	 * @since 1.10.0
+	 */
+	public static Histogram of(boolean[] array) {
+		return ofTable(dense(requireNonNull(array).length, 2, i -> array[i] ? 1 : 0), 0);
+	}
+
+	/**
+	 * Counts the values of an int-array.
+	 * @param array the int-array; not null
+	 * @return the histogram of the values
+	 * @since 1.10.0
+	 */
+	public static Histogram of(int[] array) {
+		return ofCounter(sparse(requireNonNull(array).length, i -> array[i]), false);
+	}
+
+	/**
+	 * Counts the values of a long-array.
+	 * @param array the long-array; not null
+	 * @return the histogram of the values
+	 * @since 1.10.0
+	 */
+	public static Histogram of(long[] array) {
+		return ofCounter(sparse(requireNonNull(array).length, i -> array[i]), false);
+	}
+
+	/**
+	 * Counts the values of a float-array.
+	 * @param array the float-array; not null
+	 * @return the histogram of the values
+	 * @since 1.10.0
+	 */
+	public static Histogram of(float[] array) {
+		return ofCounter(sparse(requireNonNull(array).length, i -> encode(array[i])), true);
+	}
+
+	/**
+	 * Counts the values of a double-array.
+	 * @param array the double-array; not null
+	 * @return the histogram of the values
+	 * @since 1.10.0
+	 */
+	public static Histogram of(double[] array) {
+		return ofCounter(sparse(requireNonNull(array).length, i -> encode(array[i])), true);
+	}
+
+	private static long encode(double value) {
+		if (Double.isNaN(value)) return NAN_KEY;
+		return Double.doubleToRawLongBits(value == 0 ? 0.0 : value);
+	}
+
+	/**
+	 * Returns the size of the chunks counted in parallel.
+	 * @param length the length of the array
+	 * @return the chunk size
+	 */
+	private static int chunkSize(int length) {
+		return Math.max(MIN_CHUNK_SIZE, length / (Runtime.getRuntime().availableProcessors() * 4) + 1);
+	}
+
+	/**
+	 * Counts the values of an array in a direct table.
+	 * @param length the length of the array
+	 * @param size the size of the table
+	 * @param slotAt the slot in the table of each element
+	 * @return the table of the counts
+	 */
+	private static int[] dense(int length, int size, IntToLongFunction slotAt) {
+		if (length < PARALLEL_THRESHOLD) {
+			int[] table = new int[size];
+			for (int i = 0; i < length; i++) table[(int) slotAt.applyAsLong(i)]++;
+			return table;
+		}
+		int chunk = chunkSize(length);
+		return range(0, (length + chunk - 1) / chunk).parallel().mapToObj(c -> {
+			int[] table = new int[size];
+			for (int i = c * chunk, to = Math.min(i + chunk, length); i < to; i++) table[(int) slotAt.applyAsLong(i)]++;
+			return table;
+		}).reduce((a, b) -> {
+			for (int i = 0; i < size; i++) a[i] += b[i];
+			return a;
+		}).orElseGet(() -> new int[size]);
+	}
+
+	/**
+	 * Counts the values of an array in a primitive map.
+	 * @param length the length of the array
+	 * @param keyAt the key of each element
+	 * @return the counter
+	 */
+	private static Counter sparse(int length, IntToLongFunction keyAt) {
+		if (length < PARALLEL_THRESHOLD) {
+			Counter counter = new Counter(length);
+			for (int i = 0; i < length; i++) counter.add(keyAt.applyAsLong(i), 1);
+			return counter;
+		}
+		int chunk = chunkSize(length);
+		Counter[] counters = range(0, (length + chunk - 1) / chunk).parallel().mapToObj(c -> {
+			Counter counter = new Counter(chunk);
+			for (int i = c * chunk, to = Math.min(i + chunk, length); i < to; i++) counter.add(keyAt.applyAsLong(i), 1);
+			return counter;
+		}).toArray(Counter[]::new);
+		Counter counter = counters[0];
+		for (int c = 1; c < counters.length; c++) counter.addAll(counters[c]);
+		return counter;
+	}
+
+	private static Histogram ofTable(int[] table, long first) {
+		int distinct = 0;
+		for (int count : table) if (count > 0) distinct++;
+		long[] values = new long[distinct];
+		int[] counts = new int[distinct];
+		for (int i = 0, d = 0; i < table.length; i++) {
+			if (table[i] == 0) continue;
+			values[d] = first + i;
+			counts[d++] = table[i];
+		}
+		return new Histogram(values, null, counts);
+	}
+
+	private static Histogram ofCounter(Counter counter, boolean floating) {
+		long[] keys = counter.keys();
+		int[] counts = new int[keys.length];
+		if (!floating) {
+			Arrays.sort(keys);
+			for (int i = 0; i < keys.length; i++) counts[i] = counter.get(keys[i]);
+			return new Histogram(keys, null, counts);
+		}
+		double[] values = new double[keys.length];
+		for (int i = 0; i < keys.length; i++) values[i] = Double.longBitsToDouble(keys[i]);
+		Arrays.sort(values);
+		for (int i = 0; i < values.length; i++) counts[i] = counter.get(encode(values[i]));
+		return new Histogram(null, values, counts);
+	}
+
+	/**
+	 * @return the number of distinct values
+	 * @since 1.10.0
+	 */
+	public int size() {
+		return counts.length;
+	}
+
+	/**
+	 * @return the total number of counted elements
+	 * @since 1.10.0
+	 */
+	public long total() {
+		return total;
+	}
+
+	/**
+	 * @return {@code true} if the histogram counts {@code float} or {@code double} values, {@code false} otherwise
+	 * @since 1.10.0
+	 */
+	public boolean isFloating() {
+		return doubleValues != null;
+	}
+
+	/**
+	 * Returns a distinct value as a long.
+	 * @param index the index of the value, in ascending order of the values
+	 * @return the value (truncated for floating values)
+	 * @throws IndexOutOfBoundsException if the index is out of range
+	 * @since 1.10.0
+	 */
+	public long longValue(int index) {
+		checkIndex(index);
+		return isFloating() ? (long) doubleValues[index] : longValues[index];
+	}
+
+	/**
+	 * Returns a distinct value as a double.
+	 * @param index the index of the value, in ascending order of the values
+	 * @return the value
+	 * @throws IndexOutOfBoundsException if the index is out of range
+	 * @since 1.10.0
+	 */
+	public double doubleValue(int index) {
+		checkIndex(index);
+		return isFloating() ? doubleValues[index] : longValues[index];
+	}
+
+	/**
+	 * Returns the number of occurrences of a distinct value.
+	 * @param index the index of the value, in ascending order of the values
+	 * @return the number of occurrences
+	 * @throws IndexOutOfBoundsException if the index is out of range
+	 * @since 1.10.0
+	 */
+	public int count(int index) {
+		checkIndex(index);
+		return counts[index];
+	}
+
+	private void checkIndex(int index) {
+		if (index < 0 || index >= counts.length) throw new IndexOutOfBoundsException("Index: " + index + ", Length: " + counts.length);
+	}
+
+	/**
+	 * Returns the index of a value.
+	 * @param value the value to search for
+	 * @return the index of the value, or {@code -1} if the value was not counted
+	 * @since 1.10.0
+	 */
+	public int indexOf(long value) {
+		if (isFloating()) return indexOf((double) value);
+		int index = Arrays.binarySearch(longValues, value);
+		return index < 0 ? -1 : index;
+	}
+
+	/**
+	 * Returns the index of a value.
+	 * @param value the value to search for
+	 * @return the index of the value, or {@code -1} if the value was not counted
+	 * @since 1.10.0
+	 */
+	public int indexOf(double value) {
+		if (!isFloating()) return value == (long) value && Math.abs(value) < 0x1p63 ? indexOf((long) value) : -1;
+		int index = Arrays.binarySearch(doubleValues, value == 0 ? 0.0 : value);
+		return index < 0 ? -1 : index;
+	}
+
+	/**
+	 * Returns the number of occurrences of a value.
+	 * @param value the value to count
+	 * @return the number of occurrences of the value
+	 * @since 1.10.0
+	 */
+	public int countOf(long value) {
+		int index = indexOf(value);
+		return index < 0 ? 0 : counts[index];
+	}
+
+	/**
+	 * Returns the number of occurrences of a value.
+	 * @param value the value to count
+	 * @return the number of occurrences of the value
+	 * @since 1.10.0
+	 */
+	public int countOf(double value) {
+		int index = indexOf(value);
+		return index < 0 ? 0 : counts[index];
+	}
+
+	/**
+	 * Returns the index of the most frequent value (the smallest one if more values are the most frequent).
+	 * @return the index of the most frequent value, or {@code -1} if the histogram is empty
+	 * @since 1.10.0
+	 */
+	public int modeIndex() {
+		int mode = -1;
+		for (int i = 0; i < counts.length; i++) if (mode < 0 || counts[i] > counts[mode]) mode = i;
+		return mode;
+	}
+
+	/**
+	 * Returns the indexes of the {@code k} most frequent values,
+	 * by descending number of occurrences and then by ascending value.
+	 * @param k the number of values
+	 * @return the indexes of the most frequent values (fewer than {@code k} if there are fewer distinct values)
+	 * @throws IllegalArgumentException if {@code k} is negative
+	 * @since 1.10.0
+	 */
+	public int[] topK(int k) {
+		if (k < 0) throw new IllegalArgumentException("Number must be non-negative.");
+		k = Math.min(k, counts.length);
+		// min-heap of the best k indexes, the worst on top
+		int[] heap = new int[k];
+		int size = 0;
+		for (int i = 0; i < counts.length && k > 0; i++) {
+			if (size < k) {
+				heap[size] = i;
+				siftUp(heap, size++);
+			} else if (better(i, heap[0])) {
+				heap[0] = i;
+				siftDown(heap, size);
+			}
+		}
+		int[] result = new int[size];
+		for (int i = size - 1; i >= 0; i--) {
+			result[i] = heap[0];
+			heap[0] = heap[i];
+			siftDown(heap, i);
+		}
+		return result;
+	}
+
+	/**
+	 * Checks if a value ranks before another one: more occurrences, or as many and smaller.
+	 * @param a the index of the first value
+	 * @param b the index of the second value
+	 * @return {@code true} if the first value ranks before the second one
+	 */
+	private boolean better(int a, int b) {
+		return counts[a] != counts[b] ? counts[a] > counts[b] : a < b;
+	}
+
+	private void siftUp(int[] heap, int index) {
+		int element = heap[index];
+		while (index > 0) {
+			int parent = (index - 1) >>> 1;
+			if (!better(heap[parent], element)) break;
+			heap[index] = heap[parent];
+			index = parent;
+		}
+		heap[index] = element;
+	}
+
+	private void siftDown(int[] heap, int size) {
+		int index = 0, element = heap[0];
+		while (true) {
+			int child = (index << 1) + 1;
+			if (child >= size) break;
+			if (child + 1 < size && better(heap[child], heap[child + 1])) child++;
+			if (!better(element, heap[child])) break;
+			heap[index] = heap[child];
+			index = child;
+		}
+		if (size > 0) heap[index] = element;
+	}
+
+	/**
+	 * @return the values and their number of occurrences, as {@code {value=count, ...}}
+	 * @since 1.10.0
+	 */
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder("{");
+		for (int i = 0; i < counts.length; i++) {
+			if (i > 0) builder.append(", ");
+			if (isFloating()) builder.append(doubleValues[i]);
+			else builder.append(longValues[i]);
+			builder.append('=').append(counts[i]);
+		}
+		return builder.append('}').toString();
+	}
+
+	/**
+	 * An open-addressing map from long keys to int counts.
+	 */
+	private static final class Counter {
+		private long[] keys;
+		private int[] counts;
+		private boolean[] used;
+		private int size;
+
+		private Counter(int expected) {
+			int capacity = 16;
+			while (capacity < Math.min(expected, 1 << 20) * 2L) capacity <<= 1;
+			keys = new long[capacity];
+			counts = new int[capacity];
+			used = new boolean[capacity];
+		}
+
+		private static int mix(long key) {
+			key ^= key >>> 33;
+			key *= 0xff51afd7ed558ccdL;
+			key ^= key >>> 33;
+			return (int) key;
+		}
+
+		private void add(long key, int count) {
+			int mask = used.length - 1;
+			int slot = mix(key) & mask;
+			for (; used[slot]; slot = (slot + 1) & mask)
+				if (keys[slot] == key) {
+					counts[slot] += count;
+					return;
+				}
+			used[slot] = true;
+			keys[slot] = key;
+			counts[slot] = count;
+			if (++size * 2 > used.length) grow();
+		}
+
+		private int get(long key) {
+			int mask = used.length - 1;
+			for (int slot = mix(key) & mask; used[slot]; slot = (slot + 1) & mask)
+				if (keys[slot] == key) return counts[slot];
+			return 0;
+		}
+
+		private void addAll(Counter other) {
+			for (int slot = 0; slot < other.used.length; slot++)
+				if (other.used[slot]) add(other.keys[slot], other.counts[slot]);
+		}
+
+		private long[] keys() {
+			long[] result = new long[size];
+			for (int slot = 0, i = 0; slot < used.length; slot++) if (used[slot]) result[i++] = keys[slot];
+			return result;
+		}
+
+		private void grow() {
+			long[] oldKeys = keys;
+			int[] oldCounts = counts;
+			boolean[] oldUsed = used;
+			keys = new long[oldUsed.length << 1];
+			counts = new int[oldUsed.length << 1];
+			used = new boolean[oldUsed.length << 1];
+			int mask = used.length - 1;
+			for (int old = 0; old < oldUsed.length; old++) {
+				if (!oldUsed[old]) continue;
+				int slot = mix(oldKeys[old]) & mask;
+				while (used[slot]) slot = (slot + 1) & mask;
+				used[slot] = true;
+				keys[slot] = oldKeys[old];
+				counts[slot] = oldCounts[old];
+			}
+		}
+	}
+}
@@ -0,0 +1,440 @@
+package net.tp.utils.classes;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.IntStream;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A lazy pipeline over an int-array: operations are recorded and run in a single fused pass when a result is requested,
+ * without an intermediate array per step.
+ * <p>
+ * {@link #slice(int, int)} and {@link #reverse()} before any filter only move the bounds or the direction of the pass over the source;
+ * filters and maps are applied element by element; a slice after a filter stops the pass as soon as it is complete.
+ * Without filters the size of the result is known and the output array is allocated exactly.
+ * In parallel mode the source is split in chunks processed concurrently, unless a slice follows a filter.
+ * <p>
+ * A pipeline is immutable: every operation returns a new pipeline and the source array is never modified.
+ * The functions should be stateless and free of side effects, since they may be applied in any order, concurrently,
+ * or not at all for elements that cannot reach the result.
+ *
+ * @author Tommaso Pastorelli
+ * @since 1.10.0
+ */
+@SuppressWarnings("unused")
+public final class IntSeq {
+	/**
+	 * The minimum number of elements split in chunks in parallel mode.
+	 */
+	private static final int PARALLEL_THRESHOLD = 1 << 14;
+	/**
+	 * The kinds of stage.
+	 */
+	private static final byte FILTER = 0, MAP = 1, SLICE = 2;
+	/**
+	 * No stages.
+	 */
+	private static final Stage[] NO_STAGES = new Stage[0];
+
+	/**
+	 * The source array.
+	 */
+	private final int[] array;
+	/**
+	 * The start of the source range, inclusive.
+	 */
+	private final int from;
+	/**
+	 * The end of the source range, exclusive.
+	 */
+	private final int to;
+	/**
+	 * Whether the source range is passed backwards.
+	 */
+	private final boolean backward;
+	/**
+	 * The filters, maps and slices applied to each element, in order.
+	 */
+	private final Stage[] stages;
+	/**
+	 * Whether the result is reversed after the pass, for a reverse following a slice after a filter.
+	 */
+	private final boolean reversed;
+	/**
+	 * Whether the pipeline runs in parallel.
+	 */
+	private final boolean parallel;
+
+	private IntSeq(int[] array, int from, int to, boolean backward, Stage[] stages, boolean reversed, boolean parallel) {
+		this.array = array;
+		this.from = from;
+		this.to = to;
+		this.backward = backward;
+		this.stages = stages;
+		this.reversed = reversed;
+		this.parallel = parallel;
+	}
+
+	/**
+	 * Creates a sequential pipeline over an int-array.
+	 * @param array the int-array; not null
+	 * @return the pipeline
+	 * @since 1.10.0
+	 */
+	public static IntSeq of(int[] array) {
+		return new IntSeq(requireNonNull(array), 0, array.length, false, NO_STAGES, false, false);
+	}
+
+	private IntSeq with(Stage stage) {
+		Stage[] next = Arrays.copyOf(stages, stages.length + 1);
+		next[stages.length] = stage;
+		return new IntSeq(array, from, to, backward, next, reversed, parallel);
+	}
+
+	private boolean hasFilters() {
+		for (Stage stage : stages)
+			if (stage.kind != MAP) return true;
+		return false;
+	}
+
+	private boolean hasSlices() {
+		for (Stage stage : stages)
+			if (stage.kind == SLICE) return true;
+		return false;
+	}
+
+	/**
+	 * Keeps the elements matching a predicate.
+	 * @param predicate the predicate; not null
+	 * @return the new pipeline
+	 * @since 1.10.0
+	 */
+	public IntSeq filter(IntPredicate predicate) {
+		return with(new Stage(FILTER, requireNonNull(predicate), null, 0, 0));
+	}
+
+	/**
+	 * Keeps the elements not matching a predicate, as {@code ArrayUtils.remove} does for a value.
+	 * @param predicate the predicate; not null
+	 * @return the new pipeline
+	 * @since 1.10.0
+	 */
+	public IntSeq remove(IntPredicate predicate) {
+		return filter(requireNonNull(predicate).negate());
+	}
+
+	/**
+	 * Replaces each element with the result of a function.
+	 * @param operator the function; not null
+	 * @return the new pipeline
+	 * @since 1.10.0
+	 */
+	public IntSeq map(IntUnaryOperator operator) {
+		return with(new Stage(MAP, null, requireNonNull(operator), 0, 0));
+	}
+
+	/**
+	 * Keeps a range of the elements, clamped as {@code ArrayUtils.subarray} does.
+	 * Slicing a pipeline that was reversed after a slice following a filter evaluates that pipeline first.
+	 * @param startIndex the start of the range, inclusive
+	 * @param endIndex the end of the range, exclusive
+	 * @return the new pipeline (empty if {@code endIndex <= startIndex})
+	 * @since 1.10.0
+	 */
+	public IntSeq slice(int startIndex, int endIndex) {
+		if (startIndex < 0) startIndex = 0;
+		if (endIndex < startIndex) endIndex = startIndex;
+		if (!hasFilters()) {
+			int length = to - from, start = Math.min(startIndex, length), end = Math.min(endIndex, length);
+			return backward
+					? new IntSeq(array, to - end, to - start, true, stages, false, parallel)
+					: new IntSeq(array, from + start, from + end, false, stages, false, parallel);
+		}
+		if (reversed) {
+			IntSeq materialized = of(toArray());
+			return (parallel ? materialized.parallel() : materialized).slice(startIndex, endIndex);
+		}
+		return with(new Stage(SLICE, null, null, startIndex, endIndex - startIndex));
+	}
+
+	/**
+	 * Reverses the order of the elements.
+	 * @return the new pipeline
+	 * @since 1.10.0
+	 */
+	public IntSeq reverse() {
+		if (hasSlices()) return new IntSeq(array, from, to, backward, stages, !reversed, parallel);
+		return new IntSeq(array, from, to, !backward, stages, false, parallel);
+	}
+
+	/**
+	 * @return a pipeline running in parallel
+	 * @since 1.10.0
+	 */
+	public IntSeq parallel() {
+		return new IntSeq(array, from, to, backward, stages, reversed, true);
+	}
+
+	/**
+	 * @return a pipeline running sequentially
+	 * @since 1.10.0
+	 */
+	public IntSeq sequential() {
+		return new IntSeq(array, from, to, backward, stages, reversed, false);
+	}
+
+	/**
+	 * @return whether the pipeline runs in parallel
+	 * @since 1.10.0
+	 */
+	public boolean isParallel() {
+		return parallel;
+	}
+
+	/**
+	 * Runs the pass over a range of positions of the source range.
+	 * @param low the first position, inclusive
+	 * @param high the last position, exclusive
+	 * @param sink the consumer of the resulting elements
+	 */
+	private void run(int low, int high, IntConsumer sink) {
+		long[] seen = hasSlices() ? new long[stages.length] : null;
+		elements:
+		for (int position = low; position < high; position++) {
+			int value = array[backward ? to - 1 - position : from + position];
+			for (int s = 0; s < stages.length; s++) {
+				Stage stage = stages[s];
+				switch (stage.kind) {
+					case FILTER -> {
+						if (!stage.predicate.test(value)) continue elements;
+					}
+					case MAP -> value = stage.operator.applyAsInt(value);
+					default -> {
+						long index = seen[s]++;
+						if (index >= stage.skip + stage.limit) return;
+						if (index < stage.skip) continue elements;
+					}
+				}
+			}
+			sink.accept(value);
+		}
+	}
+
+	/**
+	 * @return the maximum number of resulting elements
+	 */
+	private int upperBound() {
+		long bound = to - from;
+		for (Stage stage : stages)
+			if (stage.kind == SLICE) bound = Math.min(bound, stage.limit);
+		return (int) bound;
+	}
+
+	private boolean splits() {
+		return parallel && to - from >= PARALLEL_THRESHOLD && !hasSlices();
+	}
+
+	/**
+	 * @return the bounds of the chunks of the source range, for the parallel mode
+	 */
+	private int[] chunks() {
+		int length = to - from;
+		int count = Math.min(Runtime.getRuntime().availableProcessors() * 4, Math.max(1, length / (PARALLEL_THRESHOLD / 4)));
+		int[] bounds = new int[count + 1];
+		for (int i = 0; i <= count; i++) bounds[i] = (int) ((long) length * i / count);
+		return bounds;
+	}
+
+	/**
+	 * Runs the pipeline into a new int-array, allocated exactly if there are no filters.
+	 * @return the resulting elements
+	 * @since 1.10.0
+	 */
+	public int[] toArray() {
+		if (splits()) {
+			int[] bounds = chunks();
+			if (!hasFilters()) {
+				int[] out = new int[to - from];
+				IntStream.range(0, bounds.length - 1).parallel().forEach(c -> {
+					int[] position = {bounds[c]};
+					run(bounds[c], bounds[c + 1], value -> out[position[0]++] = value);
+				});
+				return out;
+			}
+			int[][] parts = new int[bounds.length - 1][];
+			IntStream.range(0, parts.length).parallel().forEach(c -> {
+				IntBuffer buffer = new IntBuffer(bounds[c + 1] - bounds[c]);
+				run(bounds[c], bounds[c + 1], buffer);
+				parts[c] = buffer.toArray();
+			});
+			int size = 0;
+			for (int[] part : parts) size += part.length;
+			int[] out = new int[size];
+			size = 0;
+			for (int[] part : parts) {
+				System.arraycopy(part, 0, out, size, part.length);
+				size += part.length;
+			}
+			return out;
+		}
+		IntBuffer buffer = new IntBuffer(upperBound());
+		run(0, to - from, buffer);
+		int[] out = buffer.toArray();
+		if (reversed) {
+			for (int i = 0, j = out.length - 1; i < j; i++, j--) {
+				int swap = out[i];
+				out[i] = out[j];
+				out[j] = swap;
+			}
+		}
+		return out;
+	}
+
+	/**
+	 * Runs the pipeline into a new String-array, converting each element as {@link String#valueOf(int)}
+	 * without an intermediate int-array when there are no filters.
+	 * @return the resulting elements, as strings
+	 * @since 1.10.0
+	 */
+	public String[] toStringArray() {
+		if (hasFilters()) {
+			int[] values = toArray();
+			String[] out = new String[values.length];
+			for (int i = 0; i < values.length; i++) out[i] = String.valueOf(values[i]);
+			return out;
+		}
+		String[] out = new String[to - from];
+		if (splits()) {
+			int[] bounds = chunks();
+			IntStream.range(0, bounds.length - 1).parallel().forEach(c -> {
+				int[] position = {bounds[c]};
+				run(bounds[c], bounds[c + 1], value -> out[position[0]++] = String.valueOf(value));
+			});
+		} else {
+			int[] position = {0};
+			run(0, to - from, value -> out[position[0]++] = String.valueOf(value));
+		}
+		return out;
+	}
+
+	/**
+	 * Counts the resulting elements; without filters, the functions are not applied.
+	 * @return the number of resulting elements
+	 * @since 1.10.0
+	 */
+	public int count() {
+		if (!hasFilters()) return to - from;
+		if (splits()) {
+			int[] bounds = chunks();
+			return IntStream.range(0, bounds.length - 1).parallel().map(c -> {
+				int[] count = {0};
+				run(bounds[c], bounds[c + 1], value -> count[0]++);
+				return count[0];
+			}).sum();
+		}
+		int[] count = {0};
+		run(0, to - from, value -> count[0]++);
+		return count[0];
+	}
+
+	/**
+	 * Sums the resulting elements.
+	 * @return the sum of the elements, as a long
+	 * @since 1.10.0
+	 */
+	public long sum() {
+		if (splits()) {
+			int[] bounds = chunks();
+			long[] sums = new long[bounds.length - 1];
+			IntStream.range(0, sums.length).parallel().forEach(c -> {
+				long[] sum = {0};
+				run(bounds[c], bounds[c + 1], value -> sum[0] += value);
+				sums[c] = sum[0];
+			});
+			long sum = 0;
+			for (long part : sums) sum += part;
+			return sum;
+		}
+		long[] sum = {0};
+		run(0, to - from, value -> sum[0] += value);
+		return sum[0];
+	}
+
+	/**
+	 * Runs the pipeline sequentially, passing each resulting element to an action, in order.
+	 * @param action the action; not null
+	 * @since 1.10.0
+	 */
+	public void forEach(IntConsumer action) {
+		requireNonNull(action);
+		if (!reversed) {
+			run(0, to - from, action);
+			return;
+		}
+		for (int value : toArray()) action.accept(value);
+	}
+
+	/**
+	 * A recorded filter, map or slice.
+	 */
+	private static final class Stage {
+		/**
+		 * The kind of stage.
+		 */
+		private final byte kind;
+		/**
+		 * The predicate of a filter.
+		 */
+		private final IntPredicate predicate;
+		/**
+		 * The function of a map.
+		 */
+		private final IntUnaryOperator operator;
+		/**
+		 * The elements skipped by a slice.
+		 */
+		private final long skip;
+		/**
+		 * The elements kept by a slice.
+		 */
+		private final long limit;
+
+		private Stage(byte kind, IntPredicate predicate, IntUnaryOperator operator, long skip, long limit) {
+			this.kind = kind;
+			this.predicate = predicate;
+			this.operator = operator;
+			this.skip = skip;
+			this.limit = limit;
+		}
+	}
+
+	/**
+	 * A bounded buffer collecting the resulting elements.
+	 */
+	private static final class IntBuffer implements IntConsumer {
+		/**
+		 * The elements.
+		 */
+		private final int[] values;
+		/**
+		 * The number of elements.
+		 */
+		private int size;
+
+		private IntBuffer(int capacity) {
+			this.values = new int[capacity];
+		}
+
+		@Override
+		public void accept(int value) {
+			values[size++] = value;
+		}
+
+		private int[] toArray() {
+			return size == values.length ? values : Arrays.copyOf(values, size);
+		}
+	}
+}
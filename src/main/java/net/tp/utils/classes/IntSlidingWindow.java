@@ -0,0 +1,200 @@
+package net.tp.utils.classes;
+
+import java.util.NoSuchElementException;
+
+/**
+ * The minimum, maximum, sum and mean of the last {@code window} int values added, updated in amortized constant time.
+ * <p>
+ * The values of the window are kept in a ring buffer, and the candidates for the minimum and the maximum
+ * in two monotonic deques, so each value is added and dropped at most once.
+ * The sum is kept as a {@code long}.
+ * Nothing is allocated after construction. The window is not thread-safe.
+ *
+ * @author Tommaso Pastorelli
+ * @since 1.10.0
+ */
+@SuppressWarnings("unused")
+public class IntSlidingWindow {
+	/**
+	 * The values of the window.
+	 */
+	private final IntRingBuffer values;
+	/**
+	 * The positions of the candidates for the minimum, increasing.
+	 */
+	private final LongRingBuffer minPositions;
+	/**
+	 * The candidates for the minimum, increasing.
+	 */
+	private final IntRingBuffer minValues;
+	/**
+	 * The positions of the candidates for the maximum, increasing.
+	 */
+	private final LongRingBuffer maxPositions;
+	/**
+	 * The candidates for the maximum, decreasing.
+	 */
+	private final IntRingBuffer maxValues;
+	/**
+	 * The sum of the values of the window.
+	 */
+	private long sum;
+	/**
+	 * The number of values added since the creation or the last clear.
+	 */
+	private long count;
+
+	/**
+	 * Creates an empty sliding window.
+	 * @param window the number of values of the window; positive
+	 * @throws IllegalArgumentException if the window is not positive
+	 * @since 1.10.0
+	 */
+	public IntSlidingWindow(int window) {
+		if (window <= 0) throw new IllegalArgumentException("Window must be positive.");
+		this.values = new IntRingBuffer(window);
+		this.minPositions = new LongRingBuffer(window);
+		this.minValues = new IntRingBuffer(window);
+		this.maxPositions = new LongRingBuffer(window);
+		this.maxValues = new IntRingBuffer(window);
+	}
+
+	/**
+	 * Adds a value, dropping the oldest one if the window is full.
+	 * @param value the value to add
+	 * @since 1.10.0
+	 */
+	public void add(int value) {
+		if (values.isFull()) sum -= values.getFirst();
+		values.put(value);
+		sum += value;
+		long position = count++;
+		long oldest = count - values.size();
+		while (!minPositions.isEmpty() && minPositions.getFirst() < oldest) {
+			minPositions.removeFirst();
+			minValues.removeFirst();
+		}
+		while (!minValues.isEmpty() && minValues.getLast() >= value) {
+			minPositions.removeLast();
+			minValues.removeLast();
+		}
+		minPositions.addLast(position);
+		minValues.addLast(value);
+		while (!maxPositions.isEmpty() && maxPositions.getFirst() < oldest) {
+			maxPositions.removeFirst();
+			maxValues.removeFirst();
+		}
+		while (!maxValues.isEmpty() && maxValues.getLast() <= value) {
+			maxPositions.removeLast();
+			maxValues.removeLast();
+		}
+		maxPositions.addLast(position);
+		maxValues.addLast(value);
+	}
+
+	/**
+	 * @return the minimum value of the window
+	 * @throws NoSuchElementException if the window is empty
+	 * @since 1.10.0
+	 */
+	public int min() {
+		checkNotEmpty();
+		return minValues.getFirst();
+	}
+
+	/**
+	 * @return the maximum value of the window
+	 * @throws NoSuchElementException if the window is empty
+	 * @since 1.10.0
+	 */
+	public int max() {
+		checkNotEmpty();
+		return maxValues.getFirst();
+	}
+
+	/**
+	 * @return the sum of the values of the window ({@code 0} if the window is empty)
+	 * @since 1.10.0
+	 */
+	public long sum() {
+		return sum;
+	}
+
+	/**
+	 * @return the mean of the values of the window
+	 * @throws NoSuchElementException if the window is empty
+	 * @since 1.10.0
+	 */
+	public double mean() {
+		checkNotEmpty();
+		return (double) sum / values.size();
+	}
+
+	/**
+	 * @return the oldest value of the window
+	 * @throws NoSuchElementException if the window is empty
+	 * @since 1.10.0
+	 */
+	public int first() {
+		return values.getFirst();
+	}
+
+	/**
+	 * @return the newest value of the window
+	 * @throws NoSuchElementException if the window is empty
+	 * @since 1.10.0
+	 */
+	public int last() {
+		return values.getLast();
+	}
+
+	/**
+	 * @return the number of values of the window
+	 * @since 1.10.0
+	 */
+	public int size() {
+		return values.size();
+	}
+
+	/**
+	 * @return the maximum number of values of the window
+	 * @since 1.10.0
+	 */
+	public int window() {
+		return values.capacity();
+	}
+
+	/**
+	 * @return {@code true} if the window holds {@code window} values, {@code false} otherwise
+	 * @since 1.10.0
+	 */
+	public boolean isFull() {
+		return values.isFull();
+	}
+
+	/**
+	 * @return the values of the window, from the oldest to the newest
+	 * @since 1.10.0
+	 */
+	public int[] toArray() {
+		return values.toArray();
+	}
+
+	/**
+	 * Removes all the values.
+	 * @since 1.10.0
+	 */
+	public void clear() {
+		values.clear();
+		minPositions.clear();
+		minValues.clear();
+		maxPositions.clear();
+		maxValues.clear();
+		sum = 0;
+		count = 0;
+	}
+
+	private void checkNotEmpty() {
+		if (values.isEmpty()) throw new NoSuchElementException("Window is empty.");
+	}
+}
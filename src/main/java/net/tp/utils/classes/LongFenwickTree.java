@@ -0,0 +1,208 @@
+package net.tp.utils.classes;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A Fenwick tree (binary indexed tree) of long values: point updates and prefix or range sums in logarithmic time.
+ * <p>
+ * The tree is built in linear time from an array, which is copied.
+ * Batch updates touching a large part of the values rebuild the tree in linear time
+ * instead of updating it element by element.
+ * Sums overflow as {@code long} arithmetic does.
+ * The tree is not thread-safe.
+ *
+ * @author Tommaso Pastorelli
+ * @since 1.10.0
+ */
+@SuppressWarnings("unused")
+public class LongFenwickTree {
+	/**
+	 * The values.
+	 */
+	private final long[] values;
+	/**
+	 * The partial sums: {@code tree[i]} is the sum of the values from {@code (i & (i + 1))} to {@code i}.
+	 */
+	private final long[] tree;
+
+	private LongFenwickTree(long[] values) {
+		this.values = values;
+		this.tree = new long[values.length];
+		build();
+	}
+
+	/**
+	 * Builds a Fenwick tree over the values of a long-array, in linear time.
+	 * @param values the long-array; not null
+	 * @return the Fenwick tree
+	 * @since 1.10.0
+	 */
+	public static LongFenwickTree of(long[] values) {
+		return new LongFenwickTree(requireNonNull(values).clone());
+	}
+
+	/**
+	 * Builds a Fenwick tree over the values of an int-array, in linear time.
+	 * @param values the int-array; not null
+	 * @return the Fenwick tree
+	 * @since 1.10.0
+	 */
+	public static LongFenwickTree of(int[] values) {
+		long[] copy = new long[requireNonNull(values).length];
+		for (int i = 0; i < copy.length; i++) copy[i] = values[i];
+		return new LongFenwickTree(copy);
+	}
+
+	/**
+	 * Creates a Fenwick tree of zeros.
+	 * @param size the number of values; non-negative
+	 * @return the Fenwick tree
+	 * @throws IllegalArgumentException if the size is negative
+	 * @since 1.10.0
+	 */
+	public static LongFenwickTree ofSize(int size) {
+		if (size < 0) throw new IllegalArgumentException("Size must be non-negative.");
+		return new LongFenwickTree(new long[size]);
+	}
+
+	private void build() {
+		int n = values.length;
+		System.arraycopy(values, 0, tree, 0, n);
+		for (int i = 0; i < n; i++) {
+			int parent = i | (i + 1);
+			if (parent < n) tree[parent] += tree[i];
+		}
+	}
+
+	private void checkIndex(int index) {
+		if (index < 0 || index >= values.length) throw new IndexOutOfBoundsException("Index: " + index + ", Length: " + values.length);
+	}
+
+	private void checkRange(int fromIndex, int toIndex) {
+		if (fromIndex < 0 || fromIndex > toIndex) throw new IndexOutOfBoundsException("Index: " + fromIndex + ", Length: " + values.length);
+		if (toIndex > values.length) throw new IndexOutOfBoundsException("Index: " + toIndex + ", Length: " + values.length);
+	}
+
+	/**
+	 * @return the number of values
+	 * @since 1.10.0
+	 */
+	public int size() {
+		return values.length;
+	}
+
+	/**
+	 * Returns a value.
+	 * @param index the index of the value
+	 * @return the value
+	 * @throws IndexOutOfBoundsException if the index is out of range
+	 * @since 1.10.0
+	 */
+	public long get(int index) {
+		checkIndex(index);
+		return values[index];
+	}
+
+	/**
+	 * Adds a delta to a value.
+	 * @param index the index of the value
+	 * @param delta the delta to add
+	 * @throws IndexOutOfBoundsException if the index is out of range
+	 * @since 1.10.0
+	 */
+	public void add(int index, long delta) {
+		checkIndex(index);
+		values[index] += delta;
+		for (int i = index; i < tree.length; i |= i + 1) tree[i] += delta;
+	}
+
+	/**
+	 * Replaces a value.
+	 * @param index the index of the value
+	 * @param value the new value
+	 * @throws IndexOutOfBoundsException if the index is out of range
+	 * @since 1.10.0
+	 */
+	public void set(int index, long value) {
+		checkIndex(index);
+		add(index, value - values[index]);
+		values[index] = value;
+	}
+
+	/**
+	 * Adds deltas to many values, rebuilding the tree if that is cheaper than updating it value by value.
+	 * @param indexes the indexes of the values; not null
+	 * @param deltas the delta to add to each value; not null, as long as {@code indexes}
+	 * @throws IllegalArgumentException if the arrays have different lengths
+	 * @throws IndexOutOfBoundsException if an index is out of range
+	 * @since 1.10.0
+	 */
+	public void addAll(int[] indexes, long[] deltas) {
+		if (requireNonNull(indexes).length != requireNonNull(deltas).length) throw new IllegalArgumentException("Indexes and deltas must have the same length.");
+		if (!rebuildCheaper(indexes.length)) {
+			for (int i = 0; i < indexes.length; i++) add(indexes[i], deltas[i]);
+			return;
+		}
+		for (int index : indexes) checkIndex(index);
+		for (int i = 0; i < indexes.length; i++) values[indexes[i]] += deltas[i];
+		build();
+	}
+
+	/**
+	 * Replaces many values, rebuilding the tree if that is cheaper than updating it value by value.
+	 * @param indexes the indexes of the values; not null
+	 * @param newValues the new value of each index; not null, as long as {@code indexes}
+	 * @throws IllegalArgumentException if the arrays have different lengths
+	 * @throws IndexOutOfBoundsException if an index is out of range
+	 * @since 1.10.0
+	 */
+	public void setAll(int[] indexes, long[] newValues) {
+		if (requireNonNull(indexes).length != requireNonNull(newValues).length) throw new IllegalArgumentException("Indexes and values must have the same length.");
+		if (!rebuildCheaper(indexes.length)) {
+			for (int i = 0; i < indexes.length; i++) set(indexes[i], newValues[i]);
+			return;
+		}
+		for (int index : indexes) checkIndex(index);
+		for (int i = 0; i < indexes.length; i++) values[indexes[i]] = newValues[i];
+		build();
+	}
+
+	private boolean rebuildCheaper(int updates) {
+		return (long) updates * (32 - Integer.numberOfLeadingZeros(values.length)) > values.length;
+	}
+
+	/**
+	 * Returns the sum of the first values.
+	 * @param toIndex the end of the prefix, exclusive
+	 * @return the sum of the values from {@code 0} (inclusive) to {@code toIndex} (exclusive)
+	 * @throws IndexOutOfBoundsException if {@code toIndex} is out of range
+	 * @since 1.10.0
+	 */
+	public long prefixSum(int toIndex) {
+		checkRange(0, toIndex);
+		long sum = 0;
+		for (int i = toIndex - 1; i >= 0; i = (i & (i + 1)) - 1) sum += tree[i];
+		return sum;
+	}
+
+	/**
+	 * Returns the sum of a range of values.
+	 * @param fromIndex the start of the range, inclusive
+	 * @param toIndex the end of the range, exclusive
+	 * @return the sum of the values of the range
+	 * @throws IndexOutOfBoundsException if the range is out of the values
+	 * @since 1.10.0
+	 */
+	public long sum(int fromIndex, int toIndex) {
+		checkRange(fromIndex, toIndex);
+		return prefixSum(toIndex) - prefixSum(fromIndex);
+	}
+
+	/**
+	 * @return a copy of the values
+	 * @since 1.10.0
+	 */
+	public long[] toArray() {
+		return values.clone();
+	}
+}
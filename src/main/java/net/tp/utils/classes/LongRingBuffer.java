@@ -0,0 +1,161 @@
+package net.tp.utils.classes;
+
+/**
+ * A fixed-capacity ring buffer of long values.
+ * <p>
+ * Elements are added and removed at both ends in constant time, indexed logically from the first one,
+ * and copied out in bulk; nothing is allocated after construction, except by {@link #toArray()}.
+ * {@link #put(long)} appends an element dropping the first one when the buffer is full, which makes the buffer a sliding window.
+ * The buffer is not thread-safe.
+ *
+ * @author Tommaso Pastorelli
+ * @since 1.10.0
+ */
+@SuppressWarnings("unused")
+public class LongRingBuffer extends AbstractRingBuffer {
+	/**
+	 * The circular array of the elements.
+	 */
+	private final long[] elements;
+
+	/**
+	 * Creates an empty ring buffer.
+	 * @param capacity the maximum number of elements; positive
+	 * @throws IllegalArgumentException if the capacity is not positive
+	 * @since 1.10.0
+	 */
+	public LongRingBuffer(int capacity) {
+		super(capacity);
+		this.elements = new long[capacity];
+	}
+
+	/**
+	 * Adds an element before the first one.
+	 * @param element the element to add
+	 * @throws IllegalStateException if the buffer is full
+	 * @since 1.10.0
+	 */
+	public void addFirst(long element) {
+		elements[addFirstSlot()] = element;
+	}
+
+	/**
+	 * Adds an element after the last one.
+	 * @param element the element to add
+	 * @throws IllegalStateException if the buffer is full
+	 * @since 1.10.0
+	 */
+	public void addLast(long element) {
+		elements[addLastSlot()] = element;
+	}
+
+	/**
+	 * Adds an element after the last one, dropping the first element if the buffer is full.
+	 * @param element the element to add
+	 * @since 1.10.0
+	 */
+	public void put(long element) {
+		elements[putSlot()] = element;
+	}
+
+	/**
+	 * Removes the first element.
+	 * @return the removed element
+	 * @throws java.util.NoSuchElementException if the buffer is empty
+	 * @since 1.10.0
+	 */
+	public long removeFirst() {
+		return elements[removeFirstSlot()];
+	}
+
+	/**
+	 * Removes the last element.
+	 * @return the removed element
+	 * @throws java.util.NoSuchElementException if the buffer is empty
+	 * @since 1.10.0
+	 */
+	public long removeLast() {
+		return elements[removeLastSlot()];
+	}
+
+	/**
+	 * @return the first element
+	 * @throws java.util.NoSuchElementException if the buffer is empty
+	 * @since 1.10.0
+	 */
+	public long getFirst() {
+		return elements[firstSlot()];
+	}
+
+	/**
+	 * @return the last element
+	 * @throws java.util.NoSuchElementException if the buffer is empty
+	 * @since 1.10.0
+	 */
+	public long getLast() {
+		return elements[lastSlot()];
+	}
+
+	/**
+	 * Returns the element at a logical index.
+	 * @param index the index of the element, from the first one
+	 * @return the element
+	 * @throws IndexOutOfBoundsException if the index is out of range
+	 * @since 1.10.0
+	 */
+	public long get(int index) {
+		return elements[checkedSlot(index)];
+	}
+
+	/**
+	 * Replaces the element at a logical index.
+	 * @param index the index of the element, from the first one
+	 * @param element the new element
+	 * @return the previous element
+	 * @throws IndexOutOfBoundsException if the index is out of range
+	 * @since 1.10.0
+	 */
+	public long set(int index, long element) {
+		int slot = checkedSlot(index);
+		long previous = elements[slot];
+		elements[slot] = element;
+		return previous;
+	}
+
+	/**
+	 * Copies a range of the elements into an array.
+	 * @param fromIndex the logical index of the first copied element
+	 * @param destination the destination long-array
+	 * @param destinationIndex the index of the first copied element in the destination
+	 * @param length the number of elements to copy
+	 * @throws IndexOutOfBoundsException if the range is out of the buffer or of the destination
+	 * @since 1.10.0
+	 */
+	public void copyTo(int fromIndex, long[] destination, int destinationIndex, int length) {
+		copy(elements, fromIndex, destination, destinationIndex, length);
+	}
+
+	/**
+	 * @return the elements, from the first to the last one
+	 * @since 1.10.0
+	 */
+	public long[] toArray() {
+		long[] result = new long[size];
+		copy(elements, 0, result, 0, size);
+		return result;
+	}
+
+	/**
+	 * @return the elements, from the first to the last one, as {@code [a, b, c]}
+	 * @since 1.10.0
+	 */
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder("[");
+		for (int i = 0; i < size; i++) {
+			if (i > 0) builder.append(", ");
+			builder.append(elements[slot(i)]);
+		}
+		return builder.append(']').toString();
+	}
+}
@@ -0,0 +1,151 @@
+package net.tp.utils.classes;
+
+import java.util.Arrays;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * An immutable, compressed int-array with random access.
+ * <p>
+ * The values are stored as a {@link PackedLongArray}: blocks of {@link #BLOCK_SIZE} elements with frame-of-reference
+ * bit-packing and patched exceptions, so sorted identifiers or small values take a few bits each.
+ * On sorted data, {@link #binarySearch(int)} and {@link #indexOf(int)} decode only the values they compare.
+ *
+ * @author Tommaso Pastorelli
+ * @since 1.10.0
+ */
+@SuppressWarnings("unused")
+public final class PackedIntArray {
+	/**
+	 * The number of values of a block.
+	 * @since 1.10.0
+	 */
+	public static final int BLOCK_SIZE = PackedLongArray.BLOCK_SIZE;
+
+	/**
+	 * The packed values.
+	 */
+	private final PackedLongArray packed;
+
+	private PackedIntArray(PackedLongArray packed) {
+		this.packed = packed;
+	}
+
+	/**
+	 * Compresses an int-array.
+	 * @param values the int-array; not null
+	 * @return the compressed array
+	 * @since 1.10.0
+	 */
+	public static PackedIntArray of(int[] values) {
+		return new PackedIntArray(PackedLongArray.of(requireNonNull(values)));
+	}
+
+	/**
+	 * @return the number of values
+	 * @since 1.10.0
+	 */
+	public int size() {
+		return packed.size();
+	}
+
+	/**
+	 * @return the number of blocks
+	 * @since 1.10.0
+	 */
+	public int blockCount() {
+		return packed.blockCount();
+	}
+
+	/**
+	 * @return whether the values are sorted in ascending order
+	 * @since 1.10.0
+	 */
+	public boolean isSorted() {
+		return packed.isSorted();
+	}
+
+	/**
+	 * @return the approximate number of bytes of the compressed data
+	 * @since 1.10.0
+	 */
+	public long sizeInBytes() {
+		return packed.sizeInBytes();
+	}
+
+	/**
+	 * Returns a value.
+	 * @param index the index of the value
+	 * @return the value
+	 * @throws IndexOutOfBoundsException if the index is out of range
+	 * @since 1.10.0
+	 */
+	public int get(int index) {
+		return (int) packed.get(index);
+	}
+
+	/**
+	 * Decodes a block.
+	 * @param block the index of the block
+	 * @param target the array to decode into, from index {@code 0}; not null, at least {@link #BLOCK_SIZE} long
+	 * @return the number of values of the block
+	 * @throws IndexOutOfBoundsException if the block is out of range or the target too short
+	 * @since 1.10.0
+	 */
+	public int decodeBlock(int block, int[] target) {
+		return packed.decodeBlock(block, requireNonNull(target), new long[BLOCK_SIZE]);
+	}
+
+	/**
+	 * Searches a value in the sorted values, decoding only the values compared.
+	 * @param key the value to search
+	 * @return the index of the value, if present; otherwise {@code -(insertion point) - 1}, as {@link Arrays#binarySearch(int[], int)}
+	 * @throws IllegalStateException if the values are not sorted
+	 * @since 1.10.0
+	 */
+	public int binarySearch(int key) {
+		return packed.binarySearch(key);
+	}
+
+	/**
+	 * Returns the index of the first occurrence of a value.
+	 * @param value the value to search
+	 * @return the index of the first occurrence, or {@code -1} if absent
+	 * @see PackedLongArray#indexOf(long)
+	 * @since 1.10.0
+	 */
+	public int indexOf(int value) {
+		return packed.indexOf(value);
+	}
+
+	/**
+	 * @param value the value to search
+	 * @return whether the value is present
+	 * @since 1.10.0
+	 */
+	public boolean contains(int value) {
+		return packed.indexOf(value) >= 0;
+	}
+
+	/**
+	 * @return the decoded values
+	 * @since 1.10.0
+	 */
+	public int[] toArray() {
+		int[] values = new int[size()];
+		int[] buffer = new int[BLOCK_SIZE];
+		long[] scratch = new long[BLOCK_SIZE];
+		for (int block = 0; block < packed.blockCount(); block++)
+			System.arraycopy(buffer, 0, values, block * BLOCK_SIZE, packed.decodeBlock(block, buffer, scratch));
+		return values;
+	}
+
+	/**
+	 * @return the decoded values, as {@link Arrays#toString(int[])}
+	 * @since 1.10.0
+	 */
+	@Override
+	public String toString() {
+		return Arrays.toString(toArray());
+	}
+}
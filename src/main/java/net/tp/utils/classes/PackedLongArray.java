@@ -0,0 +1,363 @@
+package net.tp.utils.classes;
+
+import java.util.Arrays;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * An immutable, compressed long-array with random access.
+ * <p>
+ * The values are split in blocks of {@link #BLOCK_SIZE} elements and each block is stored with frame-of-reference bit-packing:
+ * the minimum of the block is kept as base and every value as its offset from the base, in a fixed number of bits.
+ * The bit width of a block is chosen to minimize its size, and the few values too large for it are stored as exceptions
+ * (a patched frame of reference): their low bits stay in the packed slot and their high bits are kept apart.
+ * <p>
+ * Single values are read in constant time; whole blocks are decoded by a branch-free loop.
+ * On sorted data, {@link #binarySearch(long)} and {@link #indexOf(long)} locate the block from the bases
+ * and search inside it without decoding anything else.
+ *
+ * @author Tommaso Pastorelli
+ * @since 1.10.0
+ */
+@SuppressWarnings("unused")
+public final class PackedLongArray {
+	/**
+	 * The number of values of a block.
+	 * @since 1.10.0
+	 */
+	public static final int BLOCK_SIZE = 128;
+	/**
+	 * The bits of an exception: its position and its high bits.
+	 */
+	private static final int EXCEPTION_BITS = Byte.SIZE + Long.SIZE;
+
+	/**
+	 * The number of values.
+	 */
+	private final int size;
+	/**
+	 * The base (minimum) of each block.
+	 */
+	private final long[] bases;
+	/**
+	 * The bit width of each block.
+	 */
+	private final byte[] widths;
+	/**
+	 * The first word of each block.
+	 */
+	private final int[] wordOffsets;
+	/**
+	 * The packed offsets, followed by two padding words for the branch-free reads.
+	 */
+	private final long[] words;
+	/**
+	 * The first exception of each block, followed by the number of exceptions.
+	 */
+	private final int[] exceptionOffsets;
+	/**
+	 * The position in its block of each exception, ascending per block.
+	 */
+	private final byte[] exceptionPositions;
+	/**
+	 * The high bits of each exception.
+	 */
+	private final long[] exceptionHighs;
+	/**
+	 * Whether the values are sorted in ascending order.
+	 */
+	private final boolean sorted;
+
+	private PackedLongArray(long[] values) {
+		this.size = values.length;
+		int blocks = (size + BLOCK_SIZE - 1) / BLOCK_SIZE;
+		this.bases = new long[blocks];
+		this.widths = new byte[blocks];
+		this.wordOffsets = new int[blocks];
+		this.exceptionOffsets = new int[blocks + 1];
+		boolean ascending = true;
+		for (int i = 1; i < size && ascending; i++) ascending = values[i - 1] <= values[i];
+		this.sorted = ascending;
+
+		int words = 0, exceptions = 0;
+		int[] bitCounts = new int[Long.SIZE + 1];
+		for (int block = 0; block < blocks; block++) {
+			int from = block * BLOCK_SIZE, to = Math.min(from + BLOCK_SIZE, size);
+			long base = values[from];
+			for (int i = from + 1; i < to; i++) base = Math.min(base, values[i]);
+			Arrays.fill(bitCounts, 0);
+			for (int i = from; i < to; i++) bitCounts[Long.SIZE - Long.numberOfLeadingZeros(values[i] - base)]++;
+			int width = bestWidth(bitCounts, to - from);
+			bases[block] = base;
+			widths[block] = (byte) width;
+			wordOffsets[block] = words;
+			words += (int) (((long) (to - from) * width + Long.SIZE - 1) >>> 6);
+			for (int bits = width + 1; bits <= Long.SIZE; bits++) exceptions += bitCounts[bits];
+		}
+
+		this.words = new long[words + 2];
+		this.exceptionPositions = new byte[exceptions];
+		this.exceptionHighs = new long[exceptions];
+		int exception = 0;
+		for (int block = 0; block < blocks; block++) {
+			exceptionOffsets[block] = exception;
+			int from = block * BLOCK_SIZE, to = Math.min(from + BLOCK_SIZE, size), width = widths[block];
+			long base = bases[block], mask = mask(width);
+			for (int i = from; i < to; i++) {
+				long offset = values[i] - base;
+				long bit = (long) (i - from) * width;
+				int word = wordOffsets[block] + (int) (bit >>> 6), shift = (int) (bit & 63);
+				this.words[word] |= (offset & mask) << shift;
+				if (shift + width > Long.SIZE) this.words[word + 1] |= (offset & mask) >>> (Long.SIZE - shift);
+				if (width < Long.SIZE && offset >>> width != 0) {
+					exceptionPositions[exception] = (byte) (i - from);
+					exceptionHighs[exception++] = offset >>> width;
+				}
+			}
+		}
+		exceptionOffsets[blocks] = exception;
+	}
+
+	/**
+	 * Chooses the bit width minimizing the size of a block.
+	 * @param bitCounts the number of values needing each number of bits
+	 * @param length the number of values of the block
+	 * @return the bit width
+	 */
+	private static int bestWidth(int[] bitCounts, int length) {
+		int best = Long.SIZE, larger = 0;
+		long bestCost = (long) length * Long.SIZE;
+		for (int width = Long.SIZE - 1; width >= 0; width--) {
+			larger += bitCounts[width + 1];
+			long cost = (long) length * width + (long) larger * EXCEPTION_BITS;
+			if (cost <= bestCost) {
+				best = width;
+				bestCost = cost;
+			}
+		}
+		return best;
+	}
+
+	private static long mask(int width) {
+		return width == Long.SIZE ? -1L : (1L << width) - 1;
+	}
+
+	/**
+	 * Compresses a long-array.
+	 * @param values the long-array; not null
+	 * @return the compressed array
+	 * @since 1.10.0
+	 */
+	public static PackedLongArray of(long[] values) {
+		return new PackedLongArray(requireNonNull(values));
+	}
+
+	/**
+	 * Compresses an int-array.
+	 * @param values the int-array; not null
+	 * @return the compressed array
+	 * @since 1.10.0
+	 */
+	public static PackedLongArray of(int[] values) {
+		long[] copy = new long[requireNonNull(values).length];
+		for (int i = 0; i < copy.length; i++) copy[i] = values[i];
+		return new PackedLongArray(copy);
+	}
+
+	/**
+	 * @return the number of values
+	 * @since 1.10.0
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * @return the number of blocks
+	 * @since 1.10.0
+	 */
+	public int blockCount() {
+		return bases.length;
+	}
+
+	/**
+	 * @return whether the values are sorted in ascending order
+	 * @since 1.10.0
+	 */
+	public boolean isSorted() {
+		return sorted;
+	}
+
+	/**
+	 * @return the approximate number of bytes of the compressed data
+	 * @since 1.10.0
+	 */
+	public long sizeInBytes() {
+		return (long) bases.length * (Long.BYTES + 1 + 2 * Integer.BYTES) + (long) words.length * Long.BYTES
+				+ (long) exceptionPositions.length * (1 + Long.BYTES);
+	}
+
+	/**
+	 * Reads the low bits of a value of a block.
+	 * @param block the block
+	 * @param position the position of the value in the block
+	 * @return the packed bits
+	 */
+	private long packed(int block, int position) {
+		int width = widths[block];
+		long bit = (long) position * width;
+		int word = wordOffsets[block] + (int) (bit >>> 6), shift = (int) (bit & 63);
+		return ((words[word] >>> shift) | ((words[word + 1] << 1) << (63 - shift))) & mask(width);
+	}
+
+	/**
+	 * Reads a value of a block.
+	 * @param block the block
+	 * @param position the position of the value in the block
+	 * @return the value
+	 */
+	private long value(int block, int position) {
+		long offset = packed(block, position);
+		int from = exceptionOffsets[block], to = exceptionOffsets[block + 1];
+		if (from != to) {
+			int exception = Arrays.binarySearch(exceptionPositions, from, to, (byte) position);
+			if (exception >= 0) offset |= exceptionHighs[exception] << widths[block];
+		}
+		return bases[block] + offset;
+	}
+
+	private int blockLength(int block) {
+		return Math.min(BLOCK_SIZE, size - block * BLOCK_SIZE);
+	}
+
+	/**
+	 * Returns a value.
+	 * @param index the index of the value
+	 * @return the value
+	 * @throws IndexOutOfBoundsException if the index is out of range
+	 * @since 1.10.0
+	 */
+	public long get(int index) {
+		if (index < 0 || index >= size) throw new IndexOutOfBoundsException("Index: " + index + ", Length: " + size);
+		return value(index / BLOCK_SIZE, index % BLOCK_SIZE);
+	}
+
+	/**
+	 * Decodes a block.
+	 * @param block the index of the block
+	 * @param target the array to decode into, from index {@code 0}; not null, at least {@link #BLOCK_SIZE} long
+	 * @return the number of values of the block
+	 * @throws IndexOutOfBoundsException if the block is out of range or the target too short
+	 * @since 1.10.0
+	 */
+	public int decodeBlock(int block, long[] target) {
+		if (block < 0 || block >= bases.length) throw new IndexOutOfBoundsException("Index: " + block + ", Length: " + bases.length);
+		int length = blockLength(block);
+		if (requireNonNull(target).length < length) throw new IndexOutOfBoundsException("Index: " + length + ", Length: " + target.length);
+		int width = widths[block], first = wordOffsets[block];
+		long base = bases[block], mask = mask(width);
+		for (int position = 0; position < length; position++) {
+			long bit = (long) position * width;
+			int word = first + (int) (bit >>> 6), shift = (int) (bit & 63);
+			target[position] = base + (((words[word] >>> shift) | ((words[word + 1] << 1) << (63 - shift))) & mask);
+		}
+		for (int exception = exceptionOffsets[block]; exception < exceptionOffsets[block + 1]; exception++)
+			target[exceptionPositions[exception]] += exceptionHighs[exception] << width;
+		return length;
+	}
+
+	/**
+	 * Decodes a block into an int-array; used by {@link PackedIntArray}, whose values fit an int.
+	 * @param block the index of the block
+	 * @param target the array to decode into
+	 * @param scratch a long-array of at least {@link #BLOCK_SIZE} elements
+	 * @return the number of values of the block
+	 */
+	int decodeBlock(int block, int[] target, long[] scratch) {
+		int length = decodeBlock(block, scratch);
+		if (target.length < length) throw new IndexOutOfBoundsException("Index: " + length + ", Length: " + target.length);
+		for (int i = 0; i < length; i++) target[i] = (int) scratch[i];
+		return length;
+	}
+
+	/**
+	 * Searches a value in the sorted values, decoding only the values compared.
+	 * @param key the value to search
+	 * @return the index of the value, if present; otherwise {@code -(insertion point) - 1}, as {@link Arrays#binarySearch(long[], long)}
+	 * @throws IllegalStateException if the values are not sorted
+	 * @since 1.10.0
+	 */
+	public int binarySearch(long key) {
+		if (!sorted) throw new IllegalStateException("Values are not sorted.");
+		int low = 0, high = bases.length - 1;
+		while (low <= high) {
+			int middle = (low + high) >>> 1;
+			if (bases[middle] < key) low = middle + 1;
+			else high = middle - 1;
+		}
+		int block = Math.max(high, 0), length = bases.length == 0 ? 0 : blockLength(block);
+		low = 0;
+		high = length;
+		while (low < high) {
+			int middle = (low + high) >>> 1;
+			if (value(block, middle) < key) low = middle + 1;
+			else high = middle;
+		}
+		int index = block * BLOCK_SIZE + low;
+		if (index < size && get(index) == key) return index;
+		return -index - 1;
+	}
+
+	/**
+	 * Returns the index of the first occurrence of a value.
+	 * Sorted values are searched with {@link #binarySearch(long)}; the others are decoded block by block,
+	 * skipping the blocks whose base is greater than the value.
+	 * @param value the value to search
+	 * @return the index of the first occurrence, or {@code -1} if absent
+	 * @since 1.10.0
+	 */
+	public int indexOf(long value) {
+		if (sorted) {
+			int index = binarySearch(value);
+			return index >= 0 ? index : -1;
+		}
+		long[] buffer = new long[BLOCK_SIZE];
+		for (int block = 0; block < bases.length; block++) {
+			if (bases[block] > value) continue;
+			int length = decodeBlock(block, buffer);
+			for (int i = 0; i < length; i++)
+				if (buffer[i] == value) return block * BLOCK_SIZE + i;
+		}
+		return -1;
+	}
+
+	/**
+	 * @param value the value to search
+	 * @return whether the value is present
+	 * @since 1.10.0
+	 */
+	public boolean contains(long value) {
+		return indexOf(value) >= 0;
+	}
+
+	/**
+	 * @return the decoded values
+	 * @since 1.10.0
+	 */
+	public long[] toArray() {
+		long[] values = new long[size];
+		long[] buffer = new long[BLOCK_SIZE];
+		for (int block = 0; block < bases.length; block++)
+			System.arraycopy(buffer, 0, values, block * BLOCK_SIZE, decodeBlock(block, buffer));
+		return values;
+	}
+
+	/**
+	 * @return the decoded values, as {@link Arrays#toString(long[])}
+	 * @since 1.10.0
+	 */
+	@Override
+	public String toString() {
+		return Arrays.toString(toArray());
+	}
+}
@@ -0,0 +1,77 @@
+package net.tp.utils.classes;
+
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+/**
+ * A fixed-size {@link java.util.List} view over a range of a primitive array.
+ * <p>
+ * The view does not copy the array: an element is boxed only when it is read through {@link #get(int)},
+ * and writes through {@link #set(int, Object)} go straight to the array.
+ * The subclasses add primitive accessors and bulk copies which never box.
+ * Structural modifications ({@code add}, {@code remove}, {@code clear}) are not supported.
+ *
+ * @param <E> the wrapper type of the elements
+ * @author Tommaso Pastorelli
+ * @since 1.10.0
+ */
+@SuppressWarnings("unused")
+public abstract class PrimitiveListView<E> extends AbstractList<E> implements RandomAccess {
+	/**
+	 * The index in the array of the first element of the view.
+	 */
+	final int offset;
+	/**
+	 * The number of elements of the view.
+	 */
+	final int size;
+
+	PrimitiveListView(int length, int fromIndex, int toIndex) {
+		checkRange(length, fromIndex, toIndex);
+		this.offset = fromIndex;
+		this.size = toIndex - fromIndex;
+	}
+
+	/**
+	 * Checks a range of a sequence.
+	 * @param length the length of the sequence
+	 * @param fromIndex the start of the range, inclusive
+	 * @param toIndex the end of the range, exclusive
+	 * @throws IndexOutOfBoundsException if the range is out of the sequence
+	 */
+	static void checkRange(int length, int fromIndex, int toIndex) {
+		if (fromIndex < 0 || fromIndex > length) throw new IndexOutOfBoundsException("Index: " + fromIndex + ", Length: " + length);
+		if (toIndex < fromIndex || toIndex > length) throw new IndexOutOfBoundsException("Index: " + toIndex + ", Length: " + length);
+	}
+
+	/**
+	 * Returns the index in the array of an element of the view.
+	 * @param index the index in the view
+	 * @return the index in the array
+	 * @throws IndexOutOfBoundsException if the index is out of the view
+	 */
+	int arrayIndex(int index) {
+		if (index < 0 || index >= size) throw new IndexOutOfBoundsException("Index: " + index + ", Length: " + size);
+		return offset + index;
+	}
+
+	/**
+	 * @return the number of elements of the view
+	 * @since 1.10.0
+	 */
+	@Override
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Returns a view over a range of this view, backed by the same array.
+	 * @param fromIndex the start of the range, inclusive
+	 * @param toIndex the end of the range, exclusive
+	 * @return the view over the range
+	 * @throws IndexOutOfBoundsException if the range is out of the view
+	 * @since 1.10.0
+	 */
+	@Override
+	public abstract PrimitiveListView<E> subList(int fromIndex, int toIndex);
+}
@@ -0,0 +1,854 @@
+package net.tp.utils.classes;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A compiled subarray pattern, reusable across many arrays.
+ * <p>
+ * The preprocessing of the pattern (a Boyer-Moore-Horspool shift table) is done once,
+ * so searching the same pattern in many arrays does not pay it again.
+ * Short patterns are searched with a first-element filter instead.
+ * <p>
+ * The pattern compares elements by value, so a pattern compiled from a {@code byte[]} can also be searched in an {@code int[]}.
+ * Char sequences are searched in place, never copied to a {@link String}: patterns compiled from chars use the own
+ * {@code indexOf} of {@link String}, {@link StringBuilder} and {@link StringBuffer}, which work on their backing array,
+ * and any other char sequence is read through {@link CharSequence#charAt(int)}.
+ * Occurrences returned by {@link #indexesIn(byte[])} and counted by {@link #countIn(byte[])} do not overlap.
+ * An empty pattern is never found.
+ *
+ * @author Tommaso Pastorelli
+ * @since 1.10.0
+ */
+@SuppressWarnings("unused")
+public class SearchPattern {
+	/**
+	 * The minimum pattern length for which the Horspool shift table is used.
+	 */
+	private static final int HORSPOOL_THRESHOLD = 4;
+	/**
+	 * The number of buckets of the shift tables.
+	 */
+	private static final int BUCKETS = 256;
+	/**
+	 * The index value indicating that the pattern was not found.
+	 */
+	private static final int INDEX_NOT_FOUND = -1;
+
+	/**
+	 * The pattern elements, widened to {@code long}.
+	 */
+	private final long[] pattern;
+	/**
+	 * The forward shift table (indexed by the bucket of the last element of the window), {@code null} for short patterns.
+	 */
+	private final int[] shift;
+	/**
+	 * The backward shift table (indexed by the bucket of the first element of the window), {@code null} for short patterns.
+	 */
+	private final int[] backShift;
+	/**
+	 * The pattern as a string, if compiled from chars, for the search in strings and string builders; otherwise {@code null}.
+	 */
+	private final String string;
+
+	private SearchPattern(long[] pattern, String string) {
+		this.pattern = pattern;
+		this.string = string;
+		int m = pattern.length;
+		if (m >= HORSPOOL_THRESHOLD) {
+			shift = new int[BUCKETS];
+			backShift = new int[BUCKETS];
+			Arrays.fill(shift, m);
+			Arrays.fill(backShift, m);
+			for (int j = 0; j < m - 1; j++) shift[bucket(pattern[j])] = m - 1 - j;
+			for (int j = m - 1; j > 0; j--) backShift[bucket(pattern[j])] = j;
+		} else {
+			shift = null;
+			backShift = null;
+		}
+	}
+
+	/**
+	 * Returns the bucket of a value. Colliding values share the smallest shift, which keeps the search exact.
+	 * @param value the value
+	 * @return the bucket of the value
+	 */
+	private static int bucket(long value) {
+		return (int) (value ^ (value >>> 8) ^ (value >>> 32)) & (BUCKETS - 1);
+	}
+
+	/**
+	 * Compiles a byte-array pattern.
+	 * @param pattern the pattern; not null
+	 * @return the compiled pattern
+	 * @since 1.10.0
+	 */
+	public static SearchPattern of(byte[] pattern) {
+		long[] widened = new long[requireNonNull(pattern).length];
+		for (int i = 0; i < pattern.length; i++) widened[i] = pattern[i];
+		return new SearchPattern(widened, null);
+	}
+
+	/**
+	 * Compiles a short-array pattern.
+	 * @param pattern the pattern; not null
+	 * @return the compiled pattern
+	 * @since 1.10.0
+	 */
+	public static SearchPattern of(short[] pattern) {
+		long[] widened = new long[requireNonNull(pattern).length];
+		for (int i = 0; i < pattern.length; i++) widened[i] = pattern[i];
+		return new SearchPattern(widened, null);
+	}
+
+	/**
+	 * Compiles a char-array pattern.
+	 * @param pattern the pattern; not null
+	 * @return the compiled pattern
+	 * @since 1.10.0
+	 */
+	public static SearchPattern of(char[] pattern) {
+		long[] widened = new long[requireNonNull(pattern).length];
+		for (int i = 0; i < pattern.length; i++) widened[i] = pattern[i];
+		return new SearchPattern(widened, new String(pattern));
+	}
+
+	/**
+	 * Compiles a char sequence pattern.
+	 * @param pattern the pattern; not null
+	 * @return the compiled pattern
+	 * @since 1.10.0
+	 */
+	public static SearchPattern of(CharSequence pattern) {
+		String string = requireNonNull(pattern).toString();
+		long[] widened = new long[string.length()];
+		for (int i = 0; i < widened.length; i++) widened[i] = string.charAt(i);
+		return new SearchPattern(widened, string);
+	}
+
+	/**
+	 * Compiles an int-array pattern.
+	 * @param pattern the pattern; not null
+	 * @return the compiled pattern
+	 * @since 1.10.0
+	 */
+	public static SearchPattern of(int[] pattern) {
+		long[] widened = new long[requireNonNull(pattern).length];
+		for (int i = 0; i < pattern.length; i++) widened[i] = pattern[i];
+		return new SearchPattern(widened, null);
+	}
+
+	/**
+	 * Compiles a long-array pattern.
+	 * @param pattern the pattern; not null
+	 * @return the compiled pattern
+	 * @since 1.10.0
+	 */
+	public static SearchPattern of(long[] pattern) {
+		return new SearchPattern(requireNonNull(pattern).clone(), null);
+	}
+
+	/**
+	 * @return the length of the pattern
+	 * @since 1.10.0
+	 */
+	public int length() {
+		return pattern.length;
+	}
+
+	/**
+	 * Returns the index of the first occurrence of the pattern in the byte-array.
+	 * @param array the array to search in
+	 * @return the index of the first occurrence, or {@code -1} if the pattern is not present
+	 * @since 1.10.0
+	 */
+	public int indexIn(byte[] array) {
+		return indexIn(array, 0);
+	}
+
+	/**
+	 * Returns the index of the first occurrence of the pattern in the byte-array starting from a specified index.
+	 * @param array the array to search in
+	 * @param fromIndex the index to start the search from
+	 * @return the index of the first occurrence, or {@code -1} if the pattern is not present
+	 * @since 1.10.0
+	 */
+	public int indexIn(byte[] array, int fromIndex) {
+		int m = pattern.length;
+		if (isNull(array) || m == 0) return INDEX_NOT_FOUND;
+		if (fromIndex < 0) fromIndex = 0;
+		int last = array.length - m;
+		long first = pattern[0];
+		if (isNull(shift)) {
+			for (int i = fromIndex; i <= last; i++) {
+				if (array[i] != first) continue;
+				int j = 1;
+				while (j < m && array[i + j] == pattern[j]) j++;
+				if (j == m) return i;
+			}
+		} else {
+			long tail = pattern[m - 1];
+			for (int i = fromIndex; i <= last; ) {
+				byte c = array[i + m - 1];
+				if (c == tail) {
+					int j = 0;
+					while (j < m - 1 && array[i + j] == pattern[j]) j++;
+					if (j == m - 1) return i;
+				}
+				i += shift[bucket(c)];
+			}
+		}
+		return INDEX_NOT_FOUND;
+	}
+
+	/**
+	 * Returns the index of the last occurrence of the pattern in the byte-array.
+	 * @param array the array to search in
+	 * @return the index of the last occurrence, or {@code -1} if the pattern is not present
+	 * @since 1.10.0
+	 */
+	public int lastIndexIn(byte[] array) {
+		return lastIndexIn(array, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Returns the index of the last occurrence of the pattern in the byte-array searching backward from a specified index.
+	 * @param array the array to search in
+	 * @param fromIndex the index to start the backward search from
+	 * @return the index of the last occurrence, or {@code -1} if the pattern is not present
+	 * @since 1.10.0
+	 */
+	public int lastIndexIn(byte[] array, int fromIndex) {
+		int m = pattern.length;
+		if (isNull(array) || m == 0) return INDEX_NOT_FOUND;
+		long first = pattern[0];
+		for (int i = Math.min(fromIndex, array.length - m); i >= 0; ) {
+			byte c = array[i];
+			if (c == first) {
+				int j = 1;
+				while (j < m && array[i + j] == pattern[j]) j++;
+				if (j == m) return i;
+			}
+			i -= isNull(backShift) ? 1 : backShift[bucket(c)];
+		}
+		return INDEX_NOT_FOUND;
+	}
+
+	/**
+	 * Returns the indexes of the non-overlapping occurrences of the pattern in the byte-array.
+	 * @param array the array to search in
+	 * @return the indexes of the occurrences
+	 * @since 1.10.0
+	 */
+	public int[] indexesIn(byte[] array) {
+		int[] indexes = new int[8];
+		int count = 0;
+		for (int i = indexIn(array, 0); i != INDEX_NOT_FOUND; i = indexIn(array, i + pattern.length)) {
+			if (count == indexes.length) indexes = Arrays.copyOf(indexes, count << 1);
+			indexes[count++] = i;
+		}
+		return Arrays.copyOf(indexes, count);
+	}
+
+	/**
+	 * Counts the non-overlapping occurrences of the pattern in the byte-array.
+	 * @param array the array to search in
+	 * @return the number of occurrences
+	 * @since 1.10.0
+	 */
+	public int countIn(byte[] array) {
+		int count = 0;
+		for (int i = indexIn(array, 0); i != INDEX_NOT_FOUND; i = indexIn(array, i + pattern.length)) count++;
+		return count;
+	}
+
+	/**
+	 * Returns the index of the first occurrence of the pattern in the short-array.
+	 * @param array the array to search in
+	 * @return the index of the first occurrence, or {@code -1} if the pattern is not present
+	 * @since 1.10.0
+	 */
+	public int indexIn(short[] array) {
+		return indexIn(array, 0);
+	}
+
+	/**
+	 * Returns the index of the first occurrence of the pattern in the short-array starting from a specified index.
+	 * @param array the array to search in
+	 * @param fromIndex the index to start the search from
+	 * @return the index of the first occurrence, or {@code -1} if the pattern is not present
+	 * @since 1.10.0
+	 */
+	public int indexIn(short[] array, int fromIndex) {
+		int m = pattern.length;
+		if (isNull(array) || m == 0) return INDEX_NOT_FOUND;
+		if (fromIndex < 0) fromIndex = 0;
+		int last = array.length - m;
+		long first = pattern[0];
+		if (isNull(shift)) {
+			for (int i = fromIndex; i <= last; i++) {
+				if (array[i] != first) continue;
+				int j = 1;
+				while (j < m && array[i + j] == pattern[j]) j++;
+				if (j == m) return i;
+			}
+		} else {
+			long tail = pattern[m - 1];
+			for (int i = fromIndex; i <= last; ) {
+				short c = array[i + m - 1];
+				if (c == tail) {
+					int j = 0;
+					while (j < m - 1 && array[i + j] == pattern[j]) j++;
+					if (j == m - 1) return i;
+				}
+				i += shift[bucket(c)];
+			}
+		}
+		return INDEX_NOT_FOUND;
+	}
+
+	/**
+	 * Returns the index of the last occurrence of the pattern in the short-array.
+	 * @param array the array to search in
+	 * @return the index of the last occurrence, or {@code -1} if the pattern is not present
+	 * @since 1.10.0
+	 */
+	public int lastIndexIn(short[] array) {
+		return lastIndexIn(array, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Returns the index of the last occurrence of the pattern in the short-array searching backward from a specified index.
+	 * @param array the array to search in
+	 * @param fromIndex the index to start the backward search from
+	 * @return the index of the last occurrence, or {@code -1} if the pattern is not present
+	 * @since 1.10.0
+	 */
+	public int lastIndexIn(short[] array, int fromIndex) {
+		int m = pattern.length;
+		if (isNull(array) || m == 0) return INDEX_NOT_FOUND;
+		long first = pattern[0];
+		for (int i = Math.min(fromIndex, array.length - m); i >= 0; ) {
+			short c = array[i];
+			if (c == first) {
+				int j = 1;
+				while (j < m && array[i + j] == pattern[j]) j++;
+				if (j == m) return i;
+			}
+			i -= isNull(backShift) ? 1 : backShift[bucket(c)];
+		}
+		return INDEX_NOT_FOUND;
+	}
+
+	/**
+	 * Returns the indexes of the non-overlapping occurrences of the pattern in the short-array.
+	 * @param array the array to search in
+	 * @return the indexes of the occurrences
+	 * @since 1.10.0
+	 */
+	public int[] indexesIn(short[] array) {
+		int[] indexes = new int[8];
+		int count = 0;
+		for (int i = indexIn(array, 0); i != INDEX_NOT_FOUND; i = indexIn(array, i + pattern.length)) {
+			if (count == indexes.length) indexes = Arrays.copyOf(indexes, count << 1);
+			indexes[count++] = i;
+		}
+		return Arrays.copyOf(indexes, count);
+	}
+
+	/**
+	 * Counts the non-overlapping occurrences of the pattern in the short-array.
+	 * @param array the array to search in
+	 * @return the number of occurrences
+	 * @since 1.10.0
+	 */
+	public int countIn(short[] array) {
+		int count = 0;
+		for (int i = indexIn(array, 0); i != INDEX_NOT_FOUND; i = indexIn(array, i + pattern.length)) count++;
+		return count;
+	}
+
+	/**
+	 * Returns the index of the first occurrence of the pattern in the char-array.
+	 * @param array the array to search in
+	 * @return the index of the first occurrence, or {@code -1} if the pattern is not present
+	 * @since 1.10.0
+	 */
+	public int indexIn(char[] array) {
+		return indexIn(array, 0);
+	}
+
+	/**
+	 * Returns the index of the first occurrence of the pattern in the char-array starting from a specified index.
+	 * @param array the array to search in
+	 * @param fromIndex the index to start the search from
+	 * @return the index of the first occurrence, or {@code -1} if the pattern is not present
+	 * @since 1.10.0
+	 */
+	public int indexIn(char[] array, int fromIndex) {
+		int m = pattern.length;
+		if (isNull(array) || m == 0) return INDEX_NOT_FOUND;
+		if (fromIndex < 0) fromIndex = 0;
+		int last = array.length - m;
+		long first = pattern[0];
+		if (isNull(shift)) {
+			for (int i = fromIndex; i <= last; i++) {
+				if (array[i] != first) continue;
+				int j = 1;
+				while (j < m && array[i + j] == pattern[j]) j++;
+				if (j == m) return i;
+			}
+		} else {
+			long tail = pattern[m - 1];
+			for (int i = fromIndex; i <= last; ) {
+				char c = array[i + m - 1];
+				if (c == tail) {
+					int j = 0;
+					while (j < m - 1 && array[i + j] == pattern[j]) j++;
+					if (j == m - 1) return i;
+				}
+				i += shift[bucket(c)];
+			}
+		}
+		return INDEX_NOT_FOUND;
+	}
+
+	/**
+	 * Returns the index of the last occurrence of the pattern in the char-array.
+	 * @param array the array to search in
+	 * @return the index of the last occurrence, or {@code -1} if the pattern is not present
+	 * @since 1.10.0
+	 */
+	public int lastIndexIn(char[] array) {
+		return lastIndexIn(array, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Returns the index of the last occurrence of the pattern in the char-array searching backward from a specified index.
+	 * @param array the array to search in
+	 * @param fromIndex the index to start the backward search from
+	 * @return the index of the last occurrence, or {@code -1} if the pattern is not present
+	 * @since 1.10.0
+	 */
+	public int lastIndexIn(char[] array, int fromIndex) {
+		int m = pattern.length;
+		if (isNull(array) || m == 0) return INDEX_NOT_FOUND;
+		long first = pattern[0];
+		for (int i = Math.min(fromIndex, array.length - m); i >= 0; ) {
+			char c = array[i];
+			if (c == first) {
+				int j = 1;
+				while (j < m && array[i + j] == pattern[j]) j++;
+				if (j == m) return i;
+			}
+			i -= isNull(backShift) ? 1 : backShift[bucket(c)];
+		}
+		return INDEX_NOT_FOUND;
+	}
+
+	/**
+	 * Returns the indexes of the non-overlapping occurrences of the pattern in the char-array.
+	 * @param array the array to search in
+	 * @return the indexes of the occurrences
+	 * @since 1.10.0
+	 */
+	public int[] indexesIn(char[] array) {
+		int[] indexes = new int[8];
+		int count = 0;
+		for (int i = indexIn(array, 0); i != INDEX_NOT_FOUND; i = indexIn(array, i + pattern.length)) {
+			if (count == indexes.length) indexes = Arrays.copyOf(indexes, count << 1);
+			indexes[count++] = i;
+		}
+		return Arrays.copyOf(indexes, count);
+	}
+
+	/**
+	 * Counts the non-overlapping occurrences of the pattern in the char-array.
+	 * @param array the array to search in
+	 * @return the number of occurrences
+	 * @since 1.10.0
+	 */
+	public int countIn(char[] array) {
+		int count = 0;
+		for (int i = indexIn(array, 0); i != INDEX_NOT_FOUND; i = indexIn(array, i + pattern.length)) count++;
+		return count;
+	}
+
+	/**
+	 * Returns the index of the first occurrence of the pattern in the int-array.
+	 * @param array the array to search in
+	 * @return the index of the first occurrence, or {@code -1} if the pattern is not present
+	 * @since 1.10.0
+	 */
+	public int indexIn(int[] array) {
+		return indexIn(array, 0);
+	}
+
+	/**
+	 * Returns the index of the first occurrence of the pattern in the int-array starting from a specified index.
+	 * @param array the array to search in
+	 * @param fromIndex the index to start the search from
+	 * @return the index of the first occurrence, or {@code -1} if the pattern is not present
+	 * @since 1.10.0
+	 */
+	public int indexIn(int[] array, int fromIndex) {
+		int m = pattern.length;
+		if (isNull(array) || m == 0) return INDEX_NOT_FOUND;
+		if (fromIndex < 0) fromIndex = 0;
+		int last = array.length - m;
+		long first = pattern[0];
+		if (isNull(shift)) {
+			for (int i = fromIndex; i <= last; i++) {
+				if (array[i] != first) continue;
+				int j = 1;
+				while (j < m && array[i + j] == pattern[j]) j++;
+				if (j == m) return i;
+			}
+		} else {
+			long tail = pattern[m - 1];
+			for (int i = fromIndex; i <= last; ) {
+				int c = array[i + m - 1];
+				if (c == tail) {
+					int j = 0;
+					while (j < m - 1 && array[i + j] == pattern[j]) j++;
+					if (j == m - 1) return i;
+				}
+				i += shift[bucket(c)];
+			}
+		}
+		return INDEX_NOT_FOUND;
+	}
+
+	/**
+	 * Returns the index of the last occurrence of the pattern in the int-array.
+	 * @param array the array to search in
+	 * @return the index of the last occurrence, or {@code -1} if the pattern is not present
+	 * @since 1.10.0
+	 */
+	public int lastIndexIn(int[] array) {
+		return lastIndexIn(array, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Returns the index of the last occurrence of the pattern in the int-array searching backward from a specified index.
+	 * @param array the array to search in
+	 * @param fromIndex the index to start the backward search from
+	 * @return the index of the last occurrence, or {@code -1} if the pattern is not present
+	 * @since 1.10.0
+	 */
+	public int lastIndexIn(int[] array, int fromIndex) {
+		int m = pattern.length;
+		if (isNull(array) || m == 0) return INDEX_NOT_FOUND;
+		long first = pattern[0];
+		for (int i = Math.min(fromIndex, array.length - m); i >= 0; ) {
+			int c = array[i];
+			if (c == first) {
+				int j = 1;
+				while (j < m && array[i + j] == pattern[j]) j++;
+				if (j == m) return i;
+			}
+			i -= isNull(backShift) ? 1 : backShift[bucket(c)];
+		}
+		return INDEX_NOT_FOUND;
+	}
+
+	/**
+	 * Returns the indexes of the non-overlapping occurrences of the pattern in the int-array.
+	 * @param array the array to search in
+	 * @return the indexes of the occurrences
+	 * @since 1.10.0
+	 */
+	public int[] indexesIn(int[] array) {
+		int[] indexes = new int[8];
+		int count = 0;
+		for (int i = indexIn(array, 0); i != INDEX_NOT_FOUND; i = indexIn(array, i + pattern.length)) {
+			if (count == indexes.length) indexes = Arrays.copyOf(indexes, count << 1);
+			indexes[count++] = i;
+		}
+		return Arrays.copyOf(indexes, count);
+	}
+
+	/**
+	 * Counts the non-overlapping occurrences of the pattern in the int-array.
+	 * @param array the array to search in
+	 * @return the number of occurrences
+	 * @since 1.10.0
+	 */
+	public int countIn(int[] array) {
+		int count = 0;
+		for (int i = indexIn(array, 0); i != INDEX_NOT_FOUND; i = indexIn(array, i + pattern.length)) count++;
+		return count;
+	}
+
+	/**
+	 * Returns the index of the first occurrence of the pattern in the long-array.
+	 * @param array the array to search in
+	 * @return the index of the first occurrence, or {@code -1} if the pattern is not present
+	 * @since 1.10.0
+	 */
+	public int indexIn(long[] array) {
+		return indexIn(array, 0);
+	}
+
+	/**
+	 * Returns the index of the first occurrence of the pattern in the long-array starting from a specified index.
+	 * @param array the array to search in
+	 * @param fromIndex the index to start the search from
+	 * @return the index of the first occurrence, or {@code -1} if the pattern is not present
+	 * @since 1.10.0
+	 */
+	public int indexIn(long[] array, int fromIndex) {
+		int m = pattern.length;
+		if (isNull(array) || m == 0) return INDEX_NOT_FOUND;
+		if (fromIndex < 0) fromIndex = 0;
+		int last = array.length - m;
+		long first = pattern[0];
+		if (isNull(shift)) {
+			for (int i = fromIndex; i <= last; i++) {
+				if (array[i] != first) continue;
+				int j = 1;
+				while (j < m && array[i + j] == pattern[j]) j++;
+				if (j == m) return i;
+			}
+		} else {
+			long tail = pattern[m - 1];
+			for (int i = fromIndex; i <= last; ) {
+				long c = array[i + m - 1];
+				if (c == tail) {
+					int j = 0;
+					while (j < m - 1 && array[i + j] == pattern[j]) j++;
+					if (j == m - 1) return i;
+				}
+				i += shift[bucket(c)];
+			}
+		}
+		return INDEX_NOT_FOUND;
+	}
+
+	/**
+	 * Returns the index of the last occurrence of the pattern in the long-array.
+	 * @param array the array to search in
+	 * @return the index of the last occurrence, or {@code -1} if the pattern is not present
+	 * @since 1.10.0
+	 */
+	public int lastIndexIn(long[] array) {
+		return lastIndexIn(array, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Returns the index of the last occurrence of the pattern in the long-array searching backward from a specified index.
+	 * @param array the array to search in
+	 * @param fromIndex the index to start the backward search from
+	 * @return the index of the last occurrence, or {@code -1} if the pattern is not present
+	 * @since 1.10.0
+	 */
+	public int lastIndexIn(long[] array, int fromIndex) {
+		int m = pattern.length;
+		if (isNull(array) || m == 0) return INDEX_NOT_FOUND;
+		long first = pattern[0];
+		for (int i = Math.min(fromIndex, array.length - m); i >= 0; ) {
+			long c = array[i];
+			if (c == first) {
+				int j = 1;
+				while (j < m && array[i + j] == pattern[j]) j++;
+				if (j == m) return i;
+			}
+			i -= isNull(backShift) ? 1 : backShift[bucket(c)];
+		}
+		return INDEX_NOT_FOUND;
+	}
+
+	/**
+	 * Returns the indexes of the non-overlapping occurrences of the pattern in the long-array.
+	 * @param array the array to search in
+	 * @return the indexes of the occurrences
+	 * @since 1.10.0
+	 */
+	public int[] indexesIn(long[] array) {
+		int[] indexes = new int[8];
+		int count = 0;
+		for (int i = indexIn(array, 0); i != INDEX_NOT_FOUND; i = indexIn(array, i + pattern.length)) {
+			if (count == indexes.length) indexes = Arrays.copyOf(indexes, count << 1);
+			indexes[count++] = i;
+		}
+		return Arrays.copyOf(indexes, count);
+	}
+
+	/**
+	 * Counts the non-overlapping occurrences of the pattern in the long-array.
+	 * @param array the array to search in
+	 * @return the number of occurrences
+	 * @since 1.10.0
+	 */
+	public int countIn(long[] array) {
+		int count = 0;
+		for (int i = indexIn(array, 0); i != INDEX_NOT_FOUND; i = indexIn(array, i + pattern.length)) count++;
+		return count;
+	}
+
+	/**
+	 * Returns the index of the first occurrence of the pattern in the char sequence.
+	 * @param cs the char sequence to search in
+	 * @return the index of the first occurrence, or {@code -1} if the pattern is not present
+	 * @since 1.10.0
+	 */
+	public int indexIn(CharSequence cs) {
+		return indexIn(cs, 0);
+	}
+
+	/**
+	 * Returns the index of the first occurrence of the pattern in the char sequence starting from a specified index.
+	 * @param cs the char sequence to search in
+	 * @param fromIndex the index to start the search from
+	 * @return the index of the first occurrence, or {@code -1} if the pattern is not present
+	 * @since 1.10.0
+	 */
+	public int indexIn(CharSequence cs, int fromIndex) {
+		int m = pattern.length;
+		if (isNull(cs) || m == 0) return INDEX_NOT_FOUND;
+		if (fromIndex < 0) fromIndex = 0;
+		if (string != null) {
+			if (cs instanceof String) return ((String) cs).indexOf(string, fromIndex);
+			if (cs instanceof StringBuilder) return ((StringBuilder) cs).indexOf(string, fromIndex);
+			if (cs instanceof StringBuffer) return ((StringBuffer) cs).indexOf(string, fromIndex);
+		}
+		int last = cs.length() - m;
+		long first = pattern[0];
+		if (isNull(shift)) {
+			for (int i = fromIndex; i <= last; i++) {
+				if (cs.charAt(i) != first) continue;
+				int j = 1;
+				while (j < m && cs.charAt(i + j) == pattern[j]) j++;
+				if (j == m) return i;
+			}
+		} else {
+			long tail = pattern[m - 1];
+			for (int i = fromIndex; i <= last; ) {
+				char c = cs.charAt(i + m - 1);
+				if (c == tail) {
+					int j = 0;
+					while (j < m - 1 && cs.charAt(i + j) == pattern[j]) j++;
+					if (j == m - 1) return i;
+				}
+				i += shift[bucket(c)];
+			}
+		}
+		return INDEX_NOT_FOUND;
+	}
+
+	/**
+	 * Returns the index of the last occurrence of the pattern in the char sequence.
+	 * @param cs the char sequence to search in
+	 * @return the index of the last occurrence, or {@code -1} if the pattern is not present
+	 * @since 1.10.0
+	 */
+	public int lastIndexIn(CharSequence cs) {
+		return lastIndexIn(cs, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Returns the index of the last occurrence of the pattern in the char sequence searching backward from a specified index.
+	 * @param cs the char sequence to search in
+	 * @param fromIndex the index to start the backward search from
+	 * @return the index of the last occurrence, or {@code -1} if the pattern is not present
+	 * @since 1.10.0
+	 */
+	public int lastIndexIn(CharSequence cs, int fromIndex) {
+		int m = pattern.length;
+		if (isNull(cs) || m == 0) return INDEX_NOT_FOUND;
+		if (string != null && fromIndex >= 0) {
+			if (cs instanceof String) return ((String) cs).lastIndexOf(string, fromIndex);
+			if (cs instanceof StringBuilder) return ((StringBuilder) cs).lastIndexOf(string, fromIndex);
+			if (cs instanceof StringBuffer) return ((StringBuffer) cs).lastIndexOf(string, fromIndex);
+		}
+		long first = pattern[0];
+		for (int i = Math.min(fromIndex, cs.length() - m); i >= 0; ) {
+			char c = cs.charAt(i);
+			if (c == first) {
+				int j = 1;
+				while (j < m && cs.charAt(i + j) == pattern[j]) j++;
+				if (j == m) return i;
+			}
+			i -= isNull(backShift) ? 1 : backShift[bucket(c)];
+		}
+		return INDEX_NOT_FOUND;
+	}
+
+	/**
+	 * Returns the indexes of the non-overlapping occurrences of the pattern in the char sequence.
+	 * @param cs the char sequence to search in
+	 * @return the indexes of the occurrences
+	 * @since 1.10.0
+	 */
+	public int[] indexesIn(CharSequence cs) {
+		int[] indexes = new int[8];
+		int count = 0;
+		for (int i = indexIn(cs, 0); i != INDEX_NOT_FOUND; i = indexIn(cs, i + pattern.length)) {
+			if (count == indexes.length) indexes = Arrays.copyOf(indexes, count << 1);
+			indexes[count++] = i;
+		}
+		return Arrays.copyOf(indexes, count);
+	}
+
+	/**
+	 * Counts the non-overlapping occurrences of the pattern in the char sequence.
+	 * @param cs the char sequence to search in
+	 * @return the number of occurrences
+	 * @since 1.10.0
+	 */
+	public int countIn(CharSequence cs) {
+		int count = 0;
+		for (int i = indexIn(cs, 0); i != INDEX_NOT_FOUND; i = indexIn(cs, i + pattern.length)) count++;
+		return count;
+	}
+
+	/**
+	 * Replaces the non-overlapping occurrences of the pattern in the char sequence.
+	 * @param cs the char sequence to search in
+	 * @param replacement the char sequence to replace with; not null
+	 * @return the char sequence with the occurrences replaced, or {@code null} if it is {@code null}
+	 * @see #replaceTo(Appendable, CharSequence, CharSequence)
+	 * @since 1.10.0
+	 */
+	public String replaceIn(CharSequence cs, CharSequence replacement) {
+		requireNonNull(replacement);
+		if (isNull(cs)) return null;
+		int i = indexIn(cs, 0);
+		if (i == INDEX_NOT_FOUND) return cs.toString();
+		StringBuilder builder = new StringBuilder(cs.length() + Math.max(0, replacement.length() - pattern.length) * 8);
+		int copied = 0;
+		for (; i != INDEX_NOT_FOUND; i = indexIn(cs, copied)) {
+			builder.append(cs, copied, i).append(replacement);
+			copied = i + pattern.length;
+		}
+		return builder.append(cs, copied, cs.length()).toString();
+	}
+
+	/**
+	 * Writes the char sequence to an appendable with the non-overlapping occurrences of the pattern replaced.
+	 * The parts between the occurrences are appended as ranges of the char sequence, which is never copied as a whole.
+	 * @param out the appendable to write to; not null
+	 * @param cs the char sequence to search in; nothing is written if it is {@code null}
+	 * @param replacement the char sequence to replace with; not null
+	 * @param <A> the type of the appendable
+	 * @return the appendable
+	 * @throws IOException if the appendable fails
+	 * @since 1.10.0
+	 */
+	public <A extends Appendable> A replaceTo(A out, CharSequence cs, CharSequence replacement) throws IOException {
+		requireNonNull(out);
+		requireNonNull(replacement);
+		if (isNull(cs)) return out;
+		int copied = 0;
+		for (int i = indexIn(cs, 0); i != INDEX_NOT_FOUND; i = indexIn(cs, copied)) {
+			out.append(cs, copied, i).append(replacement);
+			copied = i + pattern.length;
+		}
+		out.append(cs, copied, cs.length());
+		return out;
+	}
+}
@@ -0,0 +1,357 @@
+package net.tp.utils.classes;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * An immutable, reusable splitter of char sequences, configured once and applied to many inputs.
+ * <p>
+ * The separator is a char, a literal string, a {@link CharMatcher} or a regular expression, compiled when the splitter
+ * is created. {@link #split(CharSequence)} returns a lazy iterable: each field is found only when the iterator
+ * reaches it, and is a {@link CharSlice} over the input, so no field is copied unless it is converted to a string.
+ * Inputs as {@link StringBuilder} are split in place.
+ * <p>
+ * The fields can be stripped of leading and trailing whitespace, as by {@link String#strip()}, empty fields omitted
+ * (after stripping) and their number limited, the last field holding the rest of the input.
+ * Unlike {@link String#split(String)}, trailing empty fields are kept unless empty fields are omitted, and an empty
+ * input has one empty field.
+ *
+ * @author Tommaso Pastorelli
+ * @since 1.10.0
+ */
+@SuppressWarnings("unused")
+public final class Splitter {
+	/**
+	 * The separator, if a char.
+	 */
+	private final char separatorChar;
+	/**
+	 * The separator, if a literal string; otherwise {@code null}.
+	 */
+	private final SearchPattern literal;
+	/**
+	 * The separator, if a set of chars; otherwise {@code null}.
+	 */
+	private final CharMatcher matcher;
+	/**
+	 * The separator, if a regular expression; otherwise {@code null}.
+	 */
+	private final Pattern pattern;
+	/**
+	 * The description of the separator.
+	 */
+	private final String separator;
+	/**
+	 * Whether the fields are stripped.
+	 */
+	private final boolean strip;
+	/**
+	 * Whether the empty fields are omitted.
+	 */
+	private final boolean omitEmpty;
+	/**
+	 * The maximum number of fields.
+	 */
+	private final int limit;
+
+	private Splitter(char separatorChar, SearchPattern literal, CharMatcher matcher, Pattern pattern, String separator, boolean strip, boolean omitEmpty, int limit) {
+		this.separatorChar = separatorChar;
+		this.literal = literal;
+		this.matcher = matcher;
+		this.pattern = pattern;
+		this.separator = separator;
+		this.strip = strip;
+		this.omitEmpty = omitEmpty;
+		this.limit = limit;
+	}
+
+	/**
+	 * Creates a splitter on a char.
+	 * @param separator the separator
+	 * @return the splitter
+	 * @since 1.10.0
+	 */
+	public static Splitter on(char separator) {
+		return new Splitter(separator, null, null, null, "'" + separator + "'", false, false, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Creates a splitter on a literal string.
+	 * @param separator the separator; not null
+	 * @return the splitter
+	 * @throws IllegalArgumentException if the separator is empty
+	 * @since 1.10.0
+	 */
+	public static Splitter on(CharSequence separator) {
+		if (requireNonNull(separator).length() == 0) throw new IllegalArgumentException("Separator must not be empty.");
+		if (separator.length() == 1) return on(separator.charAt(0));
+		return new Splitter('\0', SearchPattern.of(separator), null, null, '"' + separator.toString() + '"', false, false, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Creates a splitter on any char of a set.
+	 * @param separator the separator chars; not null
+	 * @return the splitter
+	 * @since 1.10.0
+	 */
+	public static Splitter on(CharMatcher separator) {
+		return new Splitter('\0', null, requireNonNull(separator), null, separator.toString(), false, false, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Creates a splitter on a regular expression.
+	 * A zero-width match at the start of a field or at the end of the input is skipped, so a lookahead or boundary separator does not produce empty fields.
+	 * @param separator the separator; not null
+	 * @return the splitter
+	 * @throws IllegalArgumentException if the regular expression matches the empty string
+	 * @since 1.10.0
+	 */
+	public static Splitter on(Pattern separator) {
+		if (requireNonNull(separator).matcher("").matches()) throw new IllegalArgumentException("Pattern must not match the empty string.");
+		return new Splitter('\0', null, null, separator, "/" + separator + "/", false, false, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Creates a splitter on a regular expression, compiled once.
+	 * @param regex the separator; not null
+	 * @return the splitter
+	 * @throws IllegalArgumentException if the regular expression matches the empty string
+	 * @throws java.util.regex.PatternSyntaxException if the regular expression is invalid
+	 * @since 1.10.0
+	 */
+	public static Splitter onPattern(String regex) {
+		return on(Pattern.compile(requireNonNull(regex)));
+	}
+
+	/**
+	 * @return a splitter like this one, stripping the leading and trailing whitespace of the fields
+	 * @since 1.10.0
+	 */
+	public Splitter strip() {
+		return new Splitter(separatorChar, literal, matcher, pattern, separator, true, omitEmpty, limit);
+	}
+
+	/**
+	 * @return a splitter like this one, omitting the empty fields (after stripping)
+	 * @since 1.10.0
+	 */
+	public Splitter omitEmpty() {
+		return new Splitter(separatorChar, literal, matcher, pattern, separator, strip, true, limit);
+	}
+
+	/**
+	 * Returns a splitter like this one, returning at most a number of fields; the last field is the rest of the input.
+	 * @param limit the maximum number of fields
+	 * @return the splitter
+	 * @throws IllegalArgumentException if the limit is not positive
+	 * @since 1.10.0
+	 */
+	public Splitter limit(int limit) {
+		if (limit <= 0) throw new IllegalArgumentException("Limit must be positive.");
+		return new Splitter(separatorChar, literal, matcher, pattern, separator, strip, omitEmpty, limit);
+	}
+
+	/**
+	 * Splits a char sequence lazily.
+	 * @param cs the char sequence; not null
+	 * @return the fields, as views over the char sequence
+	 * @since 1.10.0
+	 */
+	public Iterable<CharSlice> split(CharSequence cs) {
+		requireNonNull(cs);
+		return () -> new Fields(cs);
+	}
+
+	/**
+	 * Splits a char sequence lazily, as a sequential stream.
+	 * @param cs the char sequence; not null
+	 * @return the fields, as views over the char sequence
+	 * @since 1.10.0
+	 */
+	public Stream<CharSlice> stream(CharSequence cs) {
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(new Fields(requireNonNull(cs)),
+				Spliterator.ORDERED | Spliterator.NONNULL), false);
+	}
+
+	/**
+	 * Counts the fields of a char sequence, without creating them.
+	 * @param cs the char sequence; not null
+	 * @return the number of fields
+	 * @since 1.10.0
+	 */
+	public int count(CharSequence cs) {
+		Fields fields = new Fields(requireNonNull(cs));
+		int count = 0;
+		while (fields.advance()) count++;
+		return count;
+	}
+
+	/**
+	 * Splits a char sequence into strings.
+	 * @param cs the char sequence; not null
+	 * @return the fields
+	 * @since 1.10.0
+	 */
+	public List<String> toList(CharSequence cs) {
+		List<String> list = new ArrayList<>();
+		Fields fields = new Fields(requireNonNull(cs));
+		while (fields.advance()) list.add(fields.field().toString());
+		return list;
+	}
+
+	/**
+	 * Splits a char sequence into strings.
+	 * @param cs the char sequence; not null
+	 * @return the fields
+	 * @since 1.10.0
+	 */
+	public String[] toArray(CharSequence cs) {
+		return toList(cs).toArray(new String[0]);
+	}
+
+	/**
+	 * The iteration over the fields of a char sequence.
+	 */
+	private final class Fields implements Iterator<CharSlice> {
+		/**
+		 * The split char sequence.
+		 */
+		private final CharSequence cs;
+		/**
+		 * The matcher of the regular expression, if any.
+		 */
+		private final Matcher regex;
+		/**
+		 * The start of the rest of the char sequence, or {@code -1} once it is all split.
+		 */
+		private int position;
+		/**
+		 * The number of fields returned.
+		 */
+		private int count;
+		/**
+		 * The bounds of the current field.
+		 */
+		private int fieldStart, fieldEnd;
+		/**
+		 * Whether the current field is found and not yet returned by {@link #next()}.
+		 */
+		private boolean ready;
+		/**
+		 * The end of the last separator found.
+		 */
+		private int separatorEnd;
+
+		private Fields(CharSequence cs) {
+			this.cs = cs;
+			this.regex = pattern == null ? null : pattern.matcher(cs);
+		}
+
+		/**
+		 * Finds the next separator.
+		 * @param from the index to search from
+		 * @return the start of the separator, or {@code -1} if none; its end is stored in {@link #separatorEnd}
+		 */
+		private int findSeparator(int from) {
+			if (literal != null) {
+				int index = literal.indexIn(cs, from);
+				separatorEnd = index + literal.length();
+				return index;
+			}
+			if (matcher != null) {
+				int index = matcher.indexIn(cs, from);
+				separatorEnd = index + 1;
+				return index;
+			}
+			if (regex != null) {
+				if (!regex.find(from)) return -1;
+				if (regex.end() == from && (from == cs.length() || !regex.find(from + 1))) return -1;
+				if (regex.start() == cs.length()) return -1;
+				separatorEnd = regex.end();
+				return regex.start();
+			}
+			int index = -1;
+			if (cs instanceof String) index = ((String) cs).indexOf(separatorChar, from);
+			else for (int i = from, length = cs.length(); i < length; i++) {
+				if (cs.charAt(i) == separatorChar) {
+					index = i;
+					break;
+				}
+			}
+			separatorEnd = index + 1;
+			return index;
+		}
+
+		/**
+		 * Finds the next field, moving past it.
+		 * @return {@code true} if a field was found, otherwise {@code false}
+		 */
+		private boolean advance() {
+			while (position >= 0) {
+				int start = position, end;
+				if (count == limit - 1) {
+					end = cs.length();
+					position = -1;
+				} else {
+					end = findSeparator(start);
+					if (end < 0) {
+						end = cs.length();
+						position = -1;
+					} else {
+						position = separatorEnd;
+					}
+				}
+				if (strip) {
+					while (start < end && Character.isWhitespace(cs.charAt(start))) start++;
+					while (end > start && Character.isWhitespace(cs.charAt(end - 1))) end--;
+				}
+				if (omitEmpty && start == end) continue;
+				fieldStart = start;
+				fieldEnd = end;
+				count++;
+				return true;
+			}
+			return false;
+		}
+
+		/**
+		 * @return the current field
+		 */
+		private CharSlice field() {
+			return CharSlice.of(cs, fieldStart, fieldEnd);
+		}
+
+		@Override
+		public boolean hasNext() {
+			if (!ready) ready = advance();
+			return ready;
+		}
+
+		@Override
+		public CharSlice next() {
+			if (!hasNext()) throw new NoSuchElementException();
+			ready = false;
+			return field();
+		}
+	}
+
+	/**
+	 * @return the configuration of the splitter
+	 * @since 1.10.0
+	 */
+	@Override
+	public String toString() {
+		return "Splitter{separator=" + separator + ", strip=" + strip + ", omitEmpty=" + omitEmpty
+				+ ", limit=" + (limit == Integer.MAX_VALUE ? "none" : limit) + "}";
+	}
+}
@@ -0,0 +1,475 @@
+package net.tp.utils.classes;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * An immutable, reusable layout of text rows in fixed-width columns, configured once and applied to many rows.
+ * <p>
+ * Each {@link Column} has a width, an {@link Alignment}, a padding and an {@link Overflow} policy for longer cells.
+ * The padding of a column is repeated to its width once, when the column is created, so padding a cell copies a
+ * prefix of that run and no pad is ever rebuilt. Rows are rendered into a single {@link CharArrayBuffer},
+ * written to the target in bulk; boxed integers, floating values, chars and booleans are formatted without creating a
+ * string, and char sequences are copied as they are, so no string is created per cell.
+ * A {@code CharArrayBuffer} target is written directly and can be reused across renderings with {@link CharArrayBuffer#clear()}.
+ * <p>
+ * Padding follows {@code CharSequenceUtils}: left, right and centered cells are as by {@code rightPad}, {@code leftPad}
+ * and {@code center}, and abbreviated cells as by {@code abbreviate} with no offset.
+ *
+ * @author Tommaso Pastorelli
+ * @since 1.10.0
+ */
+@SuppressWarnings("unused")
+public final class TextLayout {
+	/**
+	 * The number of buffered characters after which the rows are written to the target.
+	 */
+	private static final int FLUSH_SIZE = 8192;
+
+	/**
+	 * The alignment of the cells of a column.
+	 * @since 1.10.0
+	 */
+	public enum Alignment {
+		/**
+		 * The cell is padded on the right.
+		 */
+		LEFT,
+		/**
+		 * The cell is padded on the left.
+		 */
+		RIGHT,
+		/**
+		 * The cell is padded on both sides, the extra pad going on the right.
+		 */
+		CENTER
+	}
+
+	/**
+	 * The policy for the cells longer than their column.
+	 * @since 1.10.0
+	 */
+	public enum Overflow {
+		/**
+		 * The cell is cut to the width, ending with a marker.
+		 */
+		ABBREVIATE,
+		/**
+		 * The cell is cut to the width.
+		 */
+		CLIP,
+		/**
+		 * The cell is written whole, moving the next columns.
+		 */
+		EXTEND
+	}
+
+	/**
+	 * An immutable column of a layout.
+	 * @since 1.10.0
+	 */
+	public static final class Column {
+		/**
+		 * The width.
+		 */
+		private final int width;
+		/**
+		 * The alignment.
+		 */
+		private final Alignment alignment;
+		/**
+		 * The repeated padding.
+		 */
+		private final String pad;
+		/**
+		 * The padding repeated to the width.
+		 */
+		private final char[] padRun;
+		/**
+		 * The policy for the longer cells.
+		 */
+		private final Overflow overflow;
+		/**
+		 * The abbreviation marker.
+		 */
+		private final String marker;
+
+		private Column(int width, Alignment alignment, String pad, char[] padRun, Overflow overflow, String marker) {
+			this.width = width;
+			this.alignment = alignment;
+			this.pad = pad;
+			this.padRun = padRun;
+			this.overflow = overflow;
+			this.marker = marker;
+		}
+
+		/**
+		 * Creates a column padded with spaces, abbreviating the longer cells with {@code "..."}, or clipping them if the column is too narrow.
+		 * @param width the width
+		 * @param alignment the alignment; not null
+		 * @return the column
+		 * @throws IllegalArgumentException if the width is negative
+		 * @since 1.10.0
+		 */
+		public static Column of(int width, Alignment alignment) {
+			if (width < 0) throw new IllegalArgumentException("Width must not be negative.");
+			return new Column(width, requireNonNull(alignment), " ", run(" ", width),
+					width > 3 ? Overflow.ABBREVIATE : Overflow.CLIP, "...");
+		}
+
+		/**
+		 * Creates a column of left-aligned cells, as {@link #of(int, Alignment)}.
+		 * @param width the width
+		 * @return the column
+		 * @throws IllegalArgumentException if the width is negative
+		 * @since 1.10.0
+		 */
+		public static Column left(int width) {
+			return of(width, Alignment.LEFT);
+		}
+
+		/**
+		 * Creates a column of right-aligned cells, as {@link #of(int, Alignment)}.
+		 * @param width the width
+		 * @return the column
+		 * @throws IllegalArgumentException if the width is negative
+		 * @since 1.10.0
+		 */
+		public static Column right(int width) {
+			return of(width, Alignment.RIGHT);
+		}
+
+		/**
+		 * Creates a column of centered cells, as {@link #of(int, Alignment)}.
+		 * @param width the width
+		 * @return the column
+		 * @throws IllegalArgumentException if the width is negative
+		 * @since 1.10.0
+		 */
+		public static Column center(int width) {
+			return of(width, Alignment.CENTER);
+		}
+
+		/**
+		 * Returns a column like this one, padded with a char.
+		 * @param padChar the padding char
+		 * @return the column
+		 * @since 1.10.0
+		 */
+		public Column pad(char padChar) {
+			return pad(String.valueOf(padChar));
+		}
+
+		/**
+		 * Returns a column like this one, padded with a repeated char sequence.
+		 * @param padCs the padding char sequence; not null
+		 * @return the column
+		 * @throws IllegalArgumentException if the padding is empty
+		 * @since 1.10.0
+		 */
+		public Column pad(CharSequence padCs) {
+			if (requireNonNull(padCs).length() == 0) throw new IllegalArgumentException("Padding must not be empty.");
+			String pad = padCs.toString();
+			return new Column(width, alignment, pad, run(pad, width), overflow, marker);
+		}
+
+		/**
+		 * Returns a column like this one, abbreviating the longer cells with a marker.
+		 * @param marker the abbreviation marker; not null
+		 * @return the column
+		 * @throws IllegalArgumentException if the marker is not shorter than the width
+		 * @since 1.10.0
+		 */
+		public Column abbreviate(CharSequence marker) {
+			if (requireNonNull(marker).length() >= width) throw new IllegalArgumentException("Marker must be shorter than the width.");
+			return new Column(width, alignment, pad, padRun, Overflow.ABBREVIATE, marker.toString());
+		}
+
+		/**
+		 * @return a column like this one, clipping the longer cells
+		 * @since 1.10.0
+		 */
+		public Column clip() {
+			return new Column(width, alignment, pad, padRun, Overflow.CLIP, marker);
+		}
+
+		/**
+		 * @return a column like this one, writing the longer cells whole
+		 * @since 1.10.0
+		 */
+		public Column extend() {
+			return new Column(width, alignment, pad, padRun, Overflow.EXTEND, marker);
+		}
+
+		/**
+		 * @return the width
+		 * @since 1.10.0
+		 */
+		public int width() {
+			return width;
+		}
+
+		/**
+		 * @return the alignment
+		 * @since 1.10.0
+		 */
+		public Alignment alignment() {
+			return alignment;
+		}
+
+		/**
+		 * @return the policy for the longer cells
+		 * @since 1.10.0
+		 */
+		public Overflow overflow() {
+			return overflow;
+		}
+
+		/**
+		 * Writes a cell, aligned and padded or cut to the width.
+		 */
+		private void render(CharArrayBuffer buffer, CharSequence text) {
+			int length = text.length();
+			if (length > width) {
+				switch (overflow) {
+					case ABBREVIATE -> buffer.append(text, 0, width - marker.length()).append(marker);
+					case CLIP -> buffer.append(text, 0, width);
+					case EXTEND -> buffer.append(text);
+				}
+				return;
+			}
+			int pads = width - length;
+			switch (alignment) {
+				case LEFT -> buffer.append(text).append(padRun, 0, pads);
+				case RIGHT -> buffer.append(padRun, 0, pads).append(text);
+				case CENTER -> buffer.append(padRun, 0, pads / 2).append(text).append(padRun, 0, pads - pads / 2);
+			}
+		}
+
+		@Override
+		public String toString() {
+			return "Column{width=" + width + ", alignment=" + alignment + ", pad=\"" + pad + "\", overflow=" + overflow
+					+ (overflow == Overflow.ABBREVIATE ? ", marker=\"" + marker + "\"" : "") + "}";
+		}
+	}
+
+	/**
+	 * The columns.
+	 */
+	private final Column[] columns;
+	/**
+	 * The separator between two cells.
+	 */
+	private final String separator;
+	/**
+	 * The separator after each row.
+	 */
+	private final String lineSeparator;
+
+	private TextLayout(Column[] columns, String separator, String lineSeparator) {
+		this.columns = columns;
+		this.separator = separator;
+		this.lineSeparator = lineSeparator;
+	}
+
+	/**
+	 * Creates a layout of columns separated by a space, each row followed by {@code '\n'}.
+	 * @param columns the columns; not null, with no {@code null} elements
+	 * @return the layout
+	 * @throws IllegalArgumentException if there are no columns
+	 * @since 1.10.0
+	 */
+	public static TextLayout of(Column... columns) {
+		if (requireNonNull(columns).length == 0) throw new IllegalArgumentException("Columns must not be empty.");
+		for (Column column : columns) requireNonNull(column);
+		return new TextLayout(columns.clone(), " ", "\n");
+	}
+
+	/**
+	 * Returns a layout like this one, with a separator between two cells.
+	 * @param separator the separator; not null
+	 * @return the layout
+	 * @since 1.10.0
+	 */
+	public TextLayout separator(CharSequence separator) {
+		return new TextLayout(columns, requireNonNull(separator).toString(), lineSeparator);
+	}
+
+	/**
+	 * Returns a layout like this one, with a separator after each row.
+	 * @param lineSeparator the separator; not null
+	 * @return the layout
+	 * @since 1.10.0
+	 */
+	public TextLayout lineSeparator(CharSequence lineSeparator) {
+		return new TextLayout(columns, separator, requireNonNull(lineSeparator).toString());
+	}
+
+	/**
+	 * @return the number of columns
+	 * @since 1.10.0
+	 */
+	public int columnCount() {
+		return columns.length;
+	}
+
+	/**
+	 * Returns a column.
+	 * @param index the index of the column
+	 * @return the column
+	 * @throws IndexOutOfBoundsException if the index is out of range
+	 * @since 1.10.0
+	 */
+	public Column column(int index) {
+		if (index < 0 || index >= columns.length) throw new IndexOutOfBoundsException("Index: " + index + ", Length: " + columns.length);
+		return columns[index];
+	}
+
+	/**
+	 * @return the length of a row with no extended cell, without the line separator
+	 * @since 1.10.0
+	 */
+	public int width() {
+		int width = separator.length() * (columns.length - 1);
+		for (Column column : columns) width += column.width;
+		return width;
+	}
+
+	/**
+	 * Writes a row to an appendable, followed by the line separator.
+	 * @param out the appendable to write to; not null
+	 * @param cells the cells, one per column; missing and {@code null} cells are empty
+	 * @param <A> the type of the appendable
+	 * @return the appendable
+	 * @throws IOException if the appendable fails
+	 * @throws IllegalArgumentException if there are more cells than columns
+	 * @since 1.10.0
+	 */
+	public <A extends Appendable> A renderRowTo(A out, Object... cells) throws IOException {
+		CharArrayBuffer buffer = buffer(requireNonNull(out));
+		render(buffer, new CharArrayBuffer(32), requireNonNull(cells));
+		flush(buffer, out);
+		return out;
+	}
+
+	/**
+	 * Writes rows to an appendable, each followed by the line separator.
+	 * @param out the appendable to write to; not null
+	 * @param rows the rows, each with one cell per column; missing and {@code null} cells are empty
+	 * @param <A> the type of the appendable
+	 * @return the appendable
+	 * @throws IOException if the appendable fails
+	 * @throws IllegalArgumentException if a row has more cells than columns
+	 * @throws NullPointerException if a row is {@code null}
+	 * @since 1.10.0
+	 */
+	public <A extends Appendable> A renderTo(A out, Iterable<? extends Object[]> rows) throws IOException {
+		CharArrayBuffer buffer = buffer(requireNonNull(out)), scratch = new CharArrayBuffer(32);
+		for (Object[] row : requireNonNull(rows)) {
+			render(buffer, scratch, requireNonNull(row));
+			if (buffer.length() >= FLUSH_SIZE) flush(buffer, out);
+		}
+		flush(buffer, out);
+		return out;
+	}
+
+	/**
+	 * Renders a row, followed by the line separator.
+	 * @param cells the cells, one per column; missing and {@code null} cells are empty
+	 * @return the rendered row
+	 * @throws IllegalArgumentException if there are more cells than columns
+	 * @since 1.10.0
+	 */
+	public String renderRow(Object... cells) {
+		CharArrayBuffer buffer = new CharArrayBuffer(width() + lineSeparator.length());
+		render(buffer, new CharArrayBuffer(32), requireNonNull(cells));
+		return buffer.toString();
+	}
+
+	/**
+	 * Renders rows, each followed by the line separator.
+	 * @param rows the rows, each with one cell per column; missing and {@code null} cells are empty
+	 * @return the rendered rows
+	 * @throws IllegalArgumentException if a row has more cells than columns
+	 * @throws NullPointerException if a row is {@code null}
+	 * @since 1.10.0
+	 */
+	public String render(Iterable<? extends Object[]> rows) {
+		try {
+			return renderTo(new CharArrayBuffer(), rows).toString();
+		} catch (IOException e) {
+			throw new AssertionError(e);
+		}
+	}
+
+	/**
+	 * Writes a row into a buffer, formatting the cells that are not char sequences into a scratch buffer.
+	 */
+	private void render(CharArrayBuffer buffer, CharArrayBuffer scratch, Object[] cells) {
+		if (cells.length > columns.length)
+			throw new IllegalArgumentException("Row has " + cells.length + " cells for " + columns.length + " columns.");
+		for (int i = 0; i < columns.length; i++) {
+			if (i > 0) buffer.append(separator);
+			columns[i].render(buffer, i < cells.length ? text(scratch, cells[i]) : "");
+		}
+		buffer.append(lineSeparator);
+	}
+
+	/**
+	 * Returns the text of a cell: the cell itself if a char sequence, otherwise its formatting in the scratch buffer.
+	 */
+	private static CharSequence text(CharArrayBuffer scratch, Object cell) {
+		if (isNull(cell)) return "";
+		if (cell instanceof CharSequence) return (CharSequence) cell;
+		scratch.clear();
+		if (cell instanceof Integer || cell instanceof Long || cell instanceof Short || cell instanceof Byte)
+			scratch.append(((Number) cell).longValue());
+		else if (cell instanceof Double) scratch.append((double) (Double) cell);
+		else if (cell instanceof Float) scratch.append((float) (Float) cell);
+		else if (cell instanceof Character) scratch.append((char) (Character) cell);
+		else if (cell instanceof Boolean) scratch.append((boolean) (Boolean) cell);
+		else return cell.toString();
+		return scratch;
+	}
+
+	/**
+	 * Returns the buffer to render into: the appendable itself if it is a {@link CharArrayBuffer}.
+	 */
+	private CharArrayBuffer buffer(Appendable out) {
+		return out instanceof CharArrayBuffer ? (CharArrayBuffer) out : new CharArrayBuffer(FLUSH_SIZE + width() + lineSeparator.length());
+	}
+
+	/**
+	 * Writes the buffered rows to the appendable.
+	 */
+	private static void flush(CharArrayBuffer buffer, Appendable out) throws IOException {
+		if (buffer != out) buffer.flushTo(out);
+	}
+
+	/**
+	 * Repeats a padding to a length, doubling the copied run at each step.
+	 */
+	private static char[] run(String pad, int length) {
+		char[] run = new char[length];
+		int filled = Math.min(pad.length(), length);
+		pad.getChars(0, filled, run, 0);
+		while (filled < length) {
+			int count = Math.min(filled, length - filled);
+			System.arraycopy(run, 0, run, filled, count);
+			filled += count;
+		}
+		return run;
+	}
+
+	/**
+	 * @return the configuration of the layout
+	 * @since 1.10.0
+	 */
+	@Override
+	public String toString() {
+		return "TextLayout{columns=" + Arrays.toString(columns) + ", separator=\"" + separator + "\"}";
+	}
+}
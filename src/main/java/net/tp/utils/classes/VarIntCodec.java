@@ -0,0 +1,195 @@
+package net.tp.utils.classes;
+
+import java.util.Arrays;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Delta and zig-zag variable-length encoding of int and long arrays.
+ * <p>
+ * An encoded array is the number of values followed by the difference of each value from the previous one
+ * (the first from {@code 0}), zig-zag mapped so that small negative differences stay small,
+ * each written in 7-bit groups with the high bit marking a following byte.
+ * Sorted or slowly varying arrays take one or two bytes per value.
+ *
+ * @author Tommaso Pastorelli
+ * @since 1.10.0
+ */
+@SuppressWarnings("unused")
+public abstract class VarIntCodec {
+	/**
+	 * Maps a signed int to an unsigned one, small magnitudes to small values.
+	 * @param value the value
+	 * @return the zig-zag value
+	 * @since 1.10.0
+	 */
+	public static int zigZag(int value) {
+		return (value << 1) ^ (value >> 31);
+	}
+
+	/**
+	 * Maps a signed long to an unsigned one, small magnitudes to small values.
+	 * @param value the value
+	 * @return the zig-zag value
+	 * @since 1.10.0
+	 */
+	public static long zigZag(long value) {
+		return (value << 1) ^ (value >> 63);
+	}
+
+	/**
+	 * Inverts {@link #zigZag(int)}.
+	 * @param value the zig-zag value
+	 * @return the value
+	 * @since 1.10.0
+	 */
+	public static int unZigZag(int value) {
+		return (value >>> 1) ^ -(value & 1);
+	}
+
+	/**
+	 * Inverts {@link #zigZag(long)}.
+	 * @param value the zig-zag value
+	 * @return the value
+	 * @since 1.10.0
+	 */
+	public static long unZigZag(long value) {
+		return (value >>> 1) ^ -(value & 1);
+	}
+
+	/**
+	 * Encodes an int-array.
+	 * @param values the int-array; not null
+	 * @return the encoded bytes
+	 * @since 1.10.0
+	 */
+	public static byte[] encode(int[] values) {
+		byte[] out = new byte[5 + requireNonNull(values).length * 5];
+		int position = writeVarLong(out, 0, values.length);
+		int previous = 0;
+		for (int value : values) {
+			position = writeVarLong(out, position, zigZag(value - previous) & 0xFFFFFFFFL);
+			previous = value;
+		}
+		return Arrays.copyOf(out, position);
+	}
+
+	/**
+	 * Encodes a long-array.
+	 * @param values the long-array; not null
+	 * @return the encoded bytes
+	 * @since 1.10.0
+	 */
+	public static byte[] encode(long[] values) {
+		byte[] out = new byte[5 + requireNonNull(values).length * 10];
+		int position = writeVarLong(out, 0, values.length);
+		long previous = 0;
+		for (long value : values) {
+			position = writeVarLong(out, position, zigZag(value - previous));
+			previous = value;
+		}
+		return Arrays.copyOf(out, position);
+	}
+
+	/**
+	 * Decodes an int-array encoded by {@link #encode(int[])}.
+	 * @param bytes the encoded bytes; not null
+	 * @return the int-array
+	 * @throws IllegalArgumentException if the bytes are malformed
+	 * @since 1.10.0
+	 */
+	public static int[] decodeInts(byte[] bytes) {
+		Reader reader = new Reader(requireNonNull(bytes));
+		int[] values = new int[reader.length()];
+		int previous = 0;
+		for (int i = 0; i < values.length; i++) {
+			long zigZag = reader.next();
+			if (zigZag >>> 32 != 0) throw new IllegalArgumentException("Malformed varint.");
+			values[i] = previous += unZigZag((int) zigZag);
+		}
+		reader.end();
+		return values;
+	}
+
+	/**
+	 * Decodes a long-array encoded by {@link #encode(long[])}.
+	 * @param bytes the encoded bytes; not null
+	 * @return the long-array
+	 * @throws IllegalArgumentException if the bytes are malformed
+	 * @since 1.10.0
+	 */
+	public static long[] decodeLongs(byte[] bytes) {
+		Reader reader = new Reader(requireNonNull(bytes));
+		long[] values = new long[reader.length()];
+		long previous = 0;
+		for (int i = 0; i < values.length; i++) values[i] = previous += unZigZag(reader.next());
+		reader.end();
+		return values;
+	}
+
+	/**
+	 * Writes an unsigned long in 7-bit groups.
+	 * @param out the target, large enough
+	 * @param position the position to write at
+	 * @param value the value
+	 * @return the position after the value
+	 */
+	private static int writeVarLong(byte[] out, int position, long value) {
+		while ((value & ~0x7FL) != 0) {
+			out[position++] = (byte) ((value & 0x7F) | 0x80);
+			value >>>= 7;
+		}
+		out[position++] = (byte) value;
+		return position;
+	}
+
+	/**
+	 * A cursor over encoded bytes.
+	 */
+	private static final class Reader {
+		/**
+		 * The encoded bytes.
+		 */
+		private final byte[] bytes;
+		/**
+		 * The position of the next byte.
+		 */
+		private int position;
+
+		private Reader(byte[] bytes) {
+			this.bytes = bytes;
+		}
+
+		/**
+		 * Reads the number of values, checking it against the remaining bytes (at least one per value).
+		 * @return the number of values
+		 */
+		private int length() {
+			long length = next();
+			if (length < 0 || length > bytes.length - position) throw new IllegalArgumentException("Malformed varint.");
+			return (int) length;
+		}
+
+		/**
+		 * Reads an unsigned long in 7-bit groups.
+		 * @return the value
+		 */
+		private long next() {
+			long value = 0;
+			for (int shift = 0; shift < Long.SIZE; shift += 7) {
+				if (position == bytes.length) throw new IllegalArgumentException("Malformed varint.");
+				byte b = bytes[position++];
+				value |= (long) (b & 0x7F) << shift;
+				if (b >= 0) return value;
+			}
+			throw new IllegalArgumentException("Malformed varint.");
+		}
+
+		/**
+		 * Checks that all bytes were read.
+		 */
+		private void end() {
+			if (position != bytes.length) throw new IllegalArgumentException("Malformed varint.");
+		}
+	}
+}
@@ -0,0 +1,72 @@
+package net.tp.utils;
+
+import net.tp.utils.classes.DoubleSlidingWindow;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ArrayUtilsTest {
+	@Test
+	void slidingSumConfinesNaNAndInfinitiesToTheirWindows() {
+		assertArrayEquals(new double[]{Double.NaN, 1, 2, 3}, ArrayUtils.slidingSum(new double[]{Double.NaN, 1, 2, 3}, 1));
+		double inf = Double.POSITIVE_INFINITY;
+		assertArrayEquals(new double[]{inf, inf, 5, 7}, ArrayUtils.slidingSum(new double[]{1, inf, 2, 3, 4}, 2));
+		assertArrayEquals(new double[]{Double.NaN, -inf, 5}, ArrayUtils.slidingSum(new double[]{inf, -inf, 2, 3}, 2));
+	}
+
+	@Test
+	void slidingMeanDoesNotCancelLargeValuesLeavingTheWindow() {
+		assertArrayEquals(new double[]{1e300, 5e299, 1.5, 2.5}, ArrayUtils.slidingMean(new double[]{1e300, 1e300, 1, 2, 3}, 2));
+		assertArrayEquals(new double[]{1e300 / 3, 1e300 / 3, 3}, ArrayUtils.slidingMean(new double[]{1, 1e300, 2, 3, 4}, 3));
+	}
+
+	@Test
+	void slidingSumMatchesTheDirectSums() {
+		Random random = new Random(33);
+		for (int round = 0; round < 200; round++) {
+			double[] array = new double[random.nextInt(300)];
+			for (int i = 0; i < array.length; i++) {
+				int kind = random.nextInt(40);
+				array[i] = kind == 0 ? Double.NaN : kind == 1 ? Double.POSITIVE_INFINITY : kind == 2 ? Double.NEGATIVE_INFINITY
+						: kind == 3 ? random.nextGaussian() * 1e200 : random.nextGaussian();
+			}
+			int window = 1 + random.nextInt(20);
+			double[] sums = ArrayUtils.slidingSum(array, window), parallel = ArrayUtils.parallelSlidingSum(array, window);
+			DoubleSlidingWindow sliding = new DoubleSlidingWindow(window);
+			for (int i = 0; i < array.length; i++) {
+				sliding.add(array[i]);
+				if (i < window - 1) continue;
+				double expected = directSum(array, i - window + 1, window);
+				assertClose(expected, sums[i - window + 1]);
+				assertClose(expected, parallel[i - window + 1]);
+				assertClose(expected, sliding.sum());
+			}
+		}
+	}
+
+	private static double directSum(double[] array, int from, int length) {
+		double sum = 0;
+		for (int i = from; i < from + length; i++) sum += array[i];
+		return sum;
+	}
+
+	private static void assertClose(double expected, double actual) {
+		if (!Double.isFinite(expected)) assertEquals(expected, actual);
+		else assertEquals(expected, actual, 1e-9 * Math.max(1, Math.abs(expected)) + 1e-300);
+	}
+
+	@Test
+	void histogramSpreadsSpansWiderThanTheDoubleRange() {
+		double max = Double.MAX_VALUE;
+		assertArrayEquals(new int[]{1, 1}, ArrayUtils.histogram(new double[]{-max, max}, -max, max, 2));
+		assertArrayEquals(new int[]{2, 1, 1, 2}, ArrayUtils.histogram(new double[]{-max, -max / 2 - 1e300, -max / 4, 0, max / 2 + 1e300, max}, -max, max, 4));
+		assertArrayEquals(new int[]{1, 0, 1}, ArrayUtils.histogram(new double[]{0, 3, Double.NaN}, 0, 3, 3));
+		assertArrayEquals(new int[]{1, 1}, ArrayUtils.histogram(new float[]{-Float.MAX_VALUE, Float.MAX_VALUE}, -Float.MAX_VALUE, Float.MAX_VALUE, 2));
+		assertThrows(IllegalArgumentException.class, () -> ArrayUtils.histogram(new double[]{1}, 0, Double.POSITIVE_INFINITY, 2));
+		assertThrows(IllegalArgumentException.class, () -> ArrayUtils.histogram(new float[]{1}, Float.NEGATIVE_INFINITY, 0, 2));
+	}
+}
@@ -0,0 +1,121 @@
+package net.tp.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CharSequenceUtilsTest {
+	/**
+	 * The chars the inputs are made of: the ones the reference patterns tell apart, line terminators,
+	 * non-ASCII chars and both halves of a surrogate pair.
+	 */
+	private static final String ALPHABET = "aZk09_-.@:/$?#x \t\n\r\u000B\f\u0085\u2028\u2029\u00E9\u212A\uD83D\uDE00";
+	/**
+	 * The fragments that make matches likely.
+	 */
+	private static final String[] FRAGMENTS = {"http://", "HTTPS://", "ftp://", "ab", "cd", "@", ".", "ef", "\uD83D\uDE00"};
+
+	@Test
+	void emailSurrogatePairIsOneSeparator() {
+		assertTrue(CharSequenceUtils.isEmail("ab@cd\uD83D\uDE00ef"));
+		assertFalse(CharSequenceUtils.isEmail("ab@cd\uD83D\uDE00\uD83D\uDE00ef"));
+		assertTrue(CharSequenceUtils.isEmail("ab@cd\uD83Def"));
+	}
+
+	@Test
+	void urlSurrogatePairIsOneCodePoint() {
+		assertFalse(CharSequenceUtils.isURL("http://\uD83D\uDE00"));
+		assertTrue(CharSequenceUtils.isURL("http://\uD83D\uDE00a"));
+		assertTrue(CharSequenceUtils.isURL("http://a\uD83D\uDE00"));
+		assertTrue(CharSequenceUtils.isURL("http://\uD83D\uDE00\uD83D\uDE00"));
+		assertTrue(CharSequenceUtils.isURL("http://\uD83Da"));
+	}
+
+	@Test
+	void emailAndUrlAcceptExactlyTheReferencePatterns() {
+		Random random = new Random(41);
+		StringBuilder sb = new StringBuilder();
+		for (int round = 0; round < 300_000; round++) {
+			sb.setLength(0);
+			for (int parts = random.nextInt(9); parts > 0; parts--) {
+				if (random.nextInt(3) == 0) sb.append(FRAGMENTS[random.nextInt(FRAGMENTS.length)]);
+				else sb.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+			}
+			String input = sb.toString();
+			assertEquals(!input.isEmpty() && CharSequenceUtils.EMAIL_PATTERN.matcher(input).matches(), CharSequenceUtils.isEmail(input), () -> "isEmail(\"" + input + "\")");
+			assertEquals(!input.isEmpty() && CharSequenceUtils.URL_PATTERN.matcher(input).matches(), CharSequenceUtils.isURL(input), () -> "isURL(\"" + input + "\")");
+		}
+	}
+
+	@Test
+	void validateSetsTheBitsOfTheMaskInPlace() {
+		Random random = new Random(42);
+		for (int length : new int[]{0, 1, 63, 64, 65, 1_000, 100_003}) {
+			String[] column = new String[length];
+			for (int i = 0; i < length; i++) column[i] = random.nextInt(3) == 0 ? "ab@cd.ef" : "ab";
+			long[] words = new long[(length + 63) / 64];
+			int expected = CharSequenceUtils.validate(column, CharSequenceUtils::isEmail, words);
+
+			BitSet mask = new BitSet();
+			mask.set(0, length + 10);
+			assertEquals(expected, CharSequenceUtils.validate(column, CharSequenceUtils::isEmail, mask));
+			assertEquals(expected, mask.get(0, length).cardinality());
+			assertArrayEquals(words, Arrays.copyOf(mask.get(0, length).toLongArray(), words.length));
+			assertEquals(10, mask.get(length, length + 10).cardinality());
+
+			mask.clear();
+			assertEquals(expected, CharSequenceUtils.validate(List.of(column), CharSequenceUtils::isEmail, mask));
+			assertArrayEquals(words, Arrays.copyOf(mask.toLongArray(), words.length));
+		}
+	}
+
+	@Test
+	void joinToReusesItsBufferOnlyOnceAJoinEnds() throws IOException {
+		Object nested = new Object() {
+			@Override
+			public String toString() {
+				try {
+					return ArrayUtils.joinTo(new StringWriter(), "+", new int[]{1, 2}).toString();
+				} catch (IOException e) {
+					throw new AssertionError(e);
+				}
+			}
+		};
+		assertEquals("a,1+2,b", CharSequenceUtils.joinTo(new StringWriter(), ",", "a", nested, "b").toString());
+		assertEquals("a,1+2,b", CharSequenceUtils.joinTo(new StringWriter(), ",", List.of("a", nested, "b")).toString());
+
+		Writer failing = new Writer() {
+			@Override
+			public void write(char[] chars, int offset, int length) throws IOException {
+				throw new IOException();
+			}
+
+			@Override
+			public void flush() {
+			}
+
+			@Override
+			public void close() {
+			}
+		};
+		assertThrows(IOException.class, () -> ArrayUtils.joinTo(failing, ",", new long[]{7, 8, 9}));
+		assertEquals("4;5", ArrayUtils.joinTo(new StringWriter(), ";", new long[]{4, 5}).toString());
+
+		String huge = "x".repeat(100_000);
+		assertEquals(huge + "," + huge, CharSequenceUtils.joinTo(new StringWriter(), ",", huge, huge).toString());
+		assertEquals("1.5 true", ArrayUtils.joinTo(new StringWriter(), " ", new double[]{1.5}).toString() + " "
+				+ ArrayUtils.joinTo(new StringBuilder(), " ", new boolean[]{true}));
+	}
+}
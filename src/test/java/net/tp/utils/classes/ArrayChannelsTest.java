@@ -0,0 +1,118 @@
+package net.tp.utils.classes;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ArrayChannelsTest {
+	@Test
+	void gatheringWriteKeepsTheSequentialLayout() throws IOException {
+		Random random = new Random(38);
+		int[] first = random.ints(20_000).toArray(), second = random.ints(20_000).toArray();
+		long[] third = random.longs(9_000).toArray();
+		Path file = Files.createTempFile("channels", ".bin");
+		try {
+			try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+				ArrayChannels.write(channel, ByteOrder.LITTLE_ENDIAN, first, new byte[0], second, third);
+			}
+			int[] firstRead = new int[first.length], secondRead = new int[second.length];
+			long[] thirdRead = new long[third.length];
+			try (ReadableByteChannel channel = Channels.newChannel(new BufferedInputStream(new FileInputStream(file.toFile())))) {
+				ArrayChannels.read(channel, ByteOrder.LITTLE_ENDIAN, firstRead, secondRead, thirdRead);
+			}
+			assertArrayEquals(first, firstRead);
+			assertArrayEquals(second, secondRead);
+			assertArrayEquals(third, thirdRead);
+		} finally {
+			Files.delete(file);
+		}
+	}
+
+	@Test
+	void scatteringReadExpectsTheSequentialLayout() throws IOException {
+		Random random = new Random(83);
+		double[] first = random.doubles(30_000).toArray();
+		short[] second = new short[70_000];
+		for (int i = 0; i < second.length; i++) second[i] = (short) random.nextInt();
+		Path file = Files.createTempFile("channels", ".bin");
+		try {
+			try (WritableByteChannel channel = Channels.newChannel(new BufferedOutputStream(new FileOutputStream(file.toFile())))) {
+				ArrayChannels.write(channel, ByteOrder.BIG_ENDIAN, first, second);
+			}
+			assertEquals(first.length * 8L + second.length * 2L, Files.size(file));
+			double[] firstRead = new double[first.length];
+			short[] secondRead = new short[second.length];
+			try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+				ArrayChannels.read(channel, ByteOrder.BIG_ENDIAN, firstRead, secondRead);
+			}
+			assertArrayEquals(first, firstRead);
+			for (int i = 0; i < second.length; i++) assertEquals(second[i], secondRead[i]);
+		} finally {
+			Files.delete(file);
+		}
+	}
+
+	@Test
+	void manyArraysAreTransferredInGroupsOfChunks() throws IOException {
+		Random random = new Random(16);
+		Object[] arrays = new Object[100], read = new Object[arrays.length];
+		for (int i = 0; i < arrays.length; i++) {
+			arrays[i] = random.ints(random.nextInt(40_000)).toArray();
+			read[i] = new int[((int[]) arrays[i]).length];
+		}
+		Path file = Files.createTempFile("channels", ".bin");
+		try {
+			try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+				ArrayChannels.write(channel, ByteOrder.BIG_ENDIAN, arrays);
+			}
+			try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+				ArrayChannels.read(channel, ByteOrder.BIG_ENDIAN, read);
+			}
+			for (int i = 0; i < arrays.length; i++) assertArrayEquals((int[]) arrays[i], (int[]) read[i]);
+		} finally {
+			Files.delete(file);
+		}
+	}
+
+	@Test
+	void framedArraysAreGrownAsTheirElementsArrive() throws IOException {
+		long[] longs = new Random(232).longs(100_003).toArray();
+		byte[] bytes = {1, 2, 3};
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		ArrayChannels.writeFramed(Channels.newChannel(out), ByteOrder.LITTLE_ENDIAN, longs, bytes, new int[0]);
+		ReadableByteChannel channel = Channels.newChannel(new ByteArrayInputStream(out.toByteArray()));
+		assertArrayEquals(longs, (long[]) ArrayChannels.readFramed(channel, ByteOrder.LITTLE_ENDIAN));
+		assertArrayEquals(bytes, (byte[]) ArrayChannels.readFramed(channel, ByteOrder.LITTLE_ENDIAN));
+		assertEquals(0, ((int[]) ArrayChannels.readFramed(channel, ByteOrder.LITTLE_ENDIAN)).length);
+		assertNull(ArrayChannels.readFramed(channel, ByteOrder.LITTLE_ENDIAN));
+	}
+
+	@Test
+	void framedHeaderLargerThanTheChannelEndsInEOF() {
+		byte[] frame = ByteBuffer.allocate(13).put((byte) 3).putInt(Integer.MAX_VALUE).putLong(42).array();
+		ReadableByteChannel channel = Channels.newChannel(new ByteArrayInputStream(frame));
+		assertThrows(EOFException.class, () -> ArrayChannels.readFramed(channel, ByteOrder.BIG_ENDIAN));
+	}
+}
@@ -0,0 +1,48 @@
+package net.tp.utils.classes;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class ArrayIndexTest {
+	@Test
+	void mergeRehashingPastTheInitialTableKeepsTheSlotsOfThePositions() {
+		int length = (1 << 20) + 50_000;
+		int[] array = new int[length];
+		for (int i = 5_000; i < length; i++) array[i] = i;
+		ArrayIndex<Integer> index = ArrayIndex.of(array);
+
+		assertEquals(length, index.size());
+		assertEquals(length - 5_000 + 1, index.distinctCount());
+		for (int i = length - 3 * (1 << 14); i < length; i += 997) {
+			assertEquals(i, index.indexOf(i));
+			index.set(i, -1L);
+			assertFalse(index.contains(i));
+		}
+		assertEquals(5_000, index.count(0));
+		assertEquals(length - 1, index.lastIndexOf(length - 1));
+
+		int last = length - 1;
+		index.set(last, 0L);
+		assertEquals(5_001, index.count(0));
+		assertEquals(last, index.lastIndexOf(0));
+	}
+
+	@Test
+	void mergedIndexMatchesTheSequentialOne() {
+		int length = 300_000;
+		long[] array = new long[length];
+		for (int i = 0; i < length; i++) array[i] = (i * 2_654_435_761L) % 70_001;
+		ArrayIndex<Long> index = ArrayIndex.of(array);
+
+		int[] expected = new int[length];
+		int count = 0;
+		for (int i = 0; i < length; i++) if (array[i] == array[12_345]) expected[count++] = i;
+		assertArrayEquals(java.util.Arrays.copyOf(expected, count), index.indexesOf(array[12_345]));
+		index.set(12_345, -7L);
+		assertEquals(count - 1, index.count(array[12_345]));
+		assertEquals(12_345, index.indexOf(-7L));
+	}
+}
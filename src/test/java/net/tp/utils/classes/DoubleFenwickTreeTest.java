@@ -0,0 +1,56 @@
+package net.tp.utils.classes;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class DoubleFenwickTreeTest {
+	@Test
+	void rangeSumIgnoresNonFiniteValuesOutOfTheRange() {
+		DoubleFenwickTree tree = DoubleFenwickTree.of(new double[]{1, Double.POSITIVE_INFINITY, 2, 3});
+		assertEquals(5, tree.sum(2, 4));
+		assertEquals(3, tree.sum(3, 4));
+		assertEquals(Double.POSITIVE_INFINITY, tree.sum(0, 3));
+		tree.set(0, Double.NaN);
+		assertEquals(5, tree.sum(2, 4));
+		assertEquals(Double.NaN, tree.sum(0, 2));
+	}
+
+	@Test
+	void setRecoversFromNonFiniteValues() {
+		DoubleFenwickTree tree = DoubleFenwickTree.of(new double[]{1, Double.POSITIVE_INFINITY, 2, Double.NaN, 4});
+		tree.set(1, 5);
+		tree.set(3, 6);
+		assertEquals(18, tree.sum(0, 5));
+		assertEquals(18, tree.prefixSum(5));
+		assertEquals(13, tree.sum(1, 4));
+	}
+
+	@Test
+	void setDoesNotCancelTheNeighboursOfALargeValue() {
+		DoubleFenwickTree tree = DoubleFenwickTree.of(new double[]{1e20, 1, 1});
+		tree.set(0, 0);
+		assertEquals(2, tree.sum(0, 3));
+		assertEquals(2, tree.prefixSum(3));
+	}
+
+	@Test
+	void rangeSumMatchesTheValues() {
+		Random random = new Random(35);
+		double[] values = new double[300];
+		for (int i = 0; i < values.length; i++) values[i] = random.nextInt(100);
+		DoubleFenwickTree tree = DoubleFenwickTree.of(values);
+		for (int round = 0; round < 2_000; round++) {
+			int index = random.nextInt(values.length);
+			values[index] = random.nextInt(100);
+			if (round % 2 == 0) tree.set(index, values[index]);
+			else tree.add(index, values[index] - tree.get(index));
+			int from = random.nextInt(values.length + 1), to = from + random.nextInt(values.length + 1 - from);
+			double expected = 0;
+			for (int i = from; i < to; i++) expected += values[i];
+			assertEquals(expected, tree.sum(from, to));
+		}
+	}
+}
@@ -0,0 +1,30 @@
+package net.tp.utils.classes;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class DoubleSlidingWindowTest {
+	@Test
+	void sumRecoversAfterNaNAndInfinitiesLeave() {
+		DoubleSlidingWindow window = new DoubleSlidingWindow(2);
+		double[] values = {1, Double.POSITIVE_INFINITY, 2, 3, Double.NaN, 4, 5, 6};
+		double[] sums = {1, Double.POSITIVE_INFINITY, Double.POSITIVE_INFINITY, 5, Double.NaN, Double.NaN, 9, 11};
+		for (int i = 0; i < values.length; i++) {
+			window.add(values[i]);
+			assertEquals(sums[i], window.sum());
+		}
+	}
+
+	@Test
+	void meanDoesNotCancelLargeValuesLeavingTheWindow() {
+		DoubleSlidingWindow window = new DoubleSlidingWindow(2);
+		for (double value : new double[]{1e300, 1e300, 1, 2, 3}) window.add(value);
+		assertEquals(2.5, window.mean());
+		window.clear();
+		window.add(-1e300);
+		window.add(7);
+		window.add(0.25);
+		assertEquals(7.25, window.sum());
+	}
+}